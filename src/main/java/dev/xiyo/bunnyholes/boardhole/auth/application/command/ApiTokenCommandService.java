@@ -0,0 +1,73 @@
+package dev.xiyo.bunnyholes.boardhole.auth.application.command;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.validation.annotation.Validated;
+
+import dev.xiyo.bunnyholes.boardhole.auth.application.result.ApiTokenResult;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenGrant;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokens;
+import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ApiTokenProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.shared.security.UserIdResolver;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.LastLoginRecorder;
+
+/**
+ * API 베어러 토큰 발급/폐기 서비스.
+ * 비밀번호(BCrypt)는 발급할 때 한 번만 확인하고, 이후 요청은 토큰 해시 조회로 인증한다.
+ */
+@Slf4j
+@Service
+@Validated
+@RequiredArgsConstructor
+public class ApiTokenCommandService {
+
+    private final AuthenticationManager authenticationManager;
+    private final ApiTokenStore apiTokenStore;
+    private final ApiTokenProperties apiTokenProperties;
+    private final UserIdResolver userIdResolver;
+    private final LastLoginRecorder lastLoginRecorder;
+
+    public ApiTokenResult issue(@Valid LoginCommand cmd) {
+        UserDetails principal;
+        try {
+            principal = (UserDetails) authenticationManager
+                    .authenticate(UsernamePasswordAuthenticationToken.unauthenticated(cmd.username(), cmd.password()))
+                    .getPrincipal();
+        } catch (BadCredentialsException e) {
+            log.warn(MessageUtils.get("log.auth.login-failed", cmd.username()));
+            throw new UnauthorizedException(MessageUtils.get("error.auth.invalid-credentials"));
+        }
+
+        UUID userId = principal instanceof AppUserPrincipal appPrincipal
+                ? appPrincipal.getId()
+                : userIdResolver.resolve(principal.getUsername());
+        Instant expiresAt = Instant.now().plus(apiTokenProperties.ttl());
+        String token = ApiTokens.generate();
+        apiTokenStore.save(ApiTokens.hash(token), new ApiTokenGrant(userId, principal.getUsername(),
+                principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList(), expiresAt));
+        lastLoginRecorder.record(principal.getUsername());
+
+        log.info(MessageUtils.get("log.auth.token-issued", principal.getUsername(), expiresAt));
+        return new ApiTokenResult(token, expiresAt);
+    }
+
+    public void revoke(String token) {
+        apiTokenStore.revoke(ApiTokens.hash(token));
+    }
+}
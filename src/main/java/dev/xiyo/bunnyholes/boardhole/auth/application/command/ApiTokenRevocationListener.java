@@ -0,0 +1,31 @@
+package dev.xiyo.bunnyholes.boardhole.auth.application.command;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.user.application.event.UserCredentialsRevokedEvent;
+
+/**
+ * 사용자 자격 증명이 무효화되면 그 사용자의 API 토큰을 모두 폐기
+ * 커밋 이후에 폐기하며, 실패하더라도 토큰 인증이 사용자를 다시 확인하므로 탈퇴한 사용자는 통과하지 못합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiTokenRevocationListener {
+
+    private final ApiTokenStore apiTokenStore;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsRevoked(UserCredentialsRevokedEvent event) {
+        try {
+            apiTokenStore.revokeAll(event.userId());
+        } catch (RuntimeException e) {
+            log.warn("API 토큰 일괄 폐기 실패: username={}", event.username(), e);
+        }
+    }
+}
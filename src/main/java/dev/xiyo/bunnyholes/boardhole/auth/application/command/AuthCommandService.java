@@ -12,19 +12,19 @@ import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
-import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
-import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.LastLoginRecorder;
 
 /**
  * 세션 기반 인증 처리 서비스.
@@ -37,23 +37,21 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 public class AuthCommandService {
 
     private final AuthenticationManager authenticationManager;
-    private final UserRepository userRepository;
+    private final UserDetailsService userDetailsService;
     private final SecurityContextRepository securityContextRepository;
-    private final UserCommandService userCommandService;
+    private final LastLoginRecorder lastLoginRecorder;
 
-    @Transactional
     public void login(@Valid LoginCommand cmd) {
         try {
             UserDetails principal = authenticate(cmd);
             storeAuthentication(principal);
-            userCommandService.updateLastLogin(principal.getUsername());
+            lastLoginRecorder.record(principal.getUsername());
         } catch (BadCredentialsException e) {
             log.warn(MessageUtils.get("log.auth.login-failed", cmd.username()));
             throw new UnauthorizedException(MessageUtils.get("error.auth.invalid-credentials"));
         }
     }
 
-    @Transactional
     public void login(String username) {
         UserDetails principal = loadPrincipal(username);
         storeAuthentication(principal);
@@ -71,14 +69,12 @@ public class AuthCommandService {
     }
 
     private UserDetails loadPrincipal(String username) {
-        return userRepository.findByUsername(username)
-                             .map(user -> org.springframework.security.core.userdetails.User.withUsername(user.getUsername())
-                                                                                              .password(user.getPassword())
-                                                                                              .authorities(user.getRoles().stream()
-                                                                                                                .map(role -> "ROLE_" + role.name())
-                                                                                                                .toArray(String[]::new))
-                                                                                              .build())
-                             .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다: " + username));
+        // 폼/Basic 인증과 같은 경로(주체 캐시)로 불러와 사용자 ID를 담은 주체를 저장
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            throw new IllegalStateException("사용자를 찾을 수 없습니다: " + username, e);
+        }
     }
 
     private void storeAuthentication(UserDetails principal) {
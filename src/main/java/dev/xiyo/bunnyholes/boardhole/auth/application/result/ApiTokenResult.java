@@ -0,0 +1,14 @@
+package dev.xiyo.bunnyholes.boardhole.auth.application.result;
+
+import java.time.Instant;
+
+/**
+ * API 토큰 발급 결과
+ *
+ * @param accessToken 원본 토큰 (발급 응답에서 한 번만 노출되며 서버에는 해시만 저장)
+ * @param expiresAt   만료 시각
+ */
+public record ApiTokenResult(String accessToken,
+
+                             Instant expiresAt) {
+}
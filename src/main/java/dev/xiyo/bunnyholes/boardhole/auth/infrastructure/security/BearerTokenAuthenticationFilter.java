@@ -0,0 +1,120 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.security;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenGrant;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokens;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+
+/**
+ * {@code Authorization: Bearer} 토큰 인증 필터 (API 전용)
+ * <p>
+ * 토큰 해시로 저장소를 한 번 조회한 뒤, 사용자는 {@link UserDetailsService}(인증 주체 캐시)로 다시 확인하므로
+ * 요청마다 BCrypt 비교를 하지 않으면서도 탈퇴한 사용자는 거부하고 바뀐 권한은 캐시 TTL 안에 반영합니다.
+ * 베어러 헤더가 없으면 그대로 통과시켜 HTTP Basic이나 세션 인증이 처리하도록 하고,
+ * 헤더가 있는데 토큰이 없거나 만료되었거나 사용자가 없으면 다른 인증으로 넘기지 않고 바로 401을 응답합니다.
+ * 토큰 저장소 장애도 인증 실패로 보고 401을 응답합니다.
+ * <p>
+ * 서블릿 필터로 자동 등록되지 않도록 빈이 아닌 API 보안 필터 체인에서 직접 생성합니다.
+ */
+@Slf4j
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ApiTokenStore tokenStore;
+    private final UserDetailsService userDetailsService;
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+
+    public BearerTokenAuthenticationFilter(ApiTokenStore tokenStore, UserDetailsService userDetailsService,
+                                           AuthenticationEntryPoint authenticationEntryPoint) {
+        this.tokenStore = tokenStore;
+        this.userDetailsService = userDetailsService;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+    }
+
+    /**
+     * 요청 헤더에서 베어러 토큰 추출
+     *
+     * @param request HTTP 요청
+     * @return 토큰 (베어러 헤더가 아니면 null)
+     */
+    public static @Nullable String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length()))
+            return null;
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ApiTokenGrant grant = findGrant(token);
+        AppUserPrincipal principal = grant != null ? currentPrincipal(grant) : null;
+        if (principal == null) {
+            SecurityContextHolder.clearContext();
+            authenticationEntryPoint.commence(request, response, new BadCredentialsException("Invalid or expired bearer token"));
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+
+    private @Nullable ApiTokenGrant findGrant(String token) {
+        try {
+            return tokenStore.find(ApiTokens.hash(token)).filter(found -> !found.isExpired(Instant.now())).orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("API 토큰 저장소 조회 실패 - 인증 실패로 처리", e);
+            return null;
+        }
+    }
+
+    /**
+     * 토큰 사용자의 현재 주체 (비밀번호 제외)
+     *
+     * @return 사용자가 없거나 같은 이름의 다른 사용자이면 null
+     */
+    private @Nullable AppUserPrincipal currentPrincipal(ApiTokenGrant grant) {
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(grant.username());
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+        if (!(user instanceof AppUserPrincipal principal) || !principal.getId().equals(grant.userId()))
+            return null;
+        return new AppUserPrincipal(principal.getId(), principal.getUsername(), "", principal.getAuthorities());
+    }
+}
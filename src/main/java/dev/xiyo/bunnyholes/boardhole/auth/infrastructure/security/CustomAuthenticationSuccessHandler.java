@@ -13,18 +13,18 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SavedRequestAwareAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
-import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.LastLoginRecorder;
 
 /**
  * 커스텀 인증 성공 핸들러
- * Spring Security Form 로그인 성공 시 최근 로그인 시간을 업데이트합니다.
+ * Spring Security Form 로그인 성공 시 최근 로그인 시간을 기록합니다 (DB 반영은 {@link LastLoginRecorder}가 주기적으로 일괄 처리).
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomAuthenticationSuccessHandler extends SavedRequestAwareAuthenticationSuccessHandler {
     
-    private final UserCommandService userCommandService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, 
@@ -33,12 +33,12 @@ public class CustomAuthenticationSuccessHandler extends SavedRequestAwareAuthent
         String username = authentication.getName();
         
         try {
-            // 최근 로그인 시간 업데이트
-            userCommandService.updateLastLogin(username);
-            log.info("Login succeeded, last login timestamp updated for user: {}", username);
+            // 최근 로그인 시간 기록
+            lastLoginRecorder.record(username);
+            log.info("Login succeeded, last login timestamp recorded for user: {}", username);
         } catch (Exception e) {
-            // 로그인 시간 업데이트 실패해도 로그인은 성공으로 처리
-            log.error("Failed to update last login timestamp for user: {}", username, e);
+            // 로그인 시간 기록 실패해도 로그인은 성공으로 처리
+            log.error("Failed to record last login timestamp for user: {}", username, e);
         }
         
         // 기본 동작 수행 (SavedRequest가 있으면 해당 URL로, 없으면 defaultSuccessUrl로 리다이렉트)
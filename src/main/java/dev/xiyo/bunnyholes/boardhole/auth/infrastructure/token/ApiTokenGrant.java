@@ -0,0 +1,47 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 토큰에 묶인 인증 정보
+ * <p>
+ * 토큰이 누구에게 발급되었는지를 담습니다. 인증할 때는 사용자를 인증 주체 캐시로 다시 확인해
+ * 탈퇴했거나 같은 이름으로 다시 가입한 사용자는 거부하고, 권한은 발급 시점 값 대신 현재 값을 씁니다.
+ * Redis에 문자열로 저장하므로 줄바꿈으로 구분해 인코딩합니다 (사용자명과 권한에는 줄바꿈이 없음).
+ *
+ * @param userId      사용자 ID
+ * @param username    사용자명
+ * @param authorities 발급 시점 권한 (예: ROLE_USER)
+ * @param expiresAt   만료 시각
+ */
+public record ApiTokenGrant(UUID userId, String username, List<String> authorities, Instant expiresAt) {
+
+    private static final String SEPARATOR = "\n";
+    private static final String AUTHORITY_SEPARATOR = ",";
+
+    /**
+     * 인증 정보 해석
+     *
+     * @param payload {@link #encode()}로 만든 문자열
+     * @return 인증 정보
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static ApiTokenGrant decode(String payload) {
+        String[] parts = payload.split(SEPARATOR, -1);
+        if (parts.length != 4)
+            throw new IllegalArgumentException("Malformed API token grant");
+        List<String> authorities = parts[2].isEmpty() ? List.of() : Arrays.asList(parts[2].split(AUTHORITY_SEPARATOR));
+        return new ApiTokenGrant(UUID.fromString(parts[0]), parts[1], authorities, Instant.ofEpochMilli(Long.parseLong(parts[3])));
+    }
+
+    public String encode() {
+        return userId + SEPARATOR + username + SEPARATOR + String.join(AUTHORITY_SEPARATOR, authorities) + SEPARATOR + expiresAt.toEpochMilli();
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,44 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 토큰 해시 → 인증 정보 저장소
+ * <p>
+ * 원본 토큰은 저장하지 않고 {@link ApiTokens#hash(String)} 값만 키로 씁니다.
+ * 항목은 {@link ApiTokenGrant#expiresAt()}에 스스로 만료되어야 합니다.
+ * 사용자별 토큰 해시 목록도 함께 보관해 탈퇴나 비밀번호 변경 시 그 사용자의 토큰을 한 번에 폐기할 수 있어야 합니다.
+ */
+public interface ApiTokenStore {
+
+    /**
+     * 인증 정보 저장
+     *
+     * @param tokenHash 토큰 해시
+     * @param grant     인증 정보
+     */
+    void save(String tokenHash, ApiTokenGrant grant);
+
+    /**
+     * 인증 정보 조회
+     *
+     * @param tokenHash 토큰 해시
+     * @return 인증 정보 (없거나 만료·폐기되었으면 빈 값)
+     */
+    Optional<ApiTokenGrant> find(String tokenHash);
+
+    /**
+     * 토큰 폐기
+     *
+     * @param tokenHash 토큰 해시
+     */
+    void revoke(String tokenHash);
+
+    /**
+     * 사용자의 모든 토큰 폐기
+     *
+     * @param userId 사용자 ID
+     */
+    void revokeAll(UUID userId);
+}
@@ -0,0 +1,49 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * 불투명 토큰 생성과 해시
+ * <p>
+ * 토큰은 256비트 난수라 추측할 수 없으므로 느린 비밀번호 해시 대신 SHA-256 한 번으로 충분합니다.
+ * 저장소가 유출되어도 해시로는 토큰을 복원할 수 없습니다.
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public final class ApiTokens {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    /**
+     * 새 토큰 생성
+     *
+     * @return URL 안전 Base64 토큰 (패딩 없음)
+     */
+    public static String generate() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * 저장소 키로 쓸 토큰 해시
+     *
+     * @param token 원본 토큰
+     * @return SHA-256 16진수 문자열
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 로컬 메모리 토큰 저장소
+ * <p>
+ * Redis가 없을 때(단일 노드, 개발, 테스트) 사용합니다. 재시작하면 발급한 토큰이 모두 사라집니다.
+ * 항목마다 {@link ApiTokenGrant#expiresAt()}까지만 보관합니다.
+ * 사용자별 토큰 해시 목록은 마지막 발급 후 토큰 유효 기간이 지나면 함께 사라집니다.
+ */
+public class LocalApiTokenStore implements ApiTokenStore {
+
+    private final Cache<String, ApiTokenGrant> grants;
+    private final Cache<UUID, Set<String>> userTokens;
+
+    public LocalApiTokenStore(long maximumSize, Duration ttl) {
+        this.grants = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, ApiTokenGrant>() {
+                    @Override
+                    public long expireAfterCreate(String key, ApiTokenGrant grant, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), grant.expiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, ApiTokenGrant grant, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, grant, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, ApiTokenGrant grant, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.userTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public void save(String tokenHash, ApiTokenGrant grant) {
+        grants.put(tokenHash, grant);
+        userTokens.asMap().compute(grant.userId(), (userId, hashes) -> {
+            Set<String> tokens = hashes != null ? hashes : ConcurrentHashMap.newKeySet();
+            tokens.add(tokenHash);
+            return tokens;
+        });
+    }
+
+    @Override
+    public Optional<ApiTokenGrant> find(String tokenHash) {
+        return Optional.ofNullable(grants.getIfPresent(tokenHash));
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        grants.invalidate(tokenHash);
+    }
+
+    @Override
+    public void revokeAll(UUID userId) {
+        Set<String> hashes = userTokens.asMap().remove(userId);
+        if (hashes != null)
+            grants.invalidateAll(hashes);
+    }
+}
@@ -0,0 +1,77 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 토큰 저장소
+ * <p>
+ * {@code {prefix}{해시}} 키에 인증 정보를 담고 만료 시각까지를 TTL로 걸어 모든 노드가 같은 토큰을 공유합니다.
+ * 검증은 GET 한 번, 폐기는 DEL 한 번입니다.
+ * 사용자별로 {@code {prefix}user:{사용자 ID}} 집합에 토큰 해시를 모아 두고, 집합 TTL은 마지막으로 발급한 토큰의 만료에 맞춥니다.
+ * 해시는 16진수라 사용자 키와 겹치지 않습니다.
+ */
+@Slf4j
+public class RedisApiTokenStore implements ApiTokenStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String prefix;
+
+    public RedisApiTokenStore(StringRedisTemplate redisTemplate, String prefix) {
+        this.redisTemplate = redisTemplate;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public void save(String tokenHash, ApiTokenGrant grant) {
+        Duration ttl = Duration.between(Instant.now(), grant.expiresAt());
+        if (ttl.isNegative() || ttl.isZero())
+            return;
+        redisTemplate.opsForValue().set(prefix + tokenHash, grant.encode(), ttl);
+        String userKey = userKey(grant.userId());
+        redisTemplate.opsForSet().add(userKey, tokenHash);
+        redisTemplate.expire(userKey, ttl);
+    }
+
+    @Override
+    public Optional<ApiTokenGrant> find(String tokenHash) {
+        String payload = redisTemplate.opsForValue().get(prefix + tokenHash);
+        if (payload == null)
+            return Optional.empty();
+        try {
+            return Optional.of(ApiTokenGrant.decode(payload));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 API 토큰 항목 무시: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void revoke(String tokenHash) {
+        redisTemplate.delete(prefix + tokenHash);
+    }
+
+    @Override
+    public void revokeAll(UUID userId) {
+        String userKey = userKey(userId);
+        Set<String> hashes = redisTemplate.opsForSet().members(userKey);
+        List<String> keys = new ArrayList<>();
+        if (hashes != null)
+            hashes.forEach(hash -> keys.add(prefix + hash));
+        keys.add(userKey);
+        redisTemplate.delete(keys);
+    }
+
+    private String userKey(UUID userId) {
+        return prefix + "user:" + userId;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * bunny.boardhole.auth.infrastructure.token package
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token;
+
+import org.jspecify.annotations.NullMarked;
@@ -1,6 +1,7 @@
 package dev.xiyo.bunnyholes.boardhole.auth.presentation;
 
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -18,7 +20,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import dev.xiyo.bunnyholes.boardhole.auth.application.command.ApiTokenCommandService;
 import dev.xiyo.bunnyholes.boardhole.auth.application.command.AuthCommandService;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.security.BearerTokenAuthenticationFilter;
+import dev.xiyo.bunnyholes.boardhole.auth.presentation.dto.ApiTokenResponse;
 import dev.xiyo.bunnyholes.boardhole.auth.presentation.dto.LoginRequest;
 import dev.xiyo.bunnyholes.boardhole.auth.presentation.mapper.AuthWebMapper;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
@@ -43,6 +48,7 @@ public class AuthController {
 
     private final UserCommandService userCommandService;
     private final AuthCommandService authCommandService;
+    private final ApiTokenCommandService apiTokenCommandService;
     private final AuthWebMapper authWebMapper;
     private final UserWebMapper userWebMapper;
 
@@ -70,6 +76,28 @@ public class AuthController {
         authCommandService.login(loginCommand);
     }
 
+    @PostMapping(value = ApiPaths.AUTH_TOKEN, consumes = MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+    @PermitAll
+    @Operation(summary = "API 토큰 발급", description = "[PUBLIC] 인증 정보를 확인하고 Bearer 토큰을 발급합니다. 이후 요청은 비밀번호 확인 없이 토큰으로 인증합니다.", requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(mediaType = MediaType.APPLICATION_FORM_URLENCODED_VALUE, schema = @Schema(implementation = LoginRequest.class))))
+    @ApiResponse(responseCode = "200", description = "토큰 발급 성공", content = @Content(schema = @Schema(implementation = ApiTokenResponse.class)))
+    @ApiResponse(responseCode = "401", description = "잘못된 인증 정보")
+    public ApiTokenResponse issueToken(@Validated @ModelAttribute LoginRequest req) {
+        var loginCommand = authWebMapper.toLoginCommand(req);
+        return authWebMapper.toTokenResponse(apiTokenCommandService.issue(loginCommand));
+    }
+
+    @DeleteMapping(ApiPaths.AUTH_TOKEN)
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "API 토큰 폐기", description = "[AUTH] 요청에 사용한 Bearer 토큰을 즉시 폐기합니다.", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponse(responseCode = "204", description = "폐기 성공")
+    @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자 또는 만료·폐기된 토큰")
+    public void revokeToken(HttpServletRequest request) {
+        String token = BearerTokenAuthenticationFilter.resolveToken(request);
+        if (token != null)
+            apiTokenCommandService.revoke(token);
+    }
+
     @PostMapping(ApiPaths.AUTH_LOGOUT)
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("isAuthenticated()")
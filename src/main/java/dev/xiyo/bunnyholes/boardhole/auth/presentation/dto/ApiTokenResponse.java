@@ -0,0 +1,14 @@
+package dev.xiyo.bunnyholes.boardhole.auth.presentation.dto;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "ApiTokenResponse", description = "API 토큰 발급 응답 - 이후 요청에 Authorization: Bearer {accessToken} 헤더로 사용")
+public record ApiTokenResponse(
+        @Schema(description = "액세스 토큰 (다시 조회할 수 없으므로 안전하게 보관)") String accessToken,
+
+        @Schema(description = "토큰 유형", example = "Bearer") String tokenType,
+
+        @Schema(description = "만료 시각") Instant expiresAt) {
+}
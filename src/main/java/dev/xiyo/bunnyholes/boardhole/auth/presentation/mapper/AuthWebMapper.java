@@ -1,9 +1,12 @@
 package dev.xiyo.bunnyholes.boardhole.auth.presentation.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 
 import dev.xiyo.bunnyholes.boardhole.auth.application.command.LoginCommand;
+import dev.xiyo.bunnyholes.boardhole.auth.application.result.ApiTokenResult;
+import dev.xiyo.bunnyholes.boardhole.auth.presentation.dto.ApiTokenResponse;
 import dev.xiyo.bunnyholes.boardhole.auth.presentation.dto.LoginRequest;
 
 /**
@@ -21,4 +24,13 @@ public interface AuthWebMapper {
      * @return 로그인 명령
      */
     LoginCommand toLoginCommand(LoginRequest request);
+
+    /**
+     * 토큰 발급 결과를 응답 DTO로 변환
+     *
+     * @param result 토큰 발급 결과
+     * @return 토큰 응답 DTO
+     */
+    @Mapping(target = "tokenType", constant = "Bearer")
+    ApiTokenResponse toTokenResponse(ApiTokenResult result);
 }
@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.board.application.command;
 
+import java.time.Instant;
 import java.util.UUID;
 
 import jakarta.validation.Valid;
@@ -7,20 +8,25 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardSavedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
 import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.EvictCacheTags;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.security.OwnershipCache;
+import dev.xiyo.bunnyholes.boardhole.shared.security.UserIdResolver;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
-import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 /**
@@ -34,27 +40,32 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 public class BoardCommandService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final UserIdResolver userIdResolver;
     private final BoardMapper boardMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OwnershipCache ownershipCache;
 
     /**
      * 게시글 생성
+     * 기존 게시글 상세 캐시는 유지하고 목록과 집계 캐시만 제거합니다.
      *
      * @param cmd 게시글 생성 명령
      * @return 생성된 게시글 결과
      * @throws ResourceNotFoundException 작성자를 찾을 수 없는 경우
      */
     @Transactional
-    @CacheEvict(cacheNames = CacheConstants.Board.CACHE_NAME, allEntries = true)
+    @EvictCacheTags({CacheConstants.Tag.BOARD_LISTS, CacheConstants.Tag.BOARD_COUNTS})
     public BoardResult create(@Valid CreateBoardCommand cmd) {
-        String authorUsername = cmd.authorUsername();
-        User author = userRepository
-                .findByUsername(authorUsername)
-                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.username", authorUsername)));
-
-        Board board = Board.builder().title(cmd.title()).content(cmd.content()).author(author).build();
+        // 작성자는 외래 키만 필요하므로 엔티티 대신 참조만 사용 (INSERT 한 번)
+        UUID authorId = userIdResolver.resolve(cmd.authorUsername());
+        Board board = Board.builder().title(cmd.title()).content(cmd.content()).author(userRepository.getReferenceById(authorId)).build();
         Board saved = boardRepository.save(board);
+        // 작성 직후 수정/삭제 권한 확인이 작성자를 다시 조회하지 않도록 소유자 등록
+        ownershipCache.remember(PermissionType.TARGET_BOARD, saved.getId(), cmd.authorUsername());
 
-        return boardMapper.toResult(saved);
+        BoardResult result = boardMapper.toResult(saved, authorId, cmd.authorUsername());
+        eventPublisher.publishEvent(new BoardSavedEvent(result, Instant.now()));
+        return result;
     }
 
     // 조회 전용: 증가 없이 단순 조회 (권한 확인 등 내부 용도)
@@ -68,7 +79,7 @@ public class BoardCommandService {
      */
     @Transactional
     @PreAuthorize("hasPermission(#cmd.boardId, 'BOARD', 'WRITE')")
-    @CacheEvict(cacheNames = CacheConstants.Board.CACHE_NAME, allEntries = true)
+    @EvictCacheTags(value = CacheConstants.Tag.BOARD_LISTS, expressions = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.board(#cmd.boardId())")
     public BoardResult update(@Valid UpdateBoardCommand cmd) {
         UUID id = cmd.boardId();
         Board board = boardRepository
@@ -80,7 +91,9 @@ public class BoardCommandService {
         // @DynamicUpdate가 변경된 필드만 업데이트, @PreUpdate가 updatedAt 자동 설정
         Board saved = boardRepository.save(board);
 
-        return boardMapper.toResult(saved);
+        BoardResult result = boardMapper.toResult(saved);
+        eventPublisher.publishEvent(new BoardSavedEvent(result, Instant.now()));
+        return result;
     }
 
     /**
@@ -91,10 +104,14 @@ public class BoardCommandService {
      */
     @Transactional
     @PreAuthorize("hasPermission(#id, 'BOARD', 'DELETE')")
-    @CacheEvict(cacheNames = CacheConstants.Board.CACHE_NAME, allEntries = true)
+    @EvictCacheTags(value = {CacheConstants.Tag.BOARD_LISTS, CacheConstants.Tag.BOARD_COUNTS}, expressions = {
+            "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.board(#id)",
+            "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.replies(#id)"})
     public void delete(UUID id) {
         Board board = loadBoardOrThrow(id);
         boardRepository.delete(board);
+        ownershipCache.evict(PermissionType.TARGET_BOARD, id);
+        eventPublisher.publishEvent(new BoardDeletedEvent(id, Instant.now()));
     }
 
     /**
@@ -0,0 +1,113 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ReplyCountProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.scheduling.SchedulerLocks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 댓글 수 카운터 재계산 작업
+ * <p>
+ * 댓글 수는 댓글 작성/삭제와 같은 트랜잭션에서 원자적으로 증감하지만,
+ * 직접 수정한 데이터나 카운터 도입 이전의 게시글처럼 어긋날 수 있는 경우를 주기적으로 바로잡습니다.
+ * 게시글을 ID 순으로 나눠 배치마다 짧은 트랜잭션으로 보정하므로 한 번에 많은 행을 잠그지 않습니다.
+ * 보정 중 동시에 달린 댓글이 빠진 값이 기록되더라도 다음 주기에 다시 맞춰집니다.
+ * <p>
+ * 전체 게시글을 훑는 작업이므로 {@link SchedulerLocks}로 노드 하나에서만 실행합니다.
+ * 보정한 게시글은 상세 캐시({@code board:{ID}} 태그)를, 하나라도 보정했으면 목록 캐시도 제거해 캐시된 댓글 수가 남지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ReplyCountReconciler {
+
+    static final String LOCK_NAME = "reply-count-reconcile";
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final BoardRepository boardRepository;
+    private final ReplyCountProperties properties;
+    private final SchedulerLocks schedulerLocks;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final Counter repairedBoards;
+
+    public ReplyCountReconciler(BoardRepository boardRepository, ReplyCountProperties properties, SchedulerLocks schedulerLocks,
+                                ObjectProvider<CacheManager> cacheManagerProvider, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.properties = properties;
+        this.schedulerLocks = schedulerLocks;
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.repairedBoards = Counter.builder("boardhole.reply-count.repaired")
+                                     .description("재계산으로 댓글 수가 보정된 게시글 수")
+                                     .register(meterRegistry);
+    }
+
+    /**
+     * 전체 게시글의 댓글 수 재계산 (다른 노드가 실행 중이면 건너뜀)
+     *
+     * @return 보정된 게시글 수
+     */
+    @Scheduled(initialDelayString = "${boardhole.reply-count.reconcile-interval:PT10M}",
+               fixedDelayString = "${boardhole.reply-count.reconcile-interval:PT10M}")
+    public int reconcile() {
+        return schedulerLocks.runExclusively(LOCK_NAME, properties.reconcileInterval(), this::reconcileAll).orElse(0);
+    }
+
+    private int reconcileAll() {
+        int repaired = 0;
+        UUID after = MIN_ID;
+        try {
+            List<UUID> ids;
+            do {
+                ids = boardRepository.findIdsAfter(after, Limit.of(properties.batchSize()));
+                if (ids.isEmpty())
+                    break;
+                List<UUID> stale = boardRepository.findIdsWithStaleReplyCount(ids);
+                if (!stale.isEmpty()) {
+                    repaired += boardRepository.reconcileReplyCounts(stale);
+                    evictCached(stale);
+                }
+                after = ids.getLast();
+            } while (ids.size() == properties.batchSize());
+        } catch (DataAccessException ex) {
+            log.warn("댓글 수 재계산 중단 - 다음 주기에 재시도. lastBoardId={}", after, ex);
+        }
+
+        repairedBoards.increment(repaired);
+        if (repaired > 0)
+            log.info("게시글 댓글 수 보정 완료. repaired={}", repaired);
+        return repaired;
+    }
+
+    /**
+     * 보정한 게시글의 상세 캐시와 목록 캐시 제거
+     */
+    private void evictCached(List<UUID> boardIds) {
+        if (!(cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager))
+            return;
+        List<String> tags = new ArrayList<>(boardIds.size() + 1);
+        boardIds.forEach(id -> tags.add(CacheConstants.Tag.board(id)));
+        tags.add(CacheConstants.Tag.BOARD_LISTS);
+        try {
+            cacheManager.evictTags(tags);
+        } catch (RuntimeException e) {
+            // 캐시에 남은 값은 항목 TTL로 복구되므로 재계산은 계속함
+            log.warn("댓글 수 보정 캐시 무효화 실패: boards={}", boardIds.size(), e);
+        }
+    }
+}
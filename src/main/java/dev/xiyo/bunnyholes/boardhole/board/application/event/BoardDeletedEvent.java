@@ -0,0 +1,13 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 게시글 삭제 이벤트
+ *
+ * @param boardId    삭제된 게시글 ID
+ * @param occurredAt 삭제 시각 (검색 색인 반영 지연 측정용)
+ */
+public record BoardDeletedEvent(UUID boardId, Instant occurredAt) {
+}
@@ -0,0 +1,14 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import java.time.Instant;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 게시글 생성/수정 이벤트
+ *
+ * @param board      저장된 게시글
+ * @param occurredAt 변경 시각 (검색 색인 반영 지연 측정용)
+ */
+public record BoardSavedEvent(BoardResult board, Instant occurredAt) {
+}
@@ -0,0 +1,72 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCache;
+
+/**
+ * 캐시된 게시글 결과에 실시간 조회수를 덧씌우는 오버레이
+ * <p>
+ * 캐시된 {@link BoardResult#viewCount()}는 캐시 적재 시점의 DB 값입니다.
+ * 조회 시에는 아직 DB에 반영되지 않은 버퍼 증가분(반영 중인 증가분 포함)을 더해 반환하고,
+ * 버퍼가 증가분을 DB에 반영하면 이 노드의 L1 항목을 비우지 않고 조회수만 반영 후 DB 값으로 바꿔 넣습니다.
+ * 조회가 계속되는 게시글도 flush 주기마다 이 노드에서 캐시 미스와 DB 재적재가 생기지 않습니다.
+ * 교체는 읽은 항목이 그대로 있을 때만 하는 조건부 교체라, 그 사이 태그 제거로 사라진 항목을 되살리지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardViewCountOverlay {
+
+    private final ViewCountBuffer viewCountBuffer;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * 미반영 조회수를 합산한 게시글 결과
+     *
+     * @param result 캐시 또는 DB에서 읽은 게시글 결과
+     * @return 실시간 조회수가 반영된 게시글 결과
+     */
+    public BoardResult apply(BoardResult result) {
+        long pending = viewCountBuffer.pendingFor(result.id());
+        if (pending == 0)
+            return result;
+
+        int base = result.viewCount() != null ? result.viewCount() : 0;
+        return withViewCount(result, (int) Math.min(Integer.MAX_VALUE, base + pending));
+    }
+
+    /**
+     * DB에 반영된 게시글의 캐시된 조회수 갱신
+     * 증가분을 더하지 않고 반영 후 DB 값으로 덮어쓰므로, 반영 직후 DB에서 새로 적재된 항목에도 이중 합산되지 않습니다.
+     * 캐시에 없는 게시글은 새로 적재하지 않습니다.
+     * L2 항목은 조건부로 바꿀 수 없어 제거하며, 2단계 캐시가 아니면 항목을 제거만 합니다.
+     */
+    @EventListener
+    public void onFlushed(ViewCountFlushedEvent event) {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null)
+            return;
+        Cache cache = cacheManager.getCache(CacheConstants.Board.CACHE_NAME);
+        if (cache == null)
+            return;
+        event.viewCounts().forEach((boardId, viewCount) -> {
+            if (cache instanceof TwoLevelCache twoLevelCache)
+                twoLevelCache.updateLocal(boardId, cached -> cached instanceof BoardResult result ? withViewCount(result, viewCount) : cached);
+            else
+                cache.evict(boardId);
+        });
+    }
+
+    private static BoardResult withViewCount(BoardResult result, int viewCount) {
+        return new BoardResult(result.id(), result.title(), result.content(), result.authorId(), result.authorName(), viewCount,
+                result.createdAt(), result.updatedAt(), result.replyCount());
+    }
+}
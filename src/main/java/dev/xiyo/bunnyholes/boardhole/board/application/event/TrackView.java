@@ -0,0 +1,19 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 게시글 조회수 집계 대상 메서드 표시
+ * <p>
+ * {@code BoardResult}를 반환하는 메서드에 붙이면 {@link ViewTrackingAspect}가
+ * 캐시 적중 여부와 관계없이 호출마다 조회 이벤트를 발행하고 미반영 조회수를 결과에 합산합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TrackView {
+}
@@ -0,0 +1,231 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardViewCountWriter;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ViewCountProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * <p>
+ * 조회마다 UPDATE를 실행하는 대신 게시글별 LongAdder에 조회수를 누적하고,
+ * 주기적으로 증가분만 모아 하나의 JDBC 배치로 반영합니다.
+ * 인기 게시글의 동일 행에 대한 쓰기 경합과 비동기 스레드 풀 점유를 제거하기 위함입니다.
+ * <p>
+ * 반영에 실패한 증가분은 버퍼로 되돌려 다음 주기에 재시도하며,
+ * 애플리케이션 종료 시 남은 증가분을 마지막으로 반영합니다.
+ * <p>
+ * 이전 주기 이후 조회가 없어 비어 있는 LongAdder는 같은 인스턴스일 때만 맵에서 제거(compare-and-remove)해
+ * 한 번이라도 조회된 게시글마다 카운터가 쌓이지 않게 합니다. 조회 스레드는 꺼낸 LongAdder를 맵 잠금 밖에서 증가시키므로,
+ * 제거된 LongAdder에 늦게 더해진 증가분은 제거한 쪽과 증가시킨 쪽 중 먼저 {@link LongAdder#sumThenReset()}으로 가져가는 쪽이
+ * 맵의 새 LongAdder로 옮깁니다. 셀 단위로 원자적으로 비우므로 증가분은 빠지지도 두 번 세어지지도 않습니다.
+ * <p>
+ * 꺼낸 증가분은 커밋될 때까지 반영 중(in-flight) 맵에 남겨 두어, 반영 도중에도 {@link #pendingFor(UUID)}가
+ * 버퍼에도 DB에도 없는 증가분을 빠뜨리지 않도록 합니다.
+ * 반영이 끝나면 반영 후 조회수를 담은 {@link ViewCountFlushedEvent}를 발행해 캐시된 조회수를 갱신하도록 알립니다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final ConcurrentHashMap<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, Long> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final BoardViewCountWriter viewCountWriter;
+    private final ViewCountProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter flushedViews;
+    private final Counter failedViews;
+
+    public ViewCountBuffer(BoardViewCountWriter viewCountWriter, ViewCountProperties properties, ApplicationEventPublisher eventPublisher,
+                           MeterRegistry meterRegistry) {
+        this.viewCountWriter = viewCountWriter;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.flushedViews = Counter.builder("boardhole.view-count.flushed")
+                                   .description("DB에 반영된 조회수")
+                                   .register(meterRegistry);
+        this.failedViews = Counter.builder("boardhole.view-count.failed")
+                                  .description("반영에 실패해 재시도 대기 중으로 되돌린 조회수")
+                                  .register(meterRegistry);
+        Gauge.builder("boardhole.view-count.pending", this, ViewCountBuffer::pendingViews)
+             .description("아직 DB에 반영되지 않은 조회수")
+             .register(meterRegistry);
+        Gauge.builder("boardhole.view-count.pending.boards", pending, Map::size)
+             .description("반영 대기 중인 게시글 수")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1회 기록
+     *
+     * @param boardId 게시글 ID
+     */
+    public void record(UUID boardId) {
+        add(boardId, 1L);
+    }
+
+    /**
+     * 특정 게시글의 미반영 조회수
+     *
+     * @param boardId 게시글 ID
+     * @return 아직 DB에 반영되지 않은 조회수 (반영 중인 증가분 포함)
+     */
+    public long pendingFor(UUID boardId) {
+        LongAdder adder = pending.get(boardId);
+        long buffered = adder != null ? adder.sum() : 0L;
+        return buffered + inFlight.getOrDefault(boardId, 0L);
+    }
+
+    /**
+     * 전체 미반영 조회수
+     *
+     * @return 아직 DB에 반영되지 않은 조회수 합계 (반영 중인 증가분 포함)
+     */
+    public long pendingViews() {
+        long buffered = pending.values().stream().mapToLong(LongAdder::sum).sum();
+        return buffered + inFlight.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 반영
+     * 스케줄러와 종료 훅이 동시에 호출해도 한 번에 하나의 flush만 수행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${boardhole.view-count.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<UUID, Long> drained = drain();
+            if (drained.isEmpty())
+                return;
+
+            Map<UUID, Long> chunk = new LinkedHashMap<>();
+            for (Map.Entry<UUID, Long> entry : drained.entrySet()) {
+                chunk.put(entry.getKey(), entry.getValue());
+                if (chunk.size() >= properties.maxBatchSize()) {
+                    write(chunk);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+            write(chunk);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 삭제된 게시글의 카운터 제거
+     * 삭제 후 들어온 조회는 반영해도 갱신되는 행이 없으므로 유실되어도 무방합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        pending.remove(event.boardId());
+    }
+
+    /**
+     * Graceful shutdown 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 조회수 반영. pendingBoards={}, pendingViews={}", pending.size(), pendingViews());
+        flush();
+    }
+
+    /**
+     * 버퍼의 증가분을 반영 중 맵으로 이동
+     * 반영 중 맵에 먼저 기록한 뒤 LongAdder에서 같은 양을 빼므로, 이동하는 동안 증가분이 어느 쪽에서도 빠지지 않습니다.
+     * 비어 있는 LongAdder는 제거하고, 제거 직전에 더해진 증가분은 새 LongAdder로 옮깁니다.
+     */
+    private Map<UUID, Long> drain() {
+        Map<UUID, Long> drained = new HashMap<>();
+        for (Map.Entry<UUID, LongAdder> entry : pending.entrySet()) {
+            UUID boardId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta <= 0) {
+                if (delta == 0 && pending.remove(boardId, adder))
+                    carryOver(boardId, adder);
+                continue;
+            }
+            inFlight.merge(boardId, delta, Long::sum);
+            adder.add(-delta);
+            drained.put(boardId, delta);
+        }
+        return drained;
+    }
+
+    private void write(Map<UUID, Long> chunk) {
+        if (chunk.isEmpty())
+            return;
+
+        long views = chunk.values().stream().mapToLong(Long::longValue).sum();
+        Map<UUID, Integer> viewCounts;
+        try {
+            viewCounts = viewCountWriter.incrementViewCounts(chunk);
+            flushedViews.increment(views);
+            log.debug("조회수 반영 완료. boards={}, updated={}, views={}", chunk.size(), viewCounts.size(), views);
+        } catch (DataAccessException ex) {
+            chunk.forEach((boardId, delta) -> {
+                add(boardId, delta);
+                release(boardId, delta);
+            });
+            failedViews.increment(views);
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도. boards={}, views={}", chunk.size(), views, ex);
+            return;
+        }
+
+        try {
+            eventPublisher.publishEvent(new ViewCountFlushedEvent(viewCounts));
+        } catch (RuntimeException ex) {
+            // 이미 DB에는 반영되었으므로 증가분을 되돌리지 않음 (캐시는 TTL로 자연 만료)
+            log.warn("조회수 반영 후 캐시 갱신 실패. boards={}", chunk.size(), ex);
+        } finally {
+            // 캐시된 조회수가 반영 후 값으로 바뀐 뒤에 반영 중 증가분을 내려, 증가분이 어느 쪽에도 없는 구간을 만들지 않음
+            chunk.forEach(this::release);
+        }
+    }
+
+    /**
+     * 게시글의 LongAdder에 증가분 추가
+     * 더한 뒤 LongAdder가 맵에서 제거되었으면, 아직 아무도 가져가지 않은 몫을 새 LongAdder로 옮깁니다.
+     */
+    private void add(UUID boardId, long delta) {
+        LongAdder adder = pending.computeIfAbsent(boardId, id -> new LongAdder());
+        adder.add(delta);
+        if (pending.get(boardId) != adder)
+            carryOver(boardId, adder);
+    }
+
+    /**
+     * 맵에서 제거된 LongAdder에 남은 증가분을 새 LongAdder로 이동
+     */
+    private void carryOver(UUID boardId, LongAdder removed) {
+        long late = removed.sumThenReset();
+        if (late != 0)
+            add(boardId, late);
+    }
+
+    private void release(UUID boardId, long delta) {
+        inFlight.computeIfPresent(boardId, (id, current) -> current - delta > 0 ? current - delta : null);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 조회수 반영 완료 이벤트
+ *
+ * @param viewCounts 반영 후 게시글 ID별 DB 조회수
+ */
+public record ViewCountFlushedEvent(Map<UUID, Integer> viewCounts) {
+}
@@ -0,0 +1,43 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import lombok.RequiredArgsConstructor;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 게시글 조회수 집계 애스펙트
+ * <p>
+ * 조회 이벤트 발행을 {@code @Cacheable} 메서드 본문에 두면 캐시 미스일 때만 조회수가 증가합니다.
+ * 이 애스펙트는 캐시 인터셉터보다 바깥에서 실행되어 캐시 적중 시에도 매 조회를 집계하고,
+ * 반환 결과에는 {@link BoardViewCountOverlay}로 실시간 조회수를 반영합니다.
+ * 조회에 실패해 예외가 발생하면 이벤트를 발행하지 않습니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ViewTrackingAspect {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardMapper boardMapper;
+    private final BoardViewCountOverlay viewCountOverlay;
+
+    @Around("@annotation(dev.xiyo.bunnyholes.boardhole.board.application.event.TrackView)")
+    public Object trackView(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        if (!(result instanceof BoardResult board))
+            return result;
+
+        eventPublisher.publishEvent(boardMapper.toViewedEvent(board.id()));
+        return viewCountOverlay.apply(board);
+    }
+}
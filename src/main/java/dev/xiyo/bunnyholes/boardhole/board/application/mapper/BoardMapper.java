@@ -12,7 +12,9 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 import dev.xiyo.bunnyholes.boardhole.board.application.command.UpdateBoardCommand;
 import dev.xiyo.bunnyholes.boardhole.board.application.event.ViewedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummaryProjection;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 @SuppressWarnings("NullableProblems")
@@ -22,6 +24,26 @@ public interface BoardMapper {
     @Mapping(target = "authorName", source = "author.username")
     BoardResult toResult(Board board);
 
+    /**
+     * 작성자를 읽지 않고 게시글 결과로 변환 (작성자가 참조 프록시인 쓰기 경로용)
+     *
+     * @param board      게시글 엔티티
+     * @param authorId   작성자 ID
+     * @param authorName 작성자 사용자명
+     * @return 게시글 결과
+     */
+    @Mapping(target = "authorId", source = "authorId")
+    @Mapping(target = "authorName", source = "authorName")
+    BoardResult toResult(Board board, UUID authorId, String authorName);
+
+    /**
+     * 목록용 요약 프로젝션을 결과로 변환
+     *
+     * @param projection 게시글 요약 프로젝션
+     * @return 게시글 요약 결과
+     */
+    BoardSummaryResult toSummaryResult(BoardSummaryProjection projection);
+
     /**
      * 게시글 조회 이벤트 생성
      *
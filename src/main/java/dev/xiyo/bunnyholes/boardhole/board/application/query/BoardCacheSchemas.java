@@ -0,0 +1,61 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.codec.CacheValueSchema;
+
+/**
+ * 게시글 캐시 값 바이너리 스키마
+ * 필드는 끝에만 추가하고, 타입 ID와 기존 필드 순서는 바꾸지 않습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BoardCacheSchemas {
+
+    static final int BOARD_RESULT = 16;
+    static final int BOARD_SUMMARY_RESULT = 17;
+
+    @Bean
+    public CacheValueSchema<BoardResult> boardResultSchema() {
+        return CacheValueSchema.of(BOARD_RESULT, BoardResult.class,
+                (board, out) -> {
+                    out.writeUuid(board.id());
+                    out.writeString(board.title());
+                    out.writeString(board.content());
+                    out.writeUuid(board.authorId());
+                    out.writeString(board.authorName());
+                    out.writeInt(board.viewCount());
+                    out.writeDateTime(board.createdAt());
+                    out.writeDateTime(board.updatedAt());
+                    out.writeInt(board.replyCount());
+                },
+                in -> new BoardResult(in.readUuid(), in.readString(), in.readString(), in.readUuid(), in.readString(), in.readInt(),
+                        in.readDateTime(), in.readDateTime(), orZero(in.readInt())));
+    }
+
+    @Bean
+    public CacheValueSchema<BoardSummaryResult> boardSummaryResultSchema() {
+        return CacheValueSchema.of(BOARD_SUMMARY_RESULT, BoardSummaryResult.class,
+                (board, out) -> {
+                    out.writeUuid(board.id());
+                    out.writeString(board.title());
+                    out.writeString(board.excerpt());
+                    out.writeUuid(board.authorId());
+                    out.writeString(board.authorName());
+                    out.writeInt(board.viewCount());
+                    out.writeDateTime(board.createdAt());
+                    out.writeDateTime(board.updatedAt());
+                    out.writeInt(board.replyCount());
+                },
+                in -> new BoardSummaryResult(in.readUuid(), in.readString(), in.readString(), in.readUuid(), in.readString(), in.readInt(),
+                        in.readDateTime(), in.readDateTime(), orZero(in.readInt())));
+    }
+
+    private static int orZero(@Nullable Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,48 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheTagger;
+
+/**
+ * 게시글 캐시 항목 태그 부여
+ * <ul>
+ *     <li>게시글 상세: {@code board:{id}}, 작성자 이름을 담으므로 {@code author:{작성자 ID}}</li>
+ *     <li>최근 게시글 목록: {@code board-lists}, 목록에 포함된 작성자마다 {@code author:{작성자 ID}}</li>
+ *     <li>게시글 수 집계: {@code board-counts}</li>
+ * </ul>
+ */
+@Component
+public class BoardCacheTagger implements CacheTagger {
+
+    @Override
+    public String cacheName() {
+        return CacheConstants.Board.CACHE_NAME;
+    }
+
+    @Override
+    public Set<String> tags(Object key, Object value) {
+        if (value instanceof BoardResult board)
+            return Set.of(CacheConstants.Tag.board(board.id()), CacheConstants.Tag.author(board.authorId()));
+
+        if (value instanceof List<?> boards) {
+            Set<String> tags = new HashSet<>();
+            tags.add(CacheConstants.Tag.BOARD_LISTS);
+            for (Object board : boards)
+                if (board instanceof BoardSummaryResult summary)
+                    tags.add(CacheConstants.Tag.author(summary.authorId()));
+            return tags;
+        }
+
+        if (key instanceof String name && name.startsWith(CacheConstants.Board.COUNT))
+            return Set.of(CacheConstants.Tag.BOARD_COUNTS);
+        return Set.of();
+    }
+}
@@ -0,0 +1,88 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummaryProjection;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+/**
+ * 게시글 목록 키셋 커서
+ * <p>
+ * 마지막으로 내려준 게시글의 (정렬 시각, id)를 담아 다음 페이지의 시작 위치로 사용합니다.
+ * OFFSET 없이 인덱스 범위 탐색만으로 다음 페이지를 찾기 때문에 깊은 페이지에서도 비용이 일정합니다.
+ * 외부에는 URL-safe Base64 문자열로만 노출되며 내부 구조에 의존하지 않도록 불투명하게 취급합니다.
+ *
+ * @param sort      커서가 만들어진 정렬 기준
+ * @param timestamp 마지막 게시글의 정렬 시각
+ * @param id        마지막 게시글 ID (동일 시각 내 순서 보장용)
+ */
+public record BoardCursor(BoardScrollSort sort, LocalDateTime timestamp, UUID id) {
+
+    private static final String DELIMITER = "|";
+    private static final LocalDateTime MAX_TIMESTAMP = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+    /**
+     * 첫 페이지용 커서 (모든 게시글보다 뒤에 위치)
+     *
+     * @param sort 정렬 기준
+     * @return 첫 페이지 커서
+     */
+    public static BoardCursor first(BoardScrollSort sort) {
+        return new BoardCursor(sort, MAX_TIMESTAMP, MAX_ID);
+    }
+
+    /**
+     * 주어진 게시글 바로 다음 위치를 가리키는 커서
+     *
+     * @param sort  정렬 기준
+     * @param board 현재 페이지의 마지막 게시글
+     * @return 다음 페이지 커서
+     */
+    public static BoardCursor after(BoardScrollSort sort, BoardSummaryProjection board) {
+        LocalDateTime timestamp = switch (sort) {
+            case CREATED_AT -> board.getCreatedAt();
+            case UPDATED_AT -> board.getUpdatedAt();
+        };
+        return new BoardCursor(sort, timestamp, board.getId());
+    }
+
+    /**
+     * 커서 문자열 복원
+     *
+     * @param value 인코딩된 커서
+     * @param sort  요청의 정렬 기준 (커서의 정렬과 달라서는 안 됨)
+     * @return 복원된 커서
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static BoardCursor decode(String value, BoardScrollSort sort) {
+        @Nullable BoardCursor cursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("\\" + DELIMITER, -1);
+            cursor = parts.length == 3
+                    ? new BoardCursor(BoardScrollSort.valueOf(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]))
+                    : null;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException(MessageUtils.get("error.board.cursor.invalid"), e);
+        }
+        if (cursor == null || cursor.sort() != sort)
+            throw new IllegalArgumentException(MessageUtils.get("error.board.cursor.invalid"));
+        return cursor;
+    }
+
+    /**
+     * 커서를 URL-safe 문자열로 인코딩
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        String raw = sort.name() + DELIMITER + timestamp + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
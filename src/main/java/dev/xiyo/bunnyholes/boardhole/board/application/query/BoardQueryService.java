@@ -7,19 +7,23 @@ import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import dev.xiyo.bunnyholes.boardhole.board.application.event.TrackView;
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSliceResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummaryProjection;
 import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
@@ -33,51 +37,92 @@ import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 @RequiredArgsConstructor
 public class BoardQueryService {
 
+    /** 커서 조회 시 한 번에 허용하는 최대 건수 */
+    public static final int MAX_SCROLL_SIZE = 100;
+
     private final BoardRepository boardRepository;
     private final BoardMapper boardMapper;
-    private final ApplicationEventPublisher eventPublisher;
+    private final BoardSearchEngine boardSearchEngine;
 
     /**
      * 게시글 단일 조회 쿼리 처리
      * <p>
-     * 주의: 본 메서드는 조회 성공 시 조회수 증가 이벤트(ViewedEvent)를 발행합니다.
-     * CQRS 순수 조회 원칙과 달리, 실무 성능/경험(조회 시점에 viewCount 증가) 목적의 의도적 부수효과입니다.
+     * 주의: 조회수 증가 이벤트(ViewedEvent)는 {@link TrackView}를 통해 캐시 바깥에서 발행됩니다.
+     * 본문에서 발행하면 캐시 적중 시 조회수가 집계되지 않으므로 본문은 순수 조회만 수행합니다.
+     * 인기 게시글 항목이 만료되거나 제거되어도 동시 요청은 노드당 한 번만 DB를 조회합니다 ({@code sync = true}).
      *
      * @param query 게시글 조회 쿼리
      * @return 게시글 조회 결과
      * @throws ResourceNotFoundException 게시글을 찾을 수 없는 경우
      */
+    @TrackView
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "#query.id()")
+    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "#query.id()", sync = true)
     public BoardResult handle(GetBoardQuery query) {
         Board board = boardRepository
                 .findById(query.id())
                 .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.board.not-found.id", query.id())));
-        eventPublisher.publishEvent(boardMapper.toViewedEvent(query.id()));
         return boardMapper.toResult(board);
     }
 
     /**
      * 게시글 목록 페이지네이션 조회
+     * 본문 전체와 작성자 엔티티를 읽지 않도록 요약 프로젝션을 사용합니다.
      *
      * @param pageable 페이지네이션 정보
-     * @return 게시글 목록 페이지
+     * @return 게시글 요약 목록 페이지
      */
     @Transactional(readOnly = true)
-    public Page<BoardResult> listWithPaging(Pageable pageable) {
-        return boardRepository.findAll(pageable).map(boardMapper::toResult);
+    public Page<BoardSummaryResult> listWithPaging(Pageable pageable) {
+        return boardRepository.findSummaries(pageable).map(boardMapper::toSummaryResult);
     }
 
     /**
      * 검색어로 게시글 목록 페이지네이션 조회
+     * 설정된 {@link BoardSearchEngine}에 위임하며, 결과의 발췌에는 검색어 하이라이트가 포함됩니다.
      *
      * @param pageable 페이지네이션 정보
      * @param search   검색어 (제목, 내용에서 검색)
-     * @return 검색된 게시글 목록 페이지
+     * @return 검색된 게시글 요약 목록 페이지
      */
     @Transactional(readOnly = true)
-    public Page<BoardResult> listWithPaging(Pageable pageable, String search) {
-        return boardRepository.searchByKeyword(search, pageable).map(boardMapper::toResult);
+    public Page<BoardSummaryResult> listWithPaging(Pageable pageable, String search) {
+        return boardSearchEngine.search(search, pageable);
+    }
+
+    /**
+     * 커서 기반 게시글 목록 조회
+     * <p>
+     * OFFSET/COUNT 없이 (정렬 시각, id) 키셋으로 다음 페이지를 찾습니다.
+     * 요청 크기보다 한 건 더 조회해 다음 페이지 존재 여부를 판단합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기 (1~{@value #MAX_SCROLL_SIZE})
+     * @param sort   정렬 기준
+     * @param search 검색어 (제목, 내용에서 검색)
+     * @return 게시글 목록과 다음 커서
+     * @throws IllegalArgumentException 커서가 잘못되었거나 정렬 기준과 맞지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public BoardSliceResult scroll(@Nullable String cursor, int size, BoardScrollSort sort, @Nullable String search) {
+        int pageSize = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        BoardCursor position = cursor == null || cursor.isBlank() ? BoardCursor.first(sort) : BoardCursor.decode(cursor, sort);
+        @Nullable String keyword = search == null || search.isBlank() ? null : search.trim();
+
+        List<BoardSummaryProjection> boards = fetchAfter(position, keyword, Limit.of(pageSize + 1));
+        boolean hasNext = boards.size() > pageSize;
+        List<BoardSummaryProjection> content = hasNext ? boards.subList(0, pageSize) : boards;
+        @Nullable String nextCursor = hasNext ? BoardCursor.after(sort, content.getLast()).encode() : null;
+        return new BoardSliceResult(content.stream().map(boardMapper::toSummaryResult).toList(), nextCursor, hasNext);
+    }
+
+    private List<BoardSummaryProjection> fetchAfter(BoardCursor position, @Nullable String keyword, Limit limit) {
+        if (keyword != null)
+            return boardSearchEngine.scroll(keyword, position, limit);
+        return switch (position.sort()) {
+            case CREATED_AT -> boardRepository.scrollByCreatedAt(position.timestamp(), position.id(), limit);
+            case UPDATED_AT -> boardRepository.scrollByUpdatedAt(position.timestamp(), position.id(), limit);
+        };
     }
 
     // WebController 호환 메서드들 (기존 API 유지)
@@ -86,7 +131,7 @@ public class BoardQueryService {
      * 게시글 목록 조회 (검색 포함)
      */
     @Transactional(readOnly = true)
-    public Page<BoardResult> getBoards(String search, Pageable pageable) {
+    public Page<BoardSummaryResult> getBoards(String search, Pageable pageable) {
         if (search != null && !search.trim().isEmpty())
             return listWithPaging(pageable, search.trim());
         return listWithPaging(pageable);
@@ -94,8 +139,11 @@ public class BoardQueryService {
 
     /**
      * 게시글 단일 조회
+     * {@link #handle(GetBoardQuery)}와 같은 캐시 키를 사용합니다.
      */
+    @TrackView
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "#id", sync = true)
     public BoardResult getBoard(UUID id) {
         return handle(new GetBoardQuery(id));
     }
@@ -106,13 +154,12 @@ public class BoardQueryService {
      * 최근 게시글 목록 조회
      *
      * @param limit 조회할 게시글 수
-     * @return 최근 게시글 목록
+     * @return 최근 게시글 요약 목록
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.boardRecent(#limit)")
-    public List<BoardResult> getRecentBoards(int limit) {
-        Pageable pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "createdAt"));
-        return boardRepository.findAll(pageable).map(boardMapper::toResult).getContent();
+    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.boardRecent(#limit)", sync = true)
+    public List<BoardSummaryResult> getRecentBoards(int limit) {
+        return boardRepository.findRecentSummaries(Limit.of(limit)).stream().map(boardMapper::toSummaryResult).toList();
     }
 
     /**
@@ -121,7 +168,7 @@ public class BoardQueryService {
      * @return 전체 게시글 수
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Board.COUNT")
+    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Board.COUNT", sync = true)
     public Long getTotalBoardCount() {
         return boardRepository.count();
     }
@@ -132,7 +179,7 @@ public class BoardQueryService {
      * @return 오늘 작성된 게시글 수
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Board.COUNT_TODAY")
+    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Board.COUNT_TODAY", sync = true)
     public Long getTodayBoardCount() {
         LocalDate today = LocalDate.now();
         return boardRepository.countByCreatedAtBetween(
@@ -148,7 +195,7 @@ public class BoardQueryService {
      * @return 사용자의 게시글 수
      */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.boardCountByAuthor(#authorId)")
+    @Cacheable(cacheNames = CacheConstants.Board.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.boardCountByAuthor(#authorId)", sync = true)
     public Long getMyBoardCount(UUID authorId) {
         return boardRepository.countByAuthorId(authorId);
     }
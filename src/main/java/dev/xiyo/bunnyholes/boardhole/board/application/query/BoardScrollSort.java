@@ -0,0 +1,13 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+/**
+ * 커서 기반 게시글 목록의 정렬 기준
+ * <p>
+ * 각 정렬은 (정렬 컬럼, id) 복합 인덱스를 그대로 타도록 id를 보조 키로 함께 사용합니다.
+ */
+public enum BoardScrollSort {
+    /** 작성일 내림차순 */
+    CREATED_AT,
+    /** 수정일 내림차순 */
+    UPDATED_AT
+}
@@ -0,0 +1,40 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.query;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummaryProjection;
+
+/**
+ * 게시글 검색 엔진
+ * <p>
+ * 검색 결과의 {@link BoardSummaryResult#excerpt()}에는 HTML 이스케이프된 본문 스니펫이 담기며,
+ * 검색어는 {@code <mark>} 태그로 감싸집니다. 관련도 순위를 지원하는 엔진은 요청의 정렬 조건 대신
+ * 관련도 순으로 정렬합니다.
+ */
+public interface BoardSearchEngine {
+
+    /**
+     * 키워드로 게시글 검색
+     *
+     * @param keyword  검색어 (앞뒤 공백이 제거된 비어 있지 않은 문자열)
+     * @param pageable 페이지 정보
+     * @return 검색 결과 페이지
+     */
+    Page<BoardSummaryResult> search(String keyword, Pageable pageable);
+
+    /**
+     * 키워드로 게시글을 검색해 커서 이후를 키셋 조회
+     * 관련도가 아니라 커서의 정렬 기준(시각, id 내림차순)으로 정렬하며, 발췌는 일반 목록과 같은 본문 앞부분입니다.
+     *
+     * @param keyword  검색어 (앞뒤 공백이 제거된 비어 있지 않은 문자열)
+     * @param position 이전 페이지의 마지막 위치
+     * @param limit    조회할 최대 건수
+     * @return 커서 이후의 검색 결과
+     */
+    List<BoardSummaryProjection> scroll(String keyword, BoardCursor position, Limit limit);
+}
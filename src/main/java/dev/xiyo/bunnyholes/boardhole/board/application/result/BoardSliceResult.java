@@ -0,0 +1,15 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.result;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 커서 기반 게시글 목록 조회 결과
+ *
+ * @param content    게시글 목록
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record BoardSliceResult(List<BoardSummaryResult> content, @Nullable String nextCursor, boolean hasNext) {
+}
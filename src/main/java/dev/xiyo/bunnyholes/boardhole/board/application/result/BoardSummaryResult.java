@@ -0,0 +1,12 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.result;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 목록용 요약 결과
+ * 본문 대신 앞부분 발췌({@code excerpt})만 담습니다.
+ */
+public record BoardSummaryResult(UUID id, String title, String excerpt, UUID authorId, String authorName, Integer viewCount, LocalDateTime createdAt,
+                                 LocalDateTime updatedAt, int replyCount) {
+}
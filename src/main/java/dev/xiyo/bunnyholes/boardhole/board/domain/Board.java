@@ -7,8 +7,6 @@ import java.util.UUID;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -24,7 +22,9 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 
 import dev.xiyo.bunnyholes.boardhole.board.domain.validation.BoardValidationConstants;
 import dev.xiyo.bunnyholes.boardhole.board.domain.validation.required.ValidBoardContent;
@@ -40,13 +40,13 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 @Entity
 @EntityListeners(ValidationListener.class)
 @DynamicUpdate
-@Table(name = "boards", indexes = {@Index(name = "idx_board_title", columnList = "title"), @Index(name = "idx_board_created_at", columnList = "created_at"),})
+@Table(name = "boards", indexes = {@Index(name = "idx_board_title", columnList = "title"),})
 public class Board extends BaseEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     @EqualsAndHashCode.Include
     private UUID id;
 
@@ -68,6 +68,15 @@ public class Board extends BaseEntity implements Serializable {
     @Column(nullable = false)
     private int viewCount = 0;
 
+    /**
+     * 삭제되지 않은 댓글 수 (목록 표시/정렬용 비정규화 카운터)
+     * 엔티티 저장으로 덮어쓰지 않도록 원자적 UPDATE로만 변경하며, 어긋난 값은 주기적으로 재계산합니다.
+     * 정렬용 인덱스({@code idx_board_reply_count_id})는 쓰기를 막지 않도록 post-schema 마이그레이션이 만듭니다.
+     */
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int replyCount = 0;
+
     @Version
     private Long version;
 
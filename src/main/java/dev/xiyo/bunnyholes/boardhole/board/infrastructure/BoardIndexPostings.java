@@ -0,0 +1,114 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 색인 조각의 bigram 포스팅 조회와 절 일치 계산
+ * <p>
+ * 메모리 버퍼({@link BoardInvertedIndex})와 디스크 세그먼트({@link BoardIndexSegment})가 같은 일치 규칙과 점수를 쓰도록
+ * 포스팅 조회만 구현하게 하고, 절 일치는 이 인터페이스의 기본 메서드로 공유합니다.
+ * 한 게시글은 항상 한 조각에만 살아 있으므로 모든 절의 교집합은 조각 안에서 계산해도 됩니다.
+ *
+ * @param <K> 조각 안의 문서 키
+ */
+interface BoardIndexPostings<K> {
+
+    /** 제목 일치 가중치 */
+    int TITLE_WEIGHT = 3;
+
+    /**
+     * bigram의 문서별 위치 목록
+     *
+     * @return 문서 키별 오름차순 위치 (bigram이 없으면 null)
+     */
+    @Nullable Map<K, int[]> postings(String gram);
+
+    /**
+     * 첫 글자가 같은 모든 bigram의 포스팅 순회
+     */
+    void forEachPostingsStartingWith(char first, Consumer<Map<K, int[]>> action);
+
+    /**
+     * 정규화 텍스트에서 제목이 끝나는 위치
+     */
+    int titleEnd(K doc);
+
+    /**
+     * 모든 절이 일치하는 문서별 관련도 점수 (제목 일치 x{@value #TITLE_WEIGHT} + 본문 일치)
+     */
+    default Map<K, Integer> match(BoardIndexQuery query) {
+        @Nullable Map<K, Integer> scores = null;
+        for (String clause : query.clauses()) {
+            Map<K, Integer> clauseScores = matchClause(clause);
+            if (scores == null) {
+                scores = clauseScores;
+            } else {
+                Map<K, Integer> previous = scores;
+                scores = new HashMap<>();
+                for (Map.Entry<K, Integer> entry : clauseScores.entrySet()) {
+                    Integer score = previous.get(entry.getKey());
+                    if (score != null)
+                        scores.put(entry.getKey(), score + entry.getValue());
+                }
+            }
+            if (scores.isEmpty())
+                return Map.of();
+        }
+        return scores == null ? Map.of() : scores;
+    }
+
+    private Map<K, Integer> matchClause(String clause) {
+        Map<K, Integer> scores = new HashMap<>();
+        if (clause.length() == 1) {
+            // 한 글자 검색어는 그 글자로 시작하는 모든 bigram이 후보 (필드 끝의 경계 문자 덕분에 모든 글자가 bigram의 첫 글자)
+            forEachPostingsStartingWith(clause.charAt(0), docs -> docs.forEach((doc, positions) -> addScore(scores, doc, positions)));
+            return scores;
+        }
+
+        int gramCount = clause.length() - 1;
+        List<Map<K, int[]>> lists = new ArrayList<>(gramCount);
+        for (int i = 0; i < gramCount; i++) {
+            Map<K, int[]> docs = postings(clause.substring(i, i + 2));
+            if (docs == null)
+                return scores;
+            lists.add(docs);
+        }
+
+        // 가장 짧은 포스팅 목록을 기준으로 후보 문서를 좁힌 뒤 위치를 확인
+        Map<K, int[]> rarest = lists.stream().min(Comparator.comparingInt(Map::size)).orElseThrow();
+        for (K doc : rarest.keySet()) {
+            int[] starts = lists.getFirst().get(doc);
+            if (starts == null)
+                continue;
+            int[] matched = Arrays.stream(starts).filter(start -> matchesAt(lists, doc, start)).toArray();
+            if (matched.length > 0)
+                addScore(scores, doc, matched);
+        }
+        return scores;
+    }
+
+    private static <K> boolean matchesAt(List<Map<K, int[]>> lists, K doc, int start) {
+        for (int i = 1; i < lists.size(); i++) {
+            int[] positions = lists.get(i).get(doc);
+            if (positions == null || Arrays.binarySearch(positions, start + i) < 0)
+                return false;
+        }
+        return true;
+    }
+
+    private void addScore(Map<K, Integer> scores, K doc, int[] positions) {
+        int titleEnd = titleEnd(doc);
+        int score = 0;
+        for (int position : positions)
+            score += position < titleEnd ? TITLE_WEIGHT : 1;
+        scores.merge(doc, score, Integer::sum);
+    }
+}
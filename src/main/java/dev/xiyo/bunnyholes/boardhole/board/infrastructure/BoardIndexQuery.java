@@ -0,0 +1,49 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 내장 역색인 검색어
+ * <p>
+ * 검색어를 공백 기준 절(clause)로 나누며, 모든 절이 일치하는 게시글만 찾습니다.
+ * <ul>
+ *   <li>{@code 스프링} - 부분 문자열 일치 (LIKE 검색과 같은 의미)</li>
+ *   <li>{@code 스프*} - 어절 접두사 일치</li>
+ *   <li>{@code "스프링 부트"} - 연속된 어절 구문 일치</li>
+ * </ul>
+ * 각 절은 색인과 같은 방식으로 정규화한 문자열({@link BoardInvertedIndex#BOUNDARY}로 어절 경계를 표시)로 변환됩니다.
+ *
+ * @param clauses 정규화된 절 목록
+ * @param words   하이라이트할 단어 목록
+ */
+record BoardIndexQuery(List<String> clauses, List<String> words) {
+
+    private static final Pattern CLAUSE = Pattern.compile("\"([^\"]*)\"?|(\\S+)");
+
+    static BoardIndexQuery parse(String keyword) {
+        List<String> clauses = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        Matcher matcher = CLAUSE.matcher(keyword);
+        while (matcher.find()) {
+            boolean phrase = matcher.group(1) != null;
+            String raw = phrase ? matcher.group(1) : matcher.group(2);
+            boolean prefix = !phrase && raw.endsWith("*");
+
+            List<String> clauseWords = BoardInvertedIndex.words(raw);
+            if (clauseWords.isEmpty())
+                continue;
+
+            String joined = String.join(String.valueOf(BoardInvertedIndex.BOUNDARY), clauseWords);
+            clauses.add(prefix ? BoardInvertedIndex.BOUNDARY + joined : joined);
+            words.addAll(clauseWords);
+        }
+        return new BoardIndexQuery(List.copyOf(clauses), List.copyOf(words));
+    }
+
+    boolean isEmpty() {
+        return clauses.isEmpty();
+    }
+}
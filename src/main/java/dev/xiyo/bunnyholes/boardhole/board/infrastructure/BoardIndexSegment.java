@@ -0,0 +1,451 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 디스크에 기록된 불변 색인 세그먼트
+ * <p>
+ * 게시글 ID, 정렬용 작성/수정 시각, 제목 끝 위치와 bigram 포스팅에 더해 목록 요약에 필요한 게시글 값(stored)을 담습니다.
+ * 검색 결과는 이 값으로 만들므로 데이터베이스를 읽지 않으며, 파일을 메모리 매핑해 결과 페이지의 문서만 읽습니다.
+ * 힙에는 파일 경로와 매핑 버퍼만 남으므로 색인 크기가 힙 사용량으로 이어지지 않습니다.
+ * <pre>
+ * header     : magic(int) version(int) docCount(int)
+ * stored     : docCount x [title(str) content(str) author(uuid) authorName(str) viewCount(int) replyCount(int)
+ *                          createdAt(time) updatedAt(time)]
+ * documents  : docCount x [msb(long) lsb(long) titleEnd(int) createdAt(long) updatedAt(long) storedOffset(int)]  (ID 오름차순)
+ * postings   : term별 docFreq(int) + docFreq x [ordinal(int) count(int) positions(int x count)]
+ * dictionary : termCount x [c0(char) c1(char) offset(int)]                     (bigram 오름차순)
+ * trailer    : documentsOffset(int) dictionaryOffset(int) termCount(int) postingCount(long)
+ * </pre>
+ * str은 UTF-8 바이트 길이(int, null이면 -1)와 바이트, uuid는 존재 여부(byte)와 msb/lsb, time은 UTC epoch 초(long)와 나노초(int, null이면 -1)입니다.
+ * 한 번 기록한 세그먼트는 수정하지 않으며, 삭제는 {@link BoardSegmentedIndex}가 세그먼트 밖에서 관리합니다.
+ */
+final class BoardIndexSegment implements BoardIndexPostings<Integer> {
+
+    private static final int MAGIC = 0x42484958;
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 12;
+    private static final int DOCUMENT_BYTES = 40;
+    private static final int TERM_BYTES = 8;
+    private static final int TRAILER_BYTES = 20;
+
+    private final Path file;
+    private final ByteBuffer buffer;
+    private final int docCount;
+    private final int documentsOffset;
+    private final int dictionaryOffset;
+    private final int termCount;
+    private final long postingCount;
+
+    private BoardIndexSegment(Path file, ByteBuffer buffer) throws IOException {
+        this.file = file;
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_BYTES + TRAILER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+            throw new IOException("색인 세그먼트 형식이 올바르지 않습니다: " + file);
+        int trailer = buffer.limit() - TRAILER_BYTES;
+        this.docCount = buffer.getInt(8);
+        this.documentsOffset = buffer.getInt(trailer);
+        this.dictionaryOffset = buffer.getInt(trailer + 4);
+        this.termCount = buffer.getInt(trailer + 8);
+        this.postingCount = buffer.getLong(trailer + 12);
+        if (docCount < 0 || termCount < 0 || documentsOffset < HEADER_BYTES || documentsOffset + (long) docCount * DOCUMENT_BYTES > dictionaryOffset
+                || dictionaryOffset + (long) termCount * TERM_BYTES != trailer)
+            throw new IOException("색인 세그먼트가 손상되었습니다: " + file);
+    }
+
+    /**
+     * 세그먼트 파일 열기
+     * 매핑은 채널을 닫은 뒤에도 유지되며, 파일을 지워도 참조가 남은 동안 계속 읽을 수 있습니다.
+     */
+    static BoardIndexSegment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE)
+                throw new IOException("색인 세그먼트가 너무 큽니다: " + file);
+            return new BoardIndexSegment(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 메모리 버퍼의 내용을 새 세그먼트로 기록
+     */
+    static BoardIndexSegment write(Path file, BoardInvertedIndex source) throws IOException {
+        List<UUID> ids = new ArrayList<>(new TreeSet<>(source.documentIds()));
+        List<DocumentEntry> documents = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            BoardInvertedIndex.Document document = source.document(id);
+            if (document != null) {
+                BoardResult board = document.board();
+                documents.add(new DocumentEntry(id, document.titleEnd(), document.createdAt(), document.updatedAt(), () -> board));
+            }
+        }
+        Map<UUID, Integer> ordinals = ordinals(documents);
+        Map<String, Map<UUID, int[]>> postings = new TreeMap<>(source.allPostings());
+        return write(file, documents, consumer -> postings.forEach((gram, docs) -> consumer.accept(new Term(gram, remap(docs, ordinals)))));
+    }
+
+    /**
+     * 여러 세그먼트를 하나로 병합
+     * 삭제 표시된 게시글은 병합 결과에서 빠지며, bigram 단위로 순회하고 게시글 값은 기록할 때 하나씩 읽으므로
+     * 전체 포스팅이나 본문을 한꺼번에 메모리에 올리지 않습니다.
+     *
+     * @param sources 병합할 세그먼트와 각 세그먼트에서 삭제된 게시글 ID
+     */
+    static BoardIndexSegment merge(Path file, Map<BoardIndexSegment, Set<UUID>> sources) throws IOException {
+        TreeMap<UUID, DocumentEntry> live = new TreeMap<>();
+        TreeSet<String> grams = new TreeSet<>();
+        sources.forEach((segment, deleted) -> {
+            for (int ordinal = 0; ordinal < segment.docCount; ordinal++) {
+                UUID id = segment.id(ordinal);
+                if (!deleted.contains(id)) {
+                    int source = ordinal;
+                    live.put(id, new DocumentEntry(id, segment.titleEnd(ordinal), segment.createdAt(ordinal), segment.updatedAt(ordinal),
+                            () -> segment.document(source)));
+                }
+            }
+            for (int term = 0; term < segment.termCount; term++)
+                grams.add(segment.gram(term));
+        });
+        List<DocumentEntry> documents = new ArrayList<>(live.values());
+        Map<UUID, Integer> ordinals = ordinals(documents);
+
+        return write(file, documents, consumer -> {
+            for (String gram : grams) {
+                Map<Integer, int[]> merged = new HashMap<>();
+                sources.forEach((segment, deleted) -> {
+                    Map<Integer, int[]> docs = segment.postings(gram);
+                    if (docs == null)
+                        return;
+                    docs.forEach((ordinal, positions) -> {
+                        UUID id = segment.id(ordinal);
+                        if (!deleted.contains(id))
+                            merged.put(ordinals.get(id), positions);
+                    });
+                });
+                if (!merged.isEmpty())
+                    consumer.accept(new Term(gram, merged));
+            }
+        });
+    }
+
+    /**
+     * @param board 기록할 때 게시글 값을 읽는 함수 (병합 시 원본 세그먼트에서 지연 조회)
+     */
+    private record DocumentEntry(UUID id, int titleEnd, long createdAt, long updatedAt, Supplier<BoardResult> board) {
+    }
+
+    private record Term(String gram, Map<Integer, int[]> postings) {
+    }
+
+    private static Map<UUID, Integer> ordinals(List<DocumentEntry> documents) {
+        Map<UUID, Integer> ordinals = new HashMap<>(documents.size() * 2);
+        for (int i = 0; i < documents.size(); i++)
+            ordinals.put(documents.get(i).id(), i);
+        return ordinals;
+    }
+
+    private static Map<Integer, int[]> remap(Map<UUID, int[]> docs, Map<UUID, Integer> ordinals) {
+        Map<Integer, int[]> remapped = new HashMap<>(docs.size() * 2);
+        docs.forEach((id, positions) -> remapped.put(ordinals.get(id), positions));
+        return remapped;
+    }
+
+    /**
+     * 임시 파일에 기록한 뒤 원자적으로 이동하므로 중간에 실패해도 불완전한 세그먼트가 남지 않습니다.
+     *
+     * @param terms bigram 오름차순으로 term을 넘겨주는 생산자
+     */
+    private static BoardIndexSegment write(Path file, List<DocumentEntry> documents, Consumer<Consumer<Term>> terms) throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            List<String> grams = new ArrayList<>();
+            List<Integer> offsets = new ArrayList<>();
+            long[] postingCount = {0};
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(documents.size());
+                int[] storedOffsets = new int[documents.size()];
+                for (int i = 0; i < documents.size(); i++) {
+                    storedOffsets[i] = checkedSize(out);
+                    writeStored(out, documents.get(i).board().get());
+                }
+                int documentsOffset = checkedSize(out);
+                for (int i = 0; i < documents.size(); i++) {
+                    DocumentEntry document = documents.get(i);
+                    out.writeLong(document.id().getMostSignificantBits());
+                    out.writeLong(document.id().getLeastSignificantBits());
+                    out.writeInt(document.titleEnd());
+                    out.writeLong(document.createdAt());
+                    out.writeLong(document.updatedAt());
+                    out.writeInt(storedOffsets[i]);
+                }
+
+                IOException[] failure = {null};
+                terms.accept(term -> {
+                    if (failure[0] != null)
+                        return;
+                    try {
+                        grams.add(term.gram());
+                        offsets.add(checkedSize(out));
+                        out.writeInt(term.postings().size());
+                        for (Map.Entry<Integer, int[]> entry : new TreeMap<>(term.postings()).entrySet()) {
+                            out.writeInt(entry.getKey());
+                            out.writeInt(entry.getValue().length);
+                            for (int position : entry.getValue())
+                                out.writeInt(position);
+                            postingCount[0] += entry.getValue().length;
+                        }
+                    } catch (IOException e) {
+                        failure[0] = e;
+                    }
+                });
+                if (failure[0] != null)
+                    throw failure[0];
+
+                int dictionaryOffset = checkedSize(out);
+                for (int i = 0; i < grams.size(); i++) {
+                    out.writeChar(grams.get(i).charAt(0));
+                    out.writeChar(grams.get(i).charAt(1));
+                    out.writeInt(offsets.get(i));
+                }
+                out.writeInt(documentsOffset);
+                out.writeInt(dictionaryOffset);
+                out.writeInt(grams.size());
+                out.writeLong(postingCount[0]);
+                checkedSize(out);
+            }
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return open(file);
+    }
+
+    private static void writeStored(DataOutputStream out, BoardResult board) throws IOException {
+        writeString(out, board.title());
+        writeString(out, board.content());
+        out.writeBoolean(board.authorId() != null);
+        if (board.authorId() != null) {
+            out.writeLong(board.authorId().getMostSignificantBits());
+            out.writeLong(board.authorId().getLeastSignificantBits());
+        }
+        writeString(out, board.authorName());
+        out.writeInt(board.viewCount() != null ? board.viewCount() : 0);
+        out.writeInt(board.replyCount());
+        writeTime(out, board.createdAt());
+        writeTime(out, board.updatedAt());
+    }
+
+    private static void writeString(DataOutputStream out, @Nullable String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeTime(DataOutputStream out, @Nullable LocalDateTime value) throws IOException {
+        out.writeLong(value != null ? value.toEpochSecond(ZoneOffset.UTC) : 0L);
+        out.writeInt(value != null ? value.getNano() : -1);
+    }
+
+    /** 오프셋을 int로 기록하므로 2GiB를 넘는 세그먼트는 만들지 않습니다 ({@link DataOutputStream#size()}는 최댓값에서 멈춤) */
+    private static int checkedSize(DataOutputStream out) throws IOException {
+        int size = out.size();
+        if (size == Integer.MAX_VALUE)
+            throw new IOException("색인 세그먼트가 너무 큽니다");
+        return size;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /** 세그먼트 안의 게시글 순번 (없으면 -1) */
+    int ordinal(UUID id) {
+        int low = 0;
+        int high = docCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = id(mid).compareTo(id);
+            if (cmp < 0)
+                low = mid + 1;
+            else if (cmp > 0)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -1;
+    }
+
+    boolean contains(UUID id) {
+        return ordinal(id) >= 0;
+    }
+
+    UUID id(int ordinal) {
+        int offset = documentsOffset + ordinal * DOCUMENT_BYTES;
+        return new UUID(buffer.getLong(offset), buffer.getLong(offset + 8));
+    }
+
+    @Override
+    public int titleEnd(Integer ordinal) {
+        return buffer.getInt(documentsOffset + ordinal * DOCUMENT_BYTES + 16);
+    }
+
+    /** 작성 시각 (UTC epoch 밀리초) */
+    long createdAt(int ordinal) {
+        return buffer.getLong(documentsOffset + ordinal * DOCUMENT_BYTES + 20);
+    }
+
+    /** 수정 시각 (UTC epoch 밀리초) */
+    long updatedAt(int ordinal) {
+        return buffer.getLong(documentsOffset + ordinal * DOCUMENT_BYTES + 28);
+    }
+
+    /**
+     * 검색 결과 항목 생성
+     * 게시글 값은 결과 페이지에 들어갈 때만 매핑에서 읽습니다.
+     */
+    BoardSegmentedIndex.Hit hit(int ordinal, int score) {
+        return new BoardSegmentedIndex.Hit(id(ordinal), score, createdAt(ordinal), updatedAt(ordinal), () -> document(ordinal));
+    }
+
+    /**
+     * 기록된 게시글 값 읽기
+     */
+    BoardResult document(int ordinal) {
+        ByteBuffer stored = buffer.duplicate().position(buffer.getInt(documentsOffset + ordinal * DOCUMENT_BYTES + 36));
+        @Nullable String title = readString(stored);
+        @Nullable String content = readString(stored);
+        @Nullable UUID authorId = stored.get() != 0 ? new UUID(stored.getLong(), stored.getLong()) : null;
+        @Nullable String authorName = readString(stored);
+        int viewCount = stored.getInt();
+        int replyCount = stored.getInt();
+        @Nullable LocalDateTime createdAt = readTime(stored);
+        @Nullable LocalDateTime updatedAt = readTime(stored);
+        return new BoardResult(id(ordinal), title, content, authorId, authorName, viewCount, createdAt, updatedAt, replyCount);
+    }
+
+    private static @Nullable String readString(ByteBuffer stored) {
+        int length = stored.getInt();
+        if (length < 0)
+            return null;
+        byte[] bytes = new byte[length];
+        stored.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static @Nullable LocalDateTime readTime(ByteBuffer stored) {
+        long seconds = stored.getLong();
+        int nanos = stored.getInt();
+        return nanos < 0 ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private String gram(int term) {
+        int offset = dictionaryOffset + term * TERM_BYTES;
+        return new String(new char[]{buffer.getChar(offset), buffer.getChar(offset + 2)});
+    }
+
+    /** 첫 글자가 {@code c0}, 둘째 글자가 {@code c1} 이상인 첫 term 번호 */
+    private int lowerBound(char c0, char c1) {
+        int low = 0;
+        int high = termCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int offset = dictionaryOffset + mid * TERM_BYTES;
+            char m0 = buffer.getChar(offset);
+            char m1 = buffer.getChar(offset + 2);
+            if (m0 < c0 || (m0 == c0 && m1 < c1))
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        return low;
+    }
+
+    private Map<Integer, int[]> readPostings(int term) {
+        int offset = buffer.getInt(dictionaryOffset + term * TERM_BYTES + 4);
+        int docFreq = buffer.getInt(offset);
+        Map<Integer, int[]> docs = new HashMap<>(docFreq * 2);
+        offset += 4;
+        for (int i = 0; i < docFreq; i++) {
+            int ordinal = buffer.getInt(offset);
+            int[] positions = new int[buffer.getInt(offset + 4)];
+            offset += 8;
+            for (int p = 0; p < positions.length; p++, offset += 4)
+                positions[p] = buffer.getInt(offset);
+            docs.put(ordinal, positions);
+        }
+        return docs;
+    }
+
+    @Override
+    public @Nullable Map<Integer, int[]> postings(String gram) {
+        int term = lowerBound(gram.charAt(0), gram.charAt(1));
+        if (term >= termCount)
+            return null;
+        int offset = dictionaryOffset + term * TERM_BYTES;
+        if (buffer.getChar(offset) != gram.charAt(0) || buffer.getChar(offset + 2) != gram.charAt(1))
+            return null;
+        return readPostings(term);
+    }
+
+    @Override
+    public void forEachPostingsStartingWith(char first, Consumer<Map<Integer, int[]>> action) {
+        for (int term = lowerBound(first, Character.MIN_VALUE); term < termCount; term++) {
+            if (buffer.getChar(dictionaryOffset + term * TERM_BYTES) != first)
+                return;
+            action.accept(readPostings(term));
+        }
+    }
+
+    /** 세그먼트의 게시글 수 (삭제 표시 포함) */
+    int documentCount() {
+        return docCount;
+    }
+
+    /** 서로 다른 bigram 수 */
+    int termCount() {
+        return termCount;
+    }
+
+    /** 전체 위치 포스팅 수 (삭제 표시 포함) */
+    long postingCount() {
+        return postingCount;
+    }
+
+    /** 파일 크기 */
+    long sizeInBytes() {
+        return buffer.limit();
+    }
+}
@@ -0,0 +1,208 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 게시글 n-gram 역색인 메모리 버퍼
+ * <p>
+ * 한국어는 띄어쓰기 단위 어절에 조사가 붙으므로 형태소 분석 대신 문자 bigram으로 색인합니다.
+ * 제목과 본문을 소문자로 정규화하고 각 어절 앞과 필드 끝에 {@link #BOUNDARY}를 붙인 뒤,
+ * 인접한 두 글자마다 위치와 함께 포스팅을 만듭니다. 예: "스프링 부트" → {@code ^스프링^부트^}
+ * <p>
+ * 검색 절은 같은 방식으로 정규화한 문자열이 문서에 연속으로 나타나는지를 위치 포스팅으로 확인합니다.
+ * 따라서 부분 문자열, 어절 접두사({@code ^스프}), 구문({@code 스프링^부트}) 일치를 같은 방식으로 처리합니다.
+ * <p>
+ * 최근 변경만 담는 버퍼이며, 주기적으로 {@link BoardIndexSegment}로 기록된 뒤 비워집니다.
+ * 포스팅과 함께 목록 요약에 필요한 게시글 값을 두어, 검색 결과를 데이터베이스를 읽지 않고 만듭니다.
+ * 동기화하지 않으므로 {@link BoardSegmentedIndex}의 잠금 안에서만 사용합니다.
+ */
+final class BoardInvertedIndex implements BoardIndexPostings<UUID> {
+
+    /** 어절 경계 표시 문자 (정규화 과정에서 검색어에 나타날 수 없음) */
+    static final char BOUNDARY = '^';
+
+    /** 제목과 본문 사이 구분 문자 (두 필드에 걸친 구문 일치 방지) */
+    private static final char FIELD_SEPARATOR = '\u0001';
+
+    /** 작성 시각이 없는 문서의 정렬 값 (가장 오래된 것으로 취급) */
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Map<String, Map<UUID, int[]>> postings = new HashMap<>();
+    private final Map<UUID, Document> documents = new HashMap<>();
+    private long postingCount;
+
+    /**
+     * 색인 문서
+     *
+     * @param board    색인한 게시글 (검색 결과 요약용)
+     * @param titleEnd 정규화 텍스트에서 제목이 끝나는 위치
+     * @param grams    문서가 포함된 bigram 목록 (삭제용)
+     */
+    record Document(BoardResult board, int titleEnd, String[] grams) {
+
+        /** 작성 시각 (UTC epoch 밀리초, 동점 정렬용) */
+        long createdAt() {
+            return epochMillis(board.createdAt());
+        }
+
+        /** 수정 시각 (UTC epoch 밀리초) */
+        long updatedAt() {
+            return epochMillis(board.updatedAt());
+        }
+    }
+
+    /**
+     * 텍스트를 소문자 어절 목록으로 정규화
+     * 문자와 숫자가 아닌 모든 문자는 어절 구분자로 취급합니다.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        text.toLowerCase(Locale.ROOT).codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                word.appendCodePoint(cp);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        });
+        if (!word.isEmpty())
+            words.add(word.toString());
+        return words;
+    }
+
+    private static String mark(String text) {
+        List<String> words = words(text);
+        if (words.isEmpty())
+            return "";
+        StringBuilder marked = new StringBuilder(text.length() + words.size() + 1);
+        words.forEach(word -> marked.append(BOUNDARY).append(word));
+        return marked.append(BOUNDARY).toString();
+    }
+
+    static long epochMillis(@Nullable LocalDateTime value) {
+        return value != null ? value.toInstant(ZoneOffset.UTC).toEpochMilli() : NO_TIMESTAMP;
+    }
+
+    /**
+     * 게시글 추가 또는 교체
+     */
+    void put(BoardResult board) {
+        String title = mark(board.title());
+        String text = title + FIELD_SEPARATOR + mark(board.content());
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i + 1 < text.length(); i++)
+            positions.computeIfAbsent(text.substring(i, i + 2), gram -> new ArrayList<>()).add(i);
+
+        remove(board.id());
+        positions.forEach((gram, list) -> {
+            postings.computeIfAbsent(gram, g -> new HashMap<>()).put(board.id(), list.stream().mapToInt(Integer::intValue).toArray());
+            postingCount += list.size();
+        });
+        documents.put(board.id(), new Document(board, title.length(), positions.keySet().toArray(String[]::new)));
+    }
+
+    /**
+     * 게시글 제거
+     */
+    void remove(UUID boardId) {
+        Document document = documents.remove(boardId);
+        if (document == null)
+            return;
+        for (String gram : document.grams()) {
+            Map<UUID, int[]> docs = postings.get(gram);
+            if (docs == null)
+                continue;
+            int[] removed = docs.remove(boardId);
+            if (removed != null)
+                postingCount -= removed.length;
+            if (docs.isEmpty())
+                postings.remove(gram);
+        }
+    }
+
+    boolean contains(UUID boardId) {
+        return documents.containsKey(boardId);
+    }
+
+    /** 색인 문서 조회 (세그먼트 기록용) */
+    @Nullable Document document(UUID boardId) {
+        return documents.get(boardId);
+    }
+
+    /** 색인된 게시글 ID (세그먼트 기록용) */
+    Set<UUID> documentIds() {
+        return Collections.unmodifiableSet(documents.keySet());
+    }
+
+    /** bigram별 포스팅 (세그먼트 기록용) */
+    Map<String, Map<UUID, int[]>> allPostings() {
+        return Collections.unmodifiableMap(postings);
+    }
+
+    @Override
+    public @Nullable Map<UUID, int[]> postings(String gram) {
+        return postings.get(gram);
+    }
+
+    @Override
+    public void forEachPostingsStartingWith(char first, Consumer<Map<UUID, int[]>> action) {
+        postings.forEach((gram, docs) -> {
+            if (gram.charAt(0) == first)
+                action.accept(docs);
+        });
+    }
+
+    @Override
+    public int titleEnd(UUID doc) {
+        return documents.get(doc).titleEnd();
+    }
+
+    /**
+     * 검색 결과 항목 생성
+     */
+    BoardSegmentedIndex.Hit hit(UUID doc, int score) {
+        Document document = documents.get(doc);
+        BoardResult board = document.board();
+        return new BoardSegmentedIndex.Hit(doc, score, document.createdAt(), document.updatedAt(), () -> board);
+    }
+
+    /** 수정 시각 (UTC epoch 밀리초) */
+    long updatedAt(UUID doc) {
+        return documents.get(doc).updatedAt();
+    }
+
+    boolean isEmpty() {
+        return documents.isEmpty();
+    }
+
+    /** 색인된 게시글 수 */
+    int documentCount() {
+        return documents.size();
+    }
+
+    /** 서로 다른 bigram 수 */
+    int termCount() {
+        return postings.size();
+    }
+
+    /** 전체 위치 포스팅 수 */
+    long postingCount() {
+        return postingCount;
+    }
+}
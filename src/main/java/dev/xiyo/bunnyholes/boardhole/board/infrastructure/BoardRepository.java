@@ -1,9 +1,11 @@
 package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -23,6 +25,15 @@ import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
  */
 public interface BoardRepository extends JpaRepository<Board, UUID> {
 
+    /** 목록 요약에 포함할 본문 발췌 길이 */
+    int EXCERPT_LENGTH = 120;
+
+    String SUMMARY_SELECT = "SELECT b.id AS id, b.title AS title, SUBSTRING(b.content, 1, " + EXCERPT_LENGTH + ") AS excerpt, "
+            + "a.id AS authorId, a.username AS authorName, b.viewCount AS viewCount, b.replyCount AS replyCount, b.createdAt AS createdAt, b.updatedAt AS updatedAt "
+            + "FROM Board b JOIN b.author a";
+
+    String KEYWORD_CONDITION = "LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(b.content) LIKE LOWER(CONCAT('%', :keyword, '%'))";
+
     @Override
     @EntityGraph(attributePaths = "author")
     Optional<Board> findById(UUID id);
@@ -43,14 +54,91 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
     Page<Board> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
     /**
-     * 게시글 작성자 사용자명만 조회 (권한 체크용 최적화 쿼리)
-     * 전체 엔티티 대신 작성자 username만 조회하여 성능 최적화
+     * 게시글 요약 목록 페이지 조회
+     * 본문은 앞부분만 잘라 가져오고 작성자는 ID와 username만 조인합니다.
      *
-     * @param boardId 게시글 ID
-     * @return 작성자 username (Optional)
+     * @param pageable 페이지네이션 정보
+     * @return 게시글 요약 페이지
      */
-    @Query("SELECT b.author.username FROM Board b WHERE b.id = :boardId")
-    Optional<String> findAuthorUsernameById(@Param("boardId") UUID boardId);
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(b) FROM Board b")
+    Page<BoardSummaryProjection> findSummaries(Pageable pageable);
+
+    /**
+     * 키워드로 게시글 요약 목록 검색
+     *
+     * @param keyword  검색 키워드
+     * @param pageable 페이지네이션 정보
+     * @return 검색된 게시글 요약 페이지
+     */
+    @Query(value = SUMMARY_SELECT + " WHERE " + KEYWORD_CONDITION, countQuery = "SELECT COUNT(b) FROM Board b WHERE " + KEYWORD_CONDITION)
+    Page<BoardSummaryProjection> searchSummaries(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 최근 작성된 게시글 요약 목록 조회 (COUNT 쿼리 없음)
+     *
+     * @param limit 조회할 최대 건수
+     * @return 작성일 역순 게시글 요약 목록
+     */
+    @Query(SUMMARY_SELECT + " ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummaryProjection> findRecentSummaries(Limit limit);
+
+    /**
+     * ID 순 게시글 일괄 조회 (검색 색인 재구축용)
+     * 본문 전체가 필요하므로 엔티티를 작성자와 함께 조회합니다.
+     *
+     * @param id    이전 배치의 마지막 ID
+     * @param limit 조회할 최대 건수
+     * @return ID 오름차순 게시글 목록
+     */
+    @EntityGraph(attributePaths = "author")
+    List<Board> findByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    /**
+     * 작성일 기준 키셋 페이지 조회
+     * (created_at, id) 복합 인덱스를 역방향으로 범위 탐색하므로 OFFSET 없이 다음 페이지를 찾습니다.
+     *
+     * @param createdAt 이전 페이지 마지막 게시글의 작성일
+     * @param id        이전 페이지 마지막 게시글 ID
+     * @param limit     조회할 최대 건수
+     * @return 커서 이후의 게시글 목록
+     */
+    @Query(SUMMARY_SELECT + " WHERE b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummaryProjection> scrollByCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 수정일 기준 키셋 페이지 조회
+     *
+     * @param updatedAt 이전 페이지 마지막 게시글의 수정일
+     * @param id        이전 페이지 마지막 게시글 ID
+     * @param limit     조회할 최대 건수
+     * @return 커서 이후의 게시글 목록
+     */
+    @Query(SUMMARY_SELECT + " WHERE b.updatedAt <= :updatedAt AND (b.updatedAt < :updatedAt OR b.id < :id) ORDER BY b.updatedAt DESC, b.id DESC")
+    List<BoardSummaryProjection> scrollByUpdatedAt(@Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 키워드 검색 + 작성일 기준 키셋 페이지 조회
+     *
+     * @param keyword   검색 키워드
+     * @param createdAt 이전 페이지 마지막 게시글의 작성일
+     * @param id        이전 페이지 마지막 게시글 ID
+     * @param limit     조회할 최대 건수
+     * @return 커서 이후의 검색 결과
+     */
+    @Query(SUMMARY_SELECT + " WHERE (" + KEYWORD_CONDITION + ") AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<BoardSummaryProjection> searchScrollByCreatedAt(@Param("keyword") String keyword, @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    /**
+     * 키워드 검색 + 수정일 기준 키셋 페이지 조회
+     *
+     * @param keyword   검색 키워드
+     * @param updatedAt 이전 페이지 마지막 게시글의 수정일
+     * @param id        이전 페이지 마지막 게시글 ID
+     * @param limit     조회할 최대 건수
+     * @return 커서 이후의 검색 결과
+     */
+    @Query(SUMMARY_SELECT + " WHERE (" + KEYWORD_CONDITION + ") AND b.updatedAt <= :updatedAt AND (b.updatedAt < :updatedAt OR b.id < :id) ORDER BY b.updatedAt DESC, b.id DESC")
+    List<BoardSummaryProjection> searchScrollByUpdatedAt(@Param("keyword") String keyword, @Param("updatedAt") LocalDateTime updatedAt, @Param("id") UUID id, Limit limit);
 
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT b FROM Board b WHERE b.id = :boardId")
@@ -67,6 +155,66 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
     @Query("UPDATE Board b SET b.viewCount = b.viewCount + 1 WHERE b.id = :boardId")
     int incrementViewCount(@Param("boardId") UUID boardId);
 
+    /**
+     * 게시글 댓글 수 증가
+     * 행 잠금만 잡는 원자적 갱신이라 동시에 댓글이 달려도 증가분이 유실되지 않고 버전 충돌도 일으키지 않습니다.
+     *
+     * @param boardId 게시글 ID
+     * @return 업데이트된 행 수 (0이면 게시글 미존재)
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Transactional
+    @Query("UPDATE Board b SET b.replyCount = b.replyCount + 1 WHERE b.id = :boardId")
+    int incrementReplyCount(@Param("boardId") UUID boardId);
+
+    /**
+     * 게시글 댓글 수 감소 (0 아래로 내려가지 않음)
+     *
+     * @param boardId 게시글 ID
+     * @return 업데이트된 행 수
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Transactional
+    @Query("UPDATE Board b SET b.replyCount = b.replyCount - 1 WHERE b.id = :boardId AND b.replyCount > 0")
+    int decrementReplyCount(@Param("boardId") UUID boardId);
+
+    /**
+     * ID 순 게시글 ID 일괄 조회 (댓글 수 재계산용)
+     *
+     * @param id    이전 배치의 마지막 ID
+     * @param limit 조회할 최대 건수
+     * @return ID 오름차순 게시글 ID 목록
+     */
+    @Query("SELECT b.id FROM Board b WHERE b.id > :id ORDER BY b.id")
+    List<UUID> findIdsAfter(@Param("id") UUID id, Limit limit);
+
+    /**
+     * 주어진 게시글 중 댓글 수가 실제 값과 다른 게시글 ID 조회 (재계산 후 캐시 무효화 대상)
+     *
+     * @param boardIds 게시글 ID 목록
+     * @return 댓글 수가 어긋난 게시글 ID 목록
+     */
+    @Query("""
+            SELECT b.id FROM Board b
+            WHERE b.id IN :boardIds AND b.replyCount <> (SELECT COUNT(r) FROM Reply r WHERE r.board = b AND r.deleted = false)
+            """)
+    List<UUID> findIdsWithStaleReplyCount(@Param("boardIds") List<UUID> boardIds);
+
+    /**
+     * 주어진 게시글들의 댓글 수를 실제 값으로 재계산
+     * 값이 맞는 행은 건드리지 않으므로 어긋난 게시글만 갱신됩니다.
+     *
+     * @param boardIds 게시글 ID 목록
+     * @return 보정된 게시글 수
+     */
+    @Modifying(clearAutomatically = false, flushAutomatically = false)
+    @Transactional
+    @Query("""
+            UPDATE Board b SET b.replyCount = (SELECT COUNT(r) FROM Reply r WHERE r.board = b AND r.deleted = false)
+            WHERE b.id IN :boardIds AND b.replyCount <> (SELECT COUNT(r) FROM Reply r WHERE r.board = b AND r.deleted = false)
+            """)
+    int reconcileReplyCounts(@Param("boardIds") List<UUID> boardIds);
+
     /**
      * 특정 기간 내 생성된 게시글 수 조회
      *
@@ -0,0 +1,57 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.sql.DatabaseMetaData;
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardSearchEngine;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BoardSearchProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 게시글 검색 엔진 설정
+ * {@code boardhole.search.engine}이 AUTO면 데이터베이스 제품명으로 엔진을 고릅니다.
+ * 내장 역색인(INDEX)은 노드별 로컬 디스크를 사용하고 변경을 캐시 무효화 채널로 맞추므로 명시적으로 설정한 경우에만 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class BoardSearchConfiguration {
+
+    @Bean
+    public BoardSearchEngine boardSearchEngine(BoardSearchProperties properties, DataSource dataSource, NamedParameterJdbcTemplate jdbcTemplate,
+                                               BoardRepository boardRepository, BoardMapper boardMapper, PlatformTransactionManager transactionManager,
+                                               MeterRegistry meterRegistry, ObjectProvider<CacheManager> cacheManagerProvider) {
+        BoardSearchProperties.Engine engine = switch (properties.engine()) {
+            case AUTO -> isPostgres(dataSource) ? BoardSearchProperties.Engine.POSTGRES : BoardSearchProperties.Engine.LIKE;
+            case POSTGRES, LIKE, INDEX -> properties.engine();
+        };
+        log.info("게시글 검색 엔진: {}", engine);
+        return switch (engine) {
+            case POSTGRES -> new PostgresBoardSearchEngine(jdbcTemplate, properties);
+            case INDEX -> new IndexedBoardSearchEngine(boardRepository, boardMapper, transactionManager, properties, meterRegistry,
+                    cacheManagerProvider);
+            case AUTO, LIKE -> new LikeBoardSearchEngine(boardRepository, boardMapper);
+        };
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("데이터베이스 종류 확인 실패, LIKE 검색을 사용합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+}
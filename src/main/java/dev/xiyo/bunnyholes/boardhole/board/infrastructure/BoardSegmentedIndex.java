@@ -0,0 +1,493 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+/**
+ * 디스크 세그먼트 기반 게시글 역색인
+ * <p>
+ * 최근 변경은 메모리 버퍼({@link BoardInvertedIndex})에 쌓고, {@link #flush()} 때마다 버퍼만 새 불변 세그먼트 파일로 기록합니다.
+ * 전체 색인을 다시 쓰지 않으므로 기록량은 마지막 flush 이후의 변경에 비례합니다.
+ * <ul>
+ *   <li>수정/삭제된 게시글은 이전 세그먼트에 삭제 표시만 하고, 삭제 표시는 매니페스트에 함께 기록합니다.</li>
+ *   <li>세그먼트가 {@value #MAX_SEGMENTS}개를 넘으면 작은 세그먼트부터 {@value #MERGE_FACTOR}개씩 병합하고,
+ *       삭제 표시가 절반을 넘은 세그먼트는 다시 써서 공간을 회수합니다.</li>
+ *   <li>매니페스트({@value #MANIFEST_FILE})는 임시 파일에 쓴 뒤 원자적으로 교체하므로, 매니페스트에 없는 세그먼트는 다음 기동 시 정리됩니다.</li>
+ * </ul>
+ * 검색과 변경은 읽기/쓰기 잠금으로, flush와 병합은 별도 잠금으로 직렬화합니다. 병합 파일 기록은 쓰기 잠금 밖에서 수행합니다.
+ */
+@Slf4j
+final class BoardSegmentedIndex {
+
+    static final String MANIFEST_FILE = "segments.manifest";
+    static final String SEGMENT_SUFFIX = ".seg";
+
+    /** 이전 버전의 전체 스냅샷 파일 (기동 시 삭제) */
+    private static final String LEGACY_SNAPSHOT_FILE = "boards.idx";
+
+    private static final int MANIFEST_MAGIC = 0x42484d46;
+    private static final int MANIFEST_VERSION = 1;
+
+    /** 이 개수를 넘으면 병합 */
+    static final int MAX_SEGMENTS = 8;
+
+    /** 한 번에 병합하는 세그먼트 수 */
+    static final int MERGE_FACTOR = 4;
+
+    /** 버퍼가 이 건수를 넘으면 주기와 관계없이 flush 대상 (재구축 중 메모리 상한) */
+    static final int MAX_BUFFERED_DOCUMENTS = 5_000;
+
+    /** 점수 내림차순, 작성 시각 내림차순(없으면 마지막), ID 내림차순 */
+    static final Comparator<Hit> ORDER = Comparator.comparingInt(Hit::score).reversed()
+                                                   .thenComparing(Comparator.comparingLong(Hit::createdAt).reversed())
+                                                   .thenComparing(Hit::id, Comparator.reverseOrder());
+
+    private final Path directory;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock maintenance = new ReentrantLock();
+
+    private BoardInvertedIndex buffer = new BoardInvertedIndex();
+    private final List<LiveSegment> segments = new ArrayList<>();
+    private boolean deletionsChanged;
+    private boolean published;
+
+    /**
+     * 검색 결과 항목
+     *
+     * @param id        게시글 ID
+     * @param score     관련도 점수
+     * @param createdAt 작성 시각 (UTC epoch 밀리초)
+     * @param updatedAt 수정 시각 (UTC epoch 밀리초)
+     * @param board     색인에 기록된 게시글 값 (세그먼트 문서는 호출할 때 매핑에서 읽음)
+     */
+    record Hit(UUID id, int score, long createdAt, long updatedAt, Supplier<BoardResult> board) {
+    }
+
+    /** 세그먼트와 그 안에서 삭제 표시된 게시글 ID (쓰기 잠금 안에서만 변경) */
+    private record LiveSegment(BoardIndexSegment segment, Set<UUID> deleted) {
+
+        int liveCount() {
+            return segment.documentCount() - deleted.size();
+        }
+    }
+
+    private BoardSegmentedIndex(Path directory, boolean published) {
+        this.directory = directory;
+        this.published = published;
+    }
+
+    /**
+     * 매니페스트를 쓰지 않는 빈 색인 생성
+     * 재구축 중인 색인처럼 아직 공개되지 않은 색인에 사용하며, {@link #publish()} 전까지 기록한 세그먼트는 다음 기동 시 정리됩니다.
+     */
+    static BoardSegmentedIndex detached(Path directory) {
+        return new BoardSegmentedIndex(directory, false);
+    }
+
+    /**
+     * 디렉터리의 매니페스트로 색인 열기
+     * 매니페스트가 없거나 손상되었으면 빈 색인으로 시작하며, 매니페스트에 없는 세그먼트와 이전 스냅샷 파일은 지웁니다.
+     */
+    static BoardSegmentedIndex open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        BoardSegmentedIndex index = new BoardSegmentedIndex(directory, true);
+        Path manifest = directory.resolve(MANIFEST_FILE);
+        if (Files.isRegularFile(manifest)) {
+            try {
+                index.readManifest(manifest);
+            } catch (IOException | RuntimeException e) {
+                log.warn("게시글 색인 매니페스트 적재 실패 - 빈 색인으로 시작합니다. path={}", manifest, e);
+                index.segments.clear();
+            }
+        }
+
+        Set<Path> referenced = new HashSet<>();
+        index.segments.forEach(live -> referenced.add(live.segment().file()));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !referenced.contains(file))
+                 .filter(file -> isSegmentFile(file) || file.getFileName().toString().equals(LEGACY_SNAPSHOT_FILE))
+                 .forEach(BoardSegmentedIndex::deleteQuietly);
+        }
+        return index;
+    }
+
+    private static boolean isSegmentFile(Path file) {
+        String name = file.getFileName().toString();
+        if (name.endsWith(SEGMENT_SUFFIX))
+            return true;
+        // 기록 도중 종료되어 남은 세그먼트/매니페스트 임시 파일
+        return name.endsWith(".tmp") && (name.contains(SEGMENT_SUFFIX) || name.startsWith(MANIFEST_FILE));
+    }
+
+    private void readManifest(Path manifest) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(manifest)))) {
+            if (in.readInt() != MANIFEST_MAGIC || in.readInt() != MANIFEST_VERSION)
+                throw new IOException("색인 매니페스트 형식이 올바르지 않습니다");
+            int segmentCount = in.readInt();
+            for (int i = 0; i < segmentCount; i++) {
+                BoardIndexSegment segment = BoardIndexSegment.open(directory.resolve(in.readUTF()));
+                int deletedCount = in.readInt();
+                Set<UUID> deleted = new HashSet<>(deletedCount * 2);
+                for (int d = 0; d < deletedCount; d++)
+                    deleted.add(new UUID(in.readLong(), in.readLong()));
+                segments.add(new LiveSegment(segment, deleted));
+            }
+        }
+    }
+
+    /**
+     * 게시글 추가 또는 교체
+     */
+    void put(BoardResult board) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(board.id());
+            buffer.put(board);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 같은 게시글보다 오래되지 않은 경우에만 추가 또는 교체
+     * 다른 노드의 변경을 데이터베이스에서 다시 읽어 반영할 때, 읽은 뒤 이 노드에 먼저 반영된 더 새로운 변경을 덮어쓰지 않도록 합니다.
+     *
+     * @return 반영 여부
+     */
+    boolean putIfNotOlder(BoardResult board) {
+        lock.writeLock().lock();
+        try {
+            long updatedAt = BoardInvertedIndex.epochMillis(board.updatedAt());
+            if (indexedUpdatedAt(board.id()) > updatedAt)
+                return false;
+            markDeleted(board.id());
+            buffer.put(board);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 색인된 게시글의 수정 시각 (없으면 {@link BoardInvertedIndex#NO_TIMESTAMP}) */
+    private long indexedUpdatedAt(UUID boardId) {
+        if (buffer.contains(boardId))
+            return buffer.updatedAt(boardId);
+        for (LiveSegment live : segments) {
+            int ordinal = live.segment().ordinal(boardId);
+            if (ordinal >= 0 && !live.deleted().contains(boardId))
+                return live.segment().updatedAt(ordinal);
+        }
+        return BoardInvertedIndex.NO_TIMESTAMP;
+    }
+
+    /**
+     * 게시글 제거
+     */
+    void remove(UUID boardId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(boardId);
+            buffer.remove(boardId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markDeleted(UUID boardId) {
+        for (LiveSegment live : segments) {
+            if (!live.deleted().contains(boardId) && live.segment().contains(boardId)) {
+                live.deleted().add(boardId);
+                deletionsChanged = true;
+            }
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 게시글을 관련도 순으로 반환
+     */
+    List<Hit> search(BoardIndexQuery query) {
+        List<Hit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BoardInvertedIndex current = buffer;
+            current.match(query).forEach((id, score) -> hits.add(current.hit(id, score)));
+            for (LiveSegment live : segments) {
+                BoardIndexSegment segment = live.segment();
+                segment.match(query).forEach((ordinal, score) -> {
+                    if (!live.deleted().contains(segment.id(ordinal)))
+                        hits.add(segment.hit(ordinal, score));
+                });
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        hits.sort(ORDER);
+        return hits;
+    }
+
+    /**
+     * 버퍼가 {@value #MAX_BUFFERED_DOCUMENTS}건을 넘어 바로 flush해야 하는지 여부
+     */
+    boolean needsFlush() {
+        lock.readLock().lock();
+        try {
+            return buffer.documentCount() >= MAX_BUFFERED_DOCUMENTS;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 버퍼를 새 세그먼트로 기록하고 삭제 표시와 함께 매니페스트를 갱신한 뒤, 필요하면 병합
+     * 버퍼 기록은 쓰기 잠금 안에서 하므로 버퍼 크기만큼 검색이 잠시 대기합니다.
+     *
+     * @throws IOException 세그먼트나 매니페스트를 기록하지 못한 경우 (버퍼와 삭제 표시는 유지되어 다음 flush에서 재시도)
+     */
+    void flush() throws IOException {
+        maintenance.lock();
+        try {
+            boolean changed;
+            lock.writeLock().lock();
+            try {
+                changed = deletionsChanged || !buffer.isEmpty();
+                if (!buffer.isEmpty()) {
+                    BoardIndexSegment segment = BoardIndexSegment.write(newSegmentFile(), buffer);
+                    segments.add(new LiveSegment(segment, new HashSet<>()));
+                    buffer = new BoardInvertedIndex();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (changed)
+                writeManifest();
+            mergeIfNeeded();
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    /**
+     * 이 색인을 디렉터리의 현재 색인으로 공개
+     * 버퍼를 기록하고 매니페스트를 교체하므로, 이전 색인의 세그먼트는 매니페스트에서 빠집니다.
+     */
+    void publish() throws IOException {
+        maintenance.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                published = true;
+                deletionsChanged = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            flush();
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    /**
+     * 이 색인의 세그먼트 파일 삭제
+     * 교체되었거나 재구축에 실패한 색인에 사용합니다. 진행 중인 검색은 매핑이 남아 있어 계속 읽을 수 있습니다.
+     */
+    void discard() {
+        maintenance.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                published = false;
+                segments.forEach(live -> deleteQuietly(live.segment().file()));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            maintenance.unlock();
+        }
+    }
+
+    private void mergeIfNeeded() throws IOException {
+        while (true) {
+            List<LiveSegment> candidates = mergeCandidates();
+            if (candidates.isEmpty())
+                return;
+            merge(candidates);
+        }
+    }
+
+    private List<LiveSegment> mergeCandidates() {
+        lock.readLock().lock();
+        try {
+            if (segments.size() > MAX_SEGMENTS)
+                return segments.stream().sorted(Comparator.comparingInt(LiveSegment::liveCount)).limit(MERGE_FACTOR).toList();
+            return segments.stream().filter(live -> live.deleted().size() * 2 > live.segment().documentCount()).limit(1).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 세그먼트 병합
+     * 시작 시점의 삭제 표시로 병합하고, 병합 중 새로 생긴 삭제 표시는 교체할 때 병합 결과로 옮깁니다.
+     */
+    private void merge(List<LiveSegment> candidates) throws IOException {
+        Map<BoardIndexSegment, Set<UUID>> sources = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            candidates.forEach(live -> sources.put(live.segment(), Set.copyOf(live.deleted())));
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        BoardIndexSegment merged = BoardIndexSegment.merge(newSegmentFile(), sources);
+
+        lock.writeLock().lock();
+        try {
+            Set<UUID> deleted = new HashSet<>();
+            for (LiveSegment live : candidates) {
+                Set<UUID> before = sources.get(live.segment());
+                live.deleted().stream().filter(id -> !before.contains(id) && merged.contains(id)).forEach(deleted::add);
+            }
+            segments.removeAll(candidates);
+            if (merged.documentCount() > 0)
+                segments.add(new LiveSegment(merged, deleted));
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        writeManifest();
+        candidates.forEach(live -> deleteQuietly(live.segment().file()));
+        if (merged.documentCount() == 0)
+            deleteQuietly(merged.file());
+        log.debug("게시글 색인 세그먼트 병합 완료. merged={}, documents={}", candidates.size(), merged.documentCount());
+    }
+
+    private Path newSegmentFile() throws IOException {
+        Files.createDirectories(directory);
+        return directory.resolve(UUID.randomUUID() + SEGMENT_SUFFIX);
+    }
+
+    /**
+     * 세그먼트 목록과 삭제 표시를 매니페스트로 기록 (공개된 색인만)
+     */
+    private void writeManifest() throws IOException {
+        Map<String, Set<UUID>> entries = new LinkedHashMap<>();
+        lock.writeLock().lock();
+        try {
+            if (!published)
+                return;
+            segments.forEach(live -> entries.put(live.segment().file().getFileName().toString(), Set.copyOf(live.deleted())));
+            deletionsChanged = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Path manifest = directory.resolve(MANIFEST_FILE);
+        Path temp = Files.createTempFile(directory, MANIFEST_FILE, ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MANIFEST_MAGIC);
+                out.writeInt(MANIFEST_VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Set<UUID>> entry : entries.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (UUID id : entry.getValue()) {
+                        out.writeLong(id.getMostSignificantBits());
+                        out.writeLong(id.getLeastSignificantBits());
+                    }
+                }
+            }
+            Files.move(temp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            lock.writeLock().lock();
+            try {
+                deletionsChanged = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("게시글 색인 파일 삭제 실패. path={}", file, e);
+        }
+    }
+
+    /** 색인된 게시글 수 (삭제 표시 제외) */
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return buffer.documentCount() + segments.stream().mapToInt(LiveSegment::liveCount).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 버퍼와 세그먼트별 서로 다른 bigram 수의 합 */
+    long termCount() {
+        lock.readLock().lock();
+        try {
+            return buffer.termCount() + segments.stream().mapToLong(live -> live.segment().termCount()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 버퍼와 세그먼트의 위치 포스팅 수 (병합 전 삭제 표시 포함) */
+    long postingCount() {
+        lock.readLock().lock();
+        try {
+            return buffer.postingCount() + segments.stream().mapToLong(live -> live.segment().postingCount()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 세그먼트 수 */
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 세그먼트 파일 크기의 합 */
+    long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return segments.stream().mapToLong(live -> live.segment().sizeInBytes()).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 게시글 목록용 요약 프로젝션
+ * <p>
+ * 본문 전체와 작성자 엔티티 대신 목록 렌더링에 필요한 컬럼과 본문 앞부분만 조회합니다.
+ */
+public interface BoardSummaryProjection {
+    UUID getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    UUID getAuthorId();
+
+    String getAuthorName();
+
+    Integer getViewCount();
+
+    int getReplyCount();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,22 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * JPA 밖에서 만든 게시글 요약 프로젝션 (검색 엔진의 커서 조회 결과)
+ */
+@Value
+class BoardSummaryRow implements BoardSummaryProjection {
+    UUID id;
+    String title;
+    String excerpt;
+    UUID authorId;
+    String authorName;
+    Integer viewCount;
+    int replyCount;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+}
@@ -0,0 +1,54 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조회수 일괄 반영 리포지토리
+ * 버퍼에 누적된 게시글별 조회수 증가분을 하나의 JDBC 배치로 반영합니다.
+ * JPQL 벌크 업데이트와 마찬가지로 감사 필드와 버전은 갱신하지 않습니다.
+ * 같은 트랜잭션에서 반영 후 조회수를 다시 읽어, 호출자가 캐시된 조회수를 절대값으로 맞출 수 있게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BoardViewCountWriter {
+
+    private static final String INCREMENT_SQL = "UPDATE boards SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_SQL = "SELECT id, view_count FROM boards WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 조회수 증가분 일괄 반영
+     *
+     * @param deltas 게시글 ID별 증가분
+     * @return 반영 후 게시글 ID별 조회수 (삭제된 게시글은 제외)
+     */
+    @Transactional
+    public Map<UUID, Integer> incrementViewCounts(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty())
+            return Map.of();
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((boardId, delta) -> args.add(new Object[]{delta, boardId}));
+        jdbcTemplate.batchUpdate(INCREMENT_SQL, args);
+
+        String placeholders = String.join(", ", Collections.nCopies(deltas.size(), "?"));
+        Map<UUID, Integer> viewCounts = new HashMap<>(deltas.size());
+        jdbcTemplate.query(SELECT_SQL.formatted(placeholders),
+                (RowCallbackHandler) rs -> viewCounts.put(rs.getObject("id", UUID.class), rs.getInt("view_count")),
+                deltas.keySet().toArray());
+        return viewCounts;
+    }
+}
@@ -0,0 +1,395 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardSavedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCursor;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardSearchEngine;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BoardSearchProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 내장 역색인 게시글 검색 엔진
+ * <p>
+ * 색인({@link BoardSegmentedIndex})은 포스팅과 함께 목록 요약에 필요한 게시글 값을 로컬 디스크 세그먼트에 둡니다.
+ * 관련도 검색과 시각 순 커서 조회 모두 색인만으로 일치 게시글과 순서를 정하고 결과 페이지의 요약을 만들며, 데이터베이스를 읽지 않습니다.
+ * 결과의 조회수와 댓글 수는 마지막으로 색인에 반영된 시점의 값입니다.
+ * <ul>
+ *   <li>기동 시 디스크의 세그먼트를 열어 바로 검색을 제공하고, 백그라운드에서 {@link BoardRepository}로부터 색인을 다시 만듭니다.</li>
+ *   <li>게시글 생성/수정/삭제는 커밋 후 이벤트로 받아 색인 버퍼에 즉시 반영합니다.</li>
+ *   <li>변경된 게시글 ID는 {@link TwoLevelCacheManager}의 무효화 채널로 다른 노드에 알리고, 받은 노드는 그 게시글만 다시 읽어 자기 색인에 반영합니다.
+ *       채널이 없으면(캐시 비활성) 변경이 전파되지 않으므로 단일 노드에서만 사용합니다.</li>
+ *   <li>재구축 중 들어온 변경은 새 색인에도 다시 적용한 뒤 교체하므로 유실되지 않습니다.</li>
+ *   <li>버퍼는 주기적으로, 그리고 종료 시 새 세그먼트로 기록하며 전체 색인을 다시 쓰지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class IndexedBoardSearchEngine implements BoardSearchEngine {
+
+    /** 무효화 채널에서 쓰는 이름 */
+    static final String CHANNEL_NAME = "board-search-index";
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    /** 다른 노드의 변경을 다시 읽는 동안 삭제된 게시글을 되살리지 않도록 삭제 ID를 기억하는 기간 */
+    private static final long DELETED_RETENTION_MINUTES = 10;
+
+    /** 발췌에서 첫 일치 위치 앞에 보여줄 글자 수 */
+    private static final int EXCERPT_LEAD = 30;
+
+    private final BoardRepository boardRepository;
+    private final BoardMapper boardMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final Path directory;
+    private final Cache<UUID, Boolean> recentlyDeleted = Caffeine.newBuilder()
+                                                                 .expireAfterWrite(DELETED_RETENTION_MINUTES, TimeUnit.MINUTES)
+                                                                 .build();
+
+    private final Object swapLock = new Object();
+    /** flush/병합과 색인 교체를 직렬화 (교체된 색인이 매니페스트를 덮어쓰지 않도록) */
+    private final Object maintenanceLock = new Object();
+    private volatile BoardSegmentedIndex index;
+    private @Nullable List<Consumer<BoardSegmentedIndex>> changesDuringRebuild;
+
+    private final Timer queryTimer;
+    private final Timer refreshLag;
+    private final Timer rebuildTimer;
+
+    public IndexedBoardSearchEngine(BoardRepository boardRepository, BoardMapper boardMapper, PlatformTransactionManager transactionManager,
+                                    BoardSearchProperties properties, MeterRegistry meterRegistry, ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.boardRepository = boardRepository;
+        this.boardMapper = boardMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.directory = properties.index().directory();
+        this.index = BoardSegmentedIndex.detached(directory);
+
+        this.queryTimer = Timer.builder("boardhole.search.index.query")
+                               .description("내장 색인 검색 소요 시간")
+                               .publishPercentileHistogram()
+                               .register(meterRegistry);
+        this.refreshLag = Timer.builder("boardhole.search.index.refresh.lag")
+                               .description("게시글 변경부터 색인 반영까지의 지연")
+                               .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("boardhole.search.index.rebuild")
+                                 .description("색인 전체 재구축 소요 시간")
+                                 .register(meterRegistry);
+        Gauge.builder("boardhole.search.index.documents", this, engine -> engine.index.documentCount())
+             .description("색인된 게시글 수")
+             .register(meterRegistry);
+        Gauge.builder("boardhole.search.index.terms", this, engine -> engine.index.termCount())
+             .description("버퍼와 세그먼트별 서로 다른 bigram 수의 합")
+             .register(meterRegistry);
+        Gauge.builder("boardhole.search.index.postings", this, engine -> engine.index.postingCount())
+             .description("색인의 위치 포스팅 수 (병합 전 삭제 표시 포함)")
+             .register(meterRegistry);
+        Gauge.builder("boardhole.search.index.segments", this, engine -> engine.index.segmentCount())
+             .description("디스크 색인 세그먼트 수")
+             .register(meterRegistry);
+        Gauge.builder("boardhole.search.index.disk.bytes", this, engine -> engine.index.sizeInBytes())
+             .description("디스크에 저장된 색인 세그먼트 크기")
+             .baseUnit("bytes")
+             .register(meterRegistry);
+    }
+
+    @Override
+    public Page<BoardSummaryResult> search(String keyword, Pageable pageable) {
+        BoardIndexQuery query = BoardIndexQuery.parse(keyword);
+        if (query.isEmpty())
+            return Page.empty(pageable);
+
+        return queryTimer.record(() -> {
+            List<BoardSegmentedIndex.Hit> hits = index.search(query);
+            int from = (int) Math.min(pageable.getOffset(), hits.size());
+            int to = Math.min(from + pageable.getPageSize(), hits.size());
+            List<BoardSummaryResult> content = hits.subList(from, to).stream().map(hit -> toSummary(hit.board().get(), query.words())).toList();
+            return new PageImpl<>(content, pageable, hits.size());
+        });
+    }
+
+    /**
+     * 일치 게시글을 커서의 정렬 시각(밀리초), id 내림차순으로 정렬해 커서 이후를 반환
+     * id는 PostgreSQL의 uuid 정렬과 같은 부호 없는 순서로 비교합니다.
+     */
+    @Override
+    public List<BoardSummaryProjection> scroll(String keyword, BoardCursor position, Limit limit) {
+        BoardIndexQuery query = BoardIndexQuery.parse(keyword);
+        if (query.isEmpty())
+            return List.of();
+
+        ToLongFunction<BoardSegmentedIndex.Hit> timestamp = switch (position.sort()) {
+            case CREATED_AT -> BoardSegmentedIndex.Hit::createdAt;
+            case UPDATED_AT -> BoardSegmentedIndex.Hit::updatedAt;
+        };
+        Comparator<BoardSegmentedIndex.Hit> order = Comparator.comparingLong(timestamp)
+                                                              .thenComparing(BoardSegmentedIndex.Hit::id, IndexedBoardSearchEngine::compareIds)
+                                                              .reversed();
+        long cursorTime = BoardInvertedIndex.epochMillis(position.timestamp());
+        return queryTimer.record(() -> index.search(query).stream()
+                                           .filter(hit -> {
+                                               long time = timestamp.applyAsLong(hit);
+                                               return time < cursorTime || (time == cursorTime && compareIds(hit.id(), position.id()) < 0);
+                                           })
+                                           .sorted(order)
+                                           .limit(limit.max())
+                                           .map(hit -> toProjection(hit.board().get()))
+                                           .toList());
+    }
+
+    private static int compareIds(UUID left, UUID right) {
+        int cmp = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    /**
+     * 일반 목록과 같은 본문 앞부분 발췌의 요약 프로젝션 생성
+     */
+    private static BoardSummaryProjection toProjection(BoardResult board) {
+        String content = board.content();
+        return new BoardSummaryRow(board.id(), board.title(), content.substring(0, Math.min(content.length(), BoardRepository.EXCERPT_LENGTH)),
+                board.authorId(), board.authorName(), board.viewCount(), board.replyCount(), board.createdAt(), board.updatedAt());
+    }
+
+    /**
+     * 첫 일치 위치 주변을 잘라 하이라이트한 요약 결과 생성
+     */
+    static BoardSummaryResult toSummary(BoardResult board, List<String> words) {
+        String content = board.content();
+        String lower = content.toLowerCase(Locale.ROOT);
+        int first = words.stream().mapToInt(lower::indexOf).filter(i -> i >= 0).min().orElse(0);
+        int start = Math.max(0, first - EXCERPT_LEAD);
+        int end = Math.min(content.length(), start + BoardRepository.EXCERPT_LENGTH);
+        String excerpt = SearchHighlighter.highlight(content.substring(start, end), words);
+        return new BoardSummaryResult(board.id(), board.title(), start > 0 ? "…" + excerpt : excerpt, board.authorId(), board.authorName(),
+                board.viewCount(), board.createdAt(), board.updatedAt(), board.replyCount());
+    }
+
+    /**
+     * 게시글 생성/수정 반영
+     * 롤백된 변경이 색인에 들어가지 않도록 커밋 이후에 적용합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSaved(BoardSavedEvent event) {
+        apply(index -> index.put(event.board()));
+        refreshLag.record(Duration.between(event.occurredAt(), Instant.now()));
+        broadcastChange(event.board().id());
+    }
+
+    /**
+     * 게시글 삭제 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDeleted(BoardDeletedEvent event) {
+        UUID boardId = event.boardId();
+        recentlyDeleted.put(boardId, Boolean.TRUE);
+        apply(index -> index.remove(boardId));
+        refreshLag.record(Duration.between(event.occurredAt(), Instant.now()));
+        broadcastChange(boardId);
+    }
+
+    private void apply(Consumer<BoardSegmentedIndex> change) {
+        synchronized (swapLock) {
+            change.accept(index);
+            if (changesDuringRebuild != null)
+                changesDuringRebuild.add(change);
+        }
+    }
+
+    /**
+     * 다른 노드가 보낸 색인 변경을 받도록 무효화 채널에 등록
+     */
+    @PostConstruct
+    public void subscribeChanges() {
+        if (cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager)
+            cacheManager.registerLocalCache(CHANNEL_NAME, this::onRemoteChange);
+        else
+            log.warn("캐시 무효화 채널이 없어 게시글 색인 변경이 다른 노드로 전파되지 않습니다. 내장 색인 검색은 단일 노드에서만 사용하세요.");
+    }
+
+    private void broadcastChange(UUID boardId) {
+        if (cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager)
+            cacheManager.broadcastEviction(CHANNEL_NAME, boardId);
+    }
+
+    /**
+     * 다른 노드의 게시글 변경 반영
+     * 커밋 후 보낸 알림이므로 게시글을 다시 읽어 색인을 맞춥니다. 없어진 게시글은 지우고,
+     * 읽는 사이 이 노드에 먼저 반영된 더 새로운 수정이나 삭제는 되돌리지 않습니다. 게시글을 특정할 수 없는 알림이면 색인을 다시 만듭니다.
+     */
+    void onRemoteChange(@Nullable Object key) {
+        if (!(key instanceof UUID boardId)) {
+            rebuildInBackground();
+            return;
+        }
+        @Nullable BoardResult board = readOnlyTransaction.execute(status -> boardRepository.findById(boardId).map(boardMapper::toResult).orElse(null));
+        if (board == null) {
+            recentlyDeleted.put(boardId, Boolean.TRUE);
+            apply(index -> index.remove(boardId));
+        } else if (recentlyDeleted.getIfPresent(boardId) == null) {
+            apply(index -> index.putIfNotOlder(board));
+        }
+    }
+
+    /**
+     * 디스크 세그먼트 열기
+     * 매니페스트가 없거나 손상되었으면 빈 색인으로 시작하고 재구축을 기다립니다.
+     */
+    @PostConstruct
+    public void openIndex() {
+        try {
+            BoardSegmentedIndex opened = BoardSegmentedIndex.open(directory);
+            index = opened;
+            log.info("게시글 색인 세그먼트 적재 완료. documents={}, segments={}, path={}", opened.documentCount(), opened.segmentCount(), directory);
+        } catch (IOException | RuntimeException e) {
+            log.warn("게시글 색인 세그먼트 적재 실패 - 재구축 후 다시 기록합니다. path={}", directory, e);
+        }
+    }
+
+    /**
+     * 기동 직후 백그라운드 스레드에서 색인 재구축 시작
+     * 완료 전까지는 기존(디스크 세그먼트) 색인으로 검색합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread.ofVirtual().name("board-index-rebuild").start(this::rebuild);
+    }
+
+    /**
+     * 데이터베이스에서 색인 전체 재구축
+     * 이미 재구축 중이면 아무것도 하지 않습니다.
+     */
+    public void rebuild() {
+        synchronized (swapLock) {
+            if (changesDuringRebuild != null)
+                return;
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        BoardSegmentedIndex rebuilt = BoardSegmentedIndex.detached(directory);
+        try {
+            rebuildTimer.record(() -> loadAll(rebuilt));
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                changesDuringRebuild = null;
+            }
+            rebuilt.discard();
+            log.error("게시글 색인 재구축 실패 - 기존 색인을 유지합니다.", e);
+            return;
+        }
+
+        synchronized (maintenanceLock) {
+            BoardSegmentedIndex previous;
+            synchronized (swapLock) {
+                List<Consumer<BoardSegmentedIndex>> changes = changesDuringRebuild;
+                if (changes != null)
+                    changes.forEach(change -> change.accept(rebuilt));
+                previous = index;
+                index = rebuilt;
+                changesDuringRebuild = null;
+            }
+            try {
+                rebuilt.publish();
+                previous.discard();
+            } catch (IOException e) {
+                // 매니페스트가 아직 이전 세그먼트를 가리키므로 이전 파일은 남겨두고 다음 flush에서 다시 공개
+                log.warn("재구축한 게시글 색인 기록 실패 - 다음 주기에 재시도. path={}", directory, e);
+            }
+        }
+        log.info("게시글 색인 재구축 완료. documents={}, segments={}", rebuilt.documentCount(), rebuilt.segmentCount());
+    }
+
+    private void loadAll(BoardSegmentedIndex target) {
+        UUID after = new UUID(0L, 0L);
+        while (true) {
+            UUID cursor = after;
+            List<BoardResult> batch = readOnlyTransaction.execute(status -> boardRepository
+                    .findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(REBUILD_BATCH_SIZE))
+                    .stream()
+                    .map(boardMapper::toResult)
+                    .toList());
+            if (batch == null || batch.isEmpty())
+                return;
+            batch.forEach(target::put);
+            if (target.needsFlush())
+                flushRebuilding(target);
+            if (batch.size() < REBUILD_BATCH_SIZE)
+                return;
+            after = batch.getLast().id();
+        }
+    }
+
+    private static void flushRebuilding(BoardSegmentedIndex target) {
+        try {
+            target.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막 flush 이후 변경된 버퍼를 새 세그먼트로 기록
+     * 세그먼트가 많아지면 작은 세그먼트부터 병합합니다. 실패하면 버퍼를 유지하고 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${boardhole.search.index.flush-interval:PT1M}")
+    public void flush() {
+        synchronized (maintenanceLock) {
+            try {
+                index.flush();
+            } catch (IOException | UncheckedIOException e) {
+                log.warn("게시글 색인 세그먼트 기록 실패 - 다음 주기에 재시도. path={}", directory, e);
+            }
+        }
+    }
+
+    /**
+     * 종료 시 남은 버퍼 기록
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,60 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCursor;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardSearchEngine;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+
+/**
+ * LIKE 기반 게시글 검색 엔진
+ * <p>
+ * 전문 검색을 지원하지 않는 데이터베이스(H2 테스트 등)를 위한 대체 구현입니다.
+ * 관련도 순위 없이 요청한 정렬 조건을 따르며, 발췌의 하이라이트는 애플리케이션에서 만듭니다.
+ */
+@RequiredArgsConstructor
+public class LikeBoardSearchEngine implements BoardSearchEngine {
+
+    private final BoardRepository boardRepository;
+    private final BoardMapper boardMapper;
+
+    /**
+     * 발췌를 HTML 이스케이프한 뒤 검색어를 {@code <mark>}로 감쌉니다.
+     * 대소문자를 구분하지 않으며, 검색어도 이스케이프된 형태로 비교합니다.
+     */
+    static String highlight(String excerpt, String keyword) {
+        return SearchHighlighter.highlight(excerpt, List.of(keyword));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<BoardSummaryResult> search(String keyword, Pageable pageable) {
+        return boardRepository.searchSummaries(keyword, pageable).map(boardMapper::toSummaryResult).map(result -> highlighted(result, keyword));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardSummaryProjection> scroll(String keyword, BoardCursor position, Limit limit) {
+        return scrollByLike(boardRepository, keyword, position, limit);
+    }
+
+    static List<BoardSummaryProjection> scrollByLike(BoardRepository boardRepository, String keyword, BoardCursor position, Limit limit) {
+        return switch (position.sort()) {
+            case CREATED_AT -> boardRepository.searchScrollByCreatedAt(keyword, position.timestamp(), position.id(), limit);
+            case UPDATED_AT -> boardRepository.searchScrollByUpdatedAt(keyword, position.timestamp(), position.id(), limit);
+        };
+    }
+
+    private BoardSummaryResult highlighted(BoardSummaryResult result, String keyword) {
+        return new BoardSummaryResult(result.id(), result.title(), highlight(result.excerpt(), keyword), result.authorId(), result.authorName(),
+                result.viewCount(), result.createdAt(), result.updatedAt(), result.replyCount());
+    }
+}
@@ -0,0 +1,165 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCursor;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardSearchEngine;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BoardSearchProperties;
+
+/**
+ * PostgreSQL 전문 검색 엔진
+ * <p>
+ * 제목(가중치 A)과 본문(가중치 B)으로 만든 {@code tsvector} 식과 그 식의 GIN 인덱스로 검색하고,
+ * {@code ts_rank_cd}로 관련도를 매겨 정렬합니다. 발췌는 {@code ts_headline}으로 검색어 주변을 잘라냅니다.
+ * 커서 조회도 같은 식으로 거른 뒤 정렬 시각 순으로 키셋 탐색합니다.
+ * <p>
+ * 인덱스는 마이그레이션({@code db/post-schema/postgresql})이 쓰기를 막지 않도록 {@code CREATE INDEX CONCURRENTLY}로 만듭니다.
+ * 테이블 전체를 다시 쓰는 생성 컬럼 대신 식 인덱스를 쓰므로, 쿼리의 식은 인덱스의 식과 글자 그대로 같아야 합니다.
+ */
+public class PostgresBoardSearchEngine implements BoardSearchEngine {
+
+    /** regconfig 이름은 SQL에 직접 들어가므로 소문자와 밑줄만 허용 */
+    private static final Pattern CONFIG_NAME = Pattern.compile("[a-z_]+");
+
+    /** tsquery 연산자로 해석되는 문자 */
+    private static final Pattern TSQUERY_SPECIAL = Pattern.compile("[&|!():*<>'\\\\]");
+
+    private static final String ESCAPED_CONTENT = "replace(replace(replace(b.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;')";
+
+    /** 인덱스와 같은 검색 문서 식 ({@code %1$s}: 검색 구성) */
+    private static final String DOCUMENT = "(setweight(to_tsvector('%1$s', coalesce(b.title, '')), 'A') || "
+            + "setweight(to_tsvector('%1$s', coalesce(b.content, '')), 'B'))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String config;
+    private final String document;
+    private final String headlineOptions;
+
+    public PostgresBoardSearchEngine(NamedParameterJdbcTemplate jdbcTemplate, BoardSearchProperties properties) {
+        if (!CONFIG_NAME.matcher(properties.textSearchConfig()).matches())
+            throw new IllegalArgumentException("Invalid text search config: " + properties.textSearchConfig());
+        this.jdbcTemplate = jdbcTemplate;
+        this.config = properties.textSearchConfig();
+        this.document = DOCUMENT.formatted(config);
+        this.headlineOptions = "StartSel=<mark>, StopSel=</mark>, MaxWords=%d, MinWords=%d"
+                .formatted(properties.snippetMaxWords(), properties.snippetMinWords());
+    }
+
+    /**
+     * 검색어를 접두사 일치 tsquery로 변환합니다.
+     * <p>
+     * 공백으로 나눈 각 단어를 {@code 'term':*}로 만들어 AND로 결합합니다.
+     * 한국어는 형태소 분석 없이 어절 단위로 색인되므로, 접두사 일치로 조사가 붙은 어절("게시판에")도 찾습니다.
+     *
+     * @return tsquery 문자열, 검색할 단어가 없으면 빈 문자열
+     */
+    static String toPrefixQuery(String keyword) {
+        return Arrays.stream(keyword.split("\\s+"))
+                     .map(term -> TSQUERY_SPECIAL.matcher(term).replaceAll(""))
+                     .filter(term -> !term.isEmpty())
+                     .map(term -> "'" + term + "':*")
+                     .collect(Collectors.joining(" & "));
+    }
+
+    @Override
+    public Page<BoardSummaryResult> search(String keyword, Pageable pageable) {
+        String query = toPrefixQuery(keyword);
+        if (query.isEmpty())
+            return Page.empty(pageable);
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("options", headlineOptions)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        List<BoardSummaryResult> content = jdbcTemplate.query("""
+                SELECT b.id, b.title, ts_headline('%1$s', %2$s, q, :options) AS excerpt,
+                       u.id AS author_id, u.username AS author_name, b.view_count, b.reply_count, b.created_at, b.updated_at
+                FROM boards b
+                JOIN users u ON u.id = b.author_id
+                CROSS JOIN to_tsquery('%1$s', :query) q
+                WHERE %3$s @@ q
+                ORDER BY ts_rank_cd(%3$s, q) DESC, b.created_at DESC, b.id DESC
+                LIMIT :limit OFFSET :offset
+                """.formatted(config, ESCAPED_CONTENT, document), params, PostgresBoardSearchEngine::mapRow);
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(params));
+    }
+
+    private long count(MapSqlParameterSource params) {
+        Long total = jdbcTemplate.queryForObject("SELECT count(*) FROM boards b WHERE %s @@ to_tsquery('%s', :query)".formatted(document, config),
+                params, Long.class);
+        return total == null ? 0 : total;
+    }
+
+    @Override
+    public List<BoardSummaryProjection> scroll(String keyword, BoardCursor position, Limit limit) {
+        String query = toPrefixQuery(keyword);
+        if (query.isEmpty())
+            return List.of();
+
+        // 정렬 컬럼은 열거형에서만 고르므로 SQL에 직접 넣어도 안전
+        String column = switch (position.sort()) {
+            case CREATED_AT -> "b.created_at";
+            case UPDATED_AT -> "b.updated_at";
+        };
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("timestamp", position.timestamp())
+                .addValue("id", position.id())
+                .addValue("limit", limit.max());
+
+        return jdbcTemplate.query("""
+                SELECT b.id, b.title, substring(b.content, 1, %1$d) AS excerpt,
+                       u.id AS author_id, u.username AS author_name, b.view_count, b.reply_count, b.created_at, b.updated_at
+                FROM boards b
+                JOIN users u ON u.id = b.author_id
+                WHERE %2$s @@ to_tsquery('%3$s', :query)
+                  AND %4$s <= :timestamp AND (%4$s < :timestamp OR b.id < :id)
+                ORDER BY %4$s DESC, b.id DESC
+                LIMIT :limit
+                """.formatted(BoardRepository.EXCERPT_LENGTH, document, config, column), params, PostgresBoardSearchEngine::mapSummaryRow);
+    }
+
+    private static BoardSummaryResult mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new BoardSummaryResult(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("excerpt"),
+                rs.getObject("author_id", UUID.class),
+                rs.getString("author_name"),
+                rs.getInt("view_count"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getInt("reply_count"));
+    }
+
+    private static BoardSummaryProjection mapSummaryRow(ResultSet rs, int rowNum) throws SQLException {
+        return new BoardSummaryRow(
+                rs.getObject("id", UUID.class),
+                rs.getString("title"),
+                rs.getString("excerpt"),
+                rs.getObject("author_id", UUID.class),
+                rs.getString("author_name"),
+                rs.getInt("view_count"),
+                rs.getInt("reply_count"),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class));
+    }
+}
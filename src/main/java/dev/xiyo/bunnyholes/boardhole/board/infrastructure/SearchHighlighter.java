@@ -0,0 +1,41 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * 검색 발췌 하이라이트 유틸리티
+ * 애플리케이션에서 발췌를 만드는 검색 엔진이 공통으로 사용합니다.
+ */
+final class SearchHighlighter {
+
+    private SearchHighlighter() {
+    }
+
+    /**
+     * 텍스트를 HTML 이스케이프한 뒤 검색어를 {@code <mark>}로 감쌉니다.
+     * 대소문자를 구분하지 않으며, 검색어도 이스케이프된 형태로 비교합니다.
+     * 겹치는 검색어는 긴 것을 우선합니다.
+     *
+     * @param text  원문
+     * @param terms 하이라이트할 검색어
+     * @return 하이라이트된 HTML
+     */
+    static String highlight(String text, Collection<String> terms) {
+        String escaped = HtmlUtils.htmlEscape(text);
+        String alternation = terms.stream()
+                                  .filter(term -> !term.isEmpty())
+                                  .map(HtmlUtils::htmlEscape)
+                                  .distinct()
+                                  .sorted(Comparator.comparingInt(String::length).reversed())
+                                  .map(Pattern::quote)
+                                  .collect(Collectors.joining("|"));
+        if (alternation.isEmpty())
+            return escaped;
+        return Pattern.compile(alternation, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(escaped).replaceAll("<mark>$0</mark>");
+    }
+}
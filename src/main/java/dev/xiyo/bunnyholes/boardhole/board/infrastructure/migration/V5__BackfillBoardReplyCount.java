@@ -0,0 +1,48 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.migration;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.columnExists;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.execute;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.tableExists;
+
+/**
+ * 기존 게시글의 댓글 수 채우기
+ * <p>
+ * Hibernate가 스키마를 맞추기 전에 실행되므로 {@code reply_count}를 기본값 0인 NOT NULL 컬럼으로 먼저 만들고,
+ * 삭제되지 않은 댓글 수로 채웁니다. 정기 재계산을 기다리는 동안 목록에 0이 보이지 않게 합니다.
+ * <p>
+ * 빈 스키마(첫 배포)에서는 테이블이 없으므로 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class V5__BackfillBoardReplyCount extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, "boards"))
+            return;
+
+        if (!columnExists(connection, "boards", "reply_count"))
+            execute(connection, "ALTER TABLE boards ADD COLUMN reply_count INTEGER DEFAULT 0 NOT NULL");
+        if (!tableExists(connection, "replies"))
+            return;
+
+        int filled;
+        try (Statement statement = connection.createStatement()) {
+            filled = statement.executeUpdate("""
+                    UPDATE boards SET reply_count = (SELECT COUNT(*) FROM replies r WHERE r.board_id = boards.id AND r.deleted = false)
+                    WHERE reply_count <> (SELECT COUNT(*) FROM replies r WHERE r.board_id = boards.id AND r.deleted = false)
+                    """);
+        }
+        log.info("게시글 댓글 수 채우기 완료. filled={}", filled);
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * Board data migration package
+ * 게시글 데이터 이관 마이그레이션 패키지 (Flyway Java 마이그레이션)
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.migration;
+
+import org.jspecify.annotations.NullMarked;
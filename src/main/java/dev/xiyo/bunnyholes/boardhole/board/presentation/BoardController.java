@@ -32,9 +32,13 @@ import org.springframework.web.bind.annotation.RestController;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.command.BoardCommandService;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardScrollSort;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardCreateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSliceResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSummaryResponse;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardUpdateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.mapper.BoardWebMapper;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
@@ -79,11 +83,23 @@ public class BoardController {
     @Parameter(name = "size", description = "페이지 크기", example = "10")
     @Parameter(name = "sort", description = "정렬 (필드,방향)", example = "id,desc")
     @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공", content = @Content(schema = @Schema(implementation = Page.class)))
-    public Page<BoardResponse> list(@Parameter(description = "페이지네이션 정보 (기본: 페이지 크기 10, ID 내림차순 정렬)") @PageableDefault(sort = "id", direction = Sort.Direction.DESC) @ParameterObject Pageable pageable, @Parameter(description = "검색어 (제목 또는 내용에서 검색)", example = "공지") @RequestParam(required = false) @Nullable String search) {
-        Page<BoardResult> page = search == null ? boardQueryService.listWithPaging(pageable) : boardQueryService.listWithPaging(pageable, search);
+    public Page<BoardSummaryResponse> list(@Parameter(description = "페이지네이션 정보 (기본: 페이지 크기 10, ID 내림차순 정렬)") @PageableDefault(sort = "id", direction = Sort.Direction.DESC) @ParameterObject Pageable pageable, @Parameter(description = "검색어 (제목 또는 내용에서 검색)", example = "공지") @RequestParam(required = false) @Nullable String search) {
+        Page<BoardSummaryResult> page = search == null ? boardQueryService.listWithPaging(pageable) : boardQueryService.listWithPaging(pageable, search);
         return page.map(boardWebMapper::toResponse);
     }
 
+    @GetMapping(ApiPaths.BOARDS_SCROLL)
+    @PermitAll
+    @Operation(summary = "게시글 목록 커서 조회", description = "[PUBLIC] 게시글 목록을 커서(키셋) 방식으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "게시글 목록 조회 성공", content = @Content(schema = @Schema(implementation = BoardSliceResponse.class)))
+    @ApiResponse(responseCode = "422", description = "잘못된 커서")
+    public BoardSliceResponse scroll(@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) @Nullable String cursor,
+                                     @Parameter(description = "페이지 크기 (최대 100)", example = "10") @RequestParam(defaultValue = "10") int size,
+                                     @Parameter(description = "정렬 기준 (내림차순)", example = "CREATED_AT") @RequestParam(defaultValue = "CREATED_AT") BoardScrollSort sort,
+                                     @Parameter(description = "검색어 (제목 또는 내용에서 검색)", example = "공지") @RequestParam(required = false) @Nullable String search) {
+        return boardWebMapper.toResponse(boardQueryService.scroll(cursor, size, sort, search));
+    }
+
     @GetMapping("/{id}")
     @PermitAll
     @Operation(summary = "게시글 상세 조회", description = "[PUBLIC] 특정 게시글의 상세 정보를 조회합니다. 조회수가 자동으로 증가됩니다.")
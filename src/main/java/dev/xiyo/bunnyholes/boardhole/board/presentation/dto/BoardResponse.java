@@ -13,5 +13,6 @@ public record BoardResponse(@Schema(description = "게시글 ID", example = "550
                             @Schema(description = "작성자 이름", example = "홍길동") String authorName,
                             @Schema(description = "조회수", example = "42") Integer viewCount,
                             @Schema(description = "작성 일시", example = "2024-01-15T10:30:00") LocalDateTime createdAt,
-                            @Schema(description = "수정 일시", example = "2024-01-15T15:45:30") LocalDateTime updatedAt) {
+                            @Schema(description = "수정 일시", example = "2024-01-15T15:45:30") LocalDateTime updatedAt,
+                            @Schema(description = "댓글 수 (삭제된 댓글 제외)", example = "7") int replyCount) {
 }
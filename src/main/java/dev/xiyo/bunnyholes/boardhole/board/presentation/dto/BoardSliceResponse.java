@@ -0,0 +1,13 @@
+package dev.xiyo.bunnyholes.boardhole.board.presentation.dto;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "BoardSliceResponse", description = "커서 기반 게시글 목록 응답")
+public record BoardSliceResponse(@Schema(description = "게시글 목록") List<BoardSummaryResponse> content,
+                                 @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "Q1JFQVRFRF9BVHwyMDI0LTAxLTE1VDEwOjMwfDU1MGU4NDAw", nullable = true) @Nullable String nextCursor,
+                                 @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {
+}
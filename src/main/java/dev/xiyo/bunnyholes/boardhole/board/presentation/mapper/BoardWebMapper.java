@@ -10,9 +10,13 @@ import dev.xiyo.bunnyholes.boardhole.board.application.command.CreateBoardComman
 import dev.xiyo.bunnyholes.boardhole.board.application.command.UpdateBoardCommand;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.GetBoardQuery;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSliceResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardCreateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardFormRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSliceResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSummaryResponse;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardUpdateRequest;
 
 /**
@@ -31,6 +35,22 @@ public interface BoardWebMapper {
      */
     BoardResponse toResponse(BoardResult result);
 
+    /**
+     * 게시글 요약 결과를 웹 응답으로 변환
+     *
+     * @param result 게시글 요약 결과
+     * @return 목록 항목 응답 DTO
+     */
+    BoardSummaryResponse toResponse(BoardSummaryResult result);
+
+    /**
+     * 커서 기반 목록 결과를 웹 응답으로 변환
+     *
+     * @param result 커서 기반 목록 조회 결과
+     * @return 웹 응답 DTO
+     */
+    BoardSliceResponse toResponse(BoardSliceResult result);
+
     /**
      * 게시글 생성 요청을 명령으로 변환
      *
@@ -4,39 +4,51 @@ import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyQueryService;
-import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
-import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplySliceResult;
 
 /**
  * 게시글 상세 조회 전용 뷰 컨트롤러
  * <p>
  * 게시글 상세 정보 조회를 담당합니다.
  * 조회 시 조회수가 자동으로 증가합니다.
+ * 댓글은 최상위 댓글 단위로 나누어 보여주며, 답글이 많은 댓글은 replyParent로 해당 댓글의 답글만 이어서 봅니다.
  */
 @Controller
 @RequestMapping("/boards")
 @RequiredArgsConstructor
 public class BoardDetailViewController {
 
+    private static final int REPLY_PAGE_SIZE = 20;
+
     private final BoardQueryService boardQueryService;
     private final ReplyQueryService replyQueryService;
 
     @GetMapping("/{id}")
-    public String detail(@PathVariable UUID id, Model model) {
+    public String detail(@PathVariable UUID id,
+                         @RequestParam(required = false) @Nullable UUID replyParent,
+                         @RequestParam(required = false) @Nullable String replyCursor,
+                         Model model) {
         var board = boardQueryService.getBoard(id);
-        ReplyTreeResult replyTree = replyQueryService.getReplyTree(id);
+        ReplySliceResult replies = replyParent == null
+                ? replyQueryService.getThreads(id, replyCursor, REPLY_PAGE_SIZE)
+                : replyQueryService.getChildren(replyParent, replyCursor, REPLY_PAGE_SIZE);
 
         model.addAttribute("board", board);
-        model.addAttribute("replies", replyTree.replies());
-        model.addAttribute("replyCount", replyTree.totalCount());
+        model.addAttribute("replies", replies.content());
+        model.addAttribute("replyNextCursor", replies.nextCursor());
+        model.addAttribute("replyParent", replyParent);
+        model.addAttribute("replyCount", board.replyCount());
         return "boards/detail";
     }
 }
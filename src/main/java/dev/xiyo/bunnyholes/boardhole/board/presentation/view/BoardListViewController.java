@@ -12,12 +12,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardScrollSort;
 
 /**
  * 게시글 목록 전용 뷰 컨트롤러
  * <p>
  * 게시글 목록 조회와 검색 기능을 담당합니다.
  * 페이지네이션을 지원하며, 제목/내용 검색이 가능합니다.
+ * {@code cursor} 파라미터가 있으면 전체 건수 계산 없이 키셋 커서로 이어서 조회합니다.
  */
 @Controller
 @RequestMapping("/boards")
@@ -55,4 +57,37 @@ public class BoardListViewController {
         model.addAttribute("search", search);
         return "boards";
     }
-}
\ No newline at end of file
+
+    /**
+     * 게시글 목록 커서 페이지
+     * <p>
+     * OFFSET과 COUNT 쿼리 없이 정렬 기준의 역순으로 다음 묶음을 조회합니다.
+     * 빈 커서는 첫 페이지를 의미하며, 잘못된 커서는 422 에러를 반환합니다.
+     * 정렬 기준과 페이지 크기는 "더 보기" 링크에 그대로 실어 다음 묶음도 같은 조건으로 이어지게 합니다.
+     *
+     * @param cursor 이전 페이지의 다음 커서
+     * @param search 검색어 (선택사항)
+     * @param size   페이지 크기 (기본 10개)
+     * @param sort   정렬 기준 (기본 수정일)
+     * @param model  뷰에 전달할 데이터
+     * @return 게시글 목록 템플릿
+     */
+    @GetMapping(params = "cursor")
+    public String listByCursor(
+            @RequestParam String cursor,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "UPDATED_AT") BoardScrollSort sort,
+            Model model
+    ) {
+        var slice = boardQueryService.scroll(cursor, size, sort, search);
+
+        model.addAttribute("boards", slice.content());
+        model.addAttribute("nextCursor", slice.nextCursor());
+        model.addAttribute("cursorMode", true);
+        model.addAttribute("search", search);
+        model.addAttribute("size", size);
+        model.addAttribute("sort", sort);
+        return "boards";
+    }
+}
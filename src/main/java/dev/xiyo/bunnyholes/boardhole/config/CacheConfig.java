@@ -1,29 +1,260 @@
 package dev.xiyo.bunnyholes.boardhole.config;
 
+import java.nio.charset.StandardCharsets;
+import java.lang.reflect.Method;
 import java.time.Duration;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.ClassUtils;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheCircuitBreaker;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheTagger;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.LocalCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.RedisCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ResilientCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.ResilientCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCache;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.codec.CacheValueCodec;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.codec.CacheValueSchema;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
 
+/**
+ * 캐시 구성
+ * <p>
+ * Redis 연결이 있으면 L1(Caffeine) + L2(Redis) 2단계 캐시를, 없으면 L1만 쓰는 캐시를 구성합니다.
+ * 자동 구성보다 먼저 처리되는 사용자 구성에서는 {@code @ConditionalOnBean}으로 Redis 유무를 판단할 수 없으므로
+ * 빈 생성 시점에 연결 팩토리 존재 여부로 결정합니다.
+ * <p>
+ * Redis 호출은 회로 차단기를 거치므로 Redis 장애 중에는 시간 초과를 기다리지 않고 L1만 사용합니다.
+ * <p>
+ * 캐시 어드바이스는 트랜잭션 어드바이스보다 바깥에 둡니다({@link #CACHE_ADVICE_ORDER}).
+ * 그래야 {@code @Cacheable(sync = true)}의 값 로더가 트랜잭션 어드바이스를 포함하므로,
+ * 갱신 실행기에서 로더를 실행해도 호출자의 트랜잭션 없이 자체 트랜잭션을 엽니다.
+ */
+@Slf4j
 @Configuration
-@EnableCaching
-@ConditionalOnBean(RedisConnectionFactory.class)
+@EnableCaching(order = CacheConfig.CACHE_ADVICE_ORDER)
 public class CacheConfig {
 
+  /** 캐시 어드바이스 순서 (기본 순서({@link Ordered#LOWEST_PRECEDENCE})인 트랜잭션 어드바이스보다 먼저 적용) */
+  public static final int CACHE_ADVICE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+
   @Bean
-  public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+  public CacheManager cacheManager(ObjectProvider<RedisConnectionFactory> connectionFactoryProvider, CacheProperties properties,
+                                   MeterRegistry meterRegistry, List<CacheTagger> taggers, List<CacheValueSchema<?>> schemas,
+                                   @Qualifier("cacheRefreshExecutor") Executor refreshExecutor) {
+    RedisConnectionFactory connectionFactory = connectionFactoryProvider.getIfAvailable();
+    if (connectionFactory != null)
+      return redisCacheManager(connectionFactory, properties, meterRegistry, taggers, schemas, refreshExecutor);
+
+    if (!properties.localFallback()) {
+      log.info("Redis 미구성, 로컬 대체 캐시 비활성: 캐시하지 않음");
+      return new NoOpCacheManager();
+    }
+    log.info("Redis 미구성: L1 캐시만 사용");
+    return new TwoLevelCacheManager(new NoOpCacheManager(), properties, message -> { }, meterRegistry,
+        new LocalCacheTagIndex(longestLocalTtl(properties)), taggers, refreshExecutor);
+  }
+
+  private static TwoLevelCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, CacheProperties properties,
+                                                        MeterRegistry meterRegistry, List<CacheTagger> taggers,
+                                                        List<CacheValueSchema<?>> schemas, Executor refreshExecutor) {
     RedisCacheConfiguration defaultConfig =
         RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofHours(1))
-            .disableCachingNullValues();
+            .entryTtl(properties.redisTtl())
+            .disableCachingNullValues()
+            .serializeValuesWith(SerializationPair.fromSerializer(
+                new CacheValueCodec(schemas, Math.toIntExact(properties.compressionThreshold().toBytes()))));
+
+    // stale-while-revalidate 유예 기간만큼 L2 항목을 더 보관
+    RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(connectionFactory)
+        .cacheDefaults(defaultConfig.entryTtl(properties.redisTtl().plus(properties.local().staleWhileRevalidate())));
+    properties.caches().forEach((name, local) ->
+        builder.withCacheConfiguration(name, defaultConfig.entryTtl(properties.redisTtl().plus(local.staleWhileRevalidate()))));
+    RedisCacheManager redisCacheManager = builder.build();
+    redisCacheManager.afterPropertiesSet();
+
+    CacheCircuitBreaker circuitBreaker = new CacheCircuitBreaker(
+        properties.circuitBreaker().failureThreshold(), properties.circuitBreaker().openDuration(), meterRegistry);
+    StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+    return new TwoLevelCacheManager(new ResilientCacheManager(redisCacheManager, circuitBreaker), properties,
+        message -> circuitBreaker.run(() -> redisTemplate.convertAndSend(properties.invalidationChannel(), message.encode())),
+        meterRegistry,
+        new ResilientCacheTagIndex(
+            new RedisCacheTagIndex(redisTemplate, properties.tagPrefix(), longestEntryTtl(properties)),
+            new LocalCacheTagIndex(longestLocalTtl(properties)),
+            circuitBreaker),
+        taggers,
+        refreshExecutor);
+  }
+
+  /**
+   * 모든 {@code @Cacheable} 반환 타입(목록이면 원소 타입)에 캐시 값 스키마가 있는지 기동 시 확인
+   * <p>
+   * 코덱은 스키마가 없는 값을 거절하므로, 누락은 첫 캐시 쓰기에서 요청 실패로 드러납니다.
+   * Redis 없이 실행하는 환경에서도 같은 누락을 잡도록 캐시 구성과 관계없이 확인합니다.
+   */
+  @Bean
+  public SmartInitializingSingleton cacheValueSchemaVerifier(ListableBeanFactory beanFactory, List<CacheValueSchema<?>> schemas) {
+    return () -> verifySchemas(beanFactory, new CacheValueCodec(schemas, 0));
+  }
+
+  static void verifySchemas(ListableBeanFactory beanFactory, CacheValueCodec codec) {
+    List<String> missing = new ArrayList<>();
+    for (String beanName : beanFactory.getBeanDefinitionNames()) {
+      Class<?> beanType = beanFactory.getType(beanName, false);
+      if (beanType == null)
+        continue;
+      MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+              (MethodIntrospector.MetadataLookup<Cacheable>) method -> AnnotatedElementUtils.findMergedAnnotation(method, Cacheable.class))
+          .keySet()
+          .forEach(method -> {
+            Class<?> cachedType = cachedTypeOf(method);
+            if (!codec.supports(cachedType))
+              missing.add(method.getDeclaringClass().getSimpleName() + "." + method.getName() + " -> " + cachedType.getName());
+          });
+    }
+    if (!missing.isEmpty())
+      throw new IllegalStateException("No cache value schema for cached types: " + missing);
+  }
+
+  private static Class<?> cachedTypeOf(Method method) {
+    ResolvableType returnType = ResolvableType.forMethodReturnType(method);
+    if (List.class.isAssignableFrom(returnType.toClass()))
+      return returnType.asCollection().getGeneric(0).toClass();
+    return returnType.toClass();
+  }
+
+  /**
+   * 태그 색인은 가장 오래 보관되는 L2 항목보다 먼저 사라지면 안 됨
+   */
+  private static Duration longestEntryTtl(CacheProperties properties) {
+    Duration longestStale = properties.caches().values().stream()
+        .map(CacheProperties.Local::staleWhileRevalidate)
+        .reduce(properties.local().staleWhileRevalidate(), CacheConfig::longer);
+    return properties.redisTtl().plus(longestStale);
+  }
+
+  /**
+   * 로컬 태그 색인은 가장 오래 보관되는 L1 항목보다 먼저 사라지면 안 됨
+   */
+  private static Duration longestLocalTtl(CacheProperties properties) {
+    return properties.caches().values().stream()
+        .map(CacheProperties.Local::ttl)
+        .reduce(properties.local().ttl(), CacheConfig::longer);
+  }
+
+  private static Duration longer(Duration a, Duration b) {
+    return a.compareTo(b) >= 0 ? a : b;
+  }
+
+  /**
+   * 캐시 백그라운드 갱신 실행기
+   * <p>
+   * 컨텍스트가 수명주기를 관리하므로 종료 시 대기 중인 갱신을 마친 뒤 멈추고, 종료 후 들어온 갱신은 거절합니다.
+   * 애플리케이션 작업 실행기와 섞이지 않도록 타입 주입 후보에서 빼고 이름으로만 주입합니다.
+   * <p>
+   * 포화되면 작업을 거절하고 거절 수를 기록합니다. {@link TwoLevelCache}는 거절된 갱신을 건너뛰고 기존 값을 계속 응답합니다.
+   * 호출 스레드 실행 정책은 요청 스레드가 갱신을 떠안게 되고, 조용히 버리는 정책은 적재 중 표시가 남으므로 쓰지 않습니다.
+   */
+  @Bean(defaultCandidate = false)
+  public ThreadPoolTaskExecutor cacheRefreshExecutor(MeterRegistry meterRegistry) {
+    Counter rejected = Counter.builder("boardhole.cache.refresh.rejected")
+        .description("갱신 실행기 포화 또는 종료로 건너뛴 백그라운드 갱신 수")
+        .register(meterRegistry);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setDaemon(true);
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(100);
+    executor.setThreadNamePrefix("cache-refresh-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(5);
+    executor.setRejectedExecutionHandler((task, pool) -> {
+      rejected.increment();
+      throw new RejectedExecutionException("캐시 갱신 실행기가 포화되었거나 종료되었습니다");
+    });
+
+    Gauge.builder("boardhole.cache.refresh.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+        .description("실행 중인 백그라운드 갱신 수")
+        .register(meterRegistry);
+    Gauge.builder("boardhole.cache.refresh.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+        .description("대기 중인 백그라운드 갱신 수")
+        .register(meterRegistry);
+    return executor;
+  }
+
+  /**
+   * 다른 노드가 보낸 L1 무효화 메시지 구독
+   * Redis가 없으면 구독할 채널이 없으므로 아무것도 하지 않습니다.
+   */
+  @Bean
+  public SmartLifecycle cacheInvalidationSubscriber(ObjectProvider<RedisConnectionFactory> connectionFactoryProvider,
+                                                    CacheManager cacheManager, CacheProperties properties) {
+    RedisConnectionFactory connectionFactory = connectionFactoryProvider.getIfAvailable();
+    if (connectionFactory == null || !(cacheManager instanceof TwoLevelCacheManager twoLevelCacheManager))
+      return new NoSubscription();
+
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(
+        (message, pattern) -> twoLevelCacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+        new ChannelTopic(properties.invalidationChannel()));
+    return container;
+  }
+
+  /**
+   * Redis가 없을 때의 빈 구독
+   */
+  private static final class NoSubscription implements SmartLifecycle {
+
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+      running = true;
+    }
+
+    @Override
+    public void stop() {
+      running = false;
+    }
 
-    return RedisCacheManager.builder(connectionFactory)
-        .cacheDefaults(defaultConfig)
-        .build();
+    @Override
+    public boolean isRunning() {
+      return running;
+    }
   }
 }
@@ -12,16 +12,19 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
-import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
 import dev.xiyo.bunnyholes.boardhole.reply.application.mapper.ReplyMapper;
+import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyTreeCache;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
 import dev.xiyo.bunnyholes.boardhole.reply.domain.Reply;
 import dev.xiyo.bunnyholes.boardhole.reply.domain.validation.ReplyValidationConstants;
 import dev.xiyo.bunnyholes.boardhole.reply.infrastructure.ReplyRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.EvictCacheTags;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.security.OwnershipCache;
+import dev.xiyo.bunnyholes.boardhole.shared.security.UserIdResolver;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
-import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 @Slf4j
@@ -33,20 +36,16 @@ public class ReplyCommandService {
     private final ReplyRepository replyRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final UserIdResolver userIdResolver;
     private final ReplyMapper replyMapper;
+    private final ReplyTreeCache replyTreeCache;
+    private final OwnershipCache ownershipCache;
 
     @Transactional
     @PreAuthorize("isAuthenticated()")
+    @EvictCacheTags(expressions = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.board(#cmd.boardId())")
     public ReplyResult create(@Valid CreateReplyCommand cmd) {
-        Board board = boardRepository
-            .findById(cmd.boardId())
-            .orElseThrow(() -> new ResourceNotFoundException(
-                MessageUtils.get("error.board.not-found.id", cmd.boardId())));
-
-        User author = userRepository
-            .findByUsername(cmd.authorUsername())
-            .orElseThrow(() -> new ResourceNotFoundException(
-                MessageUtils.get("error.user.not-found.username", cmd.authorUsername())));
+        UUID authorId = userIdResolver.resolve(cmd.authorUsername());
 
         Reply parent = null;
         if (cmd.parentId() != null) {
@@ -56,21 +55,32 @@ public class ReplyCommandService {
                     MessageUtils.get("error.reply.parent-not-found")));
 
             validateDepth(parent);
-            validateBoardMatch(parent, board);
+            validateBoardMatch(parent, cmd.boardId());
+        }
+
+        // 댓글 수 증가가 게시글 존재 확인을 겸하므로 게시글과 작성자는 참조만 사용
+        if (boardRepository.incrementReplyCount(cmd.boardId()) == 0) {
+            throw new ResourceNotFoundException(
+                MessageUtils.get("error.board.not-found.id", cmd.boardId()));
         }
 
         Reply reply = Reply.builder()
-            .board(board)
+            .board(boardRepository.getReferenceById(cmd.boardId()))
             .parent(parent)
-            .author(author)
+            .author(userRepository.getReferenceById(authorId))
             .content(cmd.content())
             .build();
 
         Reply saved = replyRepository.save(reply);
+        if (parent != null)
+            replyRepository.incrementChildCount(parent.getId());
+        ownershipCache.remember(PermissionType.TARGET_REPLY, saved.getId(), cmd.authorUsername());
 
-        log.info(MessageUtils.get("log.reply.created", saved.getId(), board.getId(), author.getUsername()));
+        log.info(MessageUtils.get("log.reply.created", saved.getId(), cmd.boardId(), cmd.authorUsername()));
 
-        return replyMapper.toResult(saved);
+        ReplyResult result = replyMapper.toResult(saved, cmd.boardId(), authorId, cmd.authorUsername());
+        replyTreeCache.replyCreated(result);
+        return result;
     }
 
     @Transactional
@@ -84,53 +94,61 @@ public class ReplyCommandService {
 
         log.info(MessageUtils.get("log.reply.updated", saved.getId(), saved.getAuthor().getUsername()));
 
+        replyTreeCache.evict(saved.getBoard().getId());
+
         return replyMapper.toResult(saved);
     }
 
+    /**
+     * 댓글 삭제
+     * 답글이 있으면 내용만 지우고(soft delete) 자리를 남기며, 없으면 행을 삭제합니다.
+     * 게시글의 댓글 수는 이미 삭제 표시된 댓글이 아닐 때만 줄어듭니다.
+     *
+     * @param replyId 삭제할 댓글 ID
+     * @return 댓글이 속한 게시글 ID
+     */
     @Transactional
     @PreAuthorize("hasPermission(#replyId, 'REPLY', 'DELETE')")
-    public void delete(UUID replyId) {
+    @EvictCacheTags(expressions = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.board(#result)")
+    public UUID delete(UUID replyId) {
         Reply reply = loadReplyOrThrow(replyId);
+        UUID boardId = reply.getBoard().getId();
+        boolean counted = !reply.isDeleted();
 
-        boolean hasChildren = !replyRepository.findByParentId(replyId).isEmpty();
-
-        if (hasChildren) {
+        if (reply.getChildCount() > 0) {
             reply.markAsDeleted();
             replyRepository.save(reply);
         } else {
             replyRepository.delete(reply);
+            ownershipCache.evict(PermissionType.TARGET_REPLY, replyId);
+            if (reply.getParent() != null)
+                replyRepository.decrementChildCount(reply.getParent().getId());
         }
+        if (counted)
+            boardRepository.decrementReplyCount(boardId);
 
         log.info(MessageUtils.get("log.reply.deleted", replyId, reply.getAuthor().getUsername()));
+
+        replyTreeCache.evict(boardId);
+        return boardId;
     }
 
     private Reply loadReplyOrThrow(UUID id) {
         return replyRepository
-            .findByIdWithAuthor(id)
+            .findById(id)
             .orElseThrow(() -> new ResourceNotFoundException(
                 MessageUtils.get("error.reply.not-found.id", id)));
     }
 
     private void validateDepth(Reply parent) {
-        int currentDepth = calculateDepth(parent);
-        if (currentDepth >= ReplyValidationConstants.MAX_DEPTH - 1) {
+        if (parent.getDepth() >= ReplyValidationConstants.MAX_DEPTH - 1) {
             throw new IllegalArgumentException(
                 MessageUtils.get("error.reply.depth-exceeded", ReplyValidationConstants.MAX_DEPTH));
         }
     }
 
-    private int calculateDepth(Reply reply) {
-        int depth = 0;
-        Reply current = reply;
-        while (current.getParent() != null) {
-            depth++;
-            current = current.getParent();
-        }
-        return depth;
-    }
-
-    private void validateBoardMatch(Reply parent, Board board) {
-        if (!parent.getBoard().getId().equals(board.getId())) {
+    private void validateBoardMatch(Reply parent, UUID boardId) {
+        if (!parent.getBoard().getId().equals(boardId)) {
             throw new IllegalArgumentException(
                 MessageUtils.get("error.reply.board-mismatch"));
         }
@@ -1,6 +1,7 @@
 package dev.xiyo.bunnyholes.boardhole.reply.application.mapper;
 
 import java.util.ArrayList;
+import java.util.UUID;
 
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
@@ -22,10 +23,19 @@ public interface ReplyMapper {
     @Mapping(target = "authorId", source = "author.id")
     @Mapping(target = "authorName", source = "author.username")
     @Mapping(target = "parentId", source = "parent.id")
-    @Mapping(target = "depth", constant = "0")
     @Mapping(target = "children", expression = "java(new ArrayList<>())")
     ReplyResult toResult(Reply reply);
 
+    /**
+     * 게시글과 작성자를 읽지 않고 댓글 결과로 변환 (참조 프록시를 쓰는 쓰기 경로용)
+     */
+    @Mapping(target = "boardId", source = "boardId")
+    @Mapping(target = "authorId", source = "authorId")
+    @Mapping(target = "authorName", source = "authorName")
+    @Mapping(target = "parentId", source = "reply.parent.id")
+    @Mapping(target = "children", expression = "java(new ArrayList<>())")
+    ReplyResult toResult(Reply reply, UUID boardId, UUID authorId, String authorName);
+
     @Mapping(target = "boardId", ignore = true)
     @Mapping(target = "children", expression = "java(new ArrayList<>())")
     ReplyResult toResult(ReplyTreeProjection projection);
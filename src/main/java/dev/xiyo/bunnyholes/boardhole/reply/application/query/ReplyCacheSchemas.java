@@ -0,0 +1,83 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplySliceResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.codec.CacheValueSchema;
+
+/**
+ * 댓글 캐시 값 바이너리 스키마
+ * 필드는 끝에만 추가하고, 타입 ID와 기존 필드 순서는 바꾸지 않습니다.
+ * 자식 댓글은 중첩 값 목록으로 기록하며, 읽을 때는 트리를 고칠 수 있도록 변경 가능한 목록으로 복원합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReplyCacheSchemas {
+
+    static final int REPLY_TREE_RESULT = 48;
+    static final int REPLY_RESULT = 49;
+    static final int REPLY_SLICE_RESULT = 50;
+
+    @Bean
+    public CacheValueSchema<ReplyTreeResult> replyTreeResultSchema() {
+        return CacheValueSchema.of(REPLY_TREE_RESULT, ReplyTreeResult.class,
+                (tree, out) -> {
+                    out.writeValue(tree.replies());
+                    out.writeLong(tree.totalCount());
+                },
+                in -> new ReplyTreeResult(readReplies(in.readValue()), in.readLong()));
+    }
+
+    @Bean
+    public CacheValueSchema<ReplyResult> replyResultSchema() {
+        return CacheValueSchema.of(REPLY_RESULT, ReplyResult.class,
+                (reply, out) -> {
+                    out.writeUuid(reply.id());
+                    out.writeUuid(reply.boardId());
+                    out.writeUuid(reply.parentId());
+                    out.writeString(reply.content());
+                    out.writeUuid(reply.authorId());
+                    out.writeString(reply.authorName());
+                    out.writeDateTime(reply.createdAt());
+                    out.writeDateTime(reply.updatedAt());
+                    out.writeBoolean(reply.deleted());
+                    out.writeInt(reply.depth());
+                    out.writeValue(reply.children());
+                    out.writeInt(reply.childCount());
+                },
+                in -> new ReplyResult(in.readUuid(), in.readUuid(), in.readUuid(), in.readString(), in.readUuid(), in.readString(),
+                        in.readDateTime(), in.readDateTime(), in.readBoolean(), orZero(in.readInt()), readReplies(in.readValue()),
+                        orZero(in.readInt())));
+    }
+
+    @Bean
+    public CacheValueSchema<ReplySliceResult> replySliceResultSchema() {
+        return CacheValueSchema.of(REPLY_SLICE_RESULT, ReplySliceResult.class,
+                (slice, out) -> {
+                    out.writeValue(slice.content());
+                    out.writeString(slice.nextCursor());
+                    out.writeBoolean(slice.hasNext());
+                },
+                in -> new ReplySliceResult(readReplies(in.readValue()), in.readString(), in.readBoolean()));
+    }
+
+    private static int orZero(@Nullable Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static List<ReplyResult> readReplies(@Nullable Object value) {
+        List<ReplyResult> replies = new ArrayList<>();
+        if (value instanceof List<?> list)
+            for (Object reply : list)
+                if (reply instanceof ReplyResult result)
+                    replies.add(result);
+        return replies;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.query;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheTagger;
+
+/**
+ * 댓글 캐시 항목 태그 부여
+ * 게시글별 댓글 트리는 키인 게시글 ID로 {@code replies:{게시글 ID}} 태그를 받아 게시글 삭제 시 함께 제거됩니다.
+ */
+@Component
+public class ReplyCacheTagger implements CacheTagger {
+
+    @Override
+    public String cacheName() {
+        return CacheConstants.Reply.CACHE_NAME;
+    }
+
+    @Override
+    public Set<String> tags(Object key, Object value) {
+        return key instanceof UUID boardId ? Set.of(CacheConstants.Tag.replies(boardId)) : Set.of();
+    }
+}
@@ -0,0 +1,58 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HexFormat;
+
+import dev.xiyo.bunnyholes.boardhole.reply.domain.ReplyPath;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+
+/**
+ * 댓글 목록 키셋 커서
+ * <p>
+ * 마지막으로 내려준 댓글의 경로({@link ReplyPath})를 담아 다음 페이지의 시작 위치로 사용합니다.
+ * 같은 부모(또는 게시글의 최상위) 댓글은 경로 순으로 인덱스에 이어져 있으므로 스레드 크기와 관계없이 범위 탐색 비용이 일정합니다.
+ * 외부에는 URL-safe Base64 문자열로만 노출되며 내부 구조에 의존하지 않도록 불투명하게 취급합니다.
+ *
+ * @param path 마지막 댓글의 경로 (첫 페이지는 빈 문자열)
+ */
+public record ReplyCursor(String path) {
+
+    private static final ReplyCursor FIRST = new ReplyCursor("");
+
+    /**
+     * 첫 페이지용 커서 (모든 경로보다 앞에 위치)
+     */
+    public static ReplyCursor first() {
+        return FIRST;
+    }
+
+    /**
+     * 커서 문자열 복원
+     *
+     * @param value 인코딩된 커서
+     * @return 복원된 커서
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static ReplyCursor decode(String value) {
+        String path;
+        try {
+            path = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            HexFormat.of().parseHex(path);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(MessageUtils.get("error.reply.cursor.invalid"), e);
+        }
+        if (path.isEmpty() || path.length() % ReplyPath.SEGMENT_LENGTH != 0 || path.length() > ReplyPath.MAX_LENGTH)
+            throw new IllegalArgumentException(MessageUtils.get("error.reply.cursor.invalid"));
+        return new ReplyCursor(path);
+    }
+
+    /**
+     * 커서를 URL-safe 문자열로 인코딩
+     *
+     * @return 인코딩된 커서
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(path.getBytes(StandardCharsets.UTF_8));
+    }
+}
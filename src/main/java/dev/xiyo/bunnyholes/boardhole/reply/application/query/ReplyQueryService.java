@@ -1,40 +1,157 @@
 package dev.xiyo.bunnyholes.boardhole.reply.application.query;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
-import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import dev.xiyo.bunnyholes.boardhole.reply.application.mapper.ReplyMapper;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplySliceResult;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
-import dev.xiyo.bunnyholes.boardhole.reply.domain.validation.ReplyValidationConstants;
 import dev.xiyo.bunnyholes.boardhole.reply.infrastructure.ReplyRepository;
 import dev.xiyo.bunnyholes.boardhole.reply.infrastructure.ReplyTreeProjection;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
 
 @Service
-@RequiredArgsConstructor
 public class ReplyQueryService {
 
+    public static final int MAX_PAGE_SIZE = 50;
+    /** 최상위 댓글마다 함께 내려주는 앞쪽 답글 수 */
+    public static final int CHILD_PREVIEW_SIZE = 3;
+    /** 스트리밍 조회에서 트랜잭션 하나로 읽는 댓글 수 */
+    static final int STREAM_CHUNK_SIZE = 256;
+
     private final ReplyRepository replyRepository;
     private final ReplyMapper replyMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ReplyQueryService(ReplyRepository replyRepository, ReplyMapper replyMapper, PlatformTransactionManager transactionManager) {
+        this.replyRepository = replyRepository;
+        this.replyMapper = replyMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
 
+    /**
+     * 게시글의 댓글 트리
+     * 게시글별로 캐시하며, 새 댓글은 {@link ReplyTreeCache}가 캐시된 트리에 바로 반영합니다.
+     */
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConstants.Reply.CACHE_NAME, key = "#boardId", sync = true)
     public ReplyTreeResult getReplyTree(UUID boardId) {
-        List<ReplyTreeProjection> flatList = replyRepository.findReplyTreeByBoardId(
-            boardId,
-            ReplyValidationConstants.MAX_DEPTH
-        );
+        List<ReplyTreeProjection> flatList = replyRepository.findReplyTreeByBoardId(boardId);
 
         return buildTree(flatList);
     }
 
+    /**
+     * 게시글의 댓글을 트리 순서(경로 순, 깊이 우선)로 한 건씩 전달
+     * <p>
+     * 트리를 메모리에 구성하지 않고 경로 키셋으로 {@value #STREAM_CHUNK_SIZE}건씩 읽어 바로 넘기므로
+     * 스레드 크기와 관계없이 메모리 사용량이 일정합니다. 구간마다 짧은 읽기 전용 트랜잭션을 쓰고
+     * 작업은 트랜잭션 밖에서 호출하므로, 느린 클라이언트에 쓰는 동안 DB 연결을 잡고 있지 않습니다.
+     * 부모는 항상 자식보다 먼저 전달되며, 전달되는 댓글의 children은 항상 비어 있습니다. 캐시를 거치지 않습니다.
+     * 구간 사이에 작성된 댓글은 아직 읽지 않은 경로에 있을 때만 포함됩니다.
+     *
+     * @param boardId 게시글 ID
+     * @param action  댓글마다 호출할 작업 (트랜잭션 밖에서 호출됨)
+     */
+    public void streamReplyTree(UUID boardId, Consumer<ReplyResult> action) {
+        String path = ReplyCursor.first().path();
+        List<ReplyTreeProjection> chunk;
+        do {
+            String after = path;
+            chunk = readOnlyTransaction.execute(status -> replyRepository.findReplyTreeAfter(boardId, after, Limit.of(STREAM_CHUNK_SIZE)));
+            if (chunk == null || chunk.isEmpty())
+                return;
+            chunk.stream().map(replyMapper::toResult).forEach(action);
+            path = chunk.getLast().getPath();
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
+
+    /**
+     * 게시글의 최상위 댓글 커서 조회
+     * <p>
+     * 최상위 댓글마다 직속 답글 수와 앞쪽 답글 {@value #CHILD_PREVIEW_SIZE}개를 함께 담습니다.
+     * 나머지 답글은 {@link #getChildren(UUID, String, int)}로 이어서 조회합니다.
+     * 최상위 댓글 조회 한 번과 페이지 전체의 답글 미리보기 조회 한 번으로 끝나므로
+     * 조회 수와 크기는 스레드 크기와 관계없이 페이지 크기로 제한됩니다.
+     * <p>
+     * 상세 화면이 가장 자주 읽는 첫 페이지는 게시글과 페이지 크기별로 캐시하며,
+     * 댓글이 작성/수정/삭제되면 {@link ReplyTreeCache}가 제거합니다.
+     *
+     * @param boardId 게시글 ID
+     * @param cursor  이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기 (1~{@value #MAX_PAGE_SIZE})
+     * @return 최상위 댓글 목록과 다음 커서
+     * @throws IllegalArgumentException 커서가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConstants.Reply.THREADS,
+            key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.replyThreads(#boardId, #size)",
+            condition = "#cursor == null || #cursor.isBlank()", sync = true)
+    public ReplySliceResult getThreads(UUID boardId, @Nullable String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        List<ReplyTreeProjection> roots = replyRepository.findRootsAfter(boardId, position(cursor).path(), Limit.of(pageSize + 1));
+
+        ReplySliceResult slice = toSlice(roots, pageSize);
+        Map<UUID, ReplyResult> parents = new HashMap<>();
+        for (ReplyResult root : slice.content())
+            if (root.childCount() > 0)
+                parents.put(root.id(), root);
+        if (parents.isEmpty())
+            return slice;
+
+        for (ReplyTreeProjection child : replyRepository.findChildPreviews(parents.keySet(), CHILD_PREVIEW_SIZE)) {
+            ReplyResult parent = parents.get(child.getParentId());
+            if (parent != null)
+                parent.children().add(replyMapper.toResult(child));
+        }
+        return slice;
+    }
+
+    /**
+     * 댓글의 직속 답글 커서 조회
+     *
+     * @param replyId 부모 댓글 ID
+     * @param cursor  이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기 (1~{@value #MAX_PAGE_SIZE})
+     * @return 답글 목록과 다음 커서
+     * @throws IllegalArgumentException 커서가 잘못된 경우
+     */
+    @Transactional(readOnly = true)
+    public ReplySliceResult getChildren(UUID replyId, @Nullable String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        return toSlice(replyRepository.findChildrenAfter(replyId, position(cursor).path(), Limit.of(pageSize + 1)), pageSize);
+    }
+
+    private static ReplyCursor position(@Nullable String cursor) {
+        return cursor == null || cursor.isBlank() ? ReplyCursor.first() : ReplyCursor.decode(cursor);
+    }
+
+    /**
+     * 요청 크기보다 한 건 더 조회한 결과로 다음 페이지 존재 여부 판단
+     */
+    private ReplySliceResult toSlice(List<ReplyTreeProjection> replies, int pageSize) {
+        boolean hasNext = replies.size() > pageSize;
+        List<ReplyTreeProjection> content = hasNext ? replies.subList(0, pageSize) : replies;
+        @Nullable String nextCursor = hasNext ? new ReplyCursor(content.getLast().getPath()).encode() : null;
+        return new ReplySliceResult(content.stream().map(replyMapper::toResult).toList(), nextCursor, hasNext);
+    }
+
     @Transactional(readOnly = true)
     public long countByBoardId(UUID boardId) {
         return replyRepository.countByBoardId(boardId);
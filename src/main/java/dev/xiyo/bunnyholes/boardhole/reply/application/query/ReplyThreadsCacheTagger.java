@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.query;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheTagger;
+
+/**
+ * 최상위 댓글 첫 페이지 캐시 항목 태그 부여
+ * <p>
+ * 키는 {@code {게시글 ID}:{페이지 크기}}이므로 키 앞부분의 게시글 ID로 태그를 붙입니다.
+ * {@code replies:{게시글 ID}} 태그로 게시글 삭제 시 함께 제거되고,
+ * {@code reply-threads:{게시글 ID}} 태그로 댓글이 바뀔 때 댓글 트리는 남기고 페이지만 제거됩니다.
+ */
+@Component
+public class ReplyThreadsCacheTagger implements CacheTagger {
+
+    @Override
+    public String cacheName() {
+        return CacheConstants.Reply.THREADS;
+    }
+
+    @Override
+    public Set<String> tags(Object key, Object value) {
+        String text = key.toString();
+        int separator = text.lastIndexOf(':');
+        if (separator <= 0)
+            return Set.of();
+
+        String boardId = text.substring(0, separator);
+        return Set.of(CacheConstants.Tag.replies(boardId), CacheConstants.Tag.replyThreads(boardId));
+    }
+}
@@ -0,0 +1,189 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
+import dev.xiyo.bunnyholes.boardhole.reply.infrastructure.ReplyRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+
+/**
+ * 게시글별 댓글 트리 캐시 갱신
+ * <p>
+ * 새 댓글은 캐시된 트리를 복사해 부모 아래에 붙인 뒤 다시 기록하므로 재귀 조회 없이 반영됩니다.
+ * 캐시된 트리는 다른 요청이 읽고 있을 수 있으므로 직접 고치지 않습니다.
+ * 수정/삭제는 해당 게시글 항목만 제거합니다.
+ * 최상위 댓글 첫 페이지 캐시는 답글 수와 미리보기가 함께 바뀌므로 작성/수정/삭제 모두 {@code reply-threads:{게시글 ID}} 태그로 제거합니다.
+ * <p>
+ * 갱신은 커밋 이후에 수행하고, 같은 게시글의 갱신은 노드 안에서 순서대로 처리합니다.
+ * 다른 노드가 동시에 댓글을 쓰면 캐시된 트리에 그 댓글이 빠져 있을 수 있으므로, 기록하기 전에 커밋된 댓글 수를 먼저 읽어
+ * 덧붙인 트리의 댓글 수와 같을 때만 기록하고 다르면 항목을 제거합니다. 틀린 트리는 잠시라도 기록되지 않습니다.
+ * 부모를 트리에서 찾지 못해도 제거하며, 다음 조회가 DB에서 다시 적재합니다.
+ * 기록은 다른 노드의 L1 항목을 무효화하므로 다른 노드는 다음 조회에서 새 트리를 L2에서 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplyTreeCache {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final ReplyRepository replyRepository;
+    private final Object[] locks = newLocks();
+
+    /**
+     * 새 댓글을 캐시된 트리에 반영
+     *
+     * @param reply 저장된 댓글
+     */
+    public void replyCreated(ReplyResult reply) {
+        afterCommit(() -> {
+            evictThreads(reply.boardId());
+            append(reply);
+        });
+    }
+
+    /**
+     * 게시글의 댓글 트리 항목 제거
+     *
+     * @param boardId 게시글 ID
+     */
+    public void evict(UUID boardId) {
+        afterCommit(() -> {
+            evictThreads(boardId);
+            Cache cache = cache();
+            if (cache != null)
+                cache.evict(boardId);
+        });
+    }
+
+    /**
+     * 게시글의 최상위 댓글 첫 페이지 항목 제거 (페이지 크기별 항목을 태그로 한 번에 제거)
+     */
+    private void evictThreads(UUID boardId) {
+        if (cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager)
+            cacheManager.evictTags(Set.of(CacheConstants.Tag.replyThreads(boardId)));
+    }
+
+    private void append(ReplyResult reply) {
+        Cache cache = cache();
+        if (cache == null)
+            return;
+
+        UUID boardId = reply.boardId();
+        synchronized (lockFor(boardId)) {
+            ReplyTreeResult cached = cache.get(boardId, ReplyTreeResult.class);
+            if (cached == null)
+                return;
+
+            ReplyTreeResult patched = withReply(cached, reply);
+            if (patched == null) {
+                cache.evict(boardId);
+                return;
+            }
+            long committed = replyRepository.countAllByBoardId(boardId);
+            if (patched.totalCount() != committed) {
+                log.debug("댓글 트리 캐시 불일치로 제거: boardId={}, tree={}, committed={}", boardId, patched.totalCount(), committed);
+                cache.evict(boardId);
+                return;
+            }
+            cache.put(boardId, patched);
+        }
+    }
+
+    /**
+     * 댓글을 덧붙인 트리 사본
+     *
+     * @return 부모를 찾지 못하면 null
+     */
+    static @Nullable ReplyTreeResult withReply(ReplyTreeResult tree, ReplyResult reply) {
+        List<ReplyResult> roots = copy(tree.replies());
+        UUID parentId = reply.parentId();
+        if (parentId == null) {
+            roots.add(reply);
+            return new ReplyTreeResult(roots, tree.totalCount() + 1);
+        }
+        return attach(roots, parentId, reply) ? new ReplyTreeResult(roots, tree.totalCount() + 1) : null;
+    }
+
+    /**
+     * 사본 트리에서 부모를 찾아 답글 수를 올리고 답글을 붙임
+     */
+    private static boolean attach(List<ReplyResult> replies, UUID parentId, ReplyResult reply) {
+        for (int i = 0; i < replies.size(); i++) {
+            ReplyResult node = replies.get(i);
+            if (node.id().equals(parentId)) {
+                node.children().add(reply);
+                replies.set(i, new ReplyResult(node.id(), node.boardId(), node.parentId(), node.content(), node.authorId(), node.authorName(),
+                        node.createdAt(), node.updatedAt(), node.deleted(), node.depth(), node.children(), node.childCount() + 1));
+                return true;
+            }
+            if (attach(node.children(), parentId, reply))
+                return true;
+        }
+        return false;
+    }
+
+    private static List<ReplyResult> copy(List<ReplyResult> replies) {
+        List<ReplyResult> copies = new ArrayList<>(replies.size() + 1);
+        for (ReplyResult reply : replies)
+            copies.add(new ReplyResult(reply.id(), reply.boardId(), reply.parentId(), reply.content(), reply.authorId(), reply.authorName(),
+                    reply.createdAt(), reply.updatedAt(), reply.deleted(), reply.depth(), copy(reply.children()), reply.childCount()));
+        return copies;
+    }
+
+    private @Nullable Cache cache() {
+        CacheManager cacheManager = cacheManagerProvider.getIfAvailable();
+        return cacheManager != null ? cacheManager.getCache(CacheConstants.Reply.CACHE_NAME) : null;
+    }
+
+    private Object lockFor(UUID boardId) {
+        return locks[Math.floorMod(boardId.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static Object[] newLocks() {
+        Object[] locks = new Object[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++)
+            locks[i] = new Object();
+        return locks;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runQuietly(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runQuietly(action);
+            }
+        });
+    }
+
+    private static void runQuietly(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            // 캐시 갱신 실패는 항목 TTL로 복구되므로 명령을 실패시키지 않음
+            log.warn("댓글 트리 캐시 갱신 실패", e);
+        }
+    }
+}
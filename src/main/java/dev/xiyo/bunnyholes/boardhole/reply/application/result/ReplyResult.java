@@ -18,7 +18,8 @@ public record ReplyResult(
     @Nullable LocalDateTime updatedAt,
     boolean deleted,
     int depth,
-    List<ReplyResult> children
+    List<ReplyResult> children,
+    int childCount
 ) {
     public ReplyResult {
         if (children == null) {
@@ -38,6 +39,6 @@ public record ReplyResult(
         boolean deleted,
         int depth
     ) {
-        return new ReplyResult(id, boardId, parentId, content, authorId, authorName, createdAt, updatedAt, deleted, depth, new ArrayList<>());
+        return new ReplyResult(id, boardId, parentId, content, authorId, authorName, createdAt, updatedAt, deleted, depth, new ArrayList<>(), 0);
     }
 }
@@ -0,0 +1,15 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.result;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 커서 기반 댓글 목록 조회 결과
+ *
+ * @param content    댓글 목록 (최상위 댓글 목록이면 각 댓글에 앞쪽 답글 일부 포함)
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext    다음 페이지 존재 여부
+ */
+public record ReplySliceResult(List<ReplyResult> content, @Nullable String nextCursor, boolean hasNext) {
+}
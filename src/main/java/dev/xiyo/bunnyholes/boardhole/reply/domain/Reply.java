@@ -8,8 +8,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -25,6 +23,7 @@ import lombok.Setter;
 import lombok.ToString;
 
 import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.UuidGenerator;
 import org.jspecify.annotations.Nullable;
 
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
@@ -42,8 +41,10 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 @EntityListeners(ValidationListener.class)
 @DynamicUpdate
 @Table(name = "replies", indexes = {
-    @Index(name = "idx_reply_board_id", columnList = "board_id"),
-    @Index(name = "idx_reply_parent_id", columnList = "parent_id"),
+    @Index(name = "idx_reply_board_path", columnList = "board_id, path"),
+    @Index(name = "idx_reply_board_depth_path", columnList = "board_id, depth, path"),
+    @Index(name = "idx_reply_parent_path", columnList = "parent_id, path"),
+    @Index(name = "idx_reply_root_id", columnList = "root_id"),
     @Index(name = "idx_reply_created_at", columnList = "created_at")
 })
 public class Reply extends BaseEntity implements Serializable {
@@ -51,7 +52,7 @@ public class Reply extends BaseEntity implements Serializable {
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     @EqualsAndHashCode.Include
     private UUID id;
 
@@ -78,12 +79,40 @@ public class Reply extends BaseEntity implements Serializable {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    /**
+     * 깊이 (최상위 댓글은 0)
+     */
+    @Column(nullable = false, updatable = false)
+    private int depth;
+
+    /**
+     * 스레드 최상위 댓글 ID (최상위 댓글 자신은 null)
+     */
+    @Nullable
+    @Column(name = "root_id", updatable = false)
+    private UUID rootId;
+
+    /**
+     * 정렬 가능한 경로 ({@link ReplyPath})
+     */
+    @Column(nullable = false, updatable = false, length = ReplyPath.MAX_LENGTH)
+    private String path;
+
+    /**
+     * 직속 답글 수 (답글 작성/삭제 시 저장소의 원자적 갱신으로 유지)
+     */
+    @Column(name = "child_count", nullable = false, updatable = false)
+    private int childCount;
+
     @Builder
     protected Reply(Board board, @Nullable Reply parent, User author, String content) {
         this.board = board;
         this.parent = parent;
         this.author = author;
         this.content = content;
+        this.depth = parent == null ? 0 : parent.getDepth() + 1;
+        this.rootId = parent == null ? null : parent.getThreadRootId();
+        this.path = ReplyPath.child(parent == null ? null : parent.getPath());
     }
 
     public void markAsDeleted() {
@@ -93,4 +122,11 @@ public class Reply extends BaseEntity implements Serializable {
     public boolean isRoot() {
         return parent == null;
     }
+
+    /**
+     * 이 댓글이 속한 스레드의 최상위 댓글 ID
+     */
+    public UUID getThreadRootId() {
+        return rootId != null ? rootId : id;
+    }
 }
@@ -0,0 +1,51 @@
+package dev.xiyo.bunnyholes.boardhole.reply.domain;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import org.jspecify.annotations.Nullable;
+
+import dev.xiyo.bunnyholes.boardhole.reply.domain.validation.ReplyValidationConstants;
+
+/**
+ * 댓글 경로 (materialized path)
+ * <p>
+ * 경로는 루트부터 자기 자신까지 깊이마다 고정 길이 구간을 이어 붙인 문자열입니다.
+ * 구간은 생성 시각(밀리초, 16진수 12자리)과 난수(16진수 8자리)로 만들어 형제끼리 작성 순서로 정렬됩니다.
+ * 시각은 프로세스 안에서 단조 증가하도록 같은 밀리초면 1씩 올리며, 난수는 노드 간 충돌을 막습니다.
+ * 따라서 게시글의 댓글을 경로 순으로 읽으면 깊이 우선 순서의 트리가 되고,
+ * 한 댓글의 하위 댓글은 그 경로로 시작하는 범위 하나로 조회됩니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ReplyPath {
+
+    public static final int SEGMENT_LENGTH = 20;
+    public static final int MAX_LENGTH = SEGMENT_LENGTH * ReplyValidationConstants.MAX_DEPTH;
+
+    private static final AtomicLong LAST_MILLIS = new AtomicLong();
+
+    /**
+     * 새 댓글 경로
+     *
+     * @param parentPath 부모 경로, 최상위 댓글이면 null
+     * @return 부모 경로 뒤에 새 구간을 붙인 경로
+     */
+    public static String child(@Nullable String parentPath) {
+        return child(parentPath, LAST_MILLIS.updateAndGet(last -> Math.max(System.currentTimeMillis(), last + 1)));
+    }
+
+    /**
+     * 작성 시각을 아는 기존 댓글의 경로 (경로가 없던 댓글을 채울 때 사용)
+     *
+     * @param parentPath 부모 경로, 최상위 댓글이면 null
+     * @param millis     작성 시각 (epoch 밀리초)
+     * @return 부모 경로 뒤에 새 구간을 붙인 경로
+     */
+    public static String child(@Nullable String parentPath, long millis) {
+        String segment = "%012x%08x".formatted(millis, ThreadLocalRandom.current().nextInt());
+        return parentPath == null ? segment : parentPath + segment;
+    }
+}
@@ -1,10 +1,14 @@
 package dev.xiyo.bunnyholes.boardhole.reply.infrastructure;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,38 +18,108 @@ import dev.xiyo.bunnyholes.boardhole.reply.domain.Reply;
 @Repository
 public interface ReplyRepository extends JpaRepository<Reply, UUID> {
 
-    @Query(value = """
-        WITH RECURSIVE reply_tree AS (
-            SELECT r.id, r.parent_id, r.content, r.author_id, r.created_at,
-                   r.updated_at, r.deleted, 0 AS depth, ARRAY[r.id] AS path
-            FROM replies r
-            WHERE r.board_id = :boardId AND r.parent_id IS NULL
-
-            UNION ALL
-
-            SELECT r.id, r.parent_id, r.content, r.author_id, r.created_at,
-                   r.updated_at, r.deleted, rt.depth + 1, rt.path || r.id
-            FROM replies r
-            INNER JOIN reply_tree rt ON r.parent_id = rt.id
-            WHERE rt.depth < :maxDepth
-        )
-        SELECT rt.id, rt.parent_id AS parentId, rt.content, rt.author_id AS authorId,
-               u.username AS authorName, rt.created_at AS createdAt,
-               rt.updated_at AS updatedAt, rt.deleted, rt.depth
-        FROM reply_tree rt
-        JOIN users u ON rt.author_id = u.id
-        ORDER BY rt.path
-        """, nativeQuery = true)
-    List<ReplyTreeProjection> findReplyTreeByBoardId(
-        @Param("boardId") UUID boardId,
-        @Param("maxDepth") int maxDepth
-    );
+    /**
+     * 게시글의 댓글을 경로 순(깊이 우선)으로 조회
+     * (board_id, path) 인덱스 범위 하나로 읽습니다.
+     */
+    @Query("""
+        SELECT r.id AS id, r.parent.id AS parentId, r.content AS content, a.id AS authorId,
+               a.username AS authorName, r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+               r.deleted AS deleted, r.depth AS depth, r.childCount AS childCount, r.path AS path
+        FROM Reply r
+        JOIN r.author a
+        WHERE r.board.id = :boardId
+        ORDER BY r.path
+        """)
+    List<ReplyTreeProjection> findReplyTreeByBoardId(@Param("boardId") UUID boardId);
+
+    /**
+     * 경로 다음의 댓글을 {@link #findReplyTreeByBoardId(UUID)}와 같은 순서로 조회 (board_id, path 인덱스 범위)
+     * 마지막 행의 경로를 다음 호출에 넘기면 트리 전체를 구간별로 나눠 읽을 수 있습니다.
+     */
+    @Query("""
+        SELECT r.id AS id, r.parent.id AS parentId, r.content AS content, a.id AS authorId,
+               a.username AS authorName, r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+               r.deleted AS deleted, r.depth AS depth, r.childCount AS childCount, r.path AS path
+        FROM Reply r
+        JOIN r.author a
+        WHERE r.board.id = :boardId AND r.path > :path
+        ORDER BY r.path
+        """)
+    List<ReplyTreeProjection> findReplyTreeAfter(@Param("boardId") UUID boardId, @Param("path") String path, Limit limit);
+
+    /**
+     * 경로 다음의 최상위 댓글 (board_id, depth, path 인덱스 범위)
+     */
+    @Query("""
+        SELECT r.id AS id, r.parent.id AS parentId, r.content AS content, a.id AS authorId,
+               a.username AS authorName, r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+               r.deleted AS deleted, r.depth AS depth, r.childCount AS childCount, r.path AS path
+        FROM Reply r
+        JOIN r.author a
+        WHERE r.board.id = :boardId AND r.depth = 0 AND r.path > :path
+        ORDER BY r.path
+        """)
+    List<ReplyTreeProjection> findRootsAfter(@Param("boardId") UUID boardId, @Param("path") String path, Limit limit);
+
+    /**
+     * 경로 다음의 직속 답글 (parent_id, path 인덱스 범위)
+     */
+    @Query("""
+        SELECT r.id AS id, r.parent.id AS parentId, r.content AS content, a.id AS authorId,
+               a.username AS authorName, r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+               r.deleted AS deleted, r.depth AS depth, r.childCount AS childCount, r.path AS path
+        FROM Reply r
+        JOIN r.author a
+        WHERE r.parent.id = :parentId AND r.path > :path
+        ORDER BY r.path
+        """)
+    List<ReplyTreeProjection> findChildrenAfter(@Param("parentId") UUID parentId, @Param("path") String path, Limit limit);
+
+    /**
+     * 여러 댓글의 앞쪽 직속 답글을 한 번에 조회
+     * 부모별로 경로 순 번호를 매겨 앞쪽 {@code limit}개만 남기며, 결과는 경로 순이므로 부모별로 모여 있습니다.
+     */
+    @Query("""
+        SELECT c.id AS id, c.parentId AS parentId, c.content AS content, c.authorId AS authorId,
+               c.authorName AS authorName, c.createdAt AS createdAt, c.updatedAt AS updatedAt,
+               c.deleted AS deleted, c.depth AS depth, c.childCount AS childCount, c.path AS path
+        FROM (
+            SELECT r.id AS id, r.parent.id AS parentId, r.content AS content, a.id AS authorId,
+                   a.username AS authorName, r.createdAt AS createdAt, r.updatedAt AS updatedAt,
+                   r.deleted AS deleted, r.depth AS depth, r.childCount AS childCount, r.path AS path,
+                   ROW_NUMBER() OVER (PARTITION BY r.parent.id ORDER BY r.path) AS rowNumber
+            FROM Reply r
+            JOIN r.author a
+            WHERE r.parent.id IN :parentIds
+        ) c
+        WHERE c.rowNumber <= :limit
+        ORDER BY c.path
+        """)
+    List<ReplyTreeProjection> findChildPreviews(@Param("parentIds") Collection<UUID> parentIds, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE Reply r SET r.childCount = r.childCount + 1 WHERE r.id = :id")
+    void incrementChildCount(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE Reply r SET r.childCount = r.childCount - 1 WHERE r.id = :id AND r.childCount > 0")
+    void decrementChildCount(@Param("id") UUID id);
 
     @Query("SELECT COUNT(r) FROM Reply r WHERE r.board.id = :boardId AND r.deleted = false")
     long countByBoardId(@Param("boardId") UUID boardId);
 
-    @Query("SELECT r FROM Reply r JOIN FETCH r.author WHERE r.id = :id")
-    Optional<Reply> findByIdWithAuthor(@Param("id") UUID id);
+    @Query("SELECT COUNT(r) FROM Reply r WHERE r.board.id = :boardId")
+    long countAllByBoardId(@Param("boardId") UUID boardId);
 
-    List<Reply> findByParentId(UUID parentId);
+    /**
+     * 작성자와 함께 댓글 조회
+     * 쿼리 대신 영속성 컨텍스트 조회({@code EntityManager.find})를 쓰므로, 같은 요청에서 권한 확인이 이미 불러온 댓글은 다시 읽지 않습니다.
+     *
+     * @param id 댓글 ID
+     * @return 작성자가 채워진 댓글 (Optional)
+     */
+    @Override
+    @EntityGraph(attributePaths = "author")
+    Optional<Reply> findById(UUID id);
 }
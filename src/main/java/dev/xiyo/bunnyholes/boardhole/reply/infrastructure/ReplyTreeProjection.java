@@ -25,4 +25,8 @@ public interface ReplyTreeProjection {
     boolean isDeleted();
 
     int getDepth();
+
+    int getChildCount();
+
+    String getPath();
 }
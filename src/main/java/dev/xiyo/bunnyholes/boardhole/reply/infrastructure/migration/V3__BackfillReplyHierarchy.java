@@ -0,0 +1,102 @@
+package dev.xiyo.bunnyholes.boardhole.reply.infrastructure.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.reply.domain.ReplyPath;
+
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.columnExists;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.execute;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.tableExists;
+
+/**
+ * 기존 댓글의 깊이, 스레드 최상위 댓글 ID, 경로 채우기
+ * <p>
+ * Hibernate가 스키마를 맞추기 전에 실행되므로, 행이 있는 테이블에 NOT NULL 컬럼을 바로 더하다 실패하지 않도록
+ * 컬럼을 NULL 허용으로 먼저 만들고 값을 채운 뒤 NOT NULL로 바꿉니다.
+ * 값은 최상위 댓글부터 한 깊이씩 내려가며 채우므로, 각 단계는 부모가 이미 채워진 댓글만 읽습니다.
+ * 경로 구간은 작성 시각으로 만들어 형제끼리 작성 순서가 유지됩니다.
+ * <p>
+ * 빈 스키마(첫 배포)에서는 테이블이 없으므로 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class V3__BackfillReplyHierarchy extends BaseJavaMigration {
+
+    private static final int FETCH_SIZE = 500;
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, "replies"))
+            return;
+
+        if (!columnExists(connection, "replies", "depth"))
+            execute(connection, "ALTER TABLE replies ADD COLUMN depth INTEGER");
+        if (!columnExists(connection, "replies", "root_id"))
+            execute(connection, "ALTER TABLE replies ADD COLUMN root_id UUID");
+        if (!columnExists(connection, "replies", "path"))
+            execute(connection, "ALTER TABLE replies ADD COLUMN path VARCHAR(%d)".formatted(ReplyPath.MAX_LENGTH));
+
+        int filled = 0;
+        int levels = 0;
+        for (int level = fillNextLevel(connection); level > 0; level = fillNextLevel(connection)) {
+            filled += level;
+            levels++;
+        }
+        execute(connection, "ALTER TABLE replies ALTER COLUMN depth SET NOT NULL");
+        execute(connection, "ALTER TABLE replies ALTER COLUMN path SET NOT NULL");
+        log.info("댓글 계층 컬럼 채우기 완료. filled={}, levels={}", filled, levels);
+    }
+
+    /**
+     * 부모가 채워졌거나 최상위인 댓글 중 아직 경로가 없는 댓글을 채움
+     *
+     * @return 채운 댓글 수
+     */
+    private int fillNextLevel(Connection connection) throws Exception {
+        int filled = 0;
+        try (PreparedStatement select = connection.prepareStatement("""
+                SELECT r.id, r.created_at, p.id AS parent_id, p.depth AS parent_depth, p.root_id AS parent_root_id, p.path AS parent_path
+                FROM replies r LEFT JOIN replies p ON p.id = r.parent_id
+                WHERE r.path IS NULL AND (r.parent_id IS NULL OR p.path IS NOT NULL)
+                """);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE replies SET depth = ?, root_id = ?, path = ? WHERE id = ?")) {
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    UUID parentId = rows.getObject("parent_id", UUID.class);
+                    Timestamp createdAt = rows.getTimestamp("created_at");
+                    long millis = createdAt != null ? createdAt.getTime() : System.currentTimeMillis();
+                    if (parentId == null) {
+                        update.setInt(1, 0);
+                        update.setObject(2, null);
+                        update.setString(3, ReplyPath.child(null, millis));
+                    } else {
+                        UUID parentRootId = rows.getObject("parent_root_id", UUID.class);
+                        update.setInt(1, rows.getInt("parent_depth") + 1);
+                        update.setObject(2, parentRootId != null ? parentRootId : parentId);
+                        update.setString(3, ReplyPath.child(rows.getString("parent_path"), millis));
+                    }
+                    update.setObject(4, rows.getObject("id"));
+                    update.addBatch();
+                    if (++filled % BATCH_SIZE == 0)
+                        update.executeBatch();
+                }
+            }
+            update.executeBatch();
+        }
+        return filled;
+    }
+}
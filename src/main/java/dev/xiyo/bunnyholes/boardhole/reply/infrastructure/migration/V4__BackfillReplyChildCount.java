@@ -0,0 +1,48 @@
+package dev.xiyo.bunnyholes.boardhole.reply.infrastructure.migration;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.columnExists;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.execute;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.tableExists;
+
+/**
+ * 기존 댓글의 직속 답글 수 채우기
+ * <p>
+ * Hibernate가 스키마를 맞추기 전에 실행되므로 {@code child_count}를 NULL 허용으로 먼저 만들고,
+ * 삭제 표시된 답글을 포함한 직속 답글 행 수로 채운 뒤 NOT NULL로 바꿉니다.
+ * 답글이 있는 댓글은 삭제 시 자리를 남기므로 삭제 표시된 답글도 센다는 점이 저장소의 증감과 같습니다.
+ * <p>
+ * 빈 스키마(첫 배포)에서는 테이블이 없으므로 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class V4__BackfillReplyChildCount extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!tableExists(connection, "replies"))
+            return;
+
+        if (!columnExists(connection, "replies", "child_count"))
+            execute(connection, "ALTER TABLE replies ADD COLUMN child_count INTEGER");
+
+        int filled;
+        try (Statement statement = connection.createStatement()) {
+            filled = statement.executeUpdate("""
+                    UPDATE replies SET child_count = (SELECT COUNT(*) FROM replies c WHERE c.parent_id = replies.id)
+                    WHERE child_count IS NULL
+                    """);
+        }
+        execute(connection, "ALTER TABLE replies ALTER COLUMN child_count SET NOT NULL");
+        log.info("댓글 답글 수 채우기 완료. filled={}", filled);
+    }
+}
@@ -1,12 +1,17 @@
 package dev.xiyo.bunnyholes.boardhole.reply.presentation;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.jspecify.annotations.Nullable;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,15 +24,19 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import tools.jackson.databind.ObjectMapper;
+
 import dev.xiyo.bunnyholes.boardhole.reply.application.command.ReplyCommandService;
 import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyQueryService;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.CreateReplyRequest;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplyResponse;
+import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplySliceResponse;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplyTreeResponse;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.UpdateReplyRequest;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.mapper.ReplyWebMapper;
@@ -50,6 +59,7 @@ public class ReplyController {
     private final ReplyCommandService replyCommandService;
     private final ReplyQueryService replyQueryService;
     private final ReplyWebMapper replyWebMapper;
+    private final ObjectMapper objectMapper;
 
     @GetMapping(ApiPaths.BOARD_REPLIES)
     @PermitAll
@@ -63,6 +73,50 @@ public class ReplyController {
         return replyWebMapper.toResponse(result);
     }
 
+    @GetMapping(value = ApiPaths.BOARD_REPLY_STREAM, produces = MediaType.APPLICATION_JSON_VALUE)
+    @PermitAll
+    @Operation(summary = "댓글 트리 스트리밍 조회", description = "[PUBLIC] 게시글의 전체 댓글을 댓글 트리 조회와 같은 형식으로 응답합니다. 트리를 메모리에 구성하지 않고 DB에서 읽는 대로 바로 내보내므로 댓글이 많은 게시글에 적합합니다.")
+    @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공",
+        content = @Content(schema = @Schema(implementation = ReplyTreeResponse.class)))
+    public void streamReplyTree(
+        @Parameter(description = "게시글 ID") @PathVariable UUID boardId,
+        HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        var writer = new ReplyTreeJsonWriter(objectMapper.createGenerator(response.getOutputStream()));
+        replyQueryService.streamReplyTree(boardId, writer::write);
+        writer.finish();
+    }
+
+    @GetMapping(ApiPaths.BOARD_REPLY_THREADS)
+    @PermitAll
+    @Operation(summary = "댓글 스레드 커서 조회", description = "[PUBLIC] 게시글의 최상위 댓글을 커서 방식으로 조회합니다. 각 댓글에는 직속 답글 수와 앞쪽 답글 일부가 포함되며, 나머지 답글은 답글 목록 API로 이어서 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공",
+        content = @Content(schema = @Schema(implementation = ReplySliceResponse.class)))
+    @ApiResponse(responseCode = "422", description = "잘못된 커서")
+    public ReplySliceResponse getThreads(
+        @Parameter(description = "게시글 ID") @PathVariable UUID boardId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) @Nullable String cursor,
+        @Parameter(description = "페이지 크기 (최대 50)", example = "20") @RequestParam(defaultValue = "20") int size
+    ) {
+        return replyWebMapper.toResponse(replyQueryService.getThreads(boardId, cursor, size));
+    }
+
+    @GetMapping(ApiPaths.REPLY_CHILDREN)
+    @PermitAll
+    @Operation(summary = "답글 커서 조회", description = "[PUBLIC] 댓글의 직속 답글을 작성 순으로 커서 방식으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "답글 목록 조회 성공",
+        content = @Content(schema = @Schema(implementation = ReplySliceResponse.class)))
+    @ApiResponse(responseCode = "422", description = "잘못된 커서")
+    public ReplySliceResponse getChildren(
+        @Parameter(description = "부모 댓글 ID") @PathVariable UUID replyId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) @Nullable String cursor,
+        @Parameter(description = "페이지 크기 (최대 50)", example = "20") @RequestParam(defaultValue = "20") int size
+    ) {
+        return replyWebMapper.toResponse(replyQueryService.getChildren(replyId, cursor, size));
+    }
+
     @PostMapping(
         value = ApiPaths.BOARD_REPLIES,
         consumes = MediaType.APPLICATION_JSON_VALUE,
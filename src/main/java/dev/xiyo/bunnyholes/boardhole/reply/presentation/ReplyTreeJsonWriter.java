@@ -0,0 +1,81 @@
+package dev.xiyo.bunnyholes.boardhole.reply.presentation;
+
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+import tools.jackson.core.JsonGenerator;
+
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplyTreeResponse;
+
+/**
+ * 트리 순서로 들어오는 댓글을 {@link ReplyTreeResponse} 형태의 JSON으로 바로 쓰는 작성기
+ * <p>
+ * 댓글은 경로 순(깊이 우선)으로 들어오므로 부모가 항상 자식보다 먼저 옵니다.
+ * 댓글마다 객체와 children 배열을 열어 두고, 다음 댓글의 깊이만큼 열린 단계를 닫는 방식으로 중첩을 만듭니다.
+ * 열린 단계 수만 기억하므로 트리 크기와 관계없이 메모리 사용량이 일정합니다.
+ * children 배열을 열어 둬야 하므로 childCount는 children보다 앞에 씁니다.
+ * <p>
+ * 중간에 실패하면 {@link #finish()}를 호출하지 않고 버립니다. 닫히지 않은 JSON이 실패를 드러냅니다.
+ */
+final class ReplyTreeJsonWriter {
+
+    private final JsonGenerator generator;
+    private int open;
+    private long count;
+
+    ReplyTreeJsonWriter(JsonGenerator generator) {
+        this.generator = generator;
+        generator.writeStartObject();
+        generator.writeArrayPropertyStart("replies");
+    }
+
+    /**
+     * 댓글 하나를 씁니다. 이전 댓글보다 얕거나 같은 깊이면 그만큼 열린 단계를 먼저 닫습니다.
+     */
+    void write(ReplyResult reply) {
+        while (open > reply.depth())
+            closeReply();
+
+        generator.writeStartObject();
+        generator.writeStringProperty("id", reply.id().toString());
+        writeUuid("parentId", reply.parentId());
+        generator.writeStringProperty("content", reply.content());
+        generator.writeStringProperty("authorId", reply.authorId().toString());
+        generator.writeStringProperty("authorName", reply.authorName());
+        generator.writePOJOProperty("createdAt", reply.createdAt());
+        generator.writePOJOProperty("updatedAt", reply.updatedAt());
+        generator.writeBooleanProperty("deleted", reply.deleted());
+        generator.writeNumberProperty("depth", reply.depth());
+        generator.writeNumberProperty("childCount", reply.childCount());
+        generator.writeArrayPropertyStart("children");
+        open++;
+        count++;
+    }
+
+    /**
+     * 열린 단계를 모두 닫고 전체 댓글 수를 쓴 뒤 생성기를 닫습니다.
+     */
+    void finish() {
+        while (open > 0)
+            closeReply();
+        generator.writeEndArray();
+        generator.writeNumberProperty("totalCount", count);
+        generator.writeEndObject();
+        generator.close();
+    }
+
+    private void closeReply() {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        open--;
+    }
+
+    private void writeUuid(String name, @Nullable UUID value) {
+        if (value == null)
+            generator.writeNullProperty(name);
+        else
+            generator.writeStringProperty(name, value.toString());
+    }
+}
@@ -39,7 +39,10 @@ public record ReplyResponse(
     @Schema(description = "댓글 깊이 (0: 루트)", example = "0")
     int depth,
 
-    @Schema(description = "자식 댓글 목록")
-    List<ReplyResponse> children
+    @Schema(description = "자식 댓글 목록 (목록 조회에서는 앞쪽 일부만 포함)")
+    List<ReplyResponse> children,
+
+    @Schema(description = "직속 답글 수", example = "12")
+    int childCount
 ) {
 }
@@ -0,0 +1,21 @@
+package dev.xiyo.bunnyholes.boardhole.reply.presentation.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import org.jspecify.annotations.Nullable;
+
+@Schema(name = "ReplySliceResponse", description = "커서 기반 댓글 목록 응답")
+public record ReplySliceResponse(
+    @Schema(description = "댓글 목록")
+    List<ReplyResponse> content,
+
+    @Nullable
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MDE4ZjNhMmI0YzVkMWEyYjNjNGQ", nullable = true)
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext
+) {
+}
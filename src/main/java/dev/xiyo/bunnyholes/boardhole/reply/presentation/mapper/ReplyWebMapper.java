@@ -10,9 +10,11 @@ import org.mapstruct.MappingConstants;
 import dev.xiyo.bunnyholes.boardhole.reply.application.command.CreateReplyCommand;
 import dev.xiyo.bunnyholes.boardhole.reply.application.command.UpdateReplyCommand;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplySliceResult;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.CreateReplyRequest;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplyResponse;
+import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplySliceResponse;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.ReplyTreeResponse;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.dto.UpdateReplyRequest;
 
@@ -31,4 +33,6 @@ public interface ReplyWebMapper {
     List<ReplyResponse> toResponseList(List<ReplyResult> results);
 
     ReplyTreeResponse toResponse(ReplyTreeResult result);
+
+    ReplySliceResponse toResponse(ReplySliceResult result);
 }
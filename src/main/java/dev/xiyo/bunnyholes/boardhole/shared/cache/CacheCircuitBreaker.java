@@ -0,0 +1,217 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * L2(Redis) 호출 회로 차단기
+ * <p>
+ * 연속 실패가 기준에 이르면 열림 상태가 되어 일정 시간 동안 Redis를 호출하지 않고 즉시 대체 동작을 수행합니다.
+ * 시간이 지나면 한 번의 시험 호출(반열림)을 허용하고, 성공하면 닫힘으로 돌아갑니다.
+ * Redis 연결/명령 실패({@link DataAccessException})만 실패로 집계하며 그 외 예외는 그대로 전파합니다.
+ * <p>
+ * 차단 중 건너뛴 무효화가 있으면 복구 시 복구 작업(L2 비우기)을 실행합니다.
+ * 상태, 실패/거절 수와 누적 저하 시간을 {@code boardhole.cache.redis.*} 지표로 노출합니다.
+ */
+@Slf4j
+public class CacheCircuitBreaker {
+
+  public enum State {
+    CLOSED, HALF_OPEN, OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openNanos;
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicLong consecutiveFailures = new AtomicLong();
+  private final AtomicLong openedAt = new AtomicLong();
+  private final AtomicLong degradedSince = new AtomicLong();
+  private final AtomicLong degradedNanos = new AtomicLong();
+  private final AtomicBoolean missedInvalidation = new AtomicBoolean();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private volatile Runnable recovery = () -> { };
+
+  public CacheCircuitBreaker(int failureThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+    this.failureThreshold = failureThreshold;
+    this.openNanos = openDuration.toNanos();
+    registerMetrics(meterRegistry);
+  }
+
+  /**
+   * 차단 중 무효화를 건너뛴 경우 복구 시 실행할 작업
+   */
+  public void onRecovery(Runnable recovery) {
+    this.recovery = recovery;
+  }
+
+  /**
+   * 값을 돌려주는 호출
+   *
+   * @param call     Redis 호출
+   * @param fallback 차단 중이거나 호출이 실패했을 때의 대체 값
+   */
+  public <T> T call(Supplier<T> call, Supplier<T> fallback) {
+    State acquired = tryAcquire();
+    if (acquired == null) {
+      rejected.increment();
+      return fallback.get();
+    }
+    boolean settled = false;
+    try {
+      T result = call.get();
+      settled = true;
+      onSuccess();
+      return result;
+    } catch (DataAccessException e) {
+      settled = true;
+      onFailure(e);
+      return fallback.get();
+    } finally {
+      // 시험 호출이 집계 대상이 아닌 예외(Error 포함)로 끝나도 반열림에 머물러 모든 호출이 거절되지 않도록 다시 열림
+      if (!settled && acquired == State.HALF_OPEN)
+        reopenAfterTrial();
+    }
+  }
+
+  /**
+   * 값이 없는 호출 (기록)
+   * 건너뛰어도 정합성에 영향이 없는 작업에 사용합니다.
+   */
+  public void run(Runnable call) {
+    call(() -> {
+      call.run();
+      return null;
+    }, () -> null);
+  }
+
+  /**
+   * 무효화 호출
+   * 건너뛰거나 실패하면 복구 시 L2를 비우도록 기록합니다.
+   */
+  public void invalidate(Runnable call) {
+    call(() -> {
+      call.run();
+      return null;
+    }, () -> {
+      markMissedInvalidation();
+      return null;
+    });
+  }
+
+  /**
+   * 무효화를 반영하지 못했음을 기록
+   * 다음 성공 호출(복구) 때 복구 작업을 실행합니다.
+   */
+  public void markMissedInvalidation() {
+    missedInvalidation.set(true);
+  }
+
+  public State state() {
+    return state.get();
+  }
+
+  /**
+   * 호출 허용 여부
+   *
+   * @return 통과한 상태 (닫힘이면 CLOSED, 시험 호출이면 HALF_OPEN), 거절이면 null
+   */
+  private @Nullable State tryAcquire() {
+    State current = state.get();
+    if (current == State.CLOSED)
+      return State.CLOSED;
+    if (current == State.HALF_OPEN)
+      return null;
+    // 열림 시간이 지나면 한 호출만 시험 호출로 통과
+    boolean trial = System.nanoTime() - openedAt.get() >= openNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    return trial ? State.HALF_OPEN : null;
+  }
+
+  /**
+   * 결과를 판정하지 못한 시험 호출 이후 다시 열림
+   * 반열림 상태는 시험 호출만 바꿀 수 있으므로 열린 시각을 먼저 기록해도 다른 호출과 겹치지 않습니다.
+   */
+  private void reopenAfterTrial() {
+    openedAt.set(System.nanoTime());
+    if (state.compareAndSet(State.HALF_OPEN, State.OPEN))
+      log.warn("Redis 캐시 시험 호출이 예상하지 못한 예외로 끝나 회로를 다시 엽니다");
+  }
+
+  private void onSuccess() {
+    consecutiveFailures.set(0);
+    if (state.get() != State.CLOSED && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+      degradedNanos.addAndGet(System.nanoTime() - degradedSince.get());
+      log.info("Redis 캐시 복구: 회로 닫힘");
+    }
+    // 닫힌 상태의 일시적 실패로 건너뛴 무효화도 여기서 정리
+    if (state.get() == State.CLOSED && missedInvalidation.get() && missedInvalidation.getAndSet(false))
+      runRecovery();
+  }
+
+  private void onFailure(DataAccessException e) {
+    failures.increment();
+    State current = state.get();
+    if (current == State.HALF_OPEN) {
+      open(current, e);
+      return;
+    }
+    if (consecutiveFailures.incrementAndGet() >= failureThreshold)
+      open(current, e);
+  }
+
+  private void open(State from, DataAccessException cause) {
+    if (!state.compareAndSet(from, State.OPEN))
+      return;
+    openedAt.set(System.nanoTime());
+    if (from == State.CLOSED) {
+      degradedSince.set(System.nanoTime());
+      log.warn("Redis 캐시 장애로 회로 열림: 로컬 캐시만 사용", cause);
+    }
+  }
+
+  private void runRecovery() {
+    try {
+      recovery.run();
+    } catch (RuntimeException e) {
+      // 다음 복구 때 다시 시도
+      missedInvalidation.set(true);
+      log.warn("Redis 캐시 복구 작업 실패", e);
+    }
+  }
+
+  private double degradedSeconds() {
+    long total = degradedNanos.get();
+    if (state.get() != State.CLOSED)
+      total += System.nanoTime() - degradedSince.get();
+    return total / 1_000_000_000.0;
+  }
+
+  private void registerMetrics(MeterRegistry meterRegistry) {
+    Gauge.builder("boardhole.cache.redis.state", state, s -> s.get().ordinal())
+         .description("Redis 캐시 회로 상태 (0: 닫힘, 1: 반열림, 2: 열림)")
+         .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.redis.failures", failures, LongAdder::sum)
+                   .description("Redis 캐시 호출 실패 수")
+                   .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.redis.rejected", rejected, LongAdder::sum)
+                   .description("회로가 열려 Redis를 호출하지 않은 수")
+                   .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.redis.degraded.seconds", this, CacheCircuitBreaker::degradedSeconds)
+                   .description("회로가 닫혀 있지 않았던 누적 시간(초)")
+                   .register(meterRegistry);
+  }
+}
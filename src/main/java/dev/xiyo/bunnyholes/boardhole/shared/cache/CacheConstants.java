@@ -1,5 +1,7 @@
 package dev.xiyo.bunnyholes.boardhole.shared.cache;
 
+import java.util.Locale;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -22,10 +24,54 @@ public final class CacheConstants {
     public static final String GET = "user:get";
     public static final String LIST = "user:list";
     public static final String SEARCH = "user:search";
-    public static final String PROFILE_IMAGE = "user:profile-image";
+    /** 프로필 이미지 메타데이터 (blob 키, 타입, 크기) */
+    public static final String PROFILE_IMAGE = "user:profile-blob";
     public static final String COUNT_ACTIVE = "user:count:active";
   }
 
+  public static final class Reply {
+    /** 게시글별 댓글 트리 (키: 게시글 ID) */
+    public static final String CACHE_NAME = "reply";
+    /** 게시글별 최상위 댓글 첫 페이지 (키: 게시글 ID와 페이지 크기) */
+    public static final String THREADS = "reply-threads";
+  }
+
+  /**
+   * 캐시 태그
+   * 항목은 적재될 때 {@link CacheTagger}가 붙인 태그를 가지며, 명령은 {@link EvictCacheTags}로 영향받는 태그만 제거합니다.
+   */
+  public static final class Tag {
+    /** 게시글 목록 (최근 게시글 등) */
+    public static final String BOARD_LISTS = "board-lists";
+    /** 게시글 수 집계 (전체, 오늘, 작성자별) */
+    public static final String BOARD_COUNTS = "board-counts";
+
+    /** 게시글 한 건의 상세 항목 */
+    public static String board(Object boardId) {
+      return "board:" + boardId;
+    }
+
+    /** 게시글 한 건의 댓글 트리 */
+    public static String replies(Object boardId) {
+      return "replies:" + boardId;
+    }
+
+    /** 게시글 한 건의 최상위 댓글 첫 페이지 */
+    public static String replyThreads(Object boardId) {
+      return "reply-threads:" + boardId;
+    }
+
+    /** 작성자 정보(이름 등)를 담고 있는 항목 */
+    public static String author(Object authorId) {
+      return "author:" + authorId;
+    }
+
+    /** 사용자 한 명의 항목 (사용자명은 대소문자를 구분하지 않음) */
+    public static String user(String username) {
+      return "user:" + username.toLowerCase(Locale.ROOT);
+    }
+  }
+
   public static final class CacheKey {
     public static String boardId(Object id) {
       return Board.GET + ":" + id;
@@ -47,6 +93,10 @@ public final class CacheConstants {
       return Board.RECENT + ":" + limit;
     }
 
+    public static String replyThreads(Object boardId, int size) {
+      return boardId + ":" + size;
+    }
+
     public static String userId(String username) {
       return User.GET + ":" + username;
     }
@@ -0,0 +1,79 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ * <p>
+ * 키는 캐시 키로 쓰이는 UUID와 문자열만 그대로 전달합니다.
+ * 그 외 타입의 키는 다른 노드에서 같은 객체로 복원할 수 없으므로 해당 캐시의 L1 전체를 비우도록 키 없이 보냅니다.
+ *
+ * @param origin    메시지를 보낸 노드 ID (자기 메시지 무시용)
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키 (null이면 캐시 전체)
+ */
+public record CacheInvalidationMessage(String origin, String cacheName, @Nullable Object key) {
+
+  private static final String SEPARATOR = "\n";
+  private static final String UUID_KEY = "u:";
+  private static final String STRING_KEY = "s:";
+  private static final String ALL = "*";
+
+  public static CacheInvalidationMessage evict(String origin, String cacheName, Object key) {
+    return new CacheInvalidationMessage(origin, cacheName, key instanceof UUID || key instanceof String ? key : null);
+  }
+
+  public static CacheInvalidationMessage clear(String origin, String cacheName) {
+    return new CacheInvalidationMessage(origin, cacheName, null);
+  }
+
+  /**
+   * 메시지 해석
+   *
+   * @param payload {@link #encode()}로 만든 문자열
+   * @return 무효화 메시지
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  public static CacheInvalidationMessage decode(String payload) {
+    String[] parts = payload.split(SEPARATOR, 3);
+    if (parts.length != 3)
+      throw new IllegalArgumentException("Malformed cache invalidation message");
+
+    return new CacheInvalidationMessage(parts[0], parts[1], decodeKey(parts[2]));
+  }
+
+  public String encode() {
+    return origin + SEPARATOR + cacheName + SEPARATOR + encodeKey(key);
+  }
+
+  /**
+   * 캐시 키를 문자열로 변환
+   * UUID와 문자열이 아닌 키는 캐시 전체를 뜻하는 값으로 바뀝니다.
+   */
+  static String encodeKey(@Nullable Object key) {
+    return switch (key) {
+      case null -> ALL;
+      case UUID id -> UUID_KEY + id;
+      case String value -> STRING_KEY + value;
+      default -> ALL;
+    };
+  }
+
+  /**
+   * {@link #encodeKey(Object)}로 만든 문자열을 캐시 키로 복원
+   *
+   * @return 캐시 키 (캐시 전체면 null)
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  static @Nullable Object decodeKey(String encoded) {
+    if (encoded.equals(ALL))
+      return null;
+    if (encoded.startsWith(UUID_KEY))
+      return UUID.fromString(encoded.substring(UUID_KEY.length()));
+    if (encoded.startsWith(STRING_KEY))
+      return encoded.substring(STRING_KEY.length());
+    throw new IllegalArgumentException("Malformed cache invalidation key");
+  }
+}
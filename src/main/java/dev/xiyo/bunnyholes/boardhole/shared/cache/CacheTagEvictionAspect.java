@@ -0,0 +1,95 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link EvictCacheTags} 처리 애스펙트
+ * <p>
+ * 메서드가 정상 반환한 뒤 태그를 계산하고, 활성 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 제거합니다.
+ * 캐시 매니저가 2단계 캐시가 아니면(캐시 비활성) 아무것도 하지 않습니다.
+ * 제거 실패는 항목 TTL로 복구되므로 명령을 실패시키지 않고 경고만 남깁니다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class CacheTagEvictionAspect {
+
+  private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+  private final ExpressionParser parser = new SpelExpressionParser();
+  private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+  private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+
+  @AfterReturning(pointcut = "@annotation(evictCacheTags)", returning = "result")
+  public void evict(JoinPoint joinPoint, EvictCacheTags evictCacheTags, @Nullable Object result) {
+    if (!(cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager))
+      return;
+
+    Set<String> tags = resolveTags(joinPoint, evictCacheTags, result);
+    if (tags.isEmpty())
+      return;
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictQuietly(cacheManager, tags);
+        }
+      });
+      return;
+    }
+    evictQuietly(cacheManager, tags);
+  }
+
+  private Set<String> resolveTags(JoinPoint joinPoint, EvictCacheTags evictCacheTags, @Nullable Object result) {
+    Set<String> tags = new LinkedHashSet<>(List.of(evictCacheTags.value()));
+    if (evictCacheTags.expressions().length == 0)
+      return tags;
+
+    Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+    MethodBasedEvaluationContext context =
+        new MethodBasedEvaluationContext(joinPoint.getTarget(), method, joinPoint.getArgs(), parameterNameDiscoverer);
+    context.setVariable("result", result);
+    for (String expression : evictCacheTags.expressions()) {
+      Object tag = expressionCache.computeIfAbsent(expression, parser::parseExpression).getValue(context);
+      if (tag != null)
+        tags.add(tag.toString());
+    }
+    return tags;
+  }
+
+  private void evictQuietly(TwoLevelCacheManager cacheManager, Set<String> tags) {
+    try {
+      cacheManager.evictTags(tags);
+    } catch (RuntimeException e) {
+      log.warn("캐시 태그 무효화 실패: tags={}", tags, e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 태그 → 캐시 항목 색인
+ * <p>
+ * 항목을 적재할 때 태그를 등록하고, 태그를 제거하면 그 태그에 묶여 있던 항목을 돌려줍니다.
+ * 색인은 항목보다 오래 남아도 되지만(이미 사라진 항목 제거는 무해) 항목보다 먼저 사라지면 안 됩니다.
+ */
+public interface CacheTagIndex {
+
+  /**
+   * 항목에 태그 등록
+   *
+   * @param entry 캐시 항목
+   * @param tags  항목에 붙일 태그
+   */
+  void register(TaggedEntry entry, Collection<String> tags);
+
+  /**
+   * 태그를 색인에서 제거하고 묶여 있던 항목 반환
+   *
+   * @param tag 태그
+   * @return 태그에 묶여 있던 항목 (없으면 빈 집합)
+   */
+  Set<TaggedEntry> remove(String tag);
+}
@@ -0,0 +1,26 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시 항목 태그 부여
+ * <p>
+ * 캐시마다 하나씩 빈으로 등록하면 {@link TwoLevelCacheManager}가 항목을 기록할 때 태그를 색인에 등록합니다.
+ * 태그는 {@link CacheConstants.Tag}에 정의된 것을 사용합니다.
+ */
+public interface CacheTagger {
+
+  /**
+   * @return 태그를 부여할 캐시 이름
+   */
+  String cacheName();
+
+  /**
+   * 항목의 태그
+   *
+   * @param key   캐시 키
+   * @param value 캐시 값
+   * @return 항목에 붙일 태그 (없으면 빈 집합)
+   */
+  Set<String> tags(Object key, Object value);
+}
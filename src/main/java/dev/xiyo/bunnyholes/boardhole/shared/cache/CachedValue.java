@@ -0,0 +1,54 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * 적재 시각과 계산 비용을 함께 담은 캐시 값
+ * <p>
+ * L1과 L2 모두 이 형태로 저장해 어느 노드가 읽더라도 항목의 나이를 알 수 있게 합니다.
+ * 이 형태가 아닌 값(이전 버전이 기록한 값)은 나이를 알 수 없으므로 항상 신선한 값으로 취급합니다.
+ *
+ * @param value         캐시 값
+ * @param storedAt      적재 시각 (epoch millis, 0이면 알 수 없음)
+ * @param computeMillis 값을 계산하는 데 걸린 시간
+ */
+public record CachedValue(Object value, long storedAt, long computeMillis) implements Serializable {
+
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * 저장소에서 읽은 값을 캐시 값으로 변환
+   */
+  static CachedValue from(Object stored) {
+    return stored instanceof CachedValue cached ? cached : new CachedValue(stored, 0, 0);
+  }
+
+  /**
+   * @param now 현재 시각 (epoch millis)
+   * @param ttl 신선한 기간
+   * @return 신선한 기간이 지났으면 true
+   */
+  boolean isStale(long now, Duration ttl) {
+    return storedAt > 0 && now >= storedAt + ttl.toMillis();
+  }
+
+  /**
+   * XFetch 조기 갱신 여부
+   * 만료가 가까울수록, 계산 비용이 클수록 갱신 확률이 높아집니다.
+   *
+   * @param now    현재 시각 (epoch millis)
+   * @param ttl    신선한 기간
+   * @param beta   조기 갱신 강도 (0이면 사용 안 함, 1이 기본 권장값)
+   * @param random (0, 1] 범위 난수
+   * @return 지금 갱신해야 하면 true
+   */
+  boolean shouldRefreshEarly(long now, Duration ttl, double beta, double random) {
+    if (storedAt <= 0 || beta <= 0)
+      return false;
+    double gap = Math.max(computeMillis, 1) * beta * -Math.log(random);
+    return now + gap >= storedAt + ttl.toMillis();
+  }
+}
@@ -0,0 +1,31 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 명령 메서드가 정상 반환하면 지정한 태그에 묶인 캐시 항목 제거
+ * <p>
+ * {@code @CacheEvict(allEntries = true)} 대신 사용해 변경에 영향받는 항목만 제거합니다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 제거하므로 롤백된 변경이 캐시를 비우지 않고,
+ * 커밋 전 값이 다시 적재되는 일도 줄어듭니다. 처리는 {@link CacheTagEvictionAspect}가 담당합니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EvictCacheTags {
+
+  /**
+   * 고정 태그 (예: {@link CacheConstants.Tag#BOARD_LISTS})
+   */
+  String[] value() default {};
+
+  /**
+   * SpEL로 계산하는 태그
+   * 메서드 인자는 {@code #이름}으로, 반환값은 {@code #result}로 참조합니다.
+   */
+  String[] expressions() default {};
+}
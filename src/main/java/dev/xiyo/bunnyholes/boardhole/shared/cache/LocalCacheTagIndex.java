@@ -0,0 +1,45 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 프로세스 내 태그 색인
+ * <p>
+ * 태그별 항목 집합은 마지막 등록 후 항목 만료 시간이 지나면 사라집니다.
+ * 그 시점에는 묶여 있던 항목도 모두 만료되었으므로 제거할 대상이 없습니다.
+ */
+public class LocalCacheTagIndex implements CacheTagIndex {
+
+  private final Cache<String, Set<TaggedEntry>> index;
+
+  /**
+   * @param entryTtl 캐시 항목 만료 시간
+   */
+  public LocalCacheTagIndex(Duration entryTtl) {
+    this.index = Caffeine.newBuilder().expireAfterWrite(entryTtl).build();
+  }
+
+  @Override
+  public void register(TaggedEntry entry, Collection<String> tags) {
+    for (String tag : tags) {
+      // compute는 쓰기로 취급되어 만료 시간을 다시 계산함
+      index.asMap().compute(tag, (t, entries) -> {
+        Set<TaggedEntry> members = entries != null ? entries : ConcurrentHashMap.newKeySet();
+        members.add(entry);
+        return members;
+      });
+    }
+  }
+
+  @Override
+  public Set<TaggedEntry> remove(String tag) {
+    Set<TaggedEntry> entries = index.asMap().remove(tag);
+    return entries != null ? Set.copyOf(entries) : Set.of();
+  }
+}
@@ -0,0 +1,74 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis 태그 색인
+ * <p>
+ * 태그마다 {@code {prefix}{tag}} 집합(SET)에 인코딩한 항목을 담아 모든 노드가 같은 색인을 공유합니다.
+ * 등록할 때마다 집합의 만료 시간을 항목 만료 시간으로 갱신하므로 색인이 무한히 자라지 않습니다.
+ * 제거는 SPOP으로 꺼내므로 제거 도중 등록된 항목이 유실되지 않습니다.
+ */
+@Slf4j
+public class RedisCacheTagIndex implements CacheTagIndex {
+
+  private static final int POP_BATCH = 500;
+
+  private final StringRedisTemplate redisTemplate;
+  private final String prefix;
+  private final Duration entryTtl;
+
+  public RedisCacheTagIndex(StringRedisTemplate redisTemplate, String prefix, Duration entryTtl) {
+    this.redisTemplate = redisTemplate;
+    this.prefix = prefix;
+    this.entryTtl = entryTtl;
+  }
+
+  @Override
+  public void register(TaggedEntry entry, Collection<String> tags) {
+    if (tags.isEmpty())
+      return;
+    String member = entry.encode();
+    redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+        for (String tag : tags) {
+          ops.opsForSet().add(prefix + tag, member);
+          ops.expire(prefix + tag, entryTtl);
+        }
+        return null;
+      }
+    });
+  }
+
+  @Override
+  public Set<TaggedEntry> remove(String tag) {
+    Set<TaggedEntry> entries = new HashSet<>();
+    List<String> popped;
+    do {
+      popped = redisTemplate.opsForSet().pop(prefix + tag, POP_BATCH);
+      if (popped == null)
+        break;
+      for (String member : popped) {
+        try {
+          entries.add(TaggedEntry.decode(member));
+        } catch (IllegalArgumentException e) {
+          log.warn("잘못된 캐시 태그 항목 무시: tag={}, {}", tag, e.getMessage());
+        }
+      }
+    } while (popped.size() == POP_BATCH);
+    return entries;
+  }
+}
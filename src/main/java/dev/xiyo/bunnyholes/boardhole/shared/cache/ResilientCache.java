@@ -0,0 +1,105 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+
+/**
+ * 회로 차단기를 거치는 L2 캐시
+ * <p>
+ * 차단 중이거나 호출이 실패하면 조회는 미스, 기록은 생략으로 처리합니다.
+ * 생략한 제거/비우기는 차단기에 기록되어 복구 시 L2를 비우는 것으로 보정됩니다.
+ */
+class ResilientCache implements Cache {
+
+  private final Cache delegate;
+  private final CacheCircuitBreaker circuitBreaker;
+
+  ResilientCache(Cache delegate, CacheCircuitBreaker circuitBreaker) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public @Nullable ValueWrapper get(Object key) {
+    return circuitBreaker.call(() -> delegate.get(key), () -> null);
+  }
+
+  @Override
+  public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+    return circuitBreaker.call(() -> delegate.get(key, type), () -> null);
+  }
+
+  @Override
+  public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+    return circuitBreaker.call(() -> delegate.get(key, valueLoader), () -> load(key, valueLoader));
+  }
+
+  @Override
+  public @Nullable CompletableFuture<?> retrieve(Object key) {
+    return circuitBreaker.call(() -> delegate.retrieve(key), () -> null);
+  }
+
+  @Override
+  public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+    return circuitBreaker.call(() -> delegate.retrieve(key, valueLoader), valueLoader);
+  }
+
+  @Override
+  public void put(Object key, @Nullable Object value) {
+    circuitBreaker.run(() -> delegate.put(key, value));
+  }
+
+  @Override
+  public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+    return circuitBreaker.call(() -> delegate.putIfAbsent(key, value), () -> null);
+  }
+
+  @Override
+  public void evict(Object key) {
+    circuitBreaker.invalidate(() -> delegate.evict(key));
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return circuitBreaker.call(() -> delegate.evictIfPresent(key), () -> {
+      circuitBreaker.markMissedInvalidation();
+      return false;
+    });
+  }
+
+  @Override
+  public void clear() {
+    circuitBreaker.invalidate(delegate::clear);
+  }
+
+  @Override
+  public boolean invalidate() {
+    return circuitBreaker.call(delegate::invalidate, () -> {
+      circuitBreaker.markMissedInvalidation();
+      return false;
+    });
+  }
+
+  private static <T> T load(Object key, Callable<T> valueLoader) {
+    try {
+      return valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+  }
+}
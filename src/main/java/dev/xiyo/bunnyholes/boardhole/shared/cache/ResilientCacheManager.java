@@ -0,0 +1,58 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * 회로 차단기를 거치는 L2 캐시 매니저
+ * <p>
+ * 캐시마다 {@link ResilientCache}로 감싸 Redis 장애 시 호출이 연결 시간 초과를 기다리지 않고 즉시 실패(캐시 미스)하게 합니다.
+ * 차단 중 무효화를 건너뛰었다면 복구 시 L2 캐시를 모두 비워 오래된 값이 다시 읽히지 않게 합니다.
+ */
+@Slf4j
+public class ResilientCacheManager implements CacheManager {
+
+  private final CacheManager delegate;
+  private final CacheCircuitBreaker circuitBreaker;
+  private final ConcurrentMap<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+  public ResilientCacheManager(CacheManager delegate, CacheCircuitBreaker circuitBreaker) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+    circuitBreaker.onRecovery(this::clearRemote);
+  }
+
+  @Override
+  public @Nullable Cache getCache(String name) {
+    ResilientCache cache = caches.get(name);
+    if (cache != null)
+      return cache;
+
+    Cache remote = delegate.getCache(name);
+    if (remote == null)
+      return null;
+    return caches.computeIfAbsent(name, cacheName -> new ResilientCache(remote, circuitBreaker));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return delegate.getCacheNames();
+  }
+
+  private void clearRemote() {
+    for (String name : delegate.getCacheNames()) {
+      Cache cache = delegate.getCache(name);
+      if (cache != null)
+        cache.clear();
+    }
+    log.info("차단 중 누락된 무효화 정리: L2 캐시 비움 caches={}", delegate.getCacheNames());
+  }
+}
@@ -0,0 +1,45 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 회로 차단기를 거치는 태그 색인
+ * <p>
+ * L1 항목용 로컬 색인에 항상 함께 등록하므로, Redis 장애 중 적재된 항목(L1에만 존재)도 태그로 제거할 수 있습니다.
+ * 차단 중 Redis 색인을 조회하지 못한 제거는 차단기에 기록되어 복구 시 L2를 비우는 것으로 보정됩니다.
+ */
+public class ResilientCacheTagIndex implements CacheTagIndex {
+
+  private final CacheTagIndex remote;
+  private final CacheTagIndex local;
+  private final CacheCircuitBreaker circuitBreaker;
+
+  /**
+   * @param remote         Redis 태그 색인
+   * @param local          L1 항목 만료 시간에 맞춘 로컬 태그 색인
+   * @param circuitBreaker Redis 회로 차단기
+   */
+  public ResilientCacheTagIndex(CacheTagIndex remote, CacheTagIndex local, CacheCircuitBreaker circuitBreaker) {
+    this.remote = remote;
+    this.local = local;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public void register(TaggedEntry entry, Collection<String> tags) {
+    local.register(entry, tags);
+    circuitBreaker.invalidate(() -> remote.register(entry, tags));
+  }
+
+  @Override
+  public Set<TaggedEntry> remove(String tag) {
+    Set<TaggedEntry> entries = new HashSet<>(local.remove(tag));
+    entries.addAll(circuitBreaker.call(() -> remote.remove(tag), () -> {
+      circuitBreaker.markMissedInvalidation();
+      return Set.of();
+    }));
+    return entries;
+  }
+}
@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 태그에 묶인 캐시 항목
+ * <p>
+ * 태그 색인(Redis)에 문자열로 저장되므로 키는 {@link CacheInvalidationMessage}와 같은 규칙으로 인코딩합니다.
+ * UUID와 문자열이 아닌 키는 복원할 수 없으므로 키 없이 저장하고, 제거 시 해당 캐시 전체를 비웁니다.
+ *
+ * @param cacheName 캐시 이름
+ * @param key       캐시 키 (null이면 캐시 전체)
+ */
+public record TaggedEntry(String cacheName, @Nullable Object key) {
+
+  private static final String SEPARATOR = "\n";
+
+  /**
+   * 항목 해석
+   *
+   * @param payload {@link #encode()}로 만든 문자열
+   * @return 태그 항목
+   * @throws IllegalArgumentException 형식이 잘못된 경우
+   */
+  public static TaggedEntry decode(String payload) {
+    String[] parts = payload.split(SEPARATOR, 2);
+    if (parts.length != 2)
+      throw new IllegalArgumentException("Malformed tagged cache entry");
+    return new TaggedEntry(parts[0], CacheInvalidationMessage.decodeKey(parts[1]));
+  }
+
+  public String encode() {
+    return cacheName + SEPARATOR + CacheInvalidationMessage.encodeKey(key);
+  }
+}
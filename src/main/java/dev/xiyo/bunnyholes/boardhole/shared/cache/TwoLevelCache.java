@@ -0,0 +1,392 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * 2단계 캐시
+ * <p>
+ * 조회는 L1(프로세스 내 Caffeine) → L2(Redis) 순으로 확인하고, L2 적중 값은 L1에 채웁니다.
+ * 쓰기는 L2와 L1에 모두 기록합니다. 명시적 쓰기({@code put}, 기록한 {@code putIfAbsent})는 값이 바뀐 것이므로
+ * 다른 노드의 L1에 남은 이전 값도 비우도록 키 무효화 메시지를 보냅니다. 캐시 미스를 채우는 로더 적재는 보내지 않습니다.
+ * 제거와 비우기는 L2와 자기 L1에 반영한 뒤 다른 노드의 L1도 비우도록 무효화 메시지를 보냅니다.
+ * <p>
+ * null 값은 캐시하지 않습니다 (L2 설정과 동일).
+ * <p>
+ * 태그 부여기가 있으면 기록한 항목의 태그를 색인에 등록합니다.
+ * 등록에 실패한 항목은 태그로 제거할 수 없으므로 기록을 되돌립니다.
+ * <p>
+ * 값 로더가 있는 조회({@code @Cacheable(sync = true)})는 캐시 스탬피드를 막습니다.
+ * <ul>
+ *     <li>단일 적재: 같은 키의 동시 실패는 노드당 한 번만 로더를 실행하고 나머지는 그 결과를 기다립니다.</li>
+ *     <li>조기 갱신(XFetch): 신선한 기간이 끝나갈수록 높은 확률로 백그라운드에서 미리 다시 적재합니다.</li>
+ *     <li>stale-while-revalidate: 신선한 기간이 지난 값은 유예 기간 동안 그대로 응답하고 백그라운드에서 다시 적재합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+  private final String name;
+  private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+  private final Cache remote;
+  private final Consumer<CacheInvalidationMessage> broadcaster;
+  private final String nodeId;
+  private final @Nullable CacheTagger tagger;
+  private final CacheTagIndex tagIndex;
+  private final LoadPolicy loadPolicy;
+  private final Executor refreshExecutor;
+  private final ConcurrentMap<Object, CompletableFuture<@Nullable Object>> inFlight = new ConcurrentHashMap<>();
+
+  private final LongAdder localHits = new LongAdder();
+  private final LongAdder localMisses = new LongAdder();
+  private final LongAdder remoteHits = new LongAdder();
+  private final LongAdder remoteMisses = new LongAdder();
+  private final LongAdder loads = new LongAdder();
+  private final LongAdder coalescedLoads = new LongAdder();
+  private final AtomicInteger waitingLoads = new AtomicInteger();
+  private final LongAdder earlyRefreshes = new LongAdder();
+  private final LongAdder staleRefreshes = new LongAdder();
+
+  public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> local, Cache remote,
+                       Consumer<CacheInvalidationMessage> broadcaster, String nodeId, @Nullable CacheTagger tagger, CacheTagIndex tagIndex,
+                       LoadPolicy loadPolicy, Executor refreshExecutor) {
+    this.name = name;
+    this.local = local;
+    this.remote = remote;
+    this.broadcaster = broadcaster;
+    this.nodeId = nodeId;
+    this.tagger = tagger;
+    this.tagIndex = tagIndex;
+    this.loadPolicy = loadPolicy;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return remote.getNativeCache();
+  }
+
+  @Override
+  public @Nullable ValueWrapper get(Object key) {
+    CachedValue cached = lookup(key);
+    return cached != null ? new SimpleValueWrapper(cached.value()) : null;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value))
+      throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+    CachedValue cached = lookup(key);
+    if (cached == null)
+      return (T) load(key, valueLoader);
+
+    long now = System.currentTimeMillis();
+    if (cached.isStale(now, loadPolicy.ttl())) {
+      if (cached.isStale(now, loadPolicy.ttl().plus(loadPolicy.staleWhileRevalidate())))
+        return (T) load(key, valueLoader);
+      refreshInBackground(key, valueLoader, staleRefreshes);
+      return (T) cached.value();
+    }
+
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    if (cached.shouldRefreshEarly(now, loadPolicy.ttl(), loadPolicy.earlyRefreshBeta(), random))
+      refreshInBackground(key, valueLoader, earlyRefreshes);
+    return (T) cached.value();
+  }
+
+  @Override
+  public void put(Object key, @Nullable Object value) {
+    if (value == null)
+      return;
+    store(key, new CachedValue(value, System.currentTimeMillis(), 0));
+    broadcaster.accept(CacheInvalidationMessage.evict(nodeId, name, key));
+  }
+
+  @Override
+  public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+    if (value == null)
+      return get(key);
+    CachedValue cached = new CachedValue(value, System.currentTimeMillis(), 0);
+    ValueWrapper existing = remote.putIfAbsent(key, cached);
+    Object existingValue = existing != null ? existing.get() : null;
+    if (existingValue != null) {
+      CachedValue current = CachedValue.from(existingValue);
+      local.put(key, current);
+      return new SimpleValueWrapper(current.value());
+    }
+    local.put(key, cached);
+    tag(key, value);
+    broadcaster.accept(CacheInvalidationMessage.evict(nodeId, name, key));
+    return null;
+  }
+
+  @Override
+  public void evict(Object key) {
+    remote.evict(key);
+    local.invalidate(key);
+    broadcaster.accept(CacheInvalidationMessage.evict(nodeId, name, key));
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    boolean evicted = remote.evictIfPresent(key);
+    local.invalidate(key);
+    broadcaster.accept(CacheInvalidationMessage.evict(nodeId, name, key));
+    return evicted;
+  }
+
+  @Override
+  public void clear() {
+    remote.clear();
+    local.invalidateAll();
+    broadcaster.accept(CacheInvalidationMessage.clear(nodeId, name));
+  }
+
+  @Override
+  public boolean invalidate() {
+    boolean invalidated = remote.invalidate();
+    local.invalidateAll();
+    broadcaster.accept(CacheInvalidationMessage.clear(nodeId, name));
+    return invalidated;
+  }
+
+  /**
+   * 이 노드의 L1 항목을 제자리에서 고치고 L2 항목은 제거
+   * <p>
+   * L1은 읽은 항목이 그대로 남아 있을 때만 바꾸므로(조건부 교체), 그 사이 태그 제거나 새 적재로 바뀐 항목을 되살리지 않습니다.
+   * 적재 시각은 유지하므로 고친 값의 신선한 기간이 늘어나지 않습니다.
+   * L2는 비교 후 교체를 원자적으로 할 수 없어 제거만 하며, 다른 노드는 L1이 만료된 뒤 새로 적재합니다.
+   *
+   * @param key     캐시 키
+   * @param updater 현재 값을 받아 고친 값을 돌려주는 함수
+   * @return L1 항목을 고쳤으면 true
+   */
+  public boolean updateLocal(Object key, UnaryOperator<Object> updater) {
+    remote.evict(key);
+    if (!(local.getIfPresent(key) instanceof CachedValue current))
+      return false;
+    CachedValue updated = new CachedValue(updater.apply(current.value()), current.storedAt(), current.computeMillis());
+    return local.asMap().replace(key, current, updated);
+  }
+
+  private @Nullable CachedValue lookup(Object key) {
+    Object value = local.getIfPresent(key);
+    if (value != null) {
+      localHits.increment();
+      return (CachedValue) value;
+    }
+    localMisses.increment();
+
+    ValueWrapper wrapper = remote.get(key);
+    Object remoteValue = wrapper != null ? wrapper.get() : null;
+    if (remoteValue == null) {
+      remoteMisses.increment();
+      return null;
+    }
+    remoteHits.increment();
+    CachedValue cached = CachedValue.from(remoteValue);
+    local.put(key, cached);
+    return cached;
+  }
+
+  private void store(Object key, CachedValue cached) {
+    remote.put(key, cached);
+    local.put(key, cached);
+    tag(key, cached.value());
+  }
+
+  /**
+   * 단일 적재
+   * 같은 키를 이미 적재 중이면 그 결과를 기다리고, 아니면 직접 로더를 실행합니다.
+   */
+  private @Nullable Object load(Object key, Callable<?> valueLoader) {
+    CompletableFuture<@Nullable Object> flight = new CompletableFuture<>();
+    CompletableFuture<@Nullable Object> existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null)
+      return await(key, existing, valueLoader);
+
+    try {
+      // 직전에 끝난 적재가 기록한 신선한 값이 있으면 다시 적재하지 않음
+      Object current = local.getIfPresent(key);
+      Object value = current instanceof CachedValue cached && !cached.isStale(System.currentTimeMillis(), loadPolicy.ttl())
+          ? cached.value()
+          : compute(key, valueLoader);
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private @Nullable Object await(Object key, CompletableFuture<@Nullable Object> flight, Callable<?> valueLoader) {
+    coalescedLoads.increment();
+    waitingLoads.incrementAndGet();
+    try {
+      return flight.join();
+    } catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof ValueRetrievalException retrieval && retrieval.getCause() != null)
+        cause = retrieval.getCause();
+      throw new ValueRetrievalException(key, valueLoader, cause);
+    } finally {
+      waitingLoads.decrementAndGet();
+    }
+  }
+
+  /**
+   * 백그라운드 갱신
+   * 이미 같은 키를 적재 중이면 아무것도 하지 않습니다.
+   */
+  private void refreshInBackground(Object key, Callable<?> valueLoader, LongAdder trigger) {
+    CompletableFuture<@Nullable Object> flight = new CompletableFuture<>();
+    if (inFlight.putIfAbsent(key, flight) != null)
+      return;
+
+    trigger.increment();
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          flight.complete(compute(key, valueLoader));
+        } catch (RuntimeException e) {
+          log.warn("캐시 백그라운드 갱신 실패: cache={}, key={}", name, key, e);
+          flight.completeExceptionally(e);
+        } finally {
+          inFlight.remove(key, flight);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      // 갱신 스레드가 포화되면 이번 갱신은 건너뛰고 기존 값을 계속 응답
+      inFlight.remove(key, flight);
+      flight.completeExceptionally(e);
+    }
+  }
+
+  private @Nullable Object compute(Object key, Callable<?> valueLoader) {
+    long start = System.nanoTime();
+    Object value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception e) {
+      throw new ValueRetrievalException(key, valueLoader, e);
+    }
+    loads.increment();
+    if (value != null)
+      store(key, new CachedValue(value, System.currentTimeMillis(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    return value;
+  }
+
+  private void tag(Object key, Object value) {
+    if (tagger == null)
+      return;
+    Set<String> tags = tagger.tags(key, value);
+    if (tags.isEmpty())
+      return;
+    try {
+      tagIndex.register(new TaggedEntry(name, key), tags);
+    } catch (RuntimeException e) {
+      log.warn("캐시 태그 등록 실패로 항목 기록 취소: cache={}, key={}", name, key, e);
+      local.invalidate(key);
+      remote.evict(key);
+    }
+  }
+
+  /**
+   * 다른 노드의 무효화 메시지 반영 (L1만 비움)
+   *
+   * @param message 무효화 메시지
+   */
+  public void applyRemoteInvalidation(CacheInvalidationMessage message) {
+    Object key = message.key();
+    if (key == null)
+      local.invalidateAll();
+    else
+      local.invalidate(key);
+  }
+
+  long localHits() {
+    return localHits.sum();
+  }
+
+  long localMisses() {
+    return localMisses.sum();
+  }
+
+  long remoteHits() {
+    return remoteHits.sum();
+  }
+
+  long remoteMisses() {
+    return remoteMisses.sum();
+  }
+
+  long localSize() {
+    return local.estimatedSize();
+  }
+
+  long loads() {
+    return loads.sum();
+  }
+
+  long coalescedLoads() {
+    return coalescedLoads.sum();
+  }
+
+  int waitingLoads() {
+    return waitingLoads.get();
+  }
+
+  long earlyRefreshes() {
+    return earlyRefreshes.sum();
+  }
+
+  long staleRefreshes() {
+    return staleRefreshes.sum();
+  }
+
+  /**
+   * 적재 정책
+   *
+   * @param ttl                  신선한 기간 (L2 항목 만료 시간)
+   * @param earlyRefreshBeta     XFetch 조기 갱신 강도 (0이면 사용 안 함)
+   * @param staleWhileRevalidate 신선한 기간이 지난 값을 응답하며 갱신하는 유예 기간 (0이면 사용 안 함)
+   */
+  public record LoadPolicy(Duration ttl, double earlyRefreshBeta, Duration staleWhileRevalidate) {
+  }
+}
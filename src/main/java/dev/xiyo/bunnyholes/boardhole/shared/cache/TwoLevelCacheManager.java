@@ -0,0 +1,245 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+
+/**
+ * 2단계 캐시 매니저
+ * <p>
+ * L2 캐시 매니저(Redis)가 만든 캐시마다 캐시별 크기와 TTL을 가진 L1(Caffeine)을 앞에 둡니다.
+ * 노드 ID는 프로세스마다 새로 만들며, 무효화 메시지에 실어 자기 메시지를 구분하는 데 사용합니다.
+ * <p>
+ * 수준별 적중/실패 수와 적중률을 {@code boardhole.cache.*} 지표로 노출합니다.
+ * <p>
+ * 캐시별 {@link CacheTagger}가 있으면 기록한 항목에 태그를 붙이고, {@link #evictTags(Collection)}로
+ * 태그에 묶인 항목만 제거합니다. 캐시 전체를 비우지 않으므로 관련 없는 쓰기가 적중률을 떨어뜨리지 않습니다.
+ * <p>
+ * 캐시별 조기 갱신과 stale-while-revalidate 설정으로 {@link TwoLevelCache.LoadPolicy}를 만들고,
+ * 백그라운드 갱신은 전달받은 실행기에서 수행합니다.
+ * <p>
+ * 이 매니저 밖의 로컬 캐시도 {@link #registerLocalCache(String, Consumer)}로 등록하면
+ * {@link #broadcastEviction(String, Object)}로 보낸 무효화를 같은 채널로 받습니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+  private final CacheManager remoteManager;
+  private final CacheProperties properties;
+  private final Consumer<CacheInvalidationMessage> broadcaster;
+  private final MeterRegistry meterRegistry;
+  private final CacheTagIndex tagIndex;
+  private final Map<String, CacheTagger> taggers;
+  private final Executor refreshExecutor;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Consumer<@Nullable Object>> localCaches = new ConcurrentHashMap<>();
+
+  public TwoLevelCacheManager(CacheManager remoteManager, CacheProperties properties, Consumer<CacheInvalidationMessage> broadcaster,
+                              MeterRegistry meterRegistry, CacheTagIndex tagIndex, List<CacheTagger> taggers, Executor refreshExecutor) {
+    this.remoteManager = remoteManager;
+    this.properties = properties;
+    this.broadcaster = broadcaster;
+    this.meterRegistry = meterRegistry;
+    this.tagIndex = tagIndex;
+    this.taggers = taggers.stream().collect(Collectors.toUnmodifiableMap(CacheTagger::cacheName, tagger -> tagger));
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  @Override
+  public @Nullable Cache getCache(String name) {
+    TwoLevelCache cache = caches.get(name);
+    if (cache != null)
+      return cache;
+
+    Cache remote = remoteManager.getCache(name);
+    if (remote == null)
+      return null;
+    return caches.computeIfAbsent(name, cacheName -> create(cacheName, remote));
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return remoteManager.getCacheNames();
+  }
+
+  /**
+   * 태그에 묶인 항목 제거
+   * 제거는 L2와 자기 L1에 반영되고, 다른 노드의 L1에는 무효화 메시지로 전파됩니다.
+   *
+   * @param tags 제거할 태그
+   */
+  public void evictTags(Collection<String> tags) {
+    Set<TaggedEntry> entries = new HashSet<>();
+    for (String tag : tags)
+      entries.addAll(tagIndex.remove(tag));
+
+    for (TaggedEntry entry : entries) {
+      Cache cache = getCache(entry.cacheName());
+      if (cache == null)
+        continue;
+      if (entry.key() == null)
+        cache.clear();
+      else
+        cache.evict(entry.key());
+      Counter.builder("boardhole.cache.tag.evictions")
+             .description("태그 무효화로 제거한 캐시 항목 수")
+             .tags(Tags.of("cache", entry.cacheName()))
+             .register(meterRegistry)
+             .increment();
+    }
+    log.debug("캐시 태그 무효화: tags={}, entries={}", tags, entries.size());
+  }
+
+  /**
+   * 이 매니저가 관리하지 않는 로컬 캐시 등록
+   * 다른 노드가 같은 이름으로 보낸 무효화 메시지를 받으면 키(캐시 전체면 null)로 무효화 함수를 호출합니다.
+   *
+   * @param cacheName   캐시 이름 (매니저의 캐시 이름과 겹치지 않아야 함)
+   * @param invalidator 키를 받아 로컬 항목을 제거하는 함수
+   */
+  public void registerLocalCache(String cacheName, Consumer<@Nullable Object> invalidator) {
+    localCaches.put(cacheName, invalidator);
+  }
+
+  /**
+   * 다른 노드에 키 무효화 전파
+   * {@link #registerLocalCache(String, Consumer)}로 등록한 로컬 캐시용이며, 자기 노드의 항목은 호출한 쪽에서 제거합니다.
+   *
+   * @param cacheName 캐시 이름
+   * @param key       무효화할 키 (UUID나 문자열이 아니면 캐시 전체)
+   */
+  public void broadcastEviction(String cacheName, Object key) {
+    broadcast(CacheInvalidationMessage.evict(nodeId, cacheName, key));
+  }
+
+  /**
+   * 무효화 채널로 받은 메시지 처리
+   * 자기 노드가 보낸 메시지와 아직 사용하지 않은 캐시에 대한 메시지는 무시합니다.
+   *
+   * @param payload 인코딩된 무효화 메시지
+   */
+  public void onInvalidation(String payload) {
+    CacheInvalidationMessage message;
+    try {
+      message = CacheInvalidationMessage.decode(payload);
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 캐시 무효화 메시지 무시: {}", e.getMessage());
+      return;
+    }
+    if (nodeId.equals(message.origin()))
+      return;
+
+    TwoLevelCache cache = caches.get(message.cacheName());
+    if (cache != null) {
+      cache.applyRemoteInvalidation(message);
+      return;
+    }
+    Consumer<@Nullable Object> localCache = localCaches.get(message.cacheName());
+    if (localCache != null)
+      localCache.accept(message.key());
+  }
+
+  String nodeId() {
+    return nodeId;
+  }
+
+  private TwoLevelCache create(String name, Cache remote) {
+    CacheProperties.Local local = properties.localFor(name);
+    TwoLevelCache cache = new TwoLevelCache(name,
+        Caffeine.newBuilder().maximumSize(local.maximumSize()).expireAfterWrite(local.ttl()).build(),
+        remote, this::broadcast, nodeId, taggers.get(name), tagIndex,
+        new TwoLevelCache.LoadPolicy(properties.redisTtl(), local.earlyRefreshBeta(), local.staleWhileRevalidate()), refreshExecutor);
+    registerMetrics(cache);
+    log.info("2단계 캐시 생성: name={}, l1MaximumSize={}, l1Ttl={}, earlyRefreshBeta={}, staleWhileRevalidate={}",
+        name, local.maximumSize(), local.ttl(), local.earlyRefreshBeta(), local.staleWhileRevalidate());
+    return cache;
+  }
+
+  private void broadcast(CacheInvalidationMessage message) {
+    try {
+      broadcaster.accept(message);
+    } catch (RuntimeException e) {
+      // 다른 노드의 L1은 TTL로 만료되므로 무효화 전파 실패가 요청을 실패시키지 않도록 함
+      log.warn("캐시 무효화 전파 실패: cache={}", message.cacheName(), e);
+    }
+  }
+
+  private void registerMetrics(TwoLevelCache cache) {
+    registerLevel(cache, "l1", TwoLevelCache::localHits, TwoLevelCache::localMisses);
+    registerLevel(cache, "l2", TwoLevelCache::remoteHits, TwoLevelCache::remoteMisses);
+    Gauge.builder("boardhole.cache.l1.size", cache, TwoLevelCache::localSize)
+         .description("L1 캐시 추정 항목 수")
+         .tags(Tags.of("cache", cache.getName()))
+         .register(meterRegistry);
+    registerLoads(cache);
+  }
+
+  private void registerLoads(TwoLevelCache cache) {
+    Tags tags = Tags.of("cache", cache.getName());
+    FunctionCounter.builder("boardhole.cache.loads", cache, TwoLevelCache::loads)
+                   .description("로더를 실행해 값을 적재한 수")
+                   .tags(tags.and("result", "loaded"))
+                   .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.loads", cache, TwoLevelCache::coalescedLoads)
+                   .description("진행 중인 적재 결과를 기다려 로더 실행을 생략한 수")
+                   .tags(tags.and("result", "coalesced"))
+                   .register(meterRegistry);
+    Gauge.builder("boardhole.cache.loads.waiting", cache, TwoLevelCache::waitingLoads)
+         .description("진행 중인 적재 결과를 기다리는 요청 수")
+         .tags(tags)
+         .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.refreshes", cache, TwoLevelCache::earlyRefreshes)
+                   .description("백그라운드 갱신 수")
+                   .tags(tags.and("trigger", "early"))
+                   .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.refreshes", cache, TwoLevelCache::staleRefreshes)
+                   .description("백그라운드 갱신 수")
+                   .tags(tags.and("trigger", "stale"))
+                   .register(meterRegistry);
+  }
+
+  private void registerLevel(TwoLevelCache cache, String level, ToDoubleFunction<TwoLevelCache> hits, ToDoubleFunction<TwoLevelCache> misses) {
+    Tags tags = Tags.of("cache", cache.getName(), "level", level);
+    FunctionCounter.builder("boardhole.cache.requests", cache, hits)
+                   .description("캐시 수준별 조회 수")
+                   .tags(tags.and("result", "hit"))
+                   .register(meterRegistry);
+    FunctionCounter.builder("boardhole.cache.requests", cache, misses)
+                   .description("캐시 수준별 조회 수")
+                   .tags(tags.and("result", "miss"))
+                   .register(meterRegistry);
+    Gauge.builder("boardhole.cache.hit.ratio", cache, c -> {
+           double hit = hits.applyAsDouble(c);
+           double total = hit + misses.applyAsDouble(c);
+           return total == 0 ? 0 : hit / total;
+         })
+         .description("캐시 수준별 누적 적중률 (L2는 L1 실패 요청 기준)")
+         .tags(tags)
+         .register(meterRegistry);
+  }
+}
@@ -0,0 +1,256 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CachedValue;
+
+/**
+ * 스키마 기반 캐시 값 바이너리 코덱
+ * <p>
+ * 형식: {@code [매직][형식 버전][플래그] 본문}. 본문은 {@code [타입 ID][필드 수][길이][필드...]} 프레임입니다.
+ * 필드 이름과 클래스 이름을 기록하지 않으므로 JDK 직렬화보다 훨씬 작고, 클래스가 바뀌어도
+ * {@link CacheValueSchema}의 필드 추가 규칙을 지키면 이전/이후 버전 값을 서로 읽을 수 있습니다.
+ * <p>
+ * 본문이 압축 기준보다 크면 Deflate(가장 빠른 수준)로 압축합니다.
+ * 스키마가 없는 타입은 JDK 직렬화로 대신 기록하지 않고 {@link SerializationException}으로 거절하므로 캐시에 쓰이지 않습니다.
+ * 클래스 이름을 담는 JDK 직렬화 값은 역직렬화 공격면이 되고, 클래스가 바뀌면 조용히 읽지 못하게 되기 때문입니다.
+ * 캐시하는 모든 타입은 {@link CacheValueSchema}를 등록해야 합니다({@link #supports(Class)}).
+ * <p>
+ * 읽을 수 없는 값(다른 형식, 모르는 형식 버전이나 타입 ID, 손상된 바이트)은 예외 대신 null을 돌려주어 캐시 실패로 처리합니다.
+ */
+@Slf4j
+public class CacheValueCodec implements RedisSerializer<Object> {
+
+  static final byte MAGIC = (byte) 0xB7;
+  static final byte FORMAT_VERSION = 1;
+  private static final int FLAG_DEFLATED = 1;
+
+  // 0은 JDK 직렬화 값이 쓰던 타입 ID라 재사용하지 않음 (남은 값은 모르는 타입으로 읽혀 캐시 실패)
+  private static final int CACHED_VALUE = 1;
+  private static final int LIST = 2;
+  private static final int LONG = 3;
+  private static final int INTEGER = 4;
+  private static final int STRING = 5;
+  private static final int UUID_TYPE = 6;
+  private static final int BOOLEAN = 7;
+
+  private final Map<Integer, CacheValueSchema<?>> schemasById = new HashMap<>();
+  private final Map<Class<?>, CacheValueSchema<?>> schemasByType = new HashMap<>();
+  private final CacheValueSchema<List<?>> listSchema;
+  private final int compressionThreshold;
+
+  /**
+   * @param schemas              애플리케이션 스키마
+   * @param compressionThreshold 이 크기(바이트)를 넘는 본문은 압축 (0 이하면 압축 안 함)
+   */
+  public CacheValueCodec(List<CacheValueSchema<?>> schemas, int compressionThreshold) {
+    this.compressionThreshold = compressionThreshold;
+    this.listSchema = listSchema();
+    register(CacheValueSchema.of(CACHED_VALUE, CachedValue.class,
+        (value, out) -> {
+          out.writeValue(value.value());
+          out.writeLong(value.storedAt());
+          out.writeLong(value.computeMillis());
+        },
+        in -> {
+          Object value = in.readValue();
+          if (value == null)
+            throw new IllegalArgumentException("Cached value without value");
+          return new CachedValue(value, in.readLong(), in.readLong());
+        }));
+    register(listSchema);
+    register(CacheValueSchema.of(LONG, Long.class, (value, out) -> out.writeLong(value), CacheValueInput::readLong));
+    register(CacheValueSchema.of(INTEGER, Integer.class, (value, out) -> out.writeInt(value), CacheValueInput::readInt));
+    register(CacheValueSchema.of(STRING, String.class, (value, out) -> out.writeString(value), CacheValueInput::readString));
+    register(CacheValueSchema.of(UUID_TYPE, UUID.class, (value, out) -> out.writeUuid(value), CacheValueInput::readUuid));
+    register(CacheValueSchema.of(BOOLEAN, Boolean.class, (value, out) -> out.writeBoolean(value), CacheValueInput::readBoolean));
+
+    for (CacheValueSchema<?> schema : schemas) {
+      if (schema.typeId() < CacheValueSchema.MIN_APPLICATION_TYPE_ID)
+        throw new IllegalStateException("Application cache schema type id must be >= "
+            + CacheValueSchema.MIN_APPLICATION_TYPE_ID + ": " + schema.type().getName());
+      register(schema);
+    }
+  }
+
+  @Override
+  public byte[] serialize(@Nullable Object value) {
+    if (value == null)
+      return new byte[0];
+
+    CacheValueOutput body = new CacheValueOutput(this);
+    writeFramed(value, body);
+    byte[] encoded = body.toByteArray();
+
+    if (compressionThreshold > 0 && encoded.length > compressionThreshold) {
+      CacheValueOutput compressed = new CacheValueOutput(this);
+      compressed.writeVarLong(encoded.length);
+      compressed.writeRawBytes(deflate(encoded));
+      return withHeader(FLAG_DEFLATED, compressed.toByteArray());
+    }
+    return withHeader(0, encoded);
+  }
+
+  @Override
+  public @Nullable Object deserialize(byte @Nullable [] bytes) {
+    if (bytes == null || bytes.length == 0)
+      return null;
+    if (bytes.length < 3 || bytes[0] != MAGIC || bytes[1] != FORMAT_VERSION) {
+      log.debug("캐시 값 형식이 달라 실패로 처리: length={}", bytes.length);
+      return null;
+    }
+
+    try {
+      ByteBuffer body = ByteBuffer.wrap(bytes, 3, bytes.length - 3);
+      if ((bytes[2] & FLAG_DEFLATED) != 0) {
+        int length = Math.toIntExact(CacheValueInput.readVarLong(body));
+        body = ByteBuffer.wrap(inflate(body, length));
+      }
+      return readFramed(body);
+    } catch (IllegalArgumentException | IllegalStateException | BufferUnderflowException | IndexOutOfBoundsException | ArithmeticException e) {
+      log.warn("캐시 값을 읽을 수 없어 실패로 처리: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 값을 프레임으로 기록: {@code [타입 ID][필드 수][길이][필드...]}
+   */
+  @SuppressWarnings("unchecked")
+  void writeFramed(Object value, CacheValueOutput out) {
+    CacheValueSchema<Object> schema = (CacheValueSchema<Object>) schemaFor(value);
+    CacheValueOutput fields = new CacheValueOutput(this);
+    schema.write(value, fields);
+    byte[] body = fields.toByteArray();
+
+    out.writeVarLong(schema.typeId());
+    out.writeVarLong(fields.fields());
+    out.writeVarLong(body.length);
+    out.writeRawBytes(body);
+  }
+
+  /**
+   * 프레임 하나를 읽고 버퍼 위치를 프레임 끝으로 이동
+   * 스키마가 읽지 않은(새 버전이 추가한) 필드는 건너뜁니다.
+   *
+   * @throws IllegalStateException 모르는 타입 ID인 경우
+   */
+  @Nullable Object readFramed(ByteBuffer buffer) {
+    int typeId = Math.toIntExact(CacheValueInput.readVarLong(buffer));
+    int fieldCount = Math.toIntExact(CacheValueInput.readVarLong(buffer));
+    int length = Math.toIntExact(CacheValueInput.readVarLong(buffer));
+    CacheValueSchema<?> schema = schemasById.get(typeId);
+    if (schema == null)
+      throw new IllegalStateException("Unknown cache value type id: " + typeId);
+
+    ByteBuffer body = buffer.slice(buffer.position(), length);
+    buffer.position(buffer.position() + length);
+    return schema.read(new CacheValueInput(body, fieldCount, this));
+  }
+
+  /**
+   * 이 타입의 값을 기록할 수 있는지 여부
+   * 목록은 원소 타입마다 따로 확인해야 합니다.
+   */
+  public boolean supports(Class<?> type) {
+    return List.class.isAssignableFrom(type) || schemasByType.containsKey(type);
+  }
+
+  private CacheValueSchema<?> schemaFor(Object value) {
+    if (value instanceof List<?>)
+      return listSchema;
+    CacheValueSchema<?> schema = schemasByType.get(value.getClass());
+    if (schema != null)
+      return schema;
+    throw new SerializationException("No cache value schema for " + value.getClass().getName());
+  }
+
+  private void register(CacheValueSchema<?> schema) {
+    if (schemasById.putIfAbsent(schema.typeId(), schema) != null)
+      throw new IllegalStateException("Duplicate cache value type id: " + schema.typeId());
+    schemasByType.putIfAbsent(schema.type(), schema);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static CacheValueSchema<List<?>> listSchema() {
+    return CacheValueSchema.<List<?>>of(LIST, (Class<List<?>>) (Class<?>) List.class,
+        (value, out) -> {
+          out.writeLong(value.size());
+          for (Object element : value)
+            out.writeValue(element);
+        },
+        in -> {
+          int size = Math.toIntExact(in.readLong());
+          if (size < 0)
+            throw new IllegalArgumentException("Negative list size");
+          List<Object> values = new ArrayList<>(Math.min(size, 1024));
+          for (int i = 0; i < size; i++)
+            values.add(in.readValue());
+          return Collections.unmodifiableList(values);
+        });
+  }
+
+  private static byte[] withHeader(int flags, byte[] body) {
+    byte[] bytes = new byte[body.length + 3];
+    bytes[0] = MAGIC;
+    bytes[1] = FORMAT_VERSION;
+    bytes[2] = (byte) flags;
+    System.arraycopy(body, 0, bytes, 3, body.length);
+    return bytes;
+  }
+
+  private static byte[] deflate(byte[] bytes) {
+    Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+      byte[] chunk = new byte[8192];
+      while (!deflater.finished())
+        out.write(chunk, 0, deflater.deflate(chunk));
+      return out.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private static byte[] inflate(ByteBuffer compressed, int length) {
+    Inflater inflater = new Inflater();
+    try {
+      inflater.setInput(compressed);
+      byte[] bytes = new byte[length];
+      int read = 0;
+      while (read < length && !inflater.finished()) {
+        int n = inflater.inflate(bytes, read, length - read);
+        if (n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+          break;
+        read += n;
+      }
+      if (read != length)
+        throw new IllegalArgumentException("Truncated compressed cache value");
+      return bytes;
+    } catch (DataFormatException e) {
+      throw new IllegalArgumentException("Corrupted compressed cache value", e);
+    } finally {
+      inflater.end();
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 스키마가 필드를 읽는 입력
+ * <p>
+ * 값을 기록할 때의 필드 수까지만 읽고, 그 이후 필드는 기본값(null, 0, false, 빈 목록)을 돌려줍니다.
+ * 이전 버전 스키마로 기록된 값을 새 스키마로 읽을 수 있게 하기 위함입니다.
+ */
+public final class CacheValueInput {
+
+  private final ByteBuffer body;
+  private final int fieldCount;
+  private final CacheValueCodec codec;
+  private int fieldsRead;
+
+  CacheValueInput(ByteBuffer body, int fieldCount, CacheValueCodec codec) {
+    this.body = body;
+    this.fieldCount = fieldCount;
+    this.codec = codec;
+  }
+
+  public long readLong() {
+    if (!next())
+      return 0;
+    return unzigzag(readVarLong());
+  }
+
+  public @Nullable Integer readInt() {
+    if (!next() || !present())
+      return null;
+    return Math.toIntExact(unzigzag(readVarLong()));
+  }
+
+  public boolean readBoolean() {
+    return next() && body.get() != 0;
+  }
+
+  public @Nullable String readString() {
+    if (!next())
+      return null;
+    byte[] bytes = readRaw();
+    return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+  }
+
+  public byte @Nullable [] readBytes() {
+    return next() ? readRaw() : null;
+  }
+
+  public @Nullable UUID readUuid() {
+    if (!next() || !present())
+      return null;
+    return new UUID(body.getLong(), body.getLong());
+  }
+
+  public @Nullable LocalDateTime readDateTime() {
+    if (!next() || !present())
+      return null;
+    long epochSecond = unzigzag(readVarLong());
+    int nano = Math.toIntExact(readVarLong());
+    return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+  }
+
+  public List<String> readStrings() {
+    if (!next())
+      return List.of();
+    int size = Math.toIntExact(readVarLong());
+    List<String> values = new ArrayList<>(Math.min(size, body.remaining()));
+    for (int i = 0; i < size; i++) {
+      byte[] bytes = readRaw();
+      if (bytes != null)
+        values.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+    return values;
+  }
+
+  public @Nullable Object readValue() {
+    if (!next() || !present())
+      return null;
+    return codec.readFramed(body);
+  }
+
+  private long readVarLong() {
+    return readVarLong(body);
+  }
+
+  static long readVarLong(ByteBuffer buffer) {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer.get();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+        return value;
+    }
+    throw new IllegalArgumentException("Malformed varint");
+  }
+
+  private boolean next() {
+    if (fieldsRead >= fieldCount)
+      return false;
+    fieldsRead++;
+    return true;
+  }
+
+  private boolean present() {
+    return body.get() != 0;
+  }
+
+  private byte @Nullable [] readRaw() {
+    long length = readVarLong();
+    if (length == 0)
+      return null;
+    if (length - 1 > body.remaining())
+      throw new IllegalArgumentException("Truncated cache value field");
+    byte[] bytes = new byte[Math.toIntExact(length - 1)];
+    body.get(bytes);
+    return bytes;
+  }
+
+  private static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+}
@@ -0,0 +1,143 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * 스키마가 필드를 기록하는 출력
+ * <p>
+ * 정수는 가변 길이(varint, 음수는 zigzag)로, null 가능 필드는 존재 여부와 함께 기록합니다.
+ * 기록한 필드 수를 세어 두었다가 값 앞에 붙이므로 읽는 쪽은 모르는 필드를 건너뛸 수 있습니다.
+ */
+public final class CacheValueOutput {
+
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+  private final CacheValueCodec codec;
+  private int fields;
+
+  CacheValueOutput(CacheValueCodec codec) {
+    this.codec = codec;
+  }
+
+  public void writeLong(long value) {
+    fields++;
+    writeVarLong(zigzag(value));
+  }
+
+  public void writeInt(@Nullable Integer value) {
+    fields++;
+    if (value == null) {
+      buffer.write(0);
+      return;
+    }
+    buffer.write(1);
+    writeVarLong(zigzag(value));
+  }
+
+  public void writeBoolean(boolean value) {
+    fields++;
+    buffer.write(value ? 1 : 0);
+  }
+
+  public void writeString(@Nullable String value) {
+    fields++;
+    writeRaw(value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+  }
+
+  public void writeBytes(byte @Nullable [] value) {
+    fields++;
+    writeRaw(value);
+  }
+
+  public void writeUuid(@Nullable UUID value) {
+    fields++;
+    if (value == null) {
+      buffer.write(0);
+      return;
+    }
+    buffer.write(1);
+    writeFixedLong(value.getMostSignificantBits());
+    writeFixedLong(value.getLeastSignificantBits());
+  }
+
+  /**
+   * 날짜/시각 기록 (UTC 기준 epoch 초와 나노초, 시간대 정보 없음)
+   */
+  public void writeDateTime(@Nullable LocalDateTime value) {
+    fields++;
+    if (value == null) {
+      buffer.write(0);
+      return;
+    }
+    buffer.write(1);
+    writeVarLong(zigzag(value.toEpochSecond(ZoneOffset.UTC)));
+    writeVarLong(value.getNano());
+  }
+
+  public void writeStrings(Collection<String> values) {
+    fields++;
+    writeVarLong(values.size());
+    for (String value : values)
+      writeRaw(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 중첩 값 기록 (값의 타입에 맞는 스키마로 기록)
+   */
+  public void writeValue(@Nullable Object value) {
+    fields++;
+    if (value == null) {
+      buffer.write(0);
+      return;
+    }
+    buffer.write(1);
+    codec.writeFramed(value, this);
+  }
+
+  int fields() {
+    return fields;
+  }
+
+  byte[] toByteArray() {
+    return buffer.toByteArray();
+  }
+
+  void writeVarLong(long value) {
+    while ((value & ~0x7FL) != 0) {
+      buffer.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    buffer.write((int) value);
+  }
+
+  void writeRawBytes(byte[] bytes) {
+    buffer.write(bytes, 0, bytes.length);
+  }
+
+  /**
+   * 길이(+1, 0이면 null)와 바이트 기록
+   */
+  private void writeRaw(byte @Nullable [] bytes) {
+    if (bytes == null) {
+      writeVarLong(0);
+      return;
+    }
+    writeVarLong(bytes.length + 1L);
+    writeRawBytes(bytes);
+  }
+
+  private void writeFixedLong(long value) {
+    for (int shift = 56; shift >= 0; shift -= 8)
+      buffer.write((int) (value >>> shift));
+  }
+
+  private static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+}
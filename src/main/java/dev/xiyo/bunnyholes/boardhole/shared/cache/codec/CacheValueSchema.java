@@ -0,0 +1,77 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+/**
+ * 캐시 값 타입별 바이너리 스키마
+ * <p>
+ * 타입마다 고정된 ID를 가지며, 필드는 정해진 순서로 기록합니다.
+ * 버전 호환을 위해 필드는 끝에만 추가하고 순서를 바꾸거나 제거하지 않습니다.
+ * 새 버전이 기록한 값을 이전 버전이 읽으면 모르는 뒤쪽 필드를 건너뛰고,
+ * 이전 버전이 기록한 값을 새 버전이 읽으면 없는 필드는 기본값(null, 0, false, 빈 목록)으로 읽힙니다.
+ * <p>
+ * 스키마를 빈으로 등록하면 {@link CacheValueCodec}이 사용합니다.
+ * 애플리케이션 타입 ID는 {@value #MIN_APPLICATION_TYPE_ID} 이상을 사용합니다.
+ *
+ * @param <T> 값 타입
+ */
+public interface CacheValueSchema<T> {
+
+  /** 애플리케이션 스키마가 사용할 수 있는 최소 타입 ID (그 미만은 코덱 내장 타입) */
+  int MIN_APPLICATION_TYPE_ID = 16;
+
+  /**
+   * @return 바이트에 기록되는 타입 ID (한 번 정하면 바꾸지 않음)
+   */
+  int typeId();
+
+  /**
+   * @return 값 타입
+   */
+  Class<T> type();
+
+  /**
+   * 필드 기록
+   */
+  void write(T value, CacheValueOutput out);
+
+  /**
+   * 필드 읽기
+   */
+  T read(CacheValueInput in);
+
+  /**
+   * 람다로 스키마 생성
+   */
+  static <T> CacheValueSchema<T> of(int typeId, Class<T> type, Writer<T> writer, Reader<T> reader) {
+    return new CacheValueSchema<>() {
+      @Override
+      public int typeId() {
+        return typeId;
+      }
+
+      @Override
+      public Class<T> type() {
+        return type;
+      }
+
+      @Override
+      public void write(T value, CacheValueOutput out) {
+        writer.write(value, out);
+      }
+
+      @Override
+      public T read(CacheValueInput in) {
+        return reader.read(in);
+      }
+    };
+  }
+
+  @FunctionalInterface
+  interface Writer<T> {
+    void write(T value, CacheValueOutput out);
+  }
+
+  @FunctionalInterface
+  interface Reader<T> {
+    T read(CacheValueInput in);
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * 캐시 값 바이너리 코덱
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,33 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.LocalApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.RedisApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ApiTokenProperties;
+
+/**
+ * API 베어러 토큰 저장소 설정
+ * Redis 연결이 있으면 노드 간에 공유되는 Redis 저장소를, 없으면 로컬 메모리 저장소를 사용합니다.
+ */
+@Slf4j
+@Configuration
+public class ApiTokenConfig {
+
+    @Bean
+    public ApiTokenStore apiTokenStore(ObjectProvider<RedisConnectionFactory> connectionFactoryProvider, ApiTokenProperties properties) {
+        RedisConnectionFactory connectionFactory = connectionFactoryProvider.getIfAvailable();
+        if (connectionFactory != null)
+            return new RedisApiTokenStore(new StringRedisTemplate(connectionFactory), properties.keyPrefix());
+
+        log.info("Redis 미구성: API 토큰을 로컬 메모리에 저장");
+        return new LocalApiTokenStore(properties.localMaximumSize(), properties.ttl());
+    }
+}
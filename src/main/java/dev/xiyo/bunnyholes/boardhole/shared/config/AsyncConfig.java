@@ -19,11 +19,12 @@ public class AsyncConfig {
      * Spring Boot TaskExecutor 빈 설정
      * - RejectedExecutionHandler: 큐가 가득 찼을 때 처리 방식
      * application.yml의 spring.task.execution 설정과 함께 작동
+     * 다른 실행기 빈(캐시 갱신 등)이 있어도 @Async 기본 실행기로 선택되도록 taskExecutor 이름을 함께 등록
      *
      * @param properties Spring Boot TaskExecutionProperties
      * @return 커스터마이징된 TaskExecutor
      */
-    @Bean
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
     public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutionProperties properties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import jakarta.servlet.MultipartConfigElement;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BlobStoreProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.FileSystemBlobStore;
+
+/**
+ * blob 저장소 설정
+ * 현재는 로컬(또는 공유 볼륨) 파일 시스템 저장소를 사용하며, 다른 백엔드는 {@link BlobStore} 구현으로 교체합니다.
+ */
+@Configuration
+public class BlobStoreConfig {
+
+    @Bean
+    public FileSystemBlobStore blobStore(BlobStoreProperties properties) {
+        return new FileSystemBlobStore(properties.root());
+    }
+
+    /**
+     * 컨테이너 multipart 설정
+     * <p>
+     * 상한을 업로드 상한에 맞춰 컨테이너가 파트를 받는 도중에 거부(413)하도록 하고, 힙에 모으지 않도록 곧바로 파일로 받습니다.
+     * 받는 위치를 blob 저장소 임시 디렉터리로 두어 저장할 때 같은 볼륨 안에서 한 번만 읽고 씁니다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement(FileSystemBlobStore blobStore, BlobStoreProperties properties) {
+        long maxUploadSize = properties.maxUploadSize().toBytes();
+        return new MultipartConfigElement(blobStore.uploadDirectory().toString(), maxUploadSize, maxUploadSize, 0);
+    }
+}
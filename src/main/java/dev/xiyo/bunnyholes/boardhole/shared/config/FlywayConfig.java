@@ -0,0 +1,61 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 마이그레이션 설정
+ * <p>
+ * Flyway는 두 단계로 실행합니다.
+ * <ul>
+ *     <li>{@code db/migration/{vendor}}와 Java 마이그레이션: Spring Boot 기본대로 EntityManagerFactory보다 먼저 실행되어,
+ *     Hibernate(ddl-auto)가 스키마를 맞추기 전에 기존 데이터를 옮기고 새 NOT NULL 컬럼을 채웁니다.</li>
+ *     <li>{@code db/post-schema/{vendor}}: 모든 싱글톤(EntityManagerFactory 포함)이 만들어진 뒤, 웹 서버가 요청을 받기 전에 실행되어
+ *     Hibernate가 만든 테이블에 식 인덱스처럼 ddl-auto로 표현할 수 없는 객체를 만듭니다. 이력은 별도 테이블에 남깁니다.</li>
+ * </ul>
+ * 두 번째 단계는 첫 단계의 설정(placeholder, baseline 등)을 그대로 물려받습니다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    static final String POST_SCHEMA_LOCATION = "classpath:db/post-schema/{vendor}";
+    static final String POST_SCHEMA_HISTORY_TABLE = "flyway_post_schema_history";
+
+    @Bean
+    public SmartInitializingSingleton postSchemaFlywayMigration(ObjectProvider<Flyway> flyway) {
+        return () -> flyway.ifAvailable(FlywayConfig::migratePostSchema);
+    }
+
+    static void migratePostSchema(Flyway flyway) {
+        Flyway.configure(flyway.getConfiguration().getClassLoader())
+              .configuration(flyway.getConfiguration())
+              // CREATE INDEX CONCURRENTLY가 Flyway의 트랜잭션 advisory lock을 기다리며 멈추지 않도록 세션 잠금 사용
+              .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+              .locations(POST_SCHEMA_LOCATION.replace("{vendor}", vendorOf(flyway.getConfiguration().getDataSource())))
+              .javaMigrations()
+              .table(POST_SCHEMA_HISTORY_TABLE)
+              .load()
+              .migrate();
+    }
+
+    /**
+     * Spring Boot의 {@code {vendor}} 치환과 같은 소문자 DB 제품명 (postgresql, h2 등)
+     */
+    private static String vendorOf(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+        } catch (SQLException e) {
+            throw new FlywayException("Unable to determine database vendor", e);
+        }
+    }
+}
@@ -29,6 +29,7 @@ public class OpenApiConfiguration {
         ApiProperties.License license = apiProperties.license();
 
         final String basicAuthSchemeName = "basicAuth";
+        final String bearerAuthSchemeName = "bearerAuth";
 
         return new OpenAPI()
                 .info(new Info()
@@ -48,6 +49,11 @@ public class OpenApiConfiguration {
                                 new SecurityScheme()
                                         .type(SecurityScheme.Type.HTTP)
                                         .scheme("basic")
-                                        .description("HTTP Basic Authentication (username/password)")));
+                                        .description("HTTP Basic Authentication (username/password)"))
+                        .addSecuritySchemes(bearerAuthSchemeName,
+                                new SecurityScheme()
+                                        .type(SecurityScheme.Type.HTTP)
+                                        .scheme("bearer")
+                                        .description("Opaque API token issued by POST /api/auth/token")));
     }
 }
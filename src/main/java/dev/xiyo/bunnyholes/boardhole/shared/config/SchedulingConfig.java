@@ -0,0 +1,13 @@
+package dev.xiyo.bunnyholes.boardhole.shared.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 조회수 flush 등 주기적인 백그라운드 작업을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
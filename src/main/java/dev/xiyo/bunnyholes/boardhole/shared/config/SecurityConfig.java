@@ -2,6 +2,7 @@ package dev.xiyo.bunnyholes.boardhole.shared.config;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.security.autoconfigure.web.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,17 +18,21 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.LoginUrlAuthenticationEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.web.savedrequest.NullRequestCache;
 
 import tools.jackson.databind.ObjectMapper;
 
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.security.BearerTokenAuthenticationFilter;
 import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.security.CustomAuthenticationSuccessHandler;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenStore;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
 import dev.xiyo.bunnyholes.boardhole.shared.security.ProblemDetailsAccessDeniedHandler;
 import dev.xiyo.bunnyholes.boardhole.shared.security.ProblemDetailsAuthenticationEntryPoint;
@@ -66,6 +71,7 @@ public class SecurityConfig {
      * REST API 전용 보안 필터 체인 (우선순위 높음)
      * - /api/** 경로만 처리
      * - formLogin 비활성화, 세션 기반 인증 사용
+     * - Bearer 토큰 인증 우선 (토큰 해시 조회 한 번, BCrypt 없음), 없으면 HTTP Basic
      * - 401 JSON 응답 반환
      * - RequestCache 비활성화로 불필요한 세션 생성 방지
      */
@@ -74,8 +80,12 @@ public class SecurityConfig {
     public SecurityFilterChain apiFilterChain(
             HttpSecurity http,
             ProblemDetailsAuthenticationEntryPoint authenticationEntryPoint,
-            ProblemDetailsAccessDeniedHandler accessDeniedHandler
+            ProblemDetailsAccessDeniedHandler accessDeniedHandler,
+            ObjectProvider<ApiTokenStore> apiTokenStoreProvider,
+            UserDetailsService userDetailsService
     ) throws Exception {
+        apiTokenStoreProvider.ifAvailable(tokenStore -> http.addFilterBefore(
+                new BearerTokenAuthenticationFilter(tokenStore, userDetailsService, authenticationEntryPoint), BasicAuthenticationFilter.class));
         http
                 .securityMatcher("/api/**")  // /api/** 경로만 이 필터체인 적용
                 .csrf(AbstractHttpConfigurer::disable)  // REST API는 CSRF 비활성화
@@ -85,7 +95,9 @@ public class SecurityConfig {
                         .requestMatchers(ApiPaths.AUTH + ApiPaths.AUTH_SIGNUP,
                                 ApiPaths.AUTH + ApiPaths.AUTH_LOGIN,
                                 ApiPaths.AUTH + ApiPaths.AUTH_PUBLIC_ACCESS).permitAll()
+                        .requestMatchers(HttpMethod.POST, ApiPaths.AUTH + ApiPaths.AUTH_TOKEN).permitAll()
                         .requestMatchers(HttpMethod.GET, ApiPaths.BOARDS, ApiPaths.BOARDS + "/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, ApiPaths.REPLIES + "/*/children").permitAll()
                         // All other API requests require authentication
                         .anyRequest().authenticated())
                 .formLogin(AbstractHttpConfigurer::disable)  // formLogin 비활성화
@@ -11,10 +11,12 @@ public final class ApiPaths {
     public static final String AUTH_SIGNUP = "/signup";
     public static final String AUTH_LOGIN = "/login";
     public static final String AUTH_LOGOUT = "/logout";
+    public static final String AUTH_TOKEN = "/token";
     public static final String AUTH_ADMIN_ONLY = "/admin-only";
     public static final String AUTH_USER_ACCESS = "/user-access";
     public static final String AUTH_PUBLIC_ACCESS = "/public-access";
     public static final String USERS_ME = "/me";
+    public static final String BOARDS_SCROLL = "/scroll";
     // 기본 경로
     private static final String API_PREFIX = "/api";
     // 메인 엔드포인트 (RequestMapping용)
@@ -23,5 +25,8 @@ public final class ApiPaths {
     public static final String BOARDS = API_PREFIX + "/boards";
     public static final String REPLIES = API_PREFIX + "/replies";
     public static final String BOARD_REPLIES = BOARDS + "/{boardId}/replies";
+    public static final String BOARD_REPLY_THREADS = BOARD_REPLIES + "/threads";
+    public static final String BOARD_REPLY_STREAM = BOARD_REPLIES + "/stream";
+    public static final String REPLY_CHILDREN = REPLIES + "/{replyId}/children";
 
 }
\ No newline at end of file
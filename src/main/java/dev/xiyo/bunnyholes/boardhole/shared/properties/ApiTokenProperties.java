@@ -0,0 +1,28 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * API 베어러 토큰 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.api-token")
+public record ApiTokenProperties(
+        /**
+         * 발급한 토큰의 유효 기간
+         */
+        @DefaultValue("PT12H") Duration ttl,
+
+        /**
+         * Redis 토큰 키 접두사 (키는 접두사 + 토큰 해시)
+         */
+        @DefaultValue("boardhole:api-token:") String keyPrefix,
+
+        /**
+         * Redis가 없을 때 로컬 저장소에 보관할 최대 토큰 수
+         */
+        @DefaultValue("100000") long localMaximumSize
+) {
+}
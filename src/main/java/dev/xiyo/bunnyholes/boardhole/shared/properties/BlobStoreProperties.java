@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * blob 저장소 설정 (프로필 이미지 등 바이너리 원본)
+ */
+@ConfigurationProperties(prefix = "boardhole.blob-store")
+public record BlobStoreProperties(
+        /**
+         * 파일 시스템 저장소 루트 디렉터리 (여러 노드는 같은 공유 볼륨을 지정)
+         */
+        @DefaultValue("data/blobs") Path root,
+
+        /**
+         * 업로드 한 건의 최대 크기 (컨테이너 multipart 상한이자 프로필 이미지 상한)
+         */
+        @DefaultValue("100MB") DataSize maxUploadSize,
+
+        /**
+         * 참조되지 않는 blob을 찾아 삭제하는 주기
+         */
+        @DefaultValue("PT1H") Duration gcInterval,
+
+        /**
+         * 마지막 저장 후 이 기간이 지나야 삭제 대상이 됨 (업로드부터 참조 커밋까지 걸리는 시간보다 길게)
+         */
+        @DefaultValue("PT1H") Duration gcGracePeriod
+) {
+}
@@ -0,0 +1,67 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 검색 엔진 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.search")
+public record BoardSearchProperties(
+        /**
+         * 사용할 검색 엔진 (AUTO면 데이터베이스 종류로 결정)
+         */
+        @DefaultValue("AUTO") Engine engine,
+
+        /**
+         * PostgreSQL 전문 검색 구성 (regconfig 이름)
+         * 한국어는 형태소 사전이 없으므로 공백 단위로 토큰화하는 simple 구성에 접두사 검색을 결합합니다.
+         */
+        @DefaultValue("simple") String textSearchConfig,
+
+        /**
+         * 하이라이트 스니펫 최대 단어 수
+         */
+        @DefaultValue("35") int snippetMaxWords,
+
+        /**
+         * 하이라이트 스니펫 최소 단어 수
+         */
+        @DefaultValue("15") int snippetMinWords,
+
+        /**
+         * 내장 역색인 설정 (engine이 INDEX일 때만 사용)
+         */
+        @DefaultValue Index index
+) {
+
+    /**
+     * 내장 역색인 설정
+     */
+    public record Index(
+            /**
+             * 색인 세그먼트를 저장할 디렉터리
+             */
+            @DefaultValue("data/board-index") Path directory,
+
+            /**
+             * 색인 버퍼를 새 세그먼트로 기록하는 주기
+             */
+            @DefaultValue("PT1M") Duration flushInterval
+    ) {
+    }
+
+    public enum Engine {
+        /** 데이터베이스가 PostgreSQL이면 POSTGRES, 아니면 LIKE */
+        AUTO,
+        /** tsvector + GIN 인덱스 기반 전문 검색 */
+        POSTGRES,
+        /** LIKE 기반 대체 검색 (H2 테스트 등) */
+        LIKE,
+        /** 로컬 디스크 세그먼트에 두는 내장 n-gram 역색인 (검색 결과 페이지만 DB에서 읽음, AUTO로는 선택되지 않음) */
+        INDEX
+    }
+}
@@ -0,0 +1,112 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 2단계 캐시 설정 (L1: 프로세스 내 Caffeine, L2: Redis)
+ * Redis가 없으면 L1만 사용합니다.
+ */
+@ConfigurationProperties(prefix = "boardhole.cache")
+public record CacheProperties(
+        /**
+         * L2(Redis) 항목 만료 시간
+         */
+        @DefaultValue("PT1H") Duration redisTtl,
+
+        /**
+         * 노드 간 L1 무효화 메시지를 주고받는 Redis 채널
+         */
+        @DefaultValue("boardhole:cache:invalidation") String invalidationChannel,
+
+        /**
+         * 태그 색인 Redis 키 접두사 (태그마다 {접두사}{태그} 집합 하나)
+         */
+        @DefaultValue("boardhole:cache:tag:") String tagPrefix,
+
+        /**
+         * 이 크기를 넘는 L2 값은 압축해서 저장 (0이면 압축 안 함)
+         */
+        @DefaultValue("1KB") DataSize compressionThreshold,
+
+        /**
+         * Redis가 구성되지 않았을 때 L1만으로 캐시할지 여부 (false면 캐시하지 않음)
+         */
+        @DefaultValue("true") boolean localFallback,
+
+        /**
+         * Redis 호출 회로 차단기 설정
+         */
+        @DefaultValue CircuitBreaker circuitBreaker,
+
+        /**
+         * 캐시별 설정이 없을 때 사용하는 L1 설정
+         */
+        @DefaultValue Local local,
+
+        /**
+         * 캐시 이름별 L1 설정
+         */
+        @DefaultValue Map<String, Local> caches
+) {
+
+    /**
+     * 캐시 이름에 해당하는 L1 설정
+     *
+     * @param cacheName 캐시 이름
+     * @return 캐시별 설정, 없으면 기본 설정
+     */
+    public Local localFor(String cacheName) {
+        return caches.getOrDefault(cacheName, local);
+    }
+
+    /**
+     * Redis 회로 차단기 설정
+     * 열림 동안에는 L2 호출 없이 L1만 사용합니다.
+     */
+    public record CircuitBreaker(
+            /**
+             * 회로를 여는 연속 실패 수
+             */
+            @DefaultValue("5") int failureThreshold,
+
+            /**
+             * 열림 상태 유지 시간 (지나면 시험 호출 한 번 허용)
+             */
+            @DefaultValue("PT10S") Duration openDuration
+    ) {
+    }
+
+    /**
+     * 캐시별 설정: L1(Caffeine) 크기/만료와 적재 정책
+     * 노드 간 무효화는 최선 노력(best-effort)이므로 TTL을 L2보다 짧게 두어 불일치 시간을 제한합니다.
+     */
+    public record Local(
+            /**
+             * 최대 항목 수 (초과 시 W-TinyLFU 정책으로 제거)
+             */
+            @DefaultValue("10000") long maximumSize,
+
+            /**
+             * 기록 후 만료 시간
+             */
+            @DefaultValue("PT1M") Duration ttl,
+
+            /**
+             * XFetch 조기 갱신 강도 (0이면 사용 안 함)
+             * 클수록 L2 만료 전에 더 일찍 백그라운드 갱신을 시작합니다.
+             */
+            @DefaultValue("0") double earlyRefreshBeta,
+
+            /**
+             * L2 만료 후에도 기존 값을 응답하며 백그라운드에서 갱신하는 유예 기간 (0이면 사용 안 함)
+             * L2 항목은 이 기간만큼 더 보관됩니다.
+             */
+            @DefaultValue("PT0S") Duration staleWhileRevalidate
+    ) {
+    }
+}
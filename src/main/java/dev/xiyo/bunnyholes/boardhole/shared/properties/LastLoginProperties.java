@@ -0,0 +1,28 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 마지막 로그인 시간 write-behind 버퍼 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.last-login")
+public record LastLoginProperties(
+        /**
+         * 누적된 로그인 시간을 DB에 반영하는 주기
+         */
+        @DefaultValue("PT5S") Duration flushInterval,
+
+        /**
+         * 한 번의 JDBC 배치로 전송할 최대 사용자 수
+         */
+        @DefaultValue("500") int maxBatchSize,
+
+        /**
+         * 반영 대기 중으로 보관할 최대 사용자 수 (초과한 새 사용자의 로그인 시간은 기록하지 않음)
+         */
+        @DefaultValue("100000") int maxPending
+) {
+}
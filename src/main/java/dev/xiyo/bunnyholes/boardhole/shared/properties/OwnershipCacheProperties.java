@@ -0,0 +1,23 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 소유자 캐시 설정 (권한 판단용 게시글/댓글 작성자)
+ */
+@ConfigurationProperties(prefix = "boardhole.ownership-cache")
+public record OwnershipCacheProperties(
+        /**
+         * 소유자 보관 시간 (0이면 캐시하지 않음). 다른 노드에서 삭제된 대상은 이 시간 안에 반영됩니다.
+         */
+        @DefaultValue("PT30S") Duration ttl,
+
+        /**
+         * 보관할 최대 대상 수
+         */
+        @DefaultValue("50000") long maximumSize
+) {
+}
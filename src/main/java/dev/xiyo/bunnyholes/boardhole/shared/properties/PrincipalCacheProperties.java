@@ -0,0 +1,23 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 인증 주체 캐시 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.principal-cache")
+public record PrincipalCacheProperties(
+        /**
+         * 주체 보관 시간 (0이면 캐시하지 않음). 다른 노드의 비밀번호 변경은 이 시간 안에 반영됩니다.
+         */
+        @DefaultValue("PT1M") Duration ttl,
+
+        /**
+         * 보관할 최대 사용자 수
+         */
+        @DefaultValue("10000") long maximumSize
+) {
+}
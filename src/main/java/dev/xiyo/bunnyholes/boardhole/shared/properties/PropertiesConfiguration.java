@@ -11,7 +11,16 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({
         CorsProperties.class,
         ApiProperties.class,
-        DefaultUsersProperties.class
+        ApiTokenProperties.class,
+        BlobStoreProperties.class,
+        BoardSearchProperties.class,
+        CacheProperties.class,
+        DefaultUsersProperties.class,
+        LastLoginProperties.class,
+        OwnershipCacheProperties.class,
+        PrincipalCacheProperties.class,
+        ReplyCountProperties.class,
+        ViewCountProperties.class
 })
 public class PropertiesConfiguration {
 }
@@ -0,0 +1,23 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 게시글 댓글 수 카운터 재계산 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.reply-count")
+public record ReplyCountProperties(
+        /**
+         * 어긋난 댓글 수를 찾아 보정하는 주기
+         */
+        @DefaultValue("PT10M") Duration reconcileInterval,
+
+        /**
+         * 한 번의 보정 쿼리로 확인할 최대 게시글 수
+         */
+        @DefaultValue("500") int batchSize
+) {
+}
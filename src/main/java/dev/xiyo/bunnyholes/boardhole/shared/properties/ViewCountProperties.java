@@ -0,0 +1,23 @@
+package dev.xiyo.bunnyholes.boardhole.shared.properties;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 조회수 write-behind 버퍼 설정
+ */
+@ConfigurationProperties(prefix = "boardhole.view-count")
+public record ViewCountProperties(
+        /**
+         * 누적된 조회수를 DB에 반영하는 주기
+         */
+        @DefaultValue("PT5S") Duration flushInterval,
+
+        /**
+         * 한 번의 JDBC 배치로 전송할 최대 게시글 수
+         */
+        @DefaultValue("500") int maxBatchSize
+) {
+}
@@ -0,0 +1,36 @@
+package dev.xiyo.bunnyholes.boardhole.shared.scheduling;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 주기 작업 잠금
+ * 작업 이름마다 한 행이며, 잠금 만료 시각이 지난 행만 다른 노드가 가져갈 수 있습니다.
+ * 행은 {@link SchedulerLockRepository}의 원자적 INSERT/UPDATE로만 변경합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "scheduler_locks")
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    /** 잠금 만료 시각 (작업이 끝나면 해제 시각으로 당겨짐) */
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    /** 잠금을 가진 노드 */
+    @Column(nullable = false, length = 100)
+    private String lockedBy;
+}
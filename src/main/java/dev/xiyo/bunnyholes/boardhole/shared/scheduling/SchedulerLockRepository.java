@@ -0,0 +1,44 @@
+package dev.xiyo.bunnyholes.boardhole.shared.scheduling;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /**
+     * 만료된 잠금 획득
+     *
+     * @return 획득했으면 1, 다른 노드가 가지고 있거나 행이 없으면 0
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+            UPDATE SchedulerLock l SET l.lockedUntil = :until, l.lockedBy = :node
+            WHERE l.name = :name AND l.lockedUntil <= :now
+            """)
+    int acquire(@Param("name") String name, @Param("node") String node, @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * 처음 실행하는 작업의 잠금 행 생성
+     * 다른 노드가 동시에 만들면 기본 키 충돌로 실패합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query("INSERT INTO SchedulerLock (name, lockedUntil, lockedBy) VALUES (:name, :until, :node)")
+    void create(@Param("name") String name, @Param("node") String node, @Param("until") LocalDateTime until);
+
+    /**
+     * 자기 노드가 가진 잠금 해제
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :node")
+    int release(@Param("name") String name, @Param("node") String node, @Param("now") LocalDateTime now);
+}
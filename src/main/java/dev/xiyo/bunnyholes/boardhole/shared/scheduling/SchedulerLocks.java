@@ -0,0 +1,73 @@
+package dev.xiyo.bunnyholes.boardhole.shared.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 행 잠금으로 주기 작업을 노드 하나에서만 실행
+ * <p>
+ * 모든 노드가 같은 주기로 스케줄을 돌리더라도 잠금을 얻은 노드만 작업을 실행하고 나머지는 건너뜁니다.
+ * 잠금은 임대 기간이 지나면 만료되므로, 작업 중 노드가 죽어도 다음 주기에 다른 노드가 이어받습니다.
+ * 임대 기간은 작업이 끝날 수 있을 만큼 넉넉하게 잡고, 작업이 끝나면 바로 해제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLocks {
+
+    private final SchedulerLockRepository repository;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 잠금을 얻으면 작업을 실행하고 해제
+     *
+     * @param name  작업 이름
+     * @param lease 잠금 임대 기간
+     * @param task  실행할 작업
+     * @return 작업 결과 (다른 노드가 잠금을 가지고 있으면 빈 값)
+     */
+    public <T> Optional<T> runExclusively(String name, Duration lease, Supplier<T> task) {
+        if (!tryAcquire(name, lease)) {
+            log.debug("다른 노드가 실행 중이므로 건너뜀: lock={}", name);
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(task.get());
+        } finally {
+            release(name);
+        }
+    }
+
+    private boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        if (repository.acquire(name, nodeId, now, now.plus(lease)) == 1)
+            return true;
+        if (repository.existsById(name))
+            return false;
+        try {
+            repository.create(name, nodeId, now.plus(lease));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private void release(String name) {
+        try {
+            repository.release(name, nodeId, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            // 해제하지 못한 잠금은 임대 기간이 지나면 만료됨
+            log.warn("주기 작업 잠금 해제 실패: lock={}", name, e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * bunny.boardhole.shared.scheduling package
+ * 여러 노드 중 한 곳에서만 실행해야 하는 주기 작업 지원
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.scheduling;
+
+import org.jspecify.annotations.NullMarked;
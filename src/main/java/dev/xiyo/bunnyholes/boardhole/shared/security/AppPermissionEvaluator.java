@@ -2,6 +2,7 @@ package dev.xiyo.bunnyholes.boardhole.shared.security;
 
 import java.io.Serializable;
 import java.util.Locale;
+import java.util.UUID;
 
 import lombok.RequiredArgsConstructor;
 
@@ -16,6 +17,16 @@ import dev.xiyo.bunnyholes.boardhole.reply.infrastructure.ReplyRepository;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
+/**
+ * {@code hasPermission(id, type, permission)} 평가기
+ * <p>
+ * 소유자 확인의 근거인 작성자 사용자명은 {@link OwnershipCache}에 보관하므로,
+ * 같은 대상의 연속된 요청은 권한 확인에서 조회하지 않고 서비스의 엔티티 조회만 수행합니다.
+ * <p>
+ * 캐시에 없으면 작성자만 따로 조회하지 않고 서비스가 곧 읽을 엔티티를 {@code findById}로 불러옵니다.
+ * 요청 단위 영속성 컨텍스트(open-in-view) 안에서 이어지는 서비스의 {@code findById}는 이 엔티티를 그대로 재사용하므로
+ * 캐시가 비어 있어도 행은 한 번만 읽힙니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class AppPermissionEvaluator implements PermissionEvaluator {
@@ -23,6 +34,7 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
     private final BoardRepository boardRepository;
     private final ReplyRepository replyRepository;
     private final UserRepository userRepository;
+    private final OwnershipCache ownershipCache;
 
     private static boolean hasRole(Authentication auth, String role) {
         if (!auth.isAuthenticated())
@@ -45,9 +57,7 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
         String username = extractUsername(auth);
         if (username == null)
             return false;
-        return userRepository.findByUsername(username)
-                             .map(dev.xiyo.bunnyholes.boardhole.user.domain.User::isEmailVerified)
-                             .orElse(false);
+        return userRepository.findEmailVerifiedByUsername(username).orElse(false);
     }
 
     @Override
@@ -92,9 +102,10 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
 
     private boolean isBoardOwner(Authentication auth, String boardId) {
         try {
-            return boardRepository.findAuthorUsernameById(java.util.UUID.fromString(boardId))
-                                  .map(ownerUsername -> isSameUser(auth, ownerUsername))
-                                  .orElse(false);
+            return ownershipCache.owner(PermissionType.TARGET_BOARD, UUID.fromString(boardId),
+                                         id -> boardRepository.findById(id).map(board -> board.getAuthor().getUsername()))
+                                 .map(ownerUsername -> isSameUser(auth, ownerUsername))
+                                 .orElse(false);
         } catch (IllegalArgumentException e) {
             return false;
         }
@@ -102,9 +113,10 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
 
     private boolean isReplyOwner(Authentication auth, String replyId) {
         try {
-            return replyRepository.findByIdWithAuthor(java.util.UUID.fromString(replyId))
-                                  .map(reply -> isSameUser(auth, reply.getAuthor().getUsername()))
-                                  .orElse(false);
+            return ownershipCache.owner(PermissionType.TARGET_REPLY, UUID.fromString(replyId),
+                                         id -> replyRepository.findById(id).map(reply -> reply.getAuthor().getUsername()))
+                                 .map(ownerUsername -> isSameUser(auth, ownerUsername))
+                                 .orElse(false);
         } catch (IllegalArgumentException e) {
             return false;
         }
@@ -1,7 +1,10 @@
 package dev.xiyo.bunnyholes.boardhole.shared.security;
 
+import java.util.List;
+
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -14,24 +17,24 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 /**
  * 사용자 인증 세부 정보 서비스
  * Spring Security UserDetailsService 구현체로 사용자명 기반 인증을 담당합니다.
+ * 조회한 주체는 {@link PrincipalCache}에 보관해 인증마다 사용자를 다시 조회하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
 public class AppUserDetailsService implements UserDetailsService {
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return principalCache.get(username, this::load);
+    }
+
+    private AppUserPrincipal load(String username) {
         User user = userRepository
                 .findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException(MessageUtils.get("error.user.not-found.username", username)));
-        String[] authorities = user.getRoles().stream().map(role -> "ROLE_" + role.name()).toArray(String[]::new);
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getUsername())
-                .password(user.getPassword())
-                .authorities(authorities)
-                .accountLocked(false)
-                .disabled(false)
-                .build();
+        List<SimpleGrantedAuthority> authorities = user.getRoles().stream().map(role -> new SimpleGrantedAuthority("ROLE_" + role.name())).toList();
+        return new AppUserPrincipal(user.getId(), user.getUsername(), user.getPassword(), authorities);
     }
 }
@@ -0,0 +1,47 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.io.Serial;
+import java.util.Collection;
+import java.util.UUID;
+
+import lombok.Getter;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+/**
+ * 인증된 사용자 주체
+ * <p>
+ * Spring Security 기본 사용자 정보에 사용자 ID를 더해, 쓰기 경로가 ID를 얻으려고 사용자를 다시 조회하지 않도록 합니다.
+ */
+@Getter
+public class AppUserPrincipal extends User {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final UUID id;
+
+    public AppUserPrincipal(UUID id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, authorities);
+        this.id = id;
+    }
+
+    /**
+     * 현재 인증된 사용자가 주어진 사용자명이면 그 ID 반환
+     *
+     * @param username 사용자명
+     * @return 사용자 ID (인증 정보가 없거나 다른 사용자면 null)
+     */
+    public static @Nullable UUID currentIdOf(String username) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AppUserPrincipal principal
+                && principal.getUsername().equals(username))
+            return principal.getId();
+        return null;
+    }
+}
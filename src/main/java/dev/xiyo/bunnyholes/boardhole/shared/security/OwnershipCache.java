@@ -0,0 +1,172 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.OwnershipCacheProperties;
+
+/**
+ * (대상 타입, ID) → 소유자 사용자명 캐시
+ * <p>
+ * 게시글과 댓글의 작성자는 바뀌지 않으므로 권한 확인 결과의 근거인 작성자 사용자명을 짧게 보관합니다.
+ * 생성 시 작성자를 미리 넣어 두므로 작성 직후의 수정/삭제 요청은 권한 확인에서 조회하지 않고 서비스의 엔티티 조회 한 번만 수행합니다.
+ * <p>
+ * 노드별 로컬 캐시이며, 제거는 {@link TwoLevelCacheManager}의 무효화 채널로 다른 노드에도 전파됩니다.
+ * 전파가 실패하거나 채널이 없으면(Redis 미사용) 다른 노드의 항목은 TTL 안에 만료되며, 그 사이 요청은 서비스 조회에서 404가 됩니다.
+ * 적중/실패 수는 {@code cache.gets{cache=ownership}}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class OwnershipCache {
+
+    static final String NAME = "ownership";
+
+    private final @Nullable Cache<Key, String> cache;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    public OwnershipCache(OwnershipCacheProperties properties, MeterRegistry meterRegistry, ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        if (properties.ttl().isZero()) {
+            log.info("소유자 캐시 비활성");
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    /**
+     * 다른 노드가 보낸 소유자 무효화를 받도록 무효화 채널에 등록
+     */
+    @PostConstruct
+    public void subscribeInvalidation() {
+        Cache<Key, String> owners = cache;
+        if (owners != null && cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager) {
+            cacheManager.registerLocalCache(NAME, key -> {
+                Key parsed = key instanceof String encoded ? Key.decode(encoded) : null;
+                if (parsed != null)
+                    owners.invalidate(parsed);
+                else
+                    owners.invalidateAll();
+            });
+        }
+    }
+
+    /**
+     * 캐시된 소유자를 반환하고, 없으면 불러와 보관합니다.
+     *
+     * @param targetType 대상 타입 ({@link dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType}의 TARGET_*)
+     * @param id         대상 ID
+     * @param loader     캐시에 없을 때 소유자 사용자명을 조회하는 함수 (없는 대상은 캐시하지 않음)
+     * @return 소유자 사용자명 (대상이 없으면 empty)
+     */
+    public Optional<String> owner(String targetType, UUID id, Function<UUID, Optional<String>> loader) {
+        Cache<Key, String> owners = cache;
+        if (owners == null)
+            return loader.apply(id);
+        return Optional.ofNullable(owners.get(new Key(targetType, id), key -> loader.apply(key.id()).orElse(null)));
+    }
+
+    /**
+     * 소유자 등록 (생성 직후처럼 작성자를 이미 알고 있을 때)
+     * <p>
+     * 트랜잭션 안이면 롤백된 대상이 남지 않도록 커밋 후에 등록합니다.
+     *
+     * @param targetType    대상 타입
+     * @param id            대상 ID
+     * @param ownerUsername 소유자 사용자명
+     */
+    public void remember(String targetType, UUID id, String ownerUsername) {
+        Cache<Key, String> owners = cache;
+        if (owners == null)
+            return;
+        Key key = new Key(targetType, id);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            owners.put(key, ownerUsername);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                owners.put(key, ownerUsername);
+            }
+        });
+    }
+
+    /**
+     * 소유자 제거 (대상 삭제 시)
+     * <p>
+     * 즉시 제거하고, 트랜잭션 안이면 커밋 직후 한 번 더 제거해 그 사이 다시 적재된 값도 지웁니다.
+     * 다른 노드에는 커밋 후(트랜잭션 밖이면 즉시) 무효화를 전파합니다.
+     *
+     * @param targetType 대상 타입
+     * @param id         대상 ID
+     */
+    public void evict(String targetType, UUID id) {
+        Cache<Key, String> owners = cache;
+        if (owners == null)
+            return;
+        Key key = new Key(targetType, id);
+        owners.invalidate(key);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcastEviction(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                owners.invalidate(key);
+                broadcastEviction(key);
+            }
+        });
+    }
+
+    private void broadcastEviction(Key key) {
+        if (cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager)
+            cacheManager.broadcastEviction(NAME, key.encode());
+    }
+
+    /**
+     * 캐시 키 (무효화 채널로는 {@code 대상 타입:ID} 문자열로 보냄)
+     */
+    private record Key(String targetType, UUID id) {
+
+        private static final char SEPARATOR = ':';
+
+        static @Nullable Key decode(String encoded) {
+            int separator = encoded.lastIndexOf(SEPARATOR);
+            if (separator < 0)
+                return null;
+            try {
+                return new Key(encoded.substring(0, separator), UUID.fromString(encoded.substring(separator + 1)));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        String encode() {
+            return targetType + SEPARATOR + id;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.PrincipalCacheProperties;
+
+/**
+ * 사용자명 → 인증 주체 캐시
+ * <p>
+ * 폼 로그인, HTTP Basic, 자동 로그인이 매번 역할까지 사용자를 조회하지 않도록 주체 구성 값만 보관합니다.
+ * 인증 후 Spring Security가 주체의 비밀번호를 지우므로 주체 객체 대신 값을 보관하고 조회할 때마다 새 주체를 만듭니다.
+ * <p>
+ * 노드별 로컬 캐시이며, 제거는 {@link TwoLevelCacheManager}의 무효화 채널로 다른 노드에도 전파됩니다.
+ * 전파가 실패하거나 채널이 없으면(Redis 미사용) 다른 노드의 항목은 TTL 안에 만료됩니다.
+ * 적중/실패 수는 {@code cache.gets{cache=principal}}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    static final String NAME = "principal";
+
+    private final @Nullable Cache<String, Entry> cache;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry, ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        if (properties.ttl().isZero()) {
+            log.info("인증 주체 캐시 비활성");
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NAME);
+    }
+
+    /**
+     * 다른 노드가 보낸 주체 무효화를 받도록 무효화 채널에 등록
+     */
+    @PostConstruct
+    public void subscribeInvalidation() {
+        Cache<String, Entry> entries = cache;
+        if (entries != null && cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager) {
+            cacheManager.registerLocalCache(NAME, key -> {
+                if (key instanceof String username)
+                    entries.invalidate(username);
+                else
+                    entries.invalidateAll();
+            });
+        }
+    }
+
+    /**
+     * 캐시된 주체를 반환하고, 없으면 불러와 보관합니다.
+     *
+     * @param username 사용자명
+     * @param loader   캐시에 없을 때 주체를 불러오는 함수 (예외는 그대로 전파되고 캐시되지 않음)
+     * @return 새로 만든 주체
+     */
+    public AppUserPrincipal get(String username, Function<String, AppUserPrincipal> loader) {
+        Cache<String, Entry> entries = cache;
+        if (entries == null)
+            return loader.apply(username);
+        return entries.get(username, key -> Entry.of(loader.apply(key))).toPrincipal();
+    }
+
+    /**
+     * 사용자 주체 제거
+     * <p>
+     * 즉시 제거하고, 트랜잭션 안이면 커밋 직후 한 번 더 제거해 그 사이 다시 적재된 이전 값도 지웁니다.
+     * 다른 노드에는 커밋 후(트랜잭션 밖이면 즉시) 무효화를 전파해 커밋 전 값을 다시 적재하지 않도록 합니다.
+     *
+     * @param username 사용자명
+     */
+    public void evict(String username) {
+        Cache<String, Entry> entries = cache;
+        if (entries == null)
+            return;
+        entries.invalidate(username);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcastEviction(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.invalidate(username);
+                broadcastEviction(username);
+            }
+        });
+    }
+
+    private void broadcastEviction(String username) {
+        if (cacheManagerProvider.getIfAvailable() instanceof TwoLevelCacheManager cacheManager)
+            cacheManager.broadcastEviction(NAME, username);
+    }
+
+    /**
+     * 주체 구성 값 (사용자 ID, 사용자명, 비밀번호 해시, 권한)
+     */
+    private record Entry(UUID id, String username, String password, List<String> authorities) {
+
+        static Entry of(AppUserPrincipal principal) {
+            return new Entry(principal.getId(), principal.getUsername(), principal.getPassword(),
+                    AuthorityUtils.authorityListToSet(principal.getAuthorities()).stream().toList());
+        }
+
+        AppUserPrincipal toPrincipal() {
+            return new AppUserPrincipal(id, username, password, AuthorityUtils.createAuthorityList(authorities));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.util.UUID;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
+
+/**
+ * 쓰기 명령의 사용자명을 사용자 ID로 변환
+ * <p>
+ * 외래 키만 채우면 되는 쓰기 경로에서 사용자 엔티티와 권한 목록을 읽지 않도록, 인증 주체의 ID를 우선 사용하고
+ * 주체에 ID가 없을 때만 ID 컬럼 하나를 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserIdResolver {
+
+    private final UserRepository userRepository;
+
+    /**
+     * @param username 사용자명
+     * @return 사용자 ID
+     * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
+     */
+    public UUID resolve(String username) {
+        UUID id = AppUserPrincipal.currentIdOf(username);
+        if (id != null)
+            return id;
+        return userRepository
+                .findIdByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.username", username)));
+    }
+}
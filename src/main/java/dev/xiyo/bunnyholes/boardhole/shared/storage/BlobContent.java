@@ -0,0 +1,40 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * 저장된 blob 읽기 핸들
+ * 내용을 힙 배열로 읽지 않고 대상 채널로 직접 전송합니다.
+ */
+public interface BlobContent {
+
+    /**
+     * @return 내용의 SHA-256 키
+     */
+    String key();
+
+    /**
+     * @return 바이트 수
+     */
+    long size();
+
+    /**
+     * 로컬 파일 경로 (서블릿 컨테이너의 sendfile 전송용)
+     *
+     * @return 로컬 파일에 저장된 경우 경로, 아니면 empty
+     */
+    Optional<Path> file();
+
+    /**
+     * 지정 구간을 대상 채널로 전송
+     *
+     * @param position 시작 위치
+     * @param count    전송할 바이트 수
+     * @param target   대상 채널
+     * @throws IOException 읽기 또는 전송 실패 시
+     */
+    void transferTo(long position, long count, WritableByteChannel target) throws IOException;
+}
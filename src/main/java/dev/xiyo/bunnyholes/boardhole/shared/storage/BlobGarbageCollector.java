@@ -0,0 +1,88 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BlobStoreProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.scheduling.SchedulerLocks;
+
+/**
+ * 참조되지 않는 blob 정리
+ * <p>
+ * 참조를 지우는 트랜잭션에서 blob을 바로 삭제하면 같은 내용을 동시에 올린 요청이 삭제될 파일을 참조할 수 있으므로,
+ * 수정 시각이 유예 기간보다 오래되었고 어떤 {@link BlobReferences}도 참조하지 않는 blob만 주기적으로 삭제합니다.
+ * 롤백된 업로드가 남긴 blob도 같은 방식으로 정리됩니다.
+ * 유예 기간은 업로드 후 참조가 커밋될 때까지 걸리는 시간보다 충분히 길어야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlobGarbageCollector {
+
+    static final String LOCK_NAME = "blob-gc";
+    private static final int BATCH_SIZE = 500;
+
+    private final BlobStore blobStore;
+    private final List<BlobReferences> references;
+    private final BlobStoreProperties properties;
+    private final SchedulerLocks schedulerLocks;
+
+    /**
+     * 주기적으로 노드 하나에서 정리 실행
+     *
+     * @return 삭제한 blob 수
+     */
+    @Scheduled(initialDelayString = "${boardhole.blob-store.gc-interval:PT1H}",
+               fixedDelayString = "${boardhole.blob-store.gc-interval:PT1H}")
+    public int collect() {
+        return schedulerLocks.runExclusively(LOCK_NAME, properties.gcInterval(), this::sweep).orElse(0);
+    }
+
+    int sweep() {
+        // 참조하는 쪽이 하나도 없으면 모든 blob이 미참조로 보이므로 삭제하지 않음
+        if (references.isEmpty())
+            return 0;
+
+        Instant cutoff = Instant.now().minus(properties.gcGracePeriod());
+        int deleted = 0;
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<String> keys = blobStore.keysModifiedBefore(cutoff)) {
+            for (String key : (Iterable<String>) keys::iterator) {
+                batch.add(key);
+                if (batch.size() == BATCH_SIZE) {
+                    deleted += deleteUnreferenced(batch, cutoff);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty())
+            deleted += deleteUnreferenced(batch, cutoff);
+
+        if (deleted > 0)
+            log.info("참조되지 않는 blob 정리: deleted={}", deleted);
+        return deleted;
+    }
+
+    private int deleteUnreferenced(List<String> keys, Instant cutoff) {
+        Set<String> referenced = new HashSet<>();
+        for (BlobReferences reference : references)
+            referenced.addAll(reference.referencedKeys(keys));
+
+        int deleted = 0;
+        for (String key : keys) {
+            if (!referenced.contains(key) && blobStore.deleteIfModifiedBefore(key, cutoff))
+                deleted++;
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * blob 키를 참조하는 쪽
+ * <p>
+ * {@link BlobGarbageCollector}는 등록된 모든 구현 중 어느 것도 참조하지 않는 blob만 삭제합니다.
+ * blob 저장소에 키를 저장하는 기능은 반드시 이 인터페이스를 구현해야 합니다.
+ */
+public interface BlobReferences {
+
+    /**
+     * 주어진 키 중 참조가 남아 있는 키
+     *
+     * @param keys 확인할 blob 키
+     * @return 참조 중인 키
+     */
+    Set<String> referencedKeys(Collection<String> keys);
+}
@@ -0,0 +1,126 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+
+/**
+ * blob HTTP 응답 작성
+ * <p>
+ * 내용 키를 강한 ETag로 내보내고, {@code If-None-Match}가 같으면 304를 응답합니다.
+ * 단일 {@code Range} 요청은 206으로 해당 구간만, 범위를 벗어나면 416을 응답하며,
+ * 여러 구간 요청은 전체를 200으로 응답합니다.
+ * <p>
+ * 본문은 힙으로 읽지 않습니다. 컨테이너가 sendfile을 지원하면(Tomcat NIO, 평문 연결) 파일 경로만 넘겨 커널이 전송하고,
+ * 아니면 {@link java.nio.channels.FileChannel#transferTo}로 응답 스트림에 직접 전송합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BlobResponseWriter {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * blob 내용으로 응답 작성
+     *
+     * @param content     blob 읽기 핸들
+     * @param contentType 응답 Content-Type
+     * @param request     HTTP 요청
+     * @param response    HTTP 응답
+     * @throws IOException 전송 실패 시
+     */
+    public static void write(BlobContent content, MediaType contentType, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String etag = "\"" + content.key() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = content.size();
+        long start = 0;
+        long end = length - 1;
+
+        Optional<HttpRange> range = singleRange(request, etag);
+        if (range.isPresent()) {
+            try {
+                start = range.get().getRangeStart(length);
+                end = range.get().getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(count);
+        if (count <= 0 || "HEAD".equalsIgnoreCase(request.getMethod()))
+            return;
+
+        Optional<Path> file = content.file();
+        if (file.isPresent() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        WritableByteChannel channel = Channels.newChannel(response.getOutputStream());
+        content.transferTo(start, count, channel);
+        response.flushBuffer();
+    }
+
+    private static Optional<HttpRange> singleRange(HttpServletRequest request, String etag) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null)
+            return Optional.empty();
+        // If-Range가 현재 ETag와 다르면 전체를 응답
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag))
+            return Optional.empty();
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? Optional.of(ranges.getFirst()) : Optional.empty();
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static boolean matches(@Nullable String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null)
+            return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag))
+                return true;
+        }
+        return false;
+    }
+}
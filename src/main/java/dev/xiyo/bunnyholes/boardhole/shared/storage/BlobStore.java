@@ -0,0 +1,86 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 내용 주소 기반 blob 저장소
+ * <p>
+ * 내용의 SHA-256을 키로 사용하므로 같은 내용은 한 번만 저장되고, 키가 같으면 내용도 같습니다.
+ * 구현은 내용을 힙에 모으지 않고 스트림으로 저장하고 채널로 내보내야 합니다.
+ * 같은 키를 여러 곳에서 참조할 수 있으므로 참조를 지울 때 blob을 바로 삭제하지 않고,
+ * {@link BlobGarbageCollector}가 유예 기간이 지나도록 참조되지 않은 blob을 주기적으로 삭제합니다.
+ * 이미 있는 내용을 다시 저장하면 수정 시각을 갱신해 유예 기간을 다시 시작합니다.
+ */
+public interface BlobStore {
+
+    /**
+     * 스트림 내용을 저장
+     *
+     * @param content 저장할 내용 (호출자가 닫음)
+     * @return 저장된 blob 정보
+     * @throws IOException 원본 스트림을 읽지 못한 경우 (저장소 쓰기 실패는 {@link java.io.UncheckedIOException})
+     */
+    StoredBlob put(InputStream content) throws IOException;
+
+    /**
+     * 이미 파일로 받은 업로드를 저장
+     * 업로드 내용을 한 번만 읽으며 저장과 해시 계산을 함께 하므로, 저장한 내용을 해시하려고 다시 읽지 않습니다.
+     *
+     * @param upload 업로드 내용을 여는 함수 (저장소가 닫음)
+     * @return 저장된 blob 정보
+     * @throws IOException 업로드를 읽지 못한 경우
+     */
+    StoredBlob putUpload(Upload upload) throws IOException;
+
+    /**
+     * 저장된 내용 열기
+     *
+     * @param key 내용 키
+     * @return 읽기 핸들 (없거나 키 형식이 잘못되었으면 empty)
+     */
+    Optional<BlobContent> open(String key);
+
+    /**
+     * 수정 시각이 기준보다 이전인 blob 키 나열 (정리 대상 후보)
+     *
+     * @param cutoff 기준 시각
+     * @return blob 키 스트림 (호출자가 닫음)
+     */
+    Stream<String> keysModifiedBefore(Instant cutoff);
+
+    /**
+     * 수정 시각이 여전히 기준보다 이전이면 삭제
+     * 후보를 나열한 뒤 같은 내용이 다시 저장되었으면 삭제하지 않습니다.
+     *
+     * @param key    내용 키
+     * @param cutoff 기준 시각
+     * @return 삭제했으면 true
+     */
+    boolean deleteIfModifiedBefore(String key, Instant cutoff);
+
+    /**
+     * 저장된 내용 삭제 (없으면 무시)
+     *
+     * @param key 내용 키
+     */
+    void delete(String key);
+
+    /**
+     * 파일로 받은 업로드 (예: {@code multipartFile::getInputStream})
+     */
+    @FunctionalInterface
+    interface Upload {
+
+        /**
+         * 업로드 내용 열기
+         *
+         * @return 업로드 내용 스트림
+         * @throws IOException 열지 못한 경우
+         */
+        InputStream openStream() throws IOException;
+    }
+}
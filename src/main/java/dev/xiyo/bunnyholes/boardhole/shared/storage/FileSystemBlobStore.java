@@ -0,0 +1,274 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 파일 시스템 blob 저장소
+ * <p>
+ * 키가 {@code ab12...}이면 {@code {root}/ab/12/ab12...}에 저장합니다.
+ * 업로드는 {@code {root}/.tmp}의 임시 파일에 고정 크기 버퍼로 쓰면서 같은 버퍼로 해시를 계산하고(이미 파일로 받은 업로드도
+ * 한 번만 읽으며 복사와 해시를 함께 처리하고), 끝나면 최종 경로로 원자적으로 옮깁니다. 같은 내용이 이미 있으면 수정 시각만 갱신하고 임시 파일을 지웁니다.
+ * <p>
+ * 정리 삭제는 파일을 {@code .tmp}로 옮긴 뒤 수정 시각을 다시 확인합니다. 옮기기 전에 저장이 수정 시각을 갱신했으면
+ * 되돌려 놓고, 옮긴 뒤의 저장은 파일이 없으므로 새로 만듭니다. 따라서 저장이 돌려준 키의 파일은 정리로 사라지지 않습니다.
+ * 읽기는 {@link FileChannel#transferTo}로 전송해 내용을 힙 배열로 복사하지 않습니다.
+ */
+@Slf4j
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public FileSystemBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve(".tmp");
+        try {
+            Files.createDirectories(tempDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 저장소 디렉터리를 만들 수 없습니다: " + this.root, e);
+        }
+        log.info("파일 시스템 blob 저장소: {}", this.root);
+    }
+
+    @Override
+    public StoredBlob put(InputStream content) throws IOException {
+        Path temp = createTempFile();
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            OutputStream out = openForWrite(temp);
+            try {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    write(out, buffer, read);
+                    size += read;
+                }
+            } finally {
+                close(out);
+            }
+            return place(temp, HEX.formatHex(digest.digest()), size);
+        } finally {
+            deleteQuietly(temp);
+        }
+    }
+
+    @Override
+    public StoredBlob putUpload(Upload upload) throws IOException {
+        try (InputStream content = upload.openStream()) {
+            return put(content);
+        }
+    }
+
+    /**
+     * 업로드 임시 파일 디렉터리
+     * 컨테이너가 multipart 파트를 이곳에 받으면 {@link #putUpload(Upload)}가 같은 볼륨 안에서 한 번만 읽어 저장합니다.
+     */
+    public Path uploadDirectory() {
+        return tempDirectory;
+    }
+
+    @Override
+    public Optional<BlobContent> open(String key) {
+        if (!isValidKey(key))
+            return Optional.empty();
+        Path path = pathOf(key);
+        try {
+            return Optional.of(new FileBlobContent(key, path, Files.size(path)));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        if (!isValidKey(key))
+            return;
+        try {
+            Files.deleteIfExists(pathOf(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob을 삭제할 수 없습니다: " + key, e);
+        }
+    }
+
+    @Override
+    public Stream<String> keysModifiedBefore(Instant cutoff) {
+        try {
+            return Files.find(root, 3, (path, attributes) -> attributes.isRegularFile()
+                            && attributes.lastModifiedTime().toInstant().isBefore(cutoff)
+                            && isValidKey(path.getFileName().toString()))
+                        .map(path -> path.getFileName().toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 목록을 읽을 수 없습니다: " + root, e);
+        }
+    }
+
+    @Override
+    public boolean deleteIfModifiedBefore(String key, Instant cutoff) {
+        if (!isValidKey(key))
+            return false;
+        Path path = pathOf(key);
+        Path removed = tempDirectory.resolve("gc-" + UUID.randomUUID() + ".part");
+        try {
+            if (!modifiedBefore(path, cutoff))
+                return false;
+            Files.move(path, removed, StandardCopyOption.ATOMIC_MOVE);
+            if (modifiedBefore(removed, cutoff)) {
+                Files.delete(removed);
+                return true;
+            }
+            // 옮기기 직전에 같은 내용이 다시 저장됨 (그 사이 새로 만들어졌다면 내용이 같으므로 덮어써도 무방)
+            Files.move(removed, path, StandardCopyOption.ATOMIC_MOVE);
+            return false;
+        } catch (NoSuchFileException | FileAlreadyExistsException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob을 삭제할 수 없습니다: " + key, e);
+        } finally {
+            deleteQuietly(removed);
+        }
+    }
+
+    // 같은 내용이 이미 있으면 수정 시각만 갱신하고, 없으면 임시 파일을 최종 경로로 옮긴다
+    private StoredBlob place(Path temp, String key, long size) {
+        Path target = pathOf(key);
+        if (touch(target))
+            return new StoredBlob(key, size, false);
+        moveIntoPlace(temp, target);
+        return new StoredBlob(key, size, true);
+    }
+
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static boolean isValidKey(String key) {
+        return KEY_PATTERN.matcher(key).matches();
+    }
+
+    private Path createTempFile() {
+        try {
+            return Files.createTempFile(tempDirectory, "upload-", ".part");
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 임시 파일을 만들 수 없습니다", e);
+        }
+    }
+
+    private static OutputStream openForWrite(Path temp) {
+        try {
+            return Files.newOutputStream(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob 임시 파일을 열 수 없습니다: " + temp, e);
+        }
+    }
+
+    private static void close(OutputStream out) {
+        try {
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob을 저장할 수 없습니다", e);
+        }
+    }
+
+    private static void write(OutputStream out, byte[] buffer, int length) {
+        try {
+            out.write(buffer, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob을 저장할 수 없습니다", e);
+        }
+    }
+
+    // 기존 blob의 수정 시각을 갱신해 정리 유예 기간을 다시 시작한다 (없으면 false)
+    private static boolean touch(Path path) {
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob을 저장할 수 없습니다: " + path, e);
+        }
+    }
+
+    private static boolean modifiedBefore(Path path, Instant cutoff) throws IOException {
+        return Files.getLastModifiedTime(path).toInstant().isBefore(cutoff);
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) {
+        try {
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("blob을 저장할 수 없습니다: " + target, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("blob 임시 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record FileBlobContent(String key, Path path, long size) implements BlobContent {
+
+        @Override
+        public Optional<Path> file() {
+            return Optional.of(path);
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                long sent = 0;
+                while (sent < count) {
+                    long transferred = channel.transferTo(position + sent, count - sent, target);
+                    if (transferred <= 0)
+                        throw new IOException("blob이 전송 중에 줄어들었습니다: " + key);
+                    sent += transferred;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 파일 앞부분의 시그니처(매직 바이트)로 이미지 형식 판별
+ * <p>
+ * 클라이언트가 보낸 Content-Type 대신 실제 내용으로 형식을 정합니다.
+ * 앞의 {@value #HEADER_LENGTH}바이트만 보므로 스트림 전체를 읽지 않습니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ImageTypeSniffer {
+
+    /** 판별에 필요한 앞부분 바이트 수 */
+    public static final int HEADER_LENGTH = 12;
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] GIF87A = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GIF89A = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP = "WEBP".getBytes(StandardCharsets.US_ASCII);
+    private static final String IMAGE_WEBP_VALUE = "image/webp";
+
+    /** 판별할 수 있는 이미지 MIME 타입 */
+    public static final List<String> SUPPORTED_TYPES =
+            List.of(MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_GIF_VALUE, IMAGE_WEBP_VALUE);
+
+    /**
+     * 스트림 앞부분으로 이미지 형식 판별
+     * 읽은 앞부분은 {@link InputStream#reset()}으로 되돌리므로 이후 스트림을 처음부터 다시 읽을 수 있습니다.
+     *
+     * @param content mark/reset을 지원하는 스트림
+     * @return 판별된 이미지 MIME 타입 (PNG, JPEG, GIF, WebP가 아니면 empty)
+     * @throws IOException 스트림을 읽지 못한 경우
+     */
+    public static Optional<String> sniff(InputStream content) throws IOException {
+        if (!content.markSupported())
+            throw new IllegalArgumentException("mark/reset을 지원하는 스트림이 필요합니다");
+        content.mark(HEADER_LENGTH);
+        byte[] header = content.readNBytes(HEADER_LENGTH);
+        content.reset();
+        return sniff(header);
+    }
+
+    /**
+     * 앞부분 바이트로 이미지 형식 판별
+     *
+     * @param header 파일 앞부분 (최대 {@value #HEADER_LENGTH}바이트)
+     * @return 판별된 이미지 MIME 타입 (PNG, JPEG, GIF, WebP가 아니면 empty)
+     */
+    public static Optional<String> sniff(byte[] header) {
+        if (startsWith(header, 0, PNG))
+            return Optional.of(MediaType.IMAGE_PNG_VALUE);
+        if (startsWith(header, 0, JPEG))
+            return Optional.of(MediaType.IMAGE_JPEG_VALUE);
+        if (startsWith(header, 0, GIF87A) || startsWith(header, 0, GIF89A))
+            return Optional.of(MediaType.IMAGE_GIF_VALUE);
+        // RIFF 컨테이너: "RIFF" + 4바이트 길이 + "WEBP"
+        if (startsWith(header, 0, RIFF) && startsWith(header, 8, WEBP))
+            return Optional.of(IMAGE_WEBP_VALUE);
+        return Optional.empty();
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] signature) {
+        return header.length >= offset + signature.length
+                && Arrays.equals(header, offset, offset + signature.length, signature, 0, signature.length);
+    }
+}
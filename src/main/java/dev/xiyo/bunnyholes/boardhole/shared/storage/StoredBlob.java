@@ -0,0 +1,11 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+/**
+ * 저장된 blob 정보
+ *
+ * @param key     내용의 SHA-256 (소문자 16진수 64자)
+ * @param size    바이트 수
+ * @param created 이번 저장으로 새로 만들어졌는지 여부 (같은 내용이 이미 있었으면 false)
+ */
+public record StoredBlob(String key, long size, boolean created) {
+}
@@ -0,0 +1,8 @@
+/**
+ * bunny.boardhole.shared.storage package
+ * 내용 해시로 주소를 정하는 바이너리(blob) 저장소
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import org.jspecify.annotations.NullMarked;
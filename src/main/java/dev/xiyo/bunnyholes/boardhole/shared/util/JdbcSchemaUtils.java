@@ -0,0 +1,42 @@
+package dev.xiyo.bunnyholes.boardhole.shared.util;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * 스키마 확인/변경 유틸리티 클래스
+ * - Flyway Java 마이그레이션이 Hibernate보다 먼저 실행될 때 현재 스키마를 확인하는 용도
+ * - 이름은 DB에 저장된 대소문자(PostgreSQL은 소문자) 그대로 전달
+ */
+@UtilityClass
+public class JdbcSchemaUtils {
+
+    public boolean tableExists(Connection connection, String table) throws SQLException {
+        try (ResultSet tables = connection.getMetaData().getTables(null, connection.getSchema(), table, null)) {
+            return tables.next();
+        }
+    }
+
+    public boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(null, connection.getSchema(), table, column)) {
+            return columns.next();
+        }
+    }
+
+    public boolean columnNullable(Connection connection, String table, String column) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(null, connection.getSchema(), table, column)) {
+            return columns.next() && columns.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls;
+        }
+    }
+
+    public void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.command;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.LastLoginProperties;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserLastLoginWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 마지막 로그인 시간 write-behind 버퍼
+ * <p>
+ * 로그인마다 사용자 엔티티를 읽어 저장하는 대신 사용자별 가장 최근 로그인 시간만 보관하고,
+ * 주기적으로 하나의 JDBC 배치로 반영합니다. 로그인 요청은 비밀번호 확인 외에 DB 쓰기를 기다리지 않습니다.
+ * <p>
+ * 대기 중인 사용자 수가 상한에 닿으면 새 사용자의 로그인 시간은 버리고 {@code boardhole.last-login.dropped}로 집계합니다.
+ * 반영에 실패한 값은 버퍼로 되돌려 다음 주기에 재시도하며, 애플리케이션 종료 시 남은 값을 마지막으로 반영합니다.
+ * 가장 오래 기다린 값의 지연은 {@code boardhole.last-login.lag}로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class LastLoginRecorder {
+
+    private final ConcurrentHashMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final UserLastLoginWriter lastLoginWriter;
+    private final LastLoginProperties properties;
+    private final Counter flushedLogins;
+    private final Counter failedLogins;
+    private final Counter droppedLogins;
+
+    public LastLoginRecorder(UserLastLoginWriter lastLoginWriter, LastLoginProperties properties, MeterRegistry meterRegistry) {
+        this.lastLoginWriter = lastLoginWriter;
+        this.properties = properties;
+        this.flushedLogins = Counter.builder("boardhole.last-login.flushed")
+                                    .description("DB에 반영된 마지막 로그인 시간")
+                                    .register(meterRegistry);
+        this.failedLogins = Counter.builder("boardhole.last-login.failed")
+                                   .description("반영에 실패해 재시도 대기 중으로 되돌린 마지막 로그인 시간")
+                                   .register(meterRegistry);
+        this.droppedLogins = Counter.builder("boardhole.last-login.dropped")
+                                    .description("대기 상한을 넘어 기록하지 않은 로그인")
+                                    .register(meterRegistry);
+        Gauge.builder("boardhole.last-login.pending", pending, Map::size)
+             .description("반영 대기 중인 사용자 수")
+             .register(meterRegistry);
+        Gauge.builder("boardhole.last-login.lag", this, recorder -> recorder.lag().toMillis() / 1000.0)
+             .description("가장 오래 반영을 기다린 로그인 시간의 지연")
+             .baseUnit("seconds")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 1회 기록 (같은 사용자의 여러 로그인은 가장 최근 시간 하나로 합쳐짐)
+     *
+     * @param username 로그인한 사용자명
+     */
+    public void record(String username) {
+        if (pending.size() >= properties.maxPending() && !pending.containsKey(username)) {
+            droppedLogins.increment();
+            log.debug("마지막 로그인 대기 상한 초과로 기록 생략. username={}", username);
+            return;
+        }
+        pending.merge(username, LocalDateTime.now(), LastLoginRecorder::latest);
+    }
+
+    /**
+     * 반영 대기 중인 사용자 수
+     *
+     * @return 아직 DB에 반영되지 않은 사용자 수
+     */
+    public int pendingUsers() {
+        return pending.size();
+    }
+
+    /**
+     * 가장 오래 반영을 기다린 로그인 시간의 지연
+     *
+     * @return 대기 중인 값 중 가장 오래된 로그인 이후 경과 시간 (대기 중인 값이 없으면 0)
+     */
+    public Duration lag() {
+        return pending.values().stream()
+                      .min(LocalDateTime::compareTo)
+                      .map(oldest -> Duration.between(oldest, LocalDateTime.now()))
+                      .orElse(Duration.ZERO);
+    }
+
+    /**
+     * 모인 로그인 시간을 DB에 반영
+     * 스케줄러와 종료 훅이 동시에 호출해도 한 번에 하나의 flush만 수행됩니다.
+     */
+    @Scheduled(fixedDelayString = "${boardhole.last-login.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<String, LocalDateTime> chunk = new LinkedHashMap<>();
+            for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+                // 읽은 뒤 더 최근 로그인이 들어왔으면 제거하지 않고 다음 주기에 반영
+                if (!pending.remove(entry.getKey(), entry.getValue()))
+                    continue;
+                chunk.put(entry.getKey(), entry.getValue());
+                if (chunk.size() >= properties.maxBatchSize()) {
+                    write(chunk);
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+            write(chunk);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Graceful shutdown 시 남은 로그인 시간 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 마지막 로그인 시간 반영. pendingUsers={}", pending.size());
+        flush();
+    }
+
+    private void write(Map<String, LocalDateTime> chunk) {
+        if (chunk.isEmpty())
+            return;
+
+        try {
+            int updated = lastLoginWriter.updateLastLogins(chunk);
+            flushedLogins.increment(chunk.size());
+            log.debug("마지막 로그인 시간 반영 완료. users={}, updated={}", chunk.size(), updated);
+        } catch (DataAccessException ex) {
+            chunk.forEach((username, loggedInAt) -> pending.merge(username, loggedInAt, LastLoginRecorder::latest));
+            failedLogins.increment(chunk.size());
+            log.warn("마지막 로그인 시간 반영 실패 - 다음 주기에 재시도. users={}", chunk.size(), ex);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.user.application.command;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.util.Set;
 
@@ -9,7 +10,7 @@ import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -18,17 +19,26 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.util.unit.DataSize;
 
-import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.EvictCacheTags;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.DuplicateEmailException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.DuplicateUsernameException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.InvalidFileException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BlobStoreProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.security.PrincipalCache;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobGarbageCollector;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.ImageTypeSniffer;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.StoredBlob;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import dev.xiyo.bunnyholes.boardhole.user.application.event.UserCredentialsRevokedEvent;
 import dev.xiyo.bunnyholes.boardhole.user.application.mapper.UserMapper;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserProfileImageRepository;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 /**
@@ -41,20 +51,14 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 @RequiredArgsConstructor
 public class UserCommandService {
 
-    private static final DataSize MAX_PROFILE_IMAGE_SIZE = DataSize.ofMegabytes(100);
-    private static final long MAX_PROFILE_IMAGE_SIZE_BYTES = MAX_PROFILE_IMAGE_SIZE.toBytes();
-    private static final Set<String> ALLOWED_PROFILE_IMAGE_TYPES = Set.of(
-            "image/jpeg",
-            "image/jpg",
-            "image/pjpeg",
-            "image/png",
-            "image/x-png",
-            "image/gif",
-            "image/webp");
-
     private final UserRepository userRepository;
+    private final UserProfileImageRepository userProfileImageRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final PrincipalCache principalCache;
+    private final BlobStore blobStore;
+    private final BlobStoreProperties blobStoreProperties;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 생성
@@ -65,7 +69,6 @@ public class UserCommandService {
      * @throws DuplicateEmailException    이메일 중복 시
      */
     @Transactional
-    @CacheEvict(cacheNames = CacheConstants.User.CACHE_NAME, allEntries = true)
     public UserResult create(@Valid CreateUserCommand cmd) {
         User saved = createUser(cmd);
         return userMapper.toResult(saved);
@@ -91,6 +94,7 @@ public class UserCommandService {
 
     /**
      * 사용자 정보 수정 - @DynamicUpdate를 활용한 선택적 업데이트
+     * 이름이 바뀔 수 있으므로 사용자 캐시와 함께 작성자 이름을 담은 게시글 캐시도 제거합니다.
      *
      * @param cmd 사용자 수정 명령
      * @return 수정된 사용자 결과
@@ -98,7 +102,7 @@ public class UserCommandService {
      */
     @Transactional
     @PreAuthorize("hasRole('ADMIN') or #cmd.username().equalsIgnoreCase(authentication.name)")
-    @CacheEvict(cacheNames = CacheConstants.User.CACHE_NAME, allEntries = true)
+    @EvictCacheTags(expressions = {"T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.user(#cmd.username())", "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.author(#result.id())"})
     public UserResult update(@Valid UpdateUserCommand cmd) {
         String username = cmd.username();
         User user = userRepository
@@ -108,31 +112,37 @@ public class UserCommandService {
         userMapper.updateUserFromCommand(cmd, user);
 
         User saved = userRepository.save(user);
+        principalCache.evict(username);
 
         return userMapper.toResult(saved);
     }
 
     /**
      * 사용자 삭제
+     * 커밋 후 발급한 API 토큰도 모두 폐기됩니다.
      *
      * @param username 삭제할 사용자명
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Transactional
     @PreAuthorize("hasRole('ADMIN') or #username.equalsIgnoreCase(authentication.name)")
-    @CacheEvict(cacheNames = CacheConstants.User.CACHE_NAME, allEntries = true)
+    @EvictCacheTags(expressions = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.user(#username)")
     public void delete(@NotBlank String username) {
         User existing = userRepository
                 .findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.username", username)));
 
+        removeProfileImage(existing);
         userRepository.delete(existing);
+        principalCache.evict(username);
+        eventPublisher.publishEvent(new UserCredentialsRevokedEvent(existing.getId(), existing.getUsername()));
     }
 
     /**
-     * 마지막 로그인 시간 업데이트
+     * 마지막 로그인 시간 즉시 업데이트
+     * 로그인 요청 경로는 {@link LastLoginRecorder}로 모아 주기적으로 일괄 반영합니다.
      *
-     * @param userId 로그인한 사용자 ID
+     * @param username 로그인한 사용자명
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
     @Transactional
@@ -146,6 +156,7 @@ public class UserCommandService {
 
     /**
      * 패스워드 변경
+     * 커밋 후 발급한 API 토큰을 모두 폐기하므로 토큰은 새 비밀번호로 다시 발급받아야 합니다.
      *
      * @param cmd 패스워드 변경 명령
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
@@ -153,7 +164,7 @@ public class UserCommandService {
      */
     @Transactional
     @PreAuthorize("hasRole('ADMIN') or #cmd.username().equalsIgnoreCase(authentication.name)")
-    @CacheEvict(cacheNames = CacheConstants.User.CACHE_NAME, allEntries = true)
+    @EvictCacheTags(expressions = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.user(#cmd.username())")
     public void updatePassword(@Valid UpdatePasswordCommand cmd) {
         User user = userRepository
                 .findByUsername(cmd.username())
@@ -168,17 +179,20 @@ public class UserCommandService {
         // 새 패스워드 설정
         user.changePassword(passwordEncoder.encode(cmd.newPassword()));
         userRepository.save(user);
+        principalCache.evict(cmd.username());
+        eventPublisher.publishEvent(new UserCredentialsRevokedEvent(user.getId(), user.getUsername()));
     }
 
     @Transactional
     @PreAuthorize("hasRole('ADMIN') or #cmd.username().equalsIgnoreCase(authentication.name)")
-    @CacheEvict(cacheNames = CacheConstants.User.CACHE_NAME, allEntries = true)
+    @EvictCacheTags(expressions = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).Tag.user(#cmd.username())")
     public UserResult updateProfileImage(@Valid UpdateUserProfileImageCommand cmd) {
         User user = userRepository
                 .findByUsername(cmd.username())
                 .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.username", cmd.username())));
 
         if (cmd.remove()) {
+            removeProfileImage(user);
             user.clearProfileImage();
         } else {
             MultipartFile image = cmd.image();
@@ -186,29 +200,59 @@ public class UserCommandService {
                 throw new InvalidFileException(MessageUtils.get("error.user.profile-image.empty"));
 
             validateProfileImage(image);
-            byte[] bytes = toBytes(image);
-            user.updateProfileImage(bytes, image.getContentType(), image.getSize());
+            // 컨테이너가 받아 둔 업로드 파일을 blob 저장소로 옮긴 뒤 참조만 교체한다
+            StoredProfileImage stored = storeProfileImage(image);
+            StoredBlob blob = stored.blob();
+            removeProfileImage(user);
+            userProfileImageRepository.save(new UserProfileImage(user, blob.key(), stored.contentType(), blob.size()));
+            user.updateProfileImage(stored.contentType(), blob.size());
         }
 
         User saved = userRepository.save(user);
         return userMapper.toResult(saved);
     }
 
+    // 크기 상한은 컨테이너가 파트를 받는 도중에 먼저 적용하며(413), 여기서는 받아 둔 파일의 실제 크기로 다시 확인한다
+    // 형식은 클라이언트가 보낸 Content-Type으로 거르지 않고 저장할 때 실제 내용으로만 정한다
     private void validateProfileImage(MultipartFile image) {
-        if (image.getSize() > MAX_PROFILE_IMAGE_SIZE_BYTES)
-            throw new InvalidFileException(MessageUtils.get("error.user.profile-image.size-exceeded", MAX_PROFILE_IMAGE_SIZE.toMegabytes()));
-
-        String contentType = image.getContentType();
-        if (contentType == null || ALLOWED_PROFILE_IMAGE_TYPES.stream().noneMatch(contentType::equalsIgnoreCase))
-            throw new InvalidFileException(MessageUtils.get("error.user.profile-image.unsupported", String.join(", ", ALLOWED_PROFILE_IMAGE_TYPES)));
+        DataSize maxSize = blobStoreProperties.maxUploadSize();
+        if (image.getSize() > maxSize.toBytes())
+            throw new InvalidFileException(MessageUtils.get("error.user.profile-image.size-exceeded", maxSize.toMegabytes()));
     }
 
-    private byte[] toBytes(MultipartFile image) {
+    /**
+     * 형식은 클라이언트가 보낸 Content-Type이 아니라 앞부분 시그니처로 정하고,
+     * 업로드 파일은 blob 저장소가 한 번만 읽으며 해시를 계산해 저장합니다.
+     */
+    private StoredProfileImage storeProfileImage(MultipartFile image) {
         try {
-            return image.getBytes();
+            String contentType = sniffProfileImage(image);
+            StoredBlob blob = blobStore.putUpload(image::getInputStream);
+            return new StoredProfileImage(blob, contentType);
         } catch (IOException e) {
             throw new InvalidFileException(MessageUtils.get("error.user.profile-image.read"), e);
         }
     }
 
+    private static String sniffProfileImage(MultipartFile image) throws IOException {
+        try (BufferedInputStream content = new BufferedInputStream(image.getInputStream())) {
+            return ImageTypeSniffer.sniff(content).orElseThrow(UserCommandService::unsupportedProfileImage);
+        }
+    }
+
+    private static InvalidFileException unsupportedProfileImage() {
+        return new InvalidFileException(MessageUtils.get("error.user.profile-image.unsupported", String.join(", ", ImageTypeSniffer.SUPPORTED_TYPES)));
+    }
+
+    /**
+     * 사용자의 프로필 이미지 참조 삭제
+     * 같은 내용을 다른 요청이 동시에 참조할 수 있으므로 blob은 여기서 지우지 않고 {@link BlobGarbageCollector}가 정리합니다.
+     */
+    private void removeProfileImage(User user) {
+        userProfileImageRepository.deleteByUserId(user.getId());
+    }
+
+    private record StoredProfileImage(StoredBlob blob, String contentType) {
+    }
+
 }
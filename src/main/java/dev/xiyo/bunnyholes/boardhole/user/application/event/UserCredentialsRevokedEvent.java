@@ -0,0 +1,13 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자 자격 증명 무효화 이벤트
+ * 탈퇴나 비밀번호 변경처럼 이전에 발급한 인증 수단을 더 이상 믿으면 안 될 때 발행되며, 발급한 API 토큰의 폐기를 트리거합니다.
+ *
+ * @param userId   사용자 ID
+ * @param username 사용자명
+ */
+public record UserCredentialsRevokedEvent(UUID userId, String username) {
+}
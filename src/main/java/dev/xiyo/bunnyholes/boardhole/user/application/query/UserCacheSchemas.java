@@ -0,0 +1,63 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.query;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.codec.CacheValueSchema;
+import dev.xiyo.bunnyholes.boardhole.user.application.result.UserProfileImageResult;
+import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+
+/**
+ * 사용자 캐시 값 바이너리 스키마
+ * 필드는 끝에만 추가하고, 타입 ID와 기존 필드 순서는 바꾸지 않습니다.
+ * 역할은 이름으로 기록하며, 읽을 때 모르는 역할 이름은 무시합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class UserCacheSchemas {
+
+    static final int USER_RESULT = 32;
+    // 33은 이미지 바이트를 담던 이전 프로필 이미지 결과에 쓰였으므로 다시 쓰지 않습니다.
+    static final int USER_PROFILE_IMAGE_RESULT = 34;
+
+    @Bean
+    public CacheValueSchema<UserResult> userResultSchema() {
+        return CacheValueSchema.of(USER_RESULT, UserResult.class,
+                (user, out) -> {
+                    out.writeUuid(user.id());
+                    out.writeString(user.username());
+                    out.writeString(user.name());
+                    out.writeString(user.email());
+                    out.writeDateTime(user.createdAt());
+                    out.writeDateTime(user.updatedAt());
+                    out.writeDateTime(user.lastLogin());
+                    out.writeStrings(user.roles().stream().map(Role::name).toList());
+                    out.writeBoolean(user.hasProfileImage());
+                },
+                in -> new UserResult(in.readUuid(), in.readString(), in.readString(), in.readString(), in.readDateTime(), in.readDateTime(),
+                        in.readDateTime(), readRoles(in.readStrings()), in.readBoolean()));
+    }
+
+    @Bean
+    public CacheValueSchema<UserProfileImageResult> userProfileImageResultSchema() {
+        return CacheValueSchema.of(USER_PROFILE_IMAGE_RESULT, UserProfileImageResult.class,
+                (image, out) -> {
+                    out.writeString(image.blobKey());
+                    out.writeString(image.contentType());
+                    out.writeLong(image.size());
+                },
+                in -> new UserProfileImageResult(in.readString(), in.readString(), in.readLong()));
+    }
+
+    private static Set<Role> readRoles(Iterable<String> names) {
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        for (String name : names)
+            for (Role role : Role.values())
+                if (role.name().equals(name))
+                    roles.add(role);
+        return roles;
+    }
+}
@@ -0,0 +1,35 @@
+package dev.xiyo.bunnyholes.boardhole.user.application.query;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheTagger;
+
+/**
+ * 사용자 캐시 항목 태그 부여
+ * 사용자 정보와 프로필 이미지 항목은 키에 담긴 사용자명으로 {@code user:{사용자명}} 태그를 받습니다.
+ */
+@Component
+public class UserCacheTagger implements CacheTagger {
+
+    private static final String GET_PREFIX = CacheConstants.User.GET + ":";
+    private static final String PROFILE_IMAGE_PREFIX = CacheConstants.User.PROFILE_IMAGE + ":";
+
+    @Override
+    public String cacheName() {
+        return CacheConstants.User.CACHE_NAME;
+    }
+
+    @Override
+    public Set<String> tags(Object key, Object value) {
+        if (!(key instanceof String name))
+            return Set.of();
+        if (name.startsWith(GET_PREFIX))
+            return Set.of(CacheConstants.Tag.user(name.substring(GET_PREFIX.length())));
+        if (name.startsWith(PROFILE_IMAGE_PREFIX))
+            return Set.of(CacheConstants.Tag.user(name.substring(PROFILE_IMAGE_PREFIX.length())));
+        return Set.of();
+    }
+}
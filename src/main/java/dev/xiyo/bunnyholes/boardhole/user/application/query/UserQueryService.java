@@ -17,6 +17,8 @@ import dev.xiyo.bunnyholes.boardhole.user.application.mapper.UserMapper;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserProfileImageResult;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserProfileImageRepository;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 /**
@@ -29,6 +31,7 @@ import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 public class UserQueryService {
 
     private final UserRepository userRepository;
+    private final UserProfileImageRepository userProfileImageRepository;
     private final UserMapper userMapper;
 
     /**
@@ -40,7 +43,7 @@ public class UserQueryService {
      */
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN') or #username.equalsIgnoreCase(authentication.name)")
-    @Cacheable(cacheNames = CacheConstants.User.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.userId(#username)")
+    @Cacheable(cacheNames = CacheConstants.User.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.userId(#username)", sync = true)
     public UserResult get(String username) {
         return userRepository
                 .findByUsername(username)
@@ -50,19 +53,15 @@ public class UserQueryService {
 
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN') or #username.equalsIgnoreCase(authentication.name)")
-    @Cacheable(cacheNames = CacheConstants.User.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.userProfileImage(#username)")
+    @Cacheable(cacheNames = CacheConstants.User.CACHE_NAME, key = "T(dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants).CacheKey.userProfileImage(#username)", sync = true)
     public UserProfileImageResult getProfileImage(String username) {
-        User user = userRepository
+        UserProfileImage image = userProfileImageRepository
                 .findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.not-found.username", username)));
-
-        if (!user.hasProfileImage())
-            throw new ResourceNotFoundException(MessageUtils.get("error.user.profile-image.not-found", username));
+                .orElseThrow(() -> userRepository.existsByUsername(username)
+                        ? new ResourceNotFoundException(MessageUtils.get("error.user.profile-image.not-found", username))
+                        : new ResourceNotFoundException(MessageUtils.get("error.user.not-found.username", username)));
 
-        byte[] image = user.getProfileImage();
-        return new UserProfileImageResult(image != null ? image.clone() : null,
-                user.getProfileImageContentType(),
-                user.getProfileImageSize() != null ? user.getProfileImageSize() : image.length);
+        return new UserProfileImageResult(image.getBlobKey(), image.getContentType(), image.getSize());
     }
 
     /**
@@ -1,4 +1,7 @@
 package dev.xiyo.bunnyholes.boardhole.user.application.result;
 
-public record UserProfileImageResult(byte[] data, String contentType, long size) {
+/**
+ * 프로필 이미지 메타데이터 (바이트는 blob 저장소에서 {@code blobKey}로 직접 전송)
+ */
+public record UserProfileImageResult(String blobKey, String contentType, long size) {
 }
@@ -8,7 +8,6 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
-import jakarta.persistence.Basic;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -16,13 +15,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotEmpty;
 
@@ -34,8 +29,7 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import org.hibernate.annotations.DynamicUpdate;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.UuidGenerator;
 
 import org.springframework.lang.Nullable;
 
@@ -60,7 +54,7 @@ public class User extends BaseEntity implements Serializable {
     @Serial
     private static final long serialVersionUID = 1L;
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidGenerator(style = UuidGenerator.Style.VERSION_7)
     @EqualsAndHashCode.Include
     private UUID id;
 
@@ -89,12 +83,6 @@ public class User extends BaseEntity implements Serializable {
     @Column
     private @Nullable LocalDateTime emailVerifiedAt;
 
-    @Lob
-    @Basic(fetch = FetchType.LAZY)
-    @JdbcTypeCode(SqlTypes.LONGVARBINARY)
-    @Column(name = "profile_image", columnDefinition = "bytea")
-    private byte[] profileImage;
-
     @Column(name = "profile_image_content_type", length = SchemaConstants.MIME_TYPE_MAX_LENGTH)
     private String profileImageContentType;
 
@@ -180,20 +168,27 @@ public class User extends BaseEntity implements Serializable {
         return Collections.unmodifiableSet(roles);
     }
 
-    public void updateProfileImage(byte[] profileImage, String contentType, long size) {
-        this.profileImage = profileImage != null ? profileImage.clone() : null;
+    /**
+     * 프로필 이미지 메타데이터 갱신
+     * <p>
+     * 이미지 바이트는 {@link UserProfileImage}에 저장되며, 사용자 행에는 표시용 메타데이터만 둡니다.
+     * </p>
+     *
+     * @param contentType 이미지 MIME 타입
+     * @param size        이미지 크기 (바이트)
+     */
+    public void updateProfileImage(String contentType, long size) {
         this.profileImageContentType = contentType;
         this.profileImageSize = size;
     }
 
     public void clearProfileImage() {
-        this.profileImage = null;
         this.profileImageContentType = null;
         this.profileImageSize = null;
     }
 
     public boolean hasProfileImage() {
-        return profileImage != null && profileImage.length > 0;
+        return profileImageSize != null && profileImageSize > 0;
     }
 
 }
@@ -0,0 +1,69 @@
+package dev.xiyo.bunnyholes.boardhole.user.domain;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import dev.xiyo.bunnyholes.boardhole.shared.domain.schema.SchemaConstants;
+
+/**
+ * 사용자 프로필 이미지 참조
+ * <p>
+ * 이미지 바이트는 DB가 아니라 {@link dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore}에 내용 해시(SHA-256)를 키로 저장하고,
+ * 이 엔티티는 그 키와 메타데이터만 보관합니다. 같은 이미지를 올린 사용자들은 같은 blob을 공유합니다.
+ * 예전에 이 테이블에 저장하던 이미지 바이트({@code image_data})는
+ * {@link dev.xiyo.bunnyholes.boardhole.user.infrastructure.migration.V2__MoveProfileImagesToBlobStore}가 blob 저장소로 옮깁니다.
+ * 이 엔티티는 프로필 이미지 엔드포인트에서만 조회하며,
+ * 메타데이터(타입, 크기)는 목록/상세 표시를 위해 {@link User}에도 함께 보관합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(exclude = "user")
+@Entity
+@Table(name = "user_profile_images", indexes = @Index(name = "idx_user_profile_image_blob_key", columnList = "blob_key"))
+public class UserProfileImage implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @EqualsAndHashCode.Include
+    private UUID userId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "blob_key", nullable = false, length = 64)
+    private String blobKey;
+
+    @Column(name = "content_type", nullable = false, length = SchemaConstants.MIME_TYPE_MAX_LENGTH)
+    private String contentType;
+
+    @Column(name = "image_size", nullable = false)
+    private long size;
+
+    public UserProfileImage(User user, String blobKey, String contentType, long size) {
+        this.user = user;
+        this.blobKey = blobKey;
+        this.contentType = contentType;
+        this.size = size;
+    }
+}
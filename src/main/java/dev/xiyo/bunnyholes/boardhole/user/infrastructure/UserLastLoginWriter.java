@@ -0,0 +1,53 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 마지막 로그인 시간 일괄 반영 리포지토리
+ * 버퍼에 모인 사용자별 마지막 로그인 시간을 하나의 JDBC 배치로 반영합니다.
+ * 엔티티를 읽지 않으므로 검증 리스너, 감사 필드, 버전은 거치지 않으며, 더 최근 값은 덮어쓰지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserLastLoginWriter {
+
+    private static final String UPDATE_SQL = "UPDATE users SET last_login = ? WHERE username = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 사용자별 마지막 로그인 시간 일괄 반영
+     *
+     * @param lastLogins 사용자명별 마지막 로그인 시간
+     * @return 실제로 반영된 사용자 수 (삭제된 사용자와 더 최근 값이 있는 사용자는 제외)
+     */
+    @Transactional
+    public int updateLastLogins(Map<String, LocalDateTime> lastLogins) {
+        if (lastLogins.isEmpty())
+            return 0;
+
+        List<Object[]> args = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((username, loggedInAt) -> {
+            Timestamp timestamp = Timestamp.valueOf(loggedInAt);
+            args.add(new Object[]{timestamp, username, timestamp});
+        });
+
+        int updated = 0;
+        for (int rows : jdbcTemplate.batchUpdate(UPDATE_SQL, args)) {
+            // 드라이버가 개별 행 수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 반영된 것으로 간주
+            if (rows != 0)
+                updated++;
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,52 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobReferences;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
+
+/**
+ * 사용자 프로필 이미지 참조 리포지토리
+ * 이미지 바이트는 blob 저장소에 있으며, 이 리포지토리는 사용자와 blob 키의 연결만 다룹니다.
+ * 참조가 없어진 blob은 {@link BlobReferences}로 참조 여부를 확인하는 정리 작업이 삭제합니다.
+ */
+public interface UserProfileImageRepository extends JpaRepository<UserProfileImage, UUID>, BlobReferences {
+
+    /**
+     * 사용자명으로 프로필 이미지 조회
+     *
+     * @param username 사용자명
+     * @return 프로필 이미지 (없으면 빈 값)
+     */
+    @Query("SELECT i FROM UserProfileImage i WHERE i.user.username = :username")
+    Optional<UserProfileImage> findByUsername(@Param("username") String username);
+
+    /**
+     * 주어진 blob 키 중 프로필 이미지가 참조하는 키 조회 (blob 정리용)
+     *
+     * @param keys blob 키
+     * @return 참조 중인 키
+     */
+    @Override
+    @Query("SELECT DISTINCT i.blobKey FROM UserProfileImage i WHERE i.blobKey IN :keys")
+    Set<String> referencedKeys(@Param("keys") Collection<String> keys);
+
+    /**
+     * 사용자의 프로필 이미지 삭제
+     * 영속성 컨텍스트를 거치지 않도록 벌크 삭제를 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = false)
+    @Query("DELETE FROM UserProfileImage i WHERE i.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+}
@@ -7,6 +7,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 
@@ -48,6 +50,24 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     @EntityGraph(attributePaths = "roles")
     Optional<User> findByUsername(String username);
 
+    /**
+     * 사용자명으로 사용자 ID만 조회 (외래 키만 필요한 쓰기 경로용)
+     *
+     * @param username 조회할 사용자명
+     * @return 사용자 ID Optional
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<UUID> findIdByUsername(@Param("username") String username);
+
+    /**
+     * 사용자명으로 이메일 인증 여부만 조회 (권한 체크용, 권한 정보 미포함)
+     *
+     * @param username 조회할 사용자명
+     * @return 이메일 인증 여부 Optional
+     */
+    @Query("SELECT u.emailVerified FROM User u WHERE u.username = :username")
+    Optional<Boolean> findEmailVerifiedByUsername(@Param("username") String username);
+
     /**
      * 이메일로 사용자 조회
      *
@@ -0,0 +1,65 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.migration;
+
+import java.sql.Connection;
+import java.sql.Statement;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.domain.schema.SchemaConstants;
+
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.columnExists;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.execute;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.tableExists;
+
+/**
+ * {@code users.profile_image}의 프로필 이미지를 {@code user_profile_images}로 이관
+ * <p>
+ * Hibernate가 스키마를 맞추기 전에 실행되므로 대상 테이블이 없으면 엔티티와 같은 모양으로 먼저 만듭니다.
+ * 바이트는 {@code INSERT ... SELECT}로 DB 안에서 복사하므로 애플리케이션 힙을 거치지 않습니다.
+ * 형식 메타데이터가 없는 이미지는 내려줄 수 없으므로 옮기지 않고,
+ * 끝으로 이미지 행이 없는 사용자의 메타데이터를 비워 목록과 실제 이미지가 어긋나지 않게 합니다.
+ * <p>
+ * 빈 스키마(첫 배포)에서는 옮길 컬럼이 없으므로 아무것도 하지 않습니다.
+ */
+@Slf4j
+@Component
+public class V1__MoveProfileImagesOutOfUsers extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!columnExists(connection, "users", "profile_image"))
+            return;
+
+        if (!tableExists(connection, "user_profile_images"))
+            execute(connection, """
+                    CREATE TABLE user_profile_images (
+                        user_id UUID PRIMARY KEY REFERENCES users (id),
+                        image_data BYTEA NOT NULL,
+                        content_type VARCHAR(%d) NOT NULL,
+                        image_size BIGINT NOT NULL
+                    )
+                    """.formatted(SchemaConstants.MIME_TYPE_MAX_LENGTH));
+
+        int moved;
+        try (Statement statement = connection.createStatement()) {
+            moved = statement.executeUpdate("""
+                    INSERT INTO user_profile_images (user_id, image_data, content_type, image_size)
+                    SELECT u.id, u.profile_image, u.profile_image_content_type, octet_length(u.profile_image) FROM users u
+                    WHERE u.profile_image IS NOT NULL AND octet_length(u.profile_image) > 0
+                      AND u.profile_image_content_type IS NOT NULL
+                      AND NOT EXISTS (SELECT 1 FROM user_profile_images i WHERE i.user_id = u.id)
+                    """);
+        }
+        execute(connection, """
+                UPDATE users SET profile_image_content_type = NULL, profile_image_size = NULL
+                WHERE NOT EXISTS (SELECT 1 FROM user_profile_images i WHERE i.user_id = users.id)
+                """);
+        execute(connection, "ALTER TABLE users DROP COLUMN profile_image");
+        log.info("사용자 행의 프로필 이미지 이관 완료. moved={}", moved);
+    }
+}
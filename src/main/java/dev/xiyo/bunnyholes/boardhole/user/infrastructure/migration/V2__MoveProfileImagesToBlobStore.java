@@ -0,0 +1,81 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.migration;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.StoredBlob;
+
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.columnExists;
+import static dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils.execute;
+
+/**
+ * 프로필 이미지 바이트를 blob 저장소로 이관
+ * <p>
+ * {@code user_profile_images}에 {@code blob_key} 컬럼을 추가하고, {@code image_data}의 바이트를 blob 저장소에 써서 키를 채운 뒤
+ * 바이트 컬럼을 지우고 {@code blob_key}를 NOT NULL로 바꿉니다. Hibernate가 스키마를 맞추기 전에 실행되므로
+ * 기존 행이 있는 테이블에도 NOT NULL 컬럼을 안전하게 더할 수 있습니다.
+ * 행은 커서로 조금씩 읽어 스트림으로 옮기므로 전체 이미지를 한꺼번에 힙에 올리지 않습니다.
+ * <p>
+ * 마이그레이션이 실패해 롤백되면 이미 쓴 blob은 참조 없이 남으며, 다시 실행하면 같은 키로 재사용됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class V2__MoveProfileImagesToBlobStore extends BaseJavaMigration {
+
+    private static final int FETCH_SIZE = 16;
+    private static final int BATCH_SIZE = 100;
+
+    private final BlobStore blobStore;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (!columnExists(connection, "user_profile_images", "image_data"))
+            return;
+
+        if (!columnExists(connection, "user_profile_images", "blob_key"))
+            execute(connection, "ALTER TABLE user_profile_images ADD COLUMN blob_key VARCHAR(64)");
+        int moved = moveImageData(connection);
+        execute(connection, "ALTER TABLE user_profile_images DROP COLUMN image_data");
+        execute(connection, "DELETE FROM user_profile_images WHERE blob_key IS NULL");
+        execute(connection, "ALTER TABLE user_profile_images ALTER COLUMN blob_key SET NOT NULL");
+        log.info("프로필 이미지 blob 이관 완료. moved={}", moved);
+    }
+
+    private int moveImageData(Connection connection) throws Exception {
+        int moved = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT user_id, image_data FROM user_profile_images WHERE blob_key IS NULL");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE user_profile_images SET blob_key = ?, image_size = ? WHERE user_id = ?")) {
+            select.setFetchSize(FETCH_SIZE);
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    StoredBlob blob;
+                    try (InputStream data = rows.getBinaryStream("image_data")) {
+                        blob = blobStore.put(data);
+                    }
+                    update.setString(1, blob.key());
+                    update.setLong(2, blob.size());
+                    update.setObject(3, rows.getObject("user_id"));
+                    update.addBatch();
+                    if (++moved % BATCH_SIZE == 0)
+                        update.executeBatch();
+                }
+            }
+            update.executeBatch();
+        }
+        return moved;
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * User data migration package
+ * 사용자 데이터 이관 마이그레이션 패키지 (Flyway Java 마이그레이션)
+ */
+@NullMarked
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.migration;
+
+import org.jspecify.annotations.NullMarked;
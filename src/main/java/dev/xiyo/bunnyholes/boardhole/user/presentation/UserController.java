@@ -1,5 +1,10 @@
 package dev.xiyo.bunnyholes.boardhole.user.presentation;
 
+import java.io.IOException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,6 +32,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobContent;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobResponseWriter;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore;
+import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
 import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserProfileImageResult;
@@ -57,6 +67,7 @@ public class UserController {
     private final UserQueryService userQueryService;
     private final UserWebMapper userWebMapper;
     private final UserProfileImageCommandMapper userProfileImageCommandMapper;
+    private final BlobStore blobStore;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -139,16 +150,19 @@ public class UserController {
 
     @GetMapping(value = "/{username}/profile-image")
     @PreAuthorize("isAuthenticated()")
-    @Operation(summary = "프로필 이미지 다운로드", description = "[AUTH] 사용자의 프로필 이미지를 바이너리로 반환합니다.")
+    @Operation(summary = "프로필 이미지 다운로드", description = "[AUTH] 사용자의 프로필 이미지를 바이너리로 반환합니다. ETag 조건부 요청과 단일 Range 요청을 지원합니다.")
     @ApiResponse(responseCode = "200", description = "프로필 이미지 다운로드 성공")
+    @ApiResponse(responseCode = "206", description = "요청한 범위만 반환")
+    @ApiResponse(responseCode = "304", description = "이미지가 변경되지 않음")
     @ApiResponse(responseCode = "404", description = "이미지 없음")
-    public ResponseEntity<byte[]> getProfileImage(@PathVariable String username) {
+    @ApiResponse(responseCode = "416", description = "요청한 범위가 이미지 크기를 벗어남")
+    public void getProfileImage(@PathVariable String username, HttpServletRequest request, HttpServletResponse response) throws IOException {
         UserProfileImageResult result = userQueryService.getProfileImage(username);
+        BlobContent content = blobStore
+                .open(result.blobKey())
+                .orElseThrow(() -> new ResourceNotFoundException(MessageUtils.get("error.user.profile-image.not-found", username)));
         MediaType mediaType = result.contentType() != null ? MediaType.parseMediaType(result.contentType()) : MediaType.APPLICATION_OCTET_STREAM;
-        return ResponseEntity.ok()
-                .contentType(mediaType)
-                .contentLength(result.size())
-                .body(result.data());
+        BlobResponseWriter.write(content, mediaType, request, response);
     }
 
     // 이메일 변경 기능은 JWT 기반 인증으로 전환 예정
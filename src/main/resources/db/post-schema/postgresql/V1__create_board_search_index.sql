@@ -0,0 +1,9 @@
+-- 게시글 전문 검색 GIN 인덱스
+-- 테이블 전체를 다시 쓰는 생성 컬럼 대신 tsvector 식 인덱스를 쓰고, 게시글 쓰기를 막지 않도록 CONCURRENTLY로 만든다.
+-- PostgresBoardSearchEngine의 검색 문서 식과 글자 그대로 같아야 검색 쿼리가 이 인덱스를 사용한다.
+-- CONCURRENTLY는 트랜잭션 밖에서 실행되므로 이 파일에는 다른 문장을 두지 않는다.
+-- 생성이 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX CONCURRENTLY 후 flyway repair로 다시 실행한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_board_search_document ON boards USING GIN (
+    (setweight(to_tsvector('${search-config}', coalesce(title, '')), 'A') ||
+     setweight(to_tsvector('${search-config}', coalesce(content, '')), 'B'))
+);
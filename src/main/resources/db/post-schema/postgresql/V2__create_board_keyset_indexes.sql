@@ -0,0 +1,8 @@
+-- 게시글 커서(keyset) 조회용 복합 인덱스
+-- (created_at, id) / (updated_at, id) 순서로 ORDER BY ... DESC, id DESC와 커서 조건을 인덱스 역방향 스캔으로 처리한다.
+-- 쓰기를 막지 않도록 CONCURRENTLY로 만들고, 앞선 열을 그대로 포함하는 기존 idx_board_created_at은 지운다.
+-- CONCURRENTLY는 트랜잭션 밖에서 실행되므로 이 파일에는 다른 문장을 두지 않는다.
+-- 생성이 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX CONCURRENTLY 후 flyway repair로 다시 실행한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_board_created_at_id ON boards (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_board_updated_at_id ON boards (updated_at, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_board_created_at;
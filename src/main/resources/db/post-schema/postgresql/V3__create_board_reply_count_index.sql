@@ -0,0 +1,6 @@
+-- 게시글 목록 댓글 수 정렬용 복합 인덱스
+-- 페이지 목록의 replyCount 정렬을 (reply_count, id) 인덱스 스캔으로 처리한다.
+-- Hibernate(ddl-auto)가 만들면 게시글 쓰기를 막으므로 CONCURRENTLY로 만든다.
+-- CONCURRENTLY는 트랜잭션 밖에서 실행되므로 이 파일에는 다른 문장을 두지 않는다.
+-- 생성이 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX CONCURRENTLY 후 flyway repair로 다시 실행한다.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_board_reply_count_id ON boards (reply_count, id);
@@ -26,6 +26,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -37,10 +39,9 @@ import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
 import dev.xiyo.bunnyholes.boardhole.shared.test.MessageSourceTestConfig;
 import dev.xiyo.bunnyholes.boardhole.shared.test.ValidationEnabledTestConfig;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.LastLoginRecorder;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
-import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
-import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -64,13 +65,13 @@ class AuthCommandServiceTest {
     private AuthenticationManager authenticationManager;
 
     @MockitoBean
-    private UserRepository userRepository;
+    private UserDetailsService userDetailsService;
 
     @MockitoBean
     private SecurityContextRepository securityContextRepository;
 
     @MockitoBean
-    private UserCommandService userCommandService;
+    private LastLoginRecorder lastLoginRecorder;
 
     @Autowired
     private AuthCommandService service;
@@ -124,8 +125,8 @@ class AuthCommandServiceTest {
             assertThat(context.getAuthentication().getPrincipal()).isEqualTo(principal);
 
             verify(authenticationManager).authenticate(any(Authentication.class));
-            verify(userCommandService).updateLastLogin(user.getUsername());
-            verify(userRepository, never()).findByUsername(any());
+            verify(lastLoginRecorder).record(user.getUsername());
+            verify(userDetailsService, never()).loadUserByUsername(any());
             verify(securityContextRepository).saveContext(eq(context), any(HttpServletRequest.class), any(HttpServletResponse.class));
         }
 
@@ -140,8 +141,8 @@ class AuthCommandServiceTest {
                     .hasMessageContaining(MessageUtils.get("error.auth.invalid-credentials"));
 
             verify(authenticationManager).authenticate(any(Authentication.class));
-            verifyNoInteractions(userCommandService);
-            verifyNoInteractions(userRepository);
+            verifyNoInteractions(lastLoginRecorder);
+            verifyNoInteractions(userDetailsService);
             verifyNoInteractions(securityContextRepository);
         }
 
@@ -172,20 +173,21 @@ class AuthCommandServiceTest {
         @Test
         @DisplayName("사용자명으로 자동 로그인")
         void loginByUsername() {
-            given(userRepository.findByUsername(user.getUsername())).willReturn(java.util.Optional.of(user));
+            given(userDetailsService.loadUserByUsername(user.getUsername())).willReturn(principal);
 
             service.login(user.getUsername());
 
             SecurityContext context = SecurityContextHolder.getContext();
             assertThat(context.getAuthentication()).isNotNull();
-            verify(userRepository).findByUsername(user.getUsername());
+            assertThat(context.getAuthentication().getPrincipal()).isEqualTo(principal);
+            verify(userDetailsService).loadUserByUsername(user.getUsername());
             verify(securityContextRepository).saveContext(eq(context), any(HttpServletRequest.class), any(HttpServletResponse.class));
         }
 
         @Test
         @DisplayName("존재하지 않는 사용자면 IllegalStateException")
         void userNotFound() {
-            given(userRepository.findByUsername(user.getUsername())).willReturn(java.util.Optional.empty());
+            given(userDetailsService.loadUserByUsername(user.getUsername())).willThrow(new UsernameNotFoundException("not found"));
             assertThatThrownBy(() -> service.login(user.getUsername())).isInstanceOf(IllegalStateException.class);
         }
     }
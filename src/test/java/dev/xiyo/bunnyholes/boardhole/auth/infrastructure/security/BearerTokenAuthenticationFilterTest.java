@@ -0,0 +1,213 @@
+package dev.xiyo.bunnyholes.boardhole.auth.infrastructure.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenGrant;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.ApiTokens;
+import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.token.LocalApiTokenStore;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+@DisplayName("Bearer 토큰 인증 필터")
+class BearerTokenAuthenticationFilterTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final Map<String, AppUserPrincipal> users = new HashMap<>();
+    private final UserDetailsService userDetailsService = username -> {
+        AppUserPrincipal user = users.get(username);
+        if (user == null)
+            throw new UsernameNotFoundException(username);
+        return user;
+    };
+    private LocalApiTokenStore tokenStore;
+    private BearerTokenAuthenticationFilter filter;
+    private MockHttpServletResponse response;
+    private AtomicReference<Authentication> seen;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new LocalApiTokenStore(100, Duration.ofHours(1));
+        filter = new BearerTokenAuthenticationFilter(tokenStore, userDetailsService, new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
+        users.put("tokenuser", user(userId, "ROLE_USER"));
+        response = new MockHttpServletResponse();
+        seen = new AtomicReference<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 저장된 토큰이면 비밀번호 없이 사용자의 주체를 구성한다")
+    void validToken_Authenticates() throws Exception {
+        String token = issue(Instant.now().plusSeconds(60));
+
+        filter.doFilter(bearer(token), response, capturingChain());
+
+        assertThat(seen.get()).isNotNull();
+        assertThat(seen.get().getPrincipal()).isInstanceOfSatisfying(AppUserPrincipal.class, principal -> {
+            assertThat(principal.getId()).isEqualTo(userId);
+            assertThat(principal.getUsername()).isEqualTo("tokenuser");
+            assertThat(principal.getPassword()).isEmpty();
+        });
+        assertThat(seen.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("✅ 베어러 헤더가 없으면 다른 인증으로 넘긴다")
+    void noBearerHeader_PassesThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/boards");
+        request.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+
+        filter.doFilter(request, response, capturingChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(seen.get()).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 폐기된 토큰은 401을 응답하고 체인을 진행하지 않는다")
+    void revokedToken_Rejected() throws Exception {
+        String token = issue(Instant.now().plusSeconds(60));
+        tokenStore.revoke(ApiTokens.hash(token));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(bearer(token), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 만료된 토큰은 401을 응답한다")
+    void expiredToken_Rejected() throws Exception {
+        String token = issue(Instant.now().minusSeconds(1));
+
+        filter.doFilter(bearer(token), response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("✅ 권한은 발급 시점이 아닌 현재 사용자 권한을 쓴다")
+    void changedRoles_UseCurrentAuthorities() throws Exception {
+        String token = issue(Instant.now().plusSeconds(60));
+        users.put("tokenuser", user(userId, "ROLE_ADMIN"));
+
+        filter.doFilter(bearer(token), response, capturingChain());
+
+        assertThat(seen.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("❌ 탈퇴했거나 같은 이름으로 다시 가입한 사용자의 토큰은 401을 응답한다")
+    void missingOrReplacedUser_Rejected() throws Exception {
+        String token = issue(Instant.now().plusSeconds(60));
+        users.put("tokenuser", user(UUID.randomUUID(), "ROLE_USER"));
+
+        filter.doFilter(bearer(token), response, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(401);
+
+        users.clear();
+        MockHttpServletResponse deleted = new MockHttpServletResponse();
+        filter.doFilter(bearer(token), deleted, new MockFilterChain());
+        assertThat(deleted.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("❌ 사용자의 토큰을 일괄 폐기하면 모든 토큰이 401을 응답한다")
+    void revokeAll_RejectsEveryToken() throws Exception {
+        String first = issue(Instant.now().plusSeconds(60));
+        String second = issue(Instant.now().plusSeconds(60));
+
+        tokenStore.revokeAll(userId);
+
+        filter.doFilter(bearer(first), response, new MockFilterChain());
+        MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+        filter.doFilter(bearer(second), secondResponse, new MockFilterChain());
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(secondResponse.getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("❌ 토큰 저장소 장애는 500 대신 401을 응답한다")
+    void storeFailure_Rejected() throws Exception {
+        ApiTokenStore failing = mock(ApiTokenStore.class);
+        given(failing.find(anyString())).willThrow(new RedisConnectionFailureException("down"));
+        BearerTokenAuthenticationFilter failingFilter =
+                new BearerTokenAuthenticationFilter(failing, userDetailsService, new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
+        MockFilterChain chain = new MockFilterChain();
+
+        failingFilter.doFilter(bearer(ApiTokens.generate()), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 인증 정보는 인코딩 후 그대로 복원된다")
+    void grant_RoundTrips() {
+        ApiTokenGrant grant = new ApiTokenGrant(userId, "tokenuser", List.of("ROLE_USER", "ROLE_ADMIN"), Instant.ofEpochMilli(1_700_000_000_000L));
+
+        assertThat(ApiTokenGrant.decode(grant.encode())).isEqualTo(grant);
+    }
+
+    private String issue(Instant expiresAt) {
+        String token = ApiTokens.generate();
+        tokenStore.save(ApiTokens.hash(token), new ApiTokenGrant(userId, "tokenuser", List.of("ROLE_USER"), expiresAt));
+        return token;
+    }
+
+    private static AppUserPrincipal user(UUID id, String role) {
+        return new AppUserPrincipal(id, "tokenuser", "{bcrypt}hash", AuthorityUtils.createAuthorityList(role));
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private MockFilterChain capturingChain() {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res) {
+                seen.set(SecurityContextHolder.getContext().getAuthentication());
+            }
+        });
+    }
+}
@@ -18,9 +18,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.transaction.annotation.Transactional;
 
-import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.LastLoginRecorder;
 
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
@@ -52,7 +51,7 @@ class FormLoginLastLoginIntegrationTest {
     private PasswordEncoder passwordEncoder;
 
     @Autowired
-    private UserCommandService userCommandService;
+    private LastLoginRecorder lastLoginRecorder;
 
     @BeforeEach
     void setUp() {
@@ -71,7 +70,6 @@ class FormLoginLastLoginIntegrationTest {
     }
 
     @Test
-    @Transactional
     @DisplayName("Form login updates lastLogin timestamp")
     void formLoginUpdatesLastLogin() throws Exception {
         User admin = userRepository.findByUsername(ADMIN_USERNAME)
@@ -85,8 +83,8 @@ class FormLoginLastLoginIntegrationTest {
                         .param("password", ADMIN_PASSWORD))
                .andExpect(status().is3xxRedirection());
 
-        // CustomAuthenticationSuccessHandler에서 수행하는 작업을 직접 호출
-        userCommandService.updateLastLogin(ADMIN_USERNAME);
+        // CustomAuthenticationSuccessHandler가 기록한 로그인 시간을 주기를 기다리지 않고 반영
+        lastLoginRecorder.flush();
 
         LocalDateTime afterLogin = userRepository.findByUsername(ADMIN_USERNAME)
                                                  .orElseThrow()
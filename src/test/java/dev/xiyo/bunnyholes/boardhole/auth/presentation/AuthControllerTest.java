@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.auth.presentation;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
@@ -22,8 +23,11 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import dev.xiyo.bunnyholes.boardhole.auth.application.command.ApiTokenCommandService;
 import dev.xiyo.bunnyholes.boardhole.auth.application.command.AuthCommandService;
 import dev.xiyo.bunnyholes.boardhole.auth.application.command.LoginCommand;
+import dev.xiyo.bunnyholes.boardhole.auth.application.result.ApiTokenResult;
+import dev.xiyo.bunnyholes.boardhole.auth.presentation.dto.ApiTokenResponse;
 import dev.xiyo.bunnyholes.boardhole.auth.presentation.dto.LoginRequest;
 import dev.xiyo.bunnyholes.boardhole.auth.presentation.mapper.AuthWebMapper;
 import dev.xiyo.bunnyholes.boardhole.shared.config.ApiSecurityConfig;
@@ -43,6 +47,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -58,6 +63,7 @@ class AuthControllerTest {
     private static final String SIGNUP_URL = ApiPaths.AUTH + ApiPaths.AUTH_SIGNUP;
     private static final String LOGIN_URL = ApiPaths.AUTH + ApiPaths.AUTH_LOGIN;
     private static final String LOGOUT_URL = ApiPaths.AUTH + ApiPaths.AUTH_LOGOUT;
+    private static final String TOKEN_URL = ApiPaths.AUTH + ApiPaths.AUTH_TOKEN;
     private static final String ADMIN_ONLY_URL = ApiPaths.AUTH + ApiPaths.AUTH_ADMIN_ONLY;
     private static final String USER_ACCESS_URL = ApiPaths.AUTH + ApiPaths.AUTH_USER_ACCESS;
     private static final String PUBLIC_ACCESS_URL = ApiPaths.AUTH + ApiPaths.AUTH_PUBLIC_ACCESS;
@@ -71,6 +77,9 @@ class AuthControllerTest {
     @MockitoBean
     private AuthCommandService authCommandService;
 
+    @MockitoBean
+    private ApiTokenCommandService apiTokenCommandService;
+
     @MockitoBean
     private AuthWebMapper authWebMapper;
 
@@ -320,6 +329,61 @@ class AuthControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("/api/auth/token - API 토큰")
+    class Token {
+
+        @Test
+        @DisplayName("✅ 유효한 자격증명으로 토큰을 발급한다")
+        void shouldIssueToken() throws Exception {
+            LoginRequest loginRequest = validLoginRequest();
+            LoginCommand loginCommand = new LoginCommand(loginRequest.username(), loginRequest.password());
+            Instant expiresAt = Instant.now().plusSeconds(3600);
+            ApiTokenResult result = new ApiTokenResult("opaque-token", expiresAt);
+
+            given(authWebMapper.toLoginCommand(any(LoginRequest.class))).willReturn(loginCommand);
+            given(apiTokenCommandService.issue(loginCommand)).willReturn(result);
+            given(authWebMapper.toTokenResponse(result)).willReturn(new ApiTokenResponse("opaque-token", "Bearer", expiresAt));
+
+            mockMvc.perform(form(post(TOKEN_URL))
+                            .param("username", loginRequest.username())
+                            .param("password", loginRequest.password()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.accessToken").value("opaque-token"))
+                    .andExpect(jsonPath("$.tokenType").value("Bearer"));
+
+            then(authCommandService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("❌ 잘못된 자격증명은 401 ProblemDetail을 반환한다")
+        void shouldReturnUnauthorizedOnInvalidCredentials() throws Exception {
+            LoginRequest loginRequest = validLoginRequest();
+            LoginCommand loginCommand = new LoginCommand(loginRequest.username(), loginRequest.password());
+
+            given(authWebMapper.toLoginCommand(any(LoginRequest.class))).willReturn(loginCommand);
+            willThrow(new UnauthorizedException("Invalid credentials"))
+                    .given(apiTokenCommandService)
+                    .issue(loginCommand);
+
+            mockMvc.perform(form(post(TOKEN_URL))
+                            .param("username", loginRequest.username())
+                            .param("password", loginRequest.password()))
+                    .andExpect(status().isUnauthorized())
+                    .andExpect(jsonPath("$.status").value(401));
+        }
+
+        @Test
+        @WithMockUser(username = "testuser")
+        @DisplayName("✅ 요청에 사용한 Bearer 토큰을 폐기한다")
+        void shouldRevokePresentedToken() throws Exception {
+            mockMvc.perform(delete(TOKEN_URL).with(csrf()).header("Authorization", "Bearer opaque-token"))
+                    .andExpect(status().isNoContent());
+
+            then(apiTokenCommandService).should().revoke("opaque-token");
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/auth/logout - 로그아웃")
     class Logout {
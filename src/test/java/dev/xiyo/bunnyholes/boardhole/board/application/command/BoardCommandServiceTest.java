@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.board.application.command;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -17,15 +18,22 @@ import org.mockito.quality.Strictness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardSavedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.domain.validation.BoardValidationConstants;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+import dev.xiyo.bunnyholes.boardhole.shared.security.OwnershipCache;
+import dev.xiyo.bunnyholes.boardhole.shared.security.UserIdResolver;
 import dev.xiyo.bunnyholes.boardhole.shared.test.ValidationEnabledTestConfig;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
@@ -41,8 +49,9 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
-@Import({BoardCommandService.class, ValidationEnabledTestConfig.class})
+@Import({BoardCommandService.class, UserIdResolver.class, ValidationEnabledTestConfig.class})
 @MockitoSettings(strictness = Strictness.LENIENT)
+@RecordApplicationEvents
 @DisplayName("BoardCommandService 단위 테스트")
 @Tag("unit")
 class BoardCommandServiceTest {
@@ -56,9 +65,15 @@ class BoardCommandServiceTest {
     @MockitoBean
     private BoardMapper boardMapper;
 
+    @MockitoBean
+    private OwnershipCache ownershipCache;
+
     @Autowired
     private BoardCommandService boardCommandService;
 
+    @Autowired
+    private ApplicationEvents events;
+
     private User mockUser;
     private Board mockBoard;
 
@@ -104,13 +119,13 @@ class BoardCommandServiceTest {
                     "testuser",
                     0,
                     mockBoard.getCreatedAt(),
-                    mockBoard.getUpdatedAt()
+                    mockBoard.getUpdatedAt(),
+                    0
             );
 
-            when(userRepository.findByUsername(mockUser.getUsername())).thenReturn(Optional.of(
-                    mockUser));
+            when(userRepository.findIdByUsername(mockUser.getUsername())).thenReturn(Optional.of(mockUser.getId()));
             when(boardRepository.save(any(Board.class))).thenReturn(mockBoard);
-            when(boardMapper.toResult(mockBoard)).thenReturn(expectedResult);
+            when(boardMapper.toResult(mockBoard, mockUser.getId(), "testuser")).thenReturn(expectedResult);
 
             // When
             BoardResult result = boardCommandService.create(cmd);
@@ -119,9 +134,13 @@ class BoardCommandServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.title()).isEqualTo("Valid Title");
             assertThat(result.content()).isEqualTo("Valid Content");
-            verify(userRepository).findByUsername(mockUser.getUsername());
+            verify(userRepository).findIdByUsername(mockUser.getUsername());
+            verify(userRepository).getReferenceById(mockUser.getId());
+            verifyNoMoreInteractions(userRepository);
             verify(boardRepository).save(any(Board.class));
-            verify(boardMapper).toResult(mockBoard);
+            verify(boardMapper).toResult(mockBoard, mockUser.getId(), "testuser");
+            verify(ownershipCache).remember(PermissionType.TARGET_BOARD, mockBoard.getId(), "testuser");
+            assertThat(events.stream(BoardSavedEvent.class).map(BoardSavedEvent::board).toList()).isEqualTo(List.of(expectedResult));
         }
 
         @Test
@@ -134,13 +153,13 @@ class BoardCommandServiceTest {
                     "Valid Content"
             );
 
-            when(userRepository.findByUsername(cmd.authorUsername())).thenReturn(Optional.empty());
+            when(userRepository.findIdByUsername(cmd.authorUsername())).thenReturn(Optional.empty());
 
             // When & Then
             assertThatThrownBy(() -> boardCommandService.create(cmd))
                     .isInstanceOf(ResourceNotFoundException.class);
 
-            verify(userRepository).findByUsername(cmd.authorUsername());
+            verify(userRepository).findIdByUsername(cmd.authorUsername());
             verifyNoInteractions(boardRepository, boardMapper);
         }
 
@@ -187,8 +206,7 @@ class BoardCommandServiceTest {
             );
 
             // Mock 설정 (validation 전에 비즈니스 로직이 실행될 수 있으므로)
-            when(userRepository.findByUsername(mockUser.getUsername())).thenReturn(Optional.of(
-                    mockUser));
+            when(userRepository.findIdByUsername(mockUser.getUsername())).thenReturn(Optional.of(mockUser.getId()));
 
             // When & Then
             assertThatThrownBy(() -> boardCommandService.create(cmd))
@@ -237,8 +255,7 @@ class BoardCommandServiceTest {
             );
 
             // Mock 설정 (validation 전에 비즈니스 로직이 실행될 수 있으므로)
-            when(userRepository.findByUsername(mockUser.getUsername())).thenReturn(Optional.of(
-                    mockUser));
+            when(userRepository.findIdByUsername(mockUser.getUsername())).thenReturn(Optional.of(mockUser.getId()));
 
             // When & Then
             assertThatThrownBy(() -> boardCommandService.create(cmd))
@@ -268,7 +285,8 @@ class BoardCommandServiceTest {
                     "testuser",
                     0,
                     mockBoard.getCreatedAt(),
-                    mockBoard.getUpdatedAt()
+                    mockBoard.getUpdatedAt(),
+                    0
             );
 
             when(boardRepository.findById(mockBoard.getId())).thenReturn(Optional.of(
@@ -326,7 +344,8 @@ class BoardCommandServiceTest {
                     "testuser",
                     0,
                     mockBoard.getCreatedAt(),
-                    mockBoard.getUpdatedAt()
+                    mockBoard.getUpdatedAt(),
+                    0
             );
 
             when(boardRepository.findById(mockBoard.getId())).thenReturn(Optional.of(
@@ -364,6 +383,8 @@ class BoardCommandServiceTest {
             // Then
             verify(boardRepository).findById(boardId);
             verify(boardRepository).delete(mockBoard);
+            verify(ownershipCache).evict(PermissionType.TARGET_BOARD, boardId);
+            assertThat(events.stream(BoardDeletedEvent.class).map(BoardDeletedEvent::boardId).toList()).isEqualTo(List.of(boardId));
         }
 
         @Test
@@ -0,0 +1,103 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.LocalCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BoardViewCountOverlay 단위 테스트")
+class BoardViewCountOverlayTest {
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+    private static final UUID UNCACHED_BOARD_ID = UUID.randomUUID();
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    private ConcurrentMapCacheManager remoteManager;
+    private Cache cache;
+    private BoardViewCountOverlay overlay;
+
+    @BeforeEach
+    void setUp() {
+        remoteManager = new ConcurrentMapCacheManager(CacheConstants.Board.CACHE_NAME);
+        CacheProperties properties = new CacheProperties(Duration.ofHours(1), "test:invalidation", "test:tag:", DataSize.ofKilobytes(1),
+                true, new CacheProperties.CircuitBreaker(5, Duration.ofSeconds(10)),
+                new CacheProperties.Local(100, Duration.ofMinutes(1), 0, Duration.ZERO), Map.of());
+        CacheManager cacheManager = new TwoLevelCacheManager(remoteManager, properties, message -> { }, new SimpleMeterRegistry(),
+                new LocalCacheTagIndex(Duration.ofHours(1)), List.of(), Runnable::run);
+        cache = cacheManager.getCache(CacheConstants.Board.CACHE_NAME);
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(cacheManager);
+        overlay = new BoardViewCountOverlay(viewCountBuffer, cacheManagerProvider);
+    }
+
+    @Test
+    @DisplayName("✅ 반영이 끝나면 캐시 항목을 비우지 않고 조회수만 DB 값으로 바꾼다")
+    void onFlushed_UpdatesCachedViewCountInPlace() {
+        cache.put(BOARD_ID, board(10));
+
+        overlay.onFlushed(new ViewCountFlushedEvent(Map.of(BOARD_ID, 15, UNCACHED_BOARD_ID, 3)));
+
+        BoardResult cached = cache.get(BOARD_ID, BoardResult.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.viewCount()).isEqualTo(15);
+        assertThat(cached.title()).isEqualTo("제목");
+        assertThat(cache.get(UNCACHED_BOARD_ID)).isNull();
+        assertThat(remoteManager.getCache(CacheConstants.Board.CACHE_NAME).get(BOARD_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 2단계 캐시가 아니면 조건부로 바꿀 수 없으므로 항목을 제거한다")
+    void onFlushed_PlainCache_Evicts() {
+        CacheManager plainCacheManager = new ConcurrentMapCacheManager(CacheConstants.Board.CACHE_NAME);
+        Cache plainCache = plainCacheManager.getCache(CacheConstants.Board.CACHE_NAME);
+        plainCache.put(BOARD_ID, board(10));
+        when(cacheManagerProvider.getIfAvailable()).thenReturn(plainCacheManager);
+
+        overlay.onFlushed(new ViewCountFlushedEvent(Map.of(BOARD_ID, 15)));
+
+        assertThat(plainCache.get(BOARD_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 반영 직후 DB에서 다시 적재된 항목에도 증가분을 이중으로 더하지 않는다")
+    void onFlushed_ReloadedEntry_IsNotDoubleCounted() {
+        cache.put(BOARD_ID, board(15));
+
+        overlay.onFlushed(new ViewCountFlushedEvent(Map.of(BOARD_ID, 15)));
+
+        assertThat(cache.get(BOARD_ID, BoardResult.class).viewCount()).isEqualTo(15);
+    }
+
+    private static BoardResult board(int viewCount) {
+        LocalDateTime now = LocalDateTime.now();
+        return new BoardResult(BOARD_ID, "제목", "내용", UUID.randomUUID(), "작성자", viewCount, now, now, 0);
+    }
+}
@@ -0,0 +1,203 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardViewCountWriter;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.ViewCountProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewCountBuffer 단위 테스트")
+class ViewCountBufferTest {
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+    private static final UUID OTHER_BOARD_ID = UUID.randomUUID();
+
+    @Mock
+    private BoardViewCountWriter viewCountWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MeterRegistry meterRegistry;
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new ViewCountBuffer(viewCountWriter, new ViewCountProperties(Duration.ofSeconds(5), 500), eventPublisher, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("✅ 여러 번의 조회를 게시글별 증가분 하나로 합쳐 반영한다")
+    void flush_CoalescesViewsPerBoard() {
+        for (int i = 0; i < 100; i++)
+            buffer.record(BOARD_ID);
+        buffer.record(OTHER_BOARD_ID);
+
+        when(viewCountWriter.incrementViewCounts(anyMap())).thenReturn(Map.of(BOARD_ID, 110, OTHER_BOARD_ID, 1));
+
+        buffer.flush();
+
+        verify(viewCountWriter).incrementViewCounts(Map.of(BOARD_ID, 100L, OTHER_BOARD_ID, 1L));
+        verify(eventPublisher).publishEvent(new ViewCountFlushedEvent(Map.of(BOARD_ID, 110, OTHER_BOARD_ID, 1)));
+        assertThat(buffer.pendingViews()).isZero();
+        assertThat(meterRegistry.counter("boardhole.view-count.flushed").count()).isEqualTo(101.0);
+    }
+
+    @Test
+    @DisplayName("✅ 반영 중인 증가분도 커밋될 때까지 미반영 조회수에 포함된다")
+    void flush_InFlightDeltas_CountAsPending() {
+        buffer.record(BOARD_ID);
+        buffer.record(BOARD_ID);
+        AtomicLong pendingDuringWrite = new AtomicLong(-1);
+        when(viewCountWriter.incrementViewCounts(anyMap())).thenAnswer(invocation -> {
+            buffer.record(BOARD_ID);
+            pendingDuringWrite.set(buffer.pendingFor(BOARD_ID));
+            return Map.of(BOARD_ID, 2);
+        });
+
+        buffer.flush();
+
+        assertThat(pendingDuringWrite.get()).isEqualTo(3L);
+        assertThat(buffer.pendingFor(BOARD_ID)).isEqualTo(1L);
+        assertThat(buffer.pendingViews()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("✅ 반영할 조회수가 없으면 DB를 호출하지 않는다")
+    void flush_NothingPending_SkipsWrite() {
+        buffer.flush();
+
+        verify(viewCountWriter, never()).incrementViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("✅ 반영 실패 시 증가분을 버퍼로 되돌려 다음 주기에 재시도한다")
+    void flush_WriteFails_RestoresDeltas() {
+        buffer.record(BOARD_ID);
+        buffer.record(BOARD_ID);
+        when(viewCountWriter.incrementViewCounts(anyMap()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(Map.of(BOARD_ID, 2));
+
+        buffer.flush();
+
+        assertThat(buffer.pendingFor(BOARD_ID)).isEqualTo(2L);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        assertThat(meterRegistry.counter("boardhole.view-count.failed").count()).isEqualTo(2.0);
+
+        buffer.flush();
+
+        verify(viewCountWriter, times(2)).incrementViewCounts(Map.of(BOARD_ID, 2L));
+        assertThat(buffer.pendingFor(BOARD_ID)).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 배치 크기를 넘으면 여러 번에 나누어 반영한다")
+    void flush_SplitsIntoBatches() {
+        buffer = new ViewCountBuffer(viewCountWriter, new ViewCountProperties(Duration.ofSeconds(5), 1), eventPublisher, meterRegistry);
+        buffer.record(BOARD_ID);
+        buffer.record(OTHER_BOARD_ID);
+
+        buffer.flush();
+
+        verify(viewCountWriter, times(2)).incrementViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("✅ 반영 후 조회가 없던 게시글의 카운터는 다음 주기에 제거된다")
+    void flush_IdleCounter_IsRemoved() {
+        buffer.record(BOARD_ID);
+        when(viewCountWriter.incrementViewCounts(anyMap())).thenReturn(Map.of(BOARD_ID, 1));
+
+        buffer.flush();
+        buffer.flush();
+
+        assertThat(meterRegistry.get("boardhole.view-count.pending.boards").gauge().value()).isZero();
+
+        buffer.record(BOARD_ID);
+
+        assertThat(buffer.pendingFor(BOARD_ID)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("✅ 조회와 flush가 동시에 일어나도 증가분이 유실되지 않는다")
+    void flush_ConcurrentWithRecord_LosesNothing() throws Exception {
+        AtomicLong written = new AtomicLong();
+        when(viewCountWriter.incrementViewCounts(anyMap())).thenAnswer(invocation -> {
+            Map<UUID, Long> chunk = invocation.getArgument(0);
+            chunk.values().forEach(written::addAndGet);
+            return Map.of();
+        });
+        int threads = 4;
+        int viewsPerThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> viewers = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+                viewers.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++)
+                        buffer.record(i % 2 == 0 ? BOARD_ID : OTHER_BOARD_ID);
+                }));
+            while (viewers.stream().anyMatch(viewer -> !viewer.isDone()))
+                buffer.flush();
+            for (Future<?> viewer : viewers)
+                viewer.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        buffer.flush();
+
+        assertThat(written.get()).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    @Test
+    @DisplayName("✅ 삭제된 게시글의 카운터는 버퍼에서 제거된다")
+    void onDeleted_RemovesCounter() {
+        buffer.record(BOARD_ID);
+
+        buffer.onDeleted(new BoardDeletedEvent(BOARD_ID, Instant.now()));
+
+        assertThat(buffer.pendingFor(BOARD_ID)).isZero();
+        assertThat(meterRegistry.get("boardhole.view-count.pending.boards").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 종료 시 남은 조회수를 반영한다")
+    void flushOnShutdown_WritesPendingViews() {
+        buffer.record(BOARD_ID);
+
+        buffer.flushOnShutdown();
+
+        verify(viewCountWriter).incrementViewCounts(Map.of(BOARD_ID, 1L));
+    }
+}
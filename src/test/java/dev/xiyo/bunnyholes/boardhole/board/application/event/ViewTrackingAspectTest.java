@@ -0,0 +1,95 @@
+package dev.xiyo.bunnyholes.boardhole.board.application.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewTrackingAspect 단위 테스트")
+class ViewTrackingAspectTest {
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BoardMapper boardMapper;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManagerProvider;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    private ViewTrackingAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        aspect = new ViewTrackingAspect(eventPublisher, boardMapper, new BoardViewCountOverlay(viewCountBuffer, cacheManagerProvider));
+        lenient().when(boardMapper.toViewedEvent(BOARD_ID)).thenReturn(new ViewedEvent(BOARD_ID));
+    }
+
+    @Test
+    @DisplayName("✅ 캐시된 결과가 반환되어도 조회 이벤트를 발행하고 미반영 조회수를 합산한다")
+    void trackView_CachedResult_PublishesEventAndOverlaysPendingViews() throws Throwable {
+        when(joinPoint.proceed()).thenReturn(boardResult(10));
+        when(viewCountBuffer.pendingFor(BOARD_ID)).thenReturn(3L);
+
+        Object result = aspect.trackView(joinPoint);
+
+        verify(eventPublisher).publishEvent(new ViewedEvent(BOARD_ID));
+        assertThat(result).isInstanceOf(BoardResult.class);
+        assertThat(((BoardResult) result).viewCount()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("✅ 미반영 조회수가 없으면 결과를 그대로 반환한다")
+    void trackView_NoPendingViews_ReturnsSameResult() throws Throwable {
+        BoardResult cached = boardResult(10);
+        when(joinPoint.proceed()).thenReturn(cached);
+
+        Object result = aspect.trackView(joinPoint);
+
+        assertThat(result).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("❌ 조회에 실패하면 조회 이벤트를 발행하지 않는다")
+    void trackView_LookupFails_DoesNotPublishEvent() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ResourceNotFoundException("not found"));
+
+        assertThatThrownBy(() -> aspect.trackView(joinPoint)).isInstanceOf(ResourceNotFoundException.class);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private static BoardResult boardResult(int viewCount) {
+        return new BoardResult(BOARD_ID, "title", "content", UUID.randomUUID(), "author", viewCount, LocalDateTime.now(), LocalDateTime.now(), 0);
+    }
+}
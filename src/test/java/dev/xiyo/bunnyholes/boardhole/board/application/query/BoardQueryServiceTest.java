@@ -15,9 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,11 +25,13 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import dev.xiyo.bunnyholes.boardhole.board.application.event.ViewedEvent;
 import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSliceResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
 import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardSummaryProjection;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.test.FixedKoreanLocaleExtension;
 import dev.xiyo.bunnyholes.boardhole.shared.util.MessageUtils;
@@ -38,7 +40,9 @@ import dev.xiyo.bunnyholes.boardhole.user.domain.User;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
@@ -53,13 +57,17 @@ class BoardQueryServiceTest {
     private BoardMapper boardMapper;
 
     @Mock
-    private ApplicationEventPublisher eventPublisher;
+    private BoardSearchEngine boardSearchEngine;
+
+    @Mock
+    private BoardSummaryProjection summary;
 
     @InjectMocks
     private BoardQueryService service;
 
     private Board board;
     private BoardResult boardResult;
+    private BoardSummaryResult summaryResult;
 
     @BeforeEach
     void setUp() {
@@ -97,7 +105,9 @@ class BoardQueryServiceTest {
         ReflectionTestUtils.setField(board, "createdAt", LocalDateTime.now());
 
         boardResult = new BoardResult(boardId, "Test Board", "Test Content", UUID.randomUUID(), "testuser", 0, LocalDateTime.now(),
-                LocalDateTime.now());
+                LocalDateTime.now(), 0);
+        summaryResult = new BoardSummaryResult(boardId, "Test Board", "Test Content", UUID.randomUUID(), "testuser", 0, LocalDateTime.now(),
+                LocalDateTime.now(), 0);
     }
 
     @Nested
@@ -105,24 +115,22 @@ class BoardQueryServiceTest {
     class GetBoardTest {
 
         @Test
-        @DisplayName("존재하는 게시글 조회 시 결과 반환 및 조회 이벤트 발행")
-        void handle_ExistingBoard_ReturnsResultAndPublishesEvent() {
+        @DisplayName("존재하는 게시글 조회 시 결과 반환 (조회 이벤트는 캐시 바깥 애스펙트가 발행)")
+        void handle_ExistingBoard_ReturnsResultWithoutPublishingEvent() {
             // Given
             UUID boardId = UUID.randomUUID();
             GetBoardQuery query = new GetBoardQuery(boardId);
-            ViewedEvent viewedEvent = new ViewedEvent(boardId);
 
             // Set the board ID to match
             ReflectionTestUtils.setField(board, "id", boardId);
 
             // Create boardResult with matching boardId
             BoardResult localBoardResult = new BoardResult(boardId, "Test Board", "Test Content", UUID.randomUUID(), "testuser", 0,
-                    LocalDateTime.now(), LocalDateTime.now());
+                    LocalDateTime.now(), LocalDateTime.now(), 0);
 
             given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
             given(boardMapper.toResult(board)).willReturn(
                     localBoardResult);
-            given(boardMapper.toViewedEvent(boardId)).willReturn(viewedEvent);
 
             // When
             BoardResult result = service.handle(query);
@@ -136,8 +144,7 @@ class BoardQueryServiceTest {
 
             verify(boardRepository).findById(boardId);
             verify(boardMapper).toResult(board);
-            verify(boardMapper).toViewedEvent(boardId);
-            verify(eventPublisher).publishEvent(viewedEvent);
+            verify(boardMapper, never()).toViewedEvent(any());
         }
 
         @Test
@@ -164,7 +171,6 @@ class BoardQueryServiceTest {
 
             verify(boardRepository).findById(boardId);
             verify(boardMapper, never()).toResult(any());
-            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -177,14 +183,14 @@ class BoardQueryServiceTest {
         void listWithPaging_ReturnsPagedResults() {
             // Given
             Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-            List<Board> boards = List.of(board);
-            Page<Board> boardPage = new PageImpl<>(boards, pageable, 1);
+            List<BoardSummaryProjection> boards = List.of(summary);
+            Page<BoardSummaryProjection> boardPage = new PageImpl<>(boards, pageable, 1);
 
-            given(boardRepository.findAll(pageable)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardRepository.findSummaries(pageable)).willReturn(boardPage);
+            given(boardMapper.toSummaryResult(any(BoardSummaryProjection.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable);
 
             // Then
             assertThat(result).isNotNull();
@@ -193,11 +199,11 @@ class BoardQueryServiceTest {
             assertThat(result.getNumber()).isEqualTo(0);
             assertThat(result.getSize()).isEqualTo(10);
 
-            BoardResult firstResult = result.getContent().getFirst();
+            BoardSummaryResult firstResult = result.getContent().getFirst();
             assertThat(firstResult.title()).isEqualTo("Test Board");
 
             verify(boardRepository).findAll(pageable);
-            verify(boardMapper).toResult(board);
+            verify(boardMapper).toSummaryResult(summary);
         }
 
         @Test
@@ -205,12 +211,12 @@ class BoardQueryServiceTest {
         void listWithPaging_EmptyList_ReturnsEmptyPage() {
             // Given
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Board> emptyPage = Page.empty(pageable);
+            Page<BoardSummaryProjection> emptyPage = Page.empty(pageable);
 
-            given(boardRepository.findAll(pageable)).willReturn(emptyPage);
+            given(boardRepository.findSummaries(pageable)).willReturn(emptyPage);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable);
 
             // Then
             assertThat(result).isNotNull();
@@ -218,7 +224,7 @@ class BoardQueryServiceTest {
             assertThat(result.getTotalElements()).isEqualTo(0);
 
             verify(boardRepository).findAll(pageable);
-            verify(boardMapper, never()).toResult(any());
+            verify(boardMapper, never()).toSummaryResult(any());
         }
     }
 
@@ -227,27 +233,25 @@ class BoardQueryServiceTest {
     class SearchBoardsTest {
 
         @Test
-        @DisplayName("검색어로 게시글 목록 조회")
-        void listWithPaging_WithSearch_ReturnsFilteredResults() {
+        @DisplayName("검색어로 게시글 목록 조회 시 검색 엔진에 위임")
+        void listWithPaging_WithSearch_DelegatesToSearchEngine() {
             // Given
             final String searchKeyword = "Test";
             Pageable pageable = PageRequest.of(0, 10);
-            List<Board> boards = List.of(board);
-            Page<Board> boardPage = new PageImpl<>(boards, pageable, 1);
+            Page<BoardSummaryResult> resultPage = new PageImpl<>(List.of(summaryResult), pageable, 1);
 
-            given(boardRepository.searchByKeyword(searchKeyword, pageable)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardSearchEngine.search(searchKeyword, pageable)).willReturn(resultPage);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable, searchKeyword);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable, searchKeyword);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().getFirst().title()).contains("Test");
 
-            verify(boardRepository).searchByKeyword(searchKeyword, pageable);
-            verify(boardMapper).toResult(board);
+            verify(boardSearchEngine).search(searchKeyword, pageable);
+            verify(boardRepository, never()).searchSummaries(any(), any());
         }
 
         @Test
@@ -256,43 +260,52 @@ class BoardQueryServiceTest {
             // Given
             final String searchKeyword = "NonExistent";
             Pageable pageable = PageRequest.of(0, 10);
-            Page<Board> emptyPage = Page.empty(pageable);
 
-            given(boardRepository.searchByKeyword(searchKeyword, pageable)).willReturn(emptyPage);
+            given(boardSearchEngine.search(searchKeyword, pageable)).willReturn(Page.empty(pageable));
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable, searchKeyword);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable, searchKeyword);
 
             // Then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEmpty();
             assertThat(result.getTotalElements()).isEqualTo(0);
 
-            verify(boardRepository).searchByKeyword(searchKeyword, pageable);
-            verify(boardMapper, never()).toResult(any());
+            verify(boardSearchEngine).search(searchKeyword, pageable);
         }
 
         @Test
-        @DisplayName("빈 검색어로 검색 시 전체 목록 반환")
-        void listWithPaging_EmptySearch_ReturnsAllResults() {
+        @DisplayName("검색어 앞뒤 공백은 제거한 뒤 검색 엔진에 전달")
+        void getBoards_TrimsSearchKeyword() {
             // Given
-            final String searchKeyword = "";
             Pageable pageable = PageRequest.of(0, 10);
-            List<Board> boards = List.of(board);
-            Page<Board> boardPage = new PageImpl<>(boards, pageable, 1);
+            given(boardSearchEngine.search("Test", pageable)).willReturn(Page.empty(pageable));
 
-            given(boardRepository.searchByKeyword(searchKeyword, pageable)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            // When
+            service.getBoards("  Test  ", pageable);
+
+            // Then
+            verify(boardSearchEngine).search("Test", pageable);
+        }
+
+        @Test
+        @DisplayName("빈 검색어로 검색 시 검색 엔진 없이 전체 목록 반환")
+        void getBoards_EmptySearch_ReturnsAllResults() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 10);
+            Page<BoardSummaryProjection> boardPage = new PageImpl<>(List.of(summary), pageable, 1);
+
+            given(boardRepository.findSummaries(pageable)).willReturn(boardPage);
+            given(boardMapper.toSummaryResult(any(BoardSummaryProjection.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable, searchKeyword);
+            Page<BoardSummaryResult> result = service.getBoards("   ", pageable);
 
             // Then
-            assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
 
-            verify(boardRepository).searchByKeyword(searchKeyword, pageable);
-            verify(boardMapper).toResult(board);
+            verify(boardRepository).findSummaries(pageable);
+            verify(boardSearchEngine, never()).search(any(), any());
         }
     }
 
@@ -305,13 +318,13 @@ class BoardQueryServiceTest {
         void listWithPaging_DifferentSortOptions_AppliesCorrectSort() {
             // Given - 조회수 내림차순 정렬
             Pageable pageableByViewCount = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "viewCount"));
-            Page<Board> boardPage = new PageImpl<>(List.of(board), pageableByViewCount, 1);
+            Page<BoardSummaryProjection> boardPage = new PageImpl<>(List.of(summary), pageableByViewCount, 1);
 
-            given(boardRepository.findAll(pageableByViewCount)).willReturn(boardPage);
-            given(boardMapper.toResult(any(Board.class))).willReturn(boardResult);
+            given(boardRepository.findSummaries(pageableByViewCount)).willReturn(boardPage);
+            given(boardMapper.toSummaryResult(any(BoardSummaryProjection.class))).willReturn(summaryResult);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageableByViewCount);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageableByViewCount);
 
             // Then
             assertThat(result.getSort().getOrderFor("viewCount")).isNotNull();
@@ -327,12 +340,12 @@ class BoardQueryServiceTest {
         void listWithPaging_DifferentPageSizes_HandlesCorrectly() {
             // Given - 페이지 크기 20, 두 번째 페이지
             Pageable pageable = PageRequest.of(1, 20);
-            Page<Board> boardPage = new PageImpl<>(List.of(), pageable, 50);
+            Page<BoardSummaryProjection> boardPage = new PageImpl<>(List.of(), pageable, 50);
 
-            given(boardRepository.findAll(pageable)).willReturn(boardPage);
+            given(boardRepository.findSummaries(pageable)).willReturn(boardPage);
 
             // When
-            Page<BoardResult> result = service.listWithPaging(pageable);
+            Page<BoardSummaryResult> result = service.listWithPaging(pageable);
 
             // Then
             assertThat(result.getNumber()).isEqualTo(1);
@@ -343,4 +356,105 @@ class BoardQueryServiceTest {
             verify(boardRepository).findAll(pageable);
         }
     }
+
+    @Nested
+    @DisplayName("최근 게시글 조회")
+    class RecentBoardsTest {
+
+        @Test
+        @DisplayName("✅ 최근 게시글은 요약 프로젝션으로 COUNT 없이 조회")
+        void getRecentBoards_UsesSummaryProjection() {
+            // Given
+            given(boardRepository.findRecentSummaries(Limit.of(5))).willReturn(List.of(summary));
+            given(boardMapper.toSummaryResult(summary)).willReturn(summaryResult);
+
+            // When
+            List<BoardSummaryResult> result = service.getRecentBoards(5);
+
+            // Then
+            assertThat(result).containsExactly(summaryResult);
+            verify(boardRepository, never()).findAll(any(Pageable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("커서 기반 게시글 목록 조회")
+    class ScrollBoardsTest {
+
+        @Test
+        @DisplayName("✅ 요청 크기보다 한 건 더 조회해 다음 커서를 만든다")
+        void scroll_MoreThanSize_ReturnsNextCursor() {
+            // Given
+            BoardSummaryProjection next = mock(BoardSummaryProjection.class);
+            UUID lastId = UUID.randomUUID();
+            LocalDateTime lastCreatedAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+            given(summary.getId()).willReturn(lastId);
+            given(summary.getCreatedAt()).willReturn(lastCreatedAt);
+            BoardCursor first = BoardCursor.first(BoardScrollSort.CREATED_AT);
+
+            given(boardRepository.scrollByCreatedAt(first.timestamp(), first.id(), Limit.of(2))).willReturn(List.of(summary, next));
+            given(boardMapper.toSummaryResult(summary)).willReturn(summaryResult);
+
+            // When
+            BoardSliceResult result = service.scroll(null, 1, BoardScrollSort.CREATED_AT, null);
+
+            // Then
+            assertThat(result.content()).containsExactly(summaryResult);
+            assertThat(result.hasNext()).isTrue();
+            assertThat(result.nextCursor()).isNotNull();
+            BoardCursor decoded = BoardCursor.decode(result.nextCursor(), BoardScrollSort.CREATED_AT);
+            assertThat(decoded.id()).isEqualTo(lastId);
+            assertThat(decoded.timestamp()).isEqualTo(lastCreatedAt);
+            verify(boardMapper, never()).toSummaryResult(next);
+        }
+
+        @Test
+        @DisplayName("✅ 마지막 페이지면 다음 커서가 없다")
+        void scroll_LastPage_ReturnsNoCursor() {
+            // Given
+            given(boardSearchEngine.scroll(eq("Test"), any(), eq(Limit.of(11)))).willReturn(List.of(summary));
+            given(boardMapper.toSummaryResult(summary)).willReturn(summaryResult);
+
+            // When
+            BoardSliceResult result = service.scroll(null, 10, BoardScrollSort.CREATED_AT, "  Test  ");
+
+            // Then
+            assertThat(result.content()).hasSize(1);
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("✅ 페이지 크기는 최대값으로 제한된다")
+        void scroll_OversizedRequest_ClampsSize() {
+            // Given
+            given(boardRepository.scrollByUpdatedAt(any(), any(), any())).willReturn(List.of());
+
+            // When
+            service.scroll(null, 10_000, BoardScrollSort.UPDATED_AT, null);
+
+            // Then
+            verify(boardRepository).scrollByUpdatedAt(any(), any(), eq(Limit.of(BoardQueryService.MAX_SCROLL_SIZE + 1)));
+        }
+
+        @Test
+        @DisplayName("❌ 정렬 기준이 다른 커서 → IllegalArgumentException")
+        void scroll_CursorForOtherSort_ThrowsIllegalArgumentException() {
+            // Given
+            String cursor = BoardCursor.first(BoardScrollSort.UPDATED_AT).encode();
+
+            // When & Then
+            assertThatThrownBy(() -> service.scroll(cursor, 10, BoardScrollSort.CREATED_AT, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(MessageUtils.get("error.board.cursor.invalid"));
+        }
+
+        @Test
+        @DisplayName("❌ 손상된 커서 → IllegalArgumentException")
+        void scroll_MalformedCursor_ThrowsIllegalArgumentException() {
+            assertThatThrownBy(() -> service.scroll("not-a-cursor", 10, BoardScrollSort.CREATED_AT, null))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage(MessageUtils.get("error.board.cursor.invalid"));
+        }
+    }
 }
@@ -0,0 +1,138 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("게시글 n-gram 역색인")
+class BoardInvertedIndexTest {
+
+    private BoardInvertedIndex index;
+    private BoardResult spring;
+    private BoardResult boot;
+    private BoardResult notice;
+
+    @BeforeEach
+    void setUp() {
+        index = new BoardInvertedIndex();
+        spring = board("스프링 게시판에 오신 것을 환영합니다", "Spring Boot 기반 게시판입니다", LocalDateTime.of(2025, 1, 1, 0, 0));
+        boot = board("부트 설정 팁", "스프링 부트에서 설정을 바꾸는 방법", LocalDateTime.of(2025, 1, 2, 0, 0));
+        notice = board("공지", "게시판 이용 규칙 안내", LocalDateTime.of(2025, 1, 3, 0, 0));
+        index.put(spring);
+        index.put(boot);
+        index.put(notice);
+    }
+
+    private static BoardResult board(String title, String content, LocalDateTime createdAt) {
+        return new BoardResult(UUID.randomUUID(), title, content, UUID.randomUUID(), "author", 0, createdAt, createdAt, 0);
+    }
+
+    private List<UUID> search(String keyword) {
+        return index.match(BoardIndexQuery.parse(keyword)).entrySet().stream()
+                .map(entry -> index.hit(entry.getKey(), entry.getValue()))
+                .sorted(BoardSegmentedIndex.ORDER)
+                .map(BoardSegmentedIndex.Hit::id)
+                .toList();
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class Search {
+
+        @Test
+        @DisplayName("✅ 조사가 붙은 한국어 어절도 부분 문자열로 찾는다")
+        void substring_FindsKoreanInflectedWords() {
+            assertThat(search("게시판")).containsExactlyInAnyOrder(spring.id(), notice.id());
+        }
+
+        @Test
+        @DisplayName("✅ 제목 일치가 본문 일치보다 앞선다")
+        void ranking_TitleBeforeContent() {
+            assertThat(search("스프링")).containsExactly(spring.id(), boot.id());
+        }
+
+        @Test
+        @DisplayName("✅ 접두사 검색은 어절의 시작만 일치한다")
+        void prefix_MatchesWordStart() {
+            assertThat(search("프링*")).isEmpty();
+            assertThat(search("스프*")).containsExactly(spring.id(), boot.id());
+        }
+
+        @Test
+        @DisplayName("✅ 구문 검색은 연속된 어절만 일치한다")
+        void phrase_MatchesConsecutiveWords() {
+            assertThat(search("\"스프링 부트\"")).containsExactly(boot.id());
+            assertThat(search("\"spring boot\"")).containsExactly(spring.id());
+            assertThat(search("\"부트 스프링\"")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("✅ 여러 절은 모두 일치해야 한다")
+        void clauses_AreCombinedWithAnd() {
+            assertThat(search("게시판 규칙")).containsExactly(notice.id());
+        }
+
+        @Test
+        @DisplayName("✅ 대소문자를 구분하지 않는다")
+        void search_IsCaseInsensitive() {
+            assertThat(search("SPRING")).containsExactly(spring.id());
+        }
+
+        @Test
+        @DisplayName("✅ 한 글자 검색어도 찾는다")
+        void singleCharacter_Matches() {
+            assertThat(search("팁")).containsExactly(boot.id());
+        }
+
+        @Test
+        @DisplayName("❌ 제목과 본문에 걸친 구문은 일치하지 않는다")
+        void phrase_DoesNotSpanFields() {
+            assertThat(search("\"공지 게시판\"")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("❌ 검색할 단어가 없으면 빈 쿼리")
+        void emptyQuery() {
+            assertThat(BoardIndexQuery.parse("  !! \"\" * ").isEmpty()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 갱신")
+    class IncrementalUpdate {
+
+        @Test
+        @DisplayName("✅ 수정하면 이전 내용으로는 더 이상 찾을 수 없다")
+        void put_ReplacesPreviousContent() {
+            index.put(new BoardResult(notice.id(), "공지", "점검 일정 안내", notice.authorId(), "author", 0, notice.createdAt(), notice.updatedAt(), 0));
+
+            assertThat(search("규칙")).isEmpty();
+            assertThat(search("점검")).hasSize(1);
+            assertThat(index.documentCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("✅ 삭제하면 포스팅도 함께 제거된다")
+        void remove_DropsPostings() {
+            index.remove(spring.id());
+            index.remove(boot.id());
+            index.remove(notice.id());
+
+            assertThat(search("게시판")).isEmpty();
+            assertThat(index.documentCount()).isZero();
+            assertThat(index.termCount()).isZero();
+            assertThat(index.postingCount()).isZero();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +22,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.reply.domain.Reply;
 import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
@@ -134,18 +138,6 @@ class BoardRepositoryTest extends EntityTestBase {
             assertThat(boards).hasSize(2);
         }
 
-        @Test
-        @DisplayName("작성자 username 조회")
-        void findAuthorUsernameById_ExistingBoard_ReturnsAuthorUsername() {
-            // When
-            Optional<String> authorUsername = boardRepository.findAuthorUsernameById(
-                    testBoard.getId());
-
-            // Then
-            assertThat(authorUsername).isPresent();
-            assertThat(authorUsername.get()).isEqualTo(author.getUsername());
-        }
-
         @Test
         @DisplayName("작성자 정보와 함께 조회")
         void findById_WithAuthor_LoadsAuthorData() {
@@ -242,6 +234,56 @@ class BoardRepositoryTest extends EntityTestBase {
             assertThat(after.getUpdatedAt()).isEqualTo(originalUpdatedAt);
         }
 
+        @Test
+        @DisplayName("댓글 수는 원자적으로 증감하고 버전을 올리지 않으며 0 아래로 내려가지 않는다")
+        void replyCount_IncrementAndDecrement() {
+            // Given
+            entityManager.flush();
+            entityManager.clear();
+            Long originalVersion = boardRepository.findById(testBoard.getId()).orElseThrow().getVersion();
+
+            // When
+            boardRepository.incrementReplyCount(testBoard.getId());
+            boardRepository.decrementReplyCount(testBoard.getId());
+            int belowZero = boardRepository.decrementReplyCount(testBoard.getId());
+            boardRepository.incrementReplyCount(testBoard.getId());
+
+            // Then
+            assertThat(belowZero).isZero();
+            entityManager.clear();
+            Board after = boardRepository.findById(testBoard.getId()).orElseThrow();
+            assertThat(after.getReplyCount()).isEqualTo(1);
+            assertThat(after.getVersion()).isEqualTo(originalVersion);
+        }
+
+        @Test
+        @DisplayName("댓글 수 재계산은 어긋난 게시글만 실제 댓글 수로 보정한다")
+        void reconcileReplyCounts_RepairsDriftedBoards() {
+            // Given
+            Board other = boardRepository.save(Board.builder().title("Other").content("Other Content").author(author).build());
+            Reply reply = Reply.builder().board(testBoard).author(author).content("댓글").build();
+            entityManager.persist(reply);
+            Reply deleted = Reply.builder().board(testBoard).author(author).content("삭제된 댓글").build();
+            deleted.markAsDeleted();
+            entityManager.persist(deleted);
+            entityManager.flush();
+            boardRepository.incrementReplyCount(other.getId());
+
+            // When
+            List<UUID> stale = boardRepository.findIdsWithStaleReplyCount(List.of(testBoard.getId(), other.getId()));
+            int repaired = boardRepository.reconcileReplyCounts(List.of(testBoard.getId(), other.getId()));
+            int again = boardRepository.reconcileReplyCounts(List.of(testBoard.getId(), other.getId()));
+
+            // Then
+            assertThat(stale).containsExactlyInAnyOrder(testBoard.getId(), other.getId());
+            assertThat(repaired).isEqualTo(2);
+            assertThat(again).isZero();
+            assertThat(boardRepository.findIdsWithStaleReplyCount(List.of(testBoard.getId(), other.getId()))).isEmpty();
+            entityManager.clear();
+            assertThat(boardRepository.findById(testBoard.getId()).orElseThrow().getReplyCount()).isEqualTo(1);
+            assertThat(boardRepository.findById(other.getId()).orElseThrow().getReplyCount()).isZero();
+        }
+
     }
 
     // =====================================
@@ -354,6 +396,126 @@ class BoardRepositoryTest extends EntityTestBase {
         }
     }
 
+    // =====================================
+    // 요약 프로젝션 테스트
+    // =====================================
+    @Nested
+    @DisplayName("목록 요약 프로젝션")
+    class SummaryProjectionTest {
+
+        @Test
+        @DisplayName("✅ 요약 조회는 본문을 발췌 길이로 잘라 작성자 username과 함께 반환")
+        void findSummaries_ReturnsExcerptAndAuthorName() {
+            // Given
+            boardRepository.save(Board.builder().title("Long Board").content("가".repeat(500)).author(author).build());
+
+            // When
+            Page<BoardSummaryProjection> page = boardRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            // Then
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent()).extracting(BoardSummaryProjection::getAuthorName).containsOnly("test_author");
+            assertThat(page.getContent())
+                    .filteredOn(summary -> summary.getTitle().equals("Long Board"))
+                    .singleElement()
+                    .satisfies(summary -> assertThat(summary.getExcerpt()).hasSize(BoardRepository.EXCERPT_LENGTH));
+        }
+
+        @Test
+        @DisplayName("✅ 요약 검색은 제목/내용 키워드로 필터링하고 건수를 함께 반환")
+        void searchSummaries_FiltersByKeyword() {
+            // When
+            Page<BoardSummaryProjection> page = boardRepository.searchSummaries("content", PageRequest.of(0, 10));
+
+            // Then
+            assertThat(page.getTotalElements()).isEqualTo(1);
+            assertThat(page.getContent().getFirst().getId()).isEqualTo(testBoard.getId());
+            assertThat(page.getContent().getFirst().getExcerpt()).isEqualTo("Test Content");
+        }
+
+        @Test
+        @DisplayName("✅ 최근 요약 조회는 요청 건수만큼 작성일 역순으로 반환")
+        void findRecentSummaries_RespectsLimit() {
+            // Given
+            boardRepository.save(Board.builder().title("Newer").content("Newer Content").author(author).build());
+
+            // When
+            List<BoardSummaryProjection> recent = boardRepository.findRecentSummaries(Limit.of(1));
+
+            // Then
+            assertThat(recent).hasSize(1);
+        }
+    }
+
+    // =====================================
+    // 키셋 페이지네이션 테스트
+    // =====================================
+    @Nested
+    @DisplayName("키셋 페이지네이션")
+    class KeysetScrollTest {
+
+        private static final LocalDateTime FIRST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+        private static final UUID MAX_ID = new UUID(-1L, -1L);
+
+        @BeforeEach
+        void setUpAdditionalBoards() {
+            for (int i = 1; i <= 6; i++)
+                boardRepository.save(Board.builder().title((i % 2 == 0 ? "Even " : "Odd ") + i).content("Content " + i).author(author).build());
+            boardRepository.flush();
+        }
+
+        @Test
+        @DisplayName("✅ 작성일 커서로 끝까지 조회하면 중복/누락 없이 전체를 내림차순으로 반환")
+        void scrollByCreatedAt_AllPages_ReturnsEveryBoardOnce() {
+            // Given
+            List<BoardSummaryProjection> collected = new ArrayList<>();
+            LocalDateTime createdAt = FIRST;
+            UUID id = MAX_ID;
+
+            // When
+            List<BoardSummaryProjection> page;
+            do {
+                page = boardRepository.scrollByCreatedAt(createdAt, id, Limit.of(2));
+                collected.addAll(page);
+                if (!page.isEmpty()) {
+                    createdAt = page.getLast().getCreatedAt();
+                    id = page.getLast().getId();
+                }
+            } while (page.size() == 2);
+
+            // Then
+            assertThat(collected).hasSize(7);
+            assertThat(collected).extracting(BoardSummaryProjection::getId).doesNotHaveDuplicates();
+            assertThat(collected).extracting(BoardSummaryProjection::getCreatedAt).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        }
+
+        @Test
+        @DisplayName("✅ 수정일 커서 조회도 요청 건수만큼만 반환")
+        void scrollByUpdatedAt_RespectsLimit() {
+            // When
+            List<BoardSummaryProjection> page = boardRepository.scrollByUpdatedAt(FIRST, MAX_ID, Limit.of(3));
+
+            // Then
+            assertThat(page).hasSize(3);
+            assertThat(page).extracting(BoardSummaryProjection::getUpdatedAt).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        }
+
+        @Test
+        @DisplayName("✅ 검색 커서 조회는 키워드가 포함된 게시글만 반환")
+        void searchScrollByCreatedAt_FiltersByKeyword() {
+            // When
+            List<BoardSummaryProjection> first = boardRepository.searchScrollByCreatedAt("even", FIRST, MAX_ID, Limit.of(2));
+            BoardSummaryProjection last = first.getLast();
+            List<BoardSummaryProjection> rest = boardRepository.searchScrollByCreatedAt("even", last.getCreatedAt(), last.getId(), Limit.of(2));
+
+            // Then
+            assertThat(first).hasSize(2);
+            assertThat(rest).hasSize(1);
+            assertThat(first).extracting(BoardSummaryProjection::getTitle).allMatch(title -> title.startsWith("Even"));
+            assertThat(rest).extracting(BoardSummaryProjection::getTitle).allMatch(title -> title.startsWith("Even"));
+        }
+    }
+
     // =====================================
     // 검색 테스트
     // =====================================
@@ -0,0 +1,154 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("디스크 세그먼트 게시글 역색인")
+class BoardSegmentedIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private static BoardResult board(String title, String content, LocalDateTime createdAt) {
+        return new BoardResult(UUID.randomUUID(), title, content, UUID.randomUUID(), "author", 0, createdAt, createdAt, 0);
+    }
+
+    private static List<UUID> search(BoardSegmentedIndex index, String keyword) {
+        return index.search(BoardIndexQuery.parse(keyword)).stream().map(BoardSegmentedIndex.Hit::id).toList();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(BoardSegmentedIndex.SEGMENT_SUFFIX)).toList();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ flush한 세그먼트와 버퍼를 함께 관련도 순으로 검색한다")
+    void search_MergesSegmentsAndBuffer() throws IOException {
+        BoardSegmentedIndex index = BoardSegmentedIndex.open(directory);
+        BoardResult spring = board("스프링 게시판", "Spring Boot 기반 게시판입니다", LocalDateTime.of(2025, 1, 1, 0, 0));
+        BoardResult boot = board("부트 설정 팁", "스프링 부트에서 설정을 바꾸는 방법", LocalDateTime.of(2025, 1, 2, 0, 0));
+        index.put(spring);
+        index.flush();
+        index.put(boot);
+
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(search(index, "스프링")).containsExactly(spring.id(), boot.id());
+        assertThat(search(index, "\"스프링 부트\"")).containsExactly(boot.id());
+        assertThat(index.documentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 세그먼트에 있는 게시글을 수정/삭제하면 이전 내용은 검색되지 않는다")
+    void putAndRemove_MarkSegmentDocumentsDeleted() throws IOException {
+        BoardSegmentedIndex index = BoardSegmentedIndex.open(directory);
+        BoardResult notice = board("공지", "게시판 이용 규칙 안내", LocalDateTime.of(2025, 1, 3, 0, 0));
+        BoardResult other = board("잡담", "게시판 규칙은 어디에", LocalDateTime.of(2025, 1, 4, 0, 0));
+        index.put(notice);
+        index.put(other);
+        index.flush();
+
+        index.put(new BoardResult(notice.id(), "공지", "점검 일정 안내", notice.authorId(), "author", 0, notice.createdAt(), notice.updatedAt(), 0));
+        index.remove(other.id());
+
+        assertThat(search(index, "규칙")).isEmpty();
+        assertThat(search(index, "점검")).containsExactly(notice.id());
+        assertThat(index.documentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 세그먼트에 기록한 게시글 값으로 검색 결과를 만들고, 더 오래된 변경은 덮어쓰지 않는다")
+    void storedFields_SurviveReopenAndRejectOlderVersions() throws IOException {
+        BoardSegmentedIndex index = BoardSegmentedIndex.open(directory);
+        BoardResult notice = board("공지", "점검 일정 안내", LocalDateTime.of(2025, 1, 3, 0, 0));
+        index.put(notice);
+        index.flush();
+
+        BoardSegmentedIndex reopened = BoardSegmentedIndex.open(directory);
+        BoardResult stored = reopened.search(BoardIndexQuery.parse("점검")).getFirst().board().get();
+        BoardResult older = new BoardResult(notice.id(), "공지", "이전 내용", notice.authorId(), "author", 0, notice.createdAt(),
+                notice.updatedAt().minusMinutes(1), 0);
+
+        assertThat(stored).isEqualTo(notice);
+        assertThat(reopened.putIfNotOlder(older)).isFalse();
+        assertThat(search(reopened, "점검")).containsExactly(notice.id());
+    }
+
+    @Test
+    @DisplayName("✅ 다시 열면 매니페스트의 세그먼트와 삭제 표시를 복원하고 고아 파일을 지운다")
+    void open_RestoresManifest() throws IOException {
+        BoardSegmentedIndex index = BoardSegmentedIndex.open(directory);
+        BoardResult kept = board("스프링 게시판", "본문", LocalDateTime.of(2025, 1, 1, 0, 0));
+        BoardResult removed = board("스프링 공지", "본문", LocalDateTime.of(2025, 1, 2, 0, 0));
+        index.put(kept);
+        index.put(removed);
+        index.flush();
+        index.remove(removed.id());
+        index.flush();
+        Files.writeString(directory.resolve(UUID.randomUUID() + BoardSegmentedIndex.SEGMENT_SUFFIX), "orphan");
+        Files.writeString(directory.resolve("boards.idx"), "legacy");
+
+        BoardSegmentedIndex reopened = BoardSegmentedIndex.open(directory);
+
+        assertThat(search(reopened, "스프링")).containsExactly(kept.id());
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(directory.resolve("boards.idx")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("✅ 세그먼트가 많아지면 병합하고 삭제된 게시글은 병합 결과에서 뺀다")
+    void flush_MergesSmallSegments() throws IOException {
+        BoardSegmentedIndex index = BoardSegmentedIndex.open(directory);
+        BoardResult deleted = board("스프링 삭제", "본문", LocalDateTime.of(2025, 1, 1, 0, 0));
+        index.put(deleted);
+        index.flush();
+        for (int i = 0; i < BoardSegmentedIndex.MAX_SEGMENTS; i++) {
+            index.put(board("스프링 " + i, "본문", LocalDateTime.of(2025, 2, 1, 0, 0).plusDays(i)));
+            index.flush();
+        }
+        index.remove(deleted.id());
+        index.flush();
+
+        assertThat(index.segmentCount()).isLessThanOrEqualTo(BoardSegmentedIndex.MAX_SEGMENTS);
+        assertThat(segmentFiles()).hasSize(index.segmentCount());
+        assertThat(search(index, "스프링")).hasSize(BoardSegmentedIndex.MAX_SEGMENTS).doesNotContain(deleted.id());
+        assertThat(search(BoardSegmentedIndex.open(directory), "스프링")).hasSize(BoardSegmentedIndex.MAX_SEGMENTS);
+    }
+
+    @Test
+    @DisplayName("✅ 재구축한 색인을 공개하면 매니페스트가 새 세그먼트만 가리킨다")
+    void detached_PublishReplacesManifest() throws IOException {
+        BoardSegmentedIndex current = BoardSegmentedIndex.open(directory);
+        BoardResult old = board("이전 글", "본문", LocalDateTime.of(2025, 1, 1, 0, 0));
+        current.put(old);
+        current.flush();
+
+        BoardSegmentedIndex rebuilt = BoardSegmentedIndex.detached(directory);
+        BoardResult fresh = board("새 글", "본문", LocalDateTime.of(2025, 1, 2, 0, 0));
+        rebuilt.put(fresh);
+        rebuilt.flush();
+        assertThat(segmentFiles()).hasSize(2);
+
+        rebuilt.publish();
+        current.discard();
+
+        assertThat(search(BoardSegmentedIndex.open(directory), "글")).containsExactly(fresh.id());
+        assertThat(segmentFiles()).hasSize(1);
+    }
+}
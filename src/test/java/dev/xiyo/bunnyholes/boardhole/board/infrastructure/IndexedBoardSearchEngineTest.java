@@ -0,0 +1,217 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardDeletedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.event.BoardSavedEvent;
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCursor;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardScrollSort;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheInvalidationMessage;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.LocalCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BoardSearchProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@Tag("unit")
+@DisplayName("내장 역색인 게시글 검색 엔진")
+class IndexedBoardSearchEngineTest {
+
+    @TempDir
+    Path directory;
+
+    private BoardRepository boardRepository;
+    private BoardMapper boardMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private Board board;
+    private BoardResult boardResult;
+
+    @BeforeEach
+    void setUp() {
+        boardRepository = mock(BoardRepository.class);
+        boardMapper = mock(BoardMapper.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        User author = User.builder().username("writer").password("Password123!").name("Writer").email("writer@example.com").roles(Set.of(Role.USER)).build();
+        board = Board.builder().title("스프링 게시판").content("게시판에 오신 것을 환영합니다").author(author).build();
+        ReflectionTestUtils.setField(board, "id", UUID.randomUUID());
+        boardResult = new BoardResult(board.getId(), board.getTitle(), board.getContent(), UUID.randomUUID(), "writer", 0, LocalDateTime.now(),
+                LocalDateTime.now(), 0);
+
+        given(boardRepository.findByIdGreaterThanOrderByIdAsc(any(UUID.class), any(Limit.class))).willReturn(List.of(board));
+        given(boardMapper.toResult(board)).willReturn(boardResult);
+    }
+
+    private IndexedBoardSearchEngine newEngine() {
+        return newEngine(null);
+    }
+
+    private IndexedBoardSearchEngine newEngine(@Nullable CacheManager cacheManager) {
+        BoardSearchProperties properties = new BoardSearchProperties(BoardSearchProperties.Engine.INDEX, "simple", 35, 15,
+                new BoardSearchProperties.Index(directory, Duration.ofMinutes(1)));
+        StaticListableBeanFactory beanFactory = cacheManager == null
+                ? new StaticListableBeanFactory()
+                : new StaticListableBeanFactory(Map.<String, Object>of("cacheManager", cacheManager));
+        ObjectProvider<CacheManager> cacheManagerProvider = beanFactory.getBeanProvider(CacheManager.class);
+        return new IndexedBoardSearchEngine(boardRepository, boardMapper, mock(PlatformTransactionManager.class), properties, meterRegistry,
+                cacheManagerProvider);
+    }
+
+    private static TwoLevelCacheManager twoLevelCacheManager(List<CacheInvalidationMessage> broadcasts) {
+        CacheProperties properties = new CacheProperties(Duration.ofHours(1), "test:invalidation", "test:tag:", DataSize.ofKilobytes(1),
+                true, new CacheProperties.CircuitBreaker(5, Duration.ofSeconds(10)),
+                new CacheProperties.Local(100, Duration.ofMinutes(1), 0, Duration.ZERO), Map.of());
+        return new TwoLevelCacheManager(new NoOpCacheManager(), properties, broadcasts::add, new SimpleMeterRegistry(),
+                new LocalCacheTagIndex(Duration.ofHours(1)), List.of(), Runnable::run);
+    }
+
+    private static BoardResult boardResult(String title, String content, LocalDateTime createdAt) {
+        return new BoardResult(UUID.randomUUID(), title, content, UUID.randomUUID(), "writer", 0, createdAt, createdAt, 0);
+    }
+
+    @Test
+    @DisplayName("✅ 재구축 후 하이라이트된 발췌와 함께 검색하고 세그먼트를 기록한다")
+    void rebuild_IndexesBoardsAndWritesSegments() {
+        IndexedBoardSearchEngine engine = newEngine();
+
+        engine.rebuild();
+        Page<BoardSummaryResult> result = engine.search("게시판", PageRequest.of(0, 10));
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().getFirst().excerpt()).isEqualTo("<mark>게시판</mark>에 오신 것을 환영합니다");
+        assertThat(directory.resolve(BoardSegmentedIndex.MANIFEST_FILE)).exists();
+        assertThat(meterRegistry.get("boardhole.search.index.segments").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("boardhole.search.index.documents").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("boardhole.search.index.query").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 기동 시 재구축 없이 디스크 세그먼트의 게시글 값으로 검색하고 DB를 읽지 않는다")
+    void openIndex_ServesFromSegmentsWithoutDatabase() {
+        IndexedBoardSearchEngine first = newEngine();
+        first.openIndex();
+        first.rebuild();
+        BoardRepository restartedRepository = mock(BoardRepository.class);
+        boardRepository = restartedRepository;
+
+        IndexedBoardSearchEngine restarted = newEngine();
+        restarted.openIndex();
+
+        assertThat(restarted.search("스프*", PageRequest.of(0, 10)).getContent())
+                .extracting(BoardSummaryResult::id, BoardSummaryResult::title, BoardSummaryResult::authorName)
+                .containsExactly(tuple(board.getId(), "스프링 게시판", "writer"));
+        assertThat(restarted.scroll("게시판", BoardCursor.first(BoardScrollSort.CREATED_AT), Limit.of(10)))
+                .extracting(BoardSummaryProjection::getId)
+                .containsExactly(board.getId());
+        verifyNoInteractions(restartedRepository);
+    }
+
+    @Test
+    @DisplayName("✅ 커서 조회는 색인에서 정렬 시각 역순으로 커서 이후만 반환한다")
+    void scroll_PagesByTimestampFromIndex() {
+        IndexedBoardSearchEngine engine = newEngine();
+        BoardResult older = boardResult("스프링 입문", "첫 글", LocalDateTime.of(2025, 1, 1, 0, 0));
+        BoardResult newer = boardResult("스프링 심화", "둘째 글", LocalDateTime.of(2025, 1, 2, 0, 0));
+        engine.onSaved(new BoardSavedEvent(older, Instant.now()));
+        engine.flush();
+        engine.onSaved(new BoardSavedEvent(newer, Instant.now()));
+
+        List<BoardSummaryProjection> first = engine.scroll("스프링", BoardCursor.first(BoardScrollSort.CREATED_AT), Limit.of(1));
+        List<BoardSummaryProjection> second = engine.scroll("스프링", BoardCursor.after(BoardScrollSort.CREATED_AT, first.getLast()), Limit.of(1));
+
+        assertThat(first).extracting(BoardSummaryProjection::getId).containsExactly(newer.id());
+        assertThat(first.getFirst().getExcerpt()).isEqualTo("둘째 글");
+        assertThat(second).extracting(BoardSummaryProjection::getId).containsExactly(older.id());
+        verifyNoInteractions(boardRepository);
+    }
+
+    @Test
+    @DisplayName("✅ 게시글 변경을 무효화 채널로 알리고, 다른 노드의 변경은 그 게시글만 다시 읽어 반영한다")
+    void changes_PropagateThroughInvalidationChannel() {
+        List<CacheInvalidationMessage> broadcasts = new ArrayList<>();
+        TwoLevelCacheManager cacheManager = twoLevelCacheManager(broadcasts);
+        IndexedBoardSearchEngine engine = newEngine(cacheManager);
+        engine.subscribeChanges();
+        BoardResult local = boardResult("로컬 글", "본문", LocalDateTime.now());
+
+        engine.onSaved(new BoardSavedEvent(local, Instant.now()));
+
+        assertThat(broadcasts).extracting(CacheInvalidationMessage::cacheName, CacheInvalidationMessage::key)
+                              .containsExactly(tuple(IndexedBoardSearchEngine.CHANNEL_NAME, local.id()));
+
+        given(boardRepository.findById(board.getId())).willReturn(Optional.of(board));
+        cacheManager.onInvalidation(new CacheInvalidationMessage("other-node", IndexedBoardSearchEngine.CHANNEL_NAME, board.getId()).encode());
+        assertThat(engine.search("게시판", PageRequest.of(0, 10)).getContent()).extracting(BoardSummaryResult::id).containsExactly(board.getId());
+
+        given(boardRepository.findById(board.getId())).willReturn(Optional.empty());
+        cacheManager.onInvalidation(new CacheInvalidationMessage("other-node", IndexedBoardSearchEngine.CHANNEL_NAME, board.getId()).encode());
+        assertThat(engine.search("게시판", PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(broadcasts).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("✅ 게시글 변경 이벤트를 색인에 즉시 반영한다")
+    void events_UpdateIndexIncrementally() {
+        IndexedBoardSearchEngine engine = newEngine();
+        BoardResult created = new BoardResult(UUID.randomUUID(), "새 글", "부트 설정 방법", UUID.randomUUID(), "writer", 0, LocalDateTime.now(),
+                LocalDateTime.now(), 0);
+
+        engine.onSaved(new BoardSavedEvent(created, Instant.now()));
+        engine.flush();
+        assertThat(engine.search("\"부트 설정\"", PageRequest.of(0, 10)).getTotalElements()).isEqualTo(1);
+
+        engine.onDeleted(new BoardDeletedEvent(created.id(), Instant.now()));
+        assertThat(engine.search("부트", PageRequest.of(0, 10)).getTotalElements()).isZero();
+        assertThat(meterRegistry.get("boardhole.search.index.refresh.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 발췌는 첫 일치 위치 주변을 보여준다")
+    void toSummary_CentersExcerptOnFirstMatch() {
+        BoardResult longBoard = new BoardResult(UUID.randomUUID(), "제목", "가".repeat(100) + " 검색어 " + "나".repeat(200), UUID.randomUUID(), "writer",
+                0, LocalDateTime.now(), LocalDateTime.now(), 0);
+
+        String excerpt = IndexedBoardSearchEngine.toSummary(longBoard, List.of("검색어")).excerpt();
+
+        assertThat(excerpt).startsWith("…").contains("<mark>검색어</mark>");
+    }
+}
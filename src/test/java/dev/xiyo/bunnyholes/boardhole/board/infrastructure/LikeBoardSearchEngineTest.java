@@ -0,0 +1,77 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapper;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+@DisplayName("LIKE 게시글 검색 엔진")
+class LikeBoardSearchEngineTest {
+
+    @Nested
+    @DisplayName("하이라이트")
+    class Highlight {
+
+        @Test
+        @DisplayName("✅ 검색어를 대소문자 구분 없이 mark로 감싼다")
+        void highlight_WrapsKeywordCaseInsensitively() {
+            assertThat(LikeBoardSearchEngine.highlight("Spring과 spring boot", "SPRING"))
+                    .isEqualTo("<mark>Spring</mark>과 <mark>spring</mark> boot");
+        }
+
+        @Test
+        @DisplayName("✅ 한국어 검색어도 하이라이트한다")
+        void highlight_Korean() {
+            assertThat(LikeBoardSearchEngine.highlight("게시판에 글을 씁니다", "게시판")).isEqualTo("<mark>게시판</mark>에 글을 씁니다");
+        }
+
+        @Test
+        @DisplayName("❌ 본문의 HTML은 이스케이프되어 태그로 해석되지 않는다")
+        void highlight_EscapesHtml() {
+            assertThat(LikeBoardSearchEngine.highlight("<script>alert(1)</script> a<b", "a<b"))
+                    .isEqualTo("&lt;script&gt;alert(1)&lt;/script&gt; <mark>a&lt;b</mark>");
+        }
+
+        @Test
+        @DisplayName("✅ 정규식 메타 문자는 문자 그대로 찾는다")
+        void highlight_QuotesRegex() {
+            assertThat(LikeBoardSearchEngine.highlight("a.b axb", "a.b")).isEqualTo("<mark>a.b</mark> axb");
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 검색 결과 발췌에 하이라이트를 적용한다")
+    void search_HighlightsExcerpt() {
+        BoardRepository boardRepository = mock(BoardRepository.class);
+        BoardMapper boardMapper = mock(BoardMapper.class);
+        BoardSummaryProjection projection = mock(BoardSummaryProjection.class);
+        Pageable pageable = PageRequest.of(0, 10);
+        BoardSummaryResult summary = new BoardSummaryResult(UUID.randomUUID(), "제목", "스프링 검색", UUID.randomUUID(), "user", 0,
+                LocalDateTime.now(), LocalDateTime.now(), 0);
+
+        given(boardRepository.searchSummaries("검색", pageable)).willReturn(new PageImpl<>(List.of(projection), pageable, 1));
+        given(boardMapper.toSummaryResult(projection)).willReturn(summary);
+
+        Page<BoardSummaryResult> result = new LikeBoardSearchEngine(boardRepository, boardMapper).search("검색", pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent().getFirst().excerpt()).isEqualTo("스프링 <mark>검색</mark>");
+        assertThat(result.getContent().getFirst().title()).isEqualTo("제목");
+    }
+}
@@ -0,0 +1,89 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCursor;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardScrollSort;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BoardSearchProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@Tag("unit")
+@DisplayName("PostgreSQL 게시글 검색 엔진")
+class PostgresBoardSearchEngineTest {
+
+    @Test
+    @DisplayName("✅ 단어마다 접두사 일치로 만들어 AND로 결합한다")
+    void toPrefixQuery_JoinsPrefixTerms() {
+        assertThat(PostgresBoardSearchEngine.toPrefixQuery("  스프링   게시판 ")).isEqualTo("'스프링':* & '게시판':*");
+    }
+
+    @Test
+    @DisplayName("✅ tsquery 연산자와 따옴표는 제거한다")
+    void toPrefixQuery_StripsOperators() {
+        assertThat(PostgresBoardSearchEngine.toPrefixQuery("it's a|b !(c) d:*")).isEqualTo("'its':* & 'ab':* & 'c':* & 'd':*");
+    }
+
+    @Test
+    @DisplayName("❌ 연산자만 있는 검색어는 빈 쿼리가 된다")
+    void toPrefixQuery_OnlyOperators_ReturnsEmpty() {
+        assertThat(PostgresBoardSearchEngine.toPrefixQuery("& | !")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 커서 검색도 LIKE 대신 인덱스와 같은 tsvector 식으로 거른다")
+    @SuppressWarnings("unchecked")
+    void scroll_UsesIndexedDocumentExpression() {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        PostgresBoardSearchEngine engine = new PostgresBoardSearchEngine(jdbcTemplate, properties("simple"));
+
+        engine.scroll("스프링", BoardCursor.first(BoardScrollSort.UPDATED_AT), Limit.of(11));
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate).query(sql.capture(), any(SqlParameterSource.class), any(RowMapper.class));
+        assertThat(sql.getValue())
+                .contains("(setweight(to_tsvector('simple', coalesce(b.title, '')), 'A') || setweight(to_tsvector('simple', coalesce(b.content, '')), 'B')) @@ to_tsquery('simple', :query)")
+                .contains("ORDER BY b.updated_at DESC, b.id DESC")
+                .doesNotContainIgnoringCase("LIKE");
+    }
+
+    @Test
+    @DisplayName("❌ 연산자만 있는 검색어로는 커서 검색 쿼리를 실행하지 않는다")
+    void scroll_OnlyOperators_ReturnsEmpty() {
+        NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+        PostgresBoardSearchEngine engine = new PostgresBoardSearchEngine(jdbcTemplate, properties("simple"));
+
+        assertThat(engine.scroll("& |", BoardCursor.first(BoardScrollSort.CREATED_AT), Limit.of(11))).isEmpty();
+        verify(jdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("❌ 허용되지 않는 검색 구성 이름은 거부한다")
+    void constructor_RejectsInvalidConfig() {
+        BoardSearchProperties properties = properties("simple'; DROP TABLE boards; --");
+
+        assertThatThrownBy(() -> new PostgresBoardSearchEngine(mock(NamedParameterJdbcTemplate.class), properties))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static BoardSearchProperties properties(String textSearchConfig) {
+        return new BoardSearchProperties(BoardSearchProperties.Engine.POSTGRES, textSearchConfig, 35, 15,
+                new BoardSearchProperties.Index(Path.of("data/board-index"), Duration.ofMinutes(1)));
+    }
+}
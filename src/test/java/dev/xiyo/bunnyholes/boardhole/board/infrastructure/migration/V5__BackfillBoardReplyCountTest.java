@@ -0,0 +1,100 @@
+package dev.xiyo.bunnyholes.boardhole.board.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils;
+
+@Tag("unit")
+@DisplayName("게시글 댓글 수 채우기 마이그레이션")
+class V5__BackfillBoardReplyCountTest {
+
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("✅ 기본값 0인 컬럼을 더하고 삭제되지 않은 댓글 수로 채운다")
+    void migrate_FillsReplyCount() throws Exception {
+        JdbcSchemaUtils.execute(connection, "CREATE TABLE boards (id UUID PRIMARY KEY)");
+        JdbcSchemaUtils.execute(connection, """
+                CREATE TABLE replies (
+                    id UUID PRIMARY KEY,
+                    board_id UUID NOT NULL REFERENCES boards (id),
+                    deleted BOOLEAN NOT NULL
+                )
+                """);
+        UUID withReplies = insertBoard();
+        UUID withoutReplies = insertBoard();
+        insertReply(withReplies, false);
+        insertReply(withReplies, false);
+        insertReply(withReplies, true);
+
+        new V5__BackfillBoardReplyCount().migrate(context);
+
+        assertThat(replyCountOf(withReplies)).isEqualTo(2);
+        assertThat(replyCountOf(withoutReplies)).isZero();
+        assertThat(JdbcSchemaUtils.columnNullable(connection, "boards", "reply_count")).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 빈 스키마에서는 아무것도 만들지 않는다")
+    void migrate_EmptySchema_DoesNothing() throws Exception {
+        new V5__BackfillBoardReplyCount().migrate(context);
+
+        assertThat(JdbcSchemaUtils.tableExists(connection, "boards")).isFalse();
+    }
+
+    private UUID insertBoard() throws Exception {
+        UUID id = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO boards (id) VALUES (?)")) {
+            insert.setObject(1, id);
+            insert.executeUpdate();
+        }
+        return id;
+    }
+
+    private void insertReply(UUID boardId, boolean deleted) throws Exception {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO replies (id, board_id, deleted) VALUES (?, ?, ?)")) {
+            insert.setObject(1, UUID.randomUUID());
+            insert.setObject(2, boardId);
+            insert.setBoolean(3, deleted);
+            insert.executeUpdate();
+        }
+    }
+
+    private int replyCountOf(UUID boardId) throws Exception {
+        try (PreparedStatement select = connection.prepareStatement("SELECT reply_count FROM boards WHERE id = ?")) {
+            select.setObject(1, boardId);
+            try (ResultSet rows = select.executeQuery()) {
+                rows.next();
+                return rows.getInt(1);
+            }
+        }
+    }
+}
@@ -39,8 +39,10 @@ import dev.xiyo.bunnyholes.boardhole.board.application.command.UpdateBoardComman
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.GetBoardQuery;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardCreateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardResponse;
+import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardSummaryResponse;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.dto.BoardUpdateRequest;
 import dev.xiyo.bunnyholes.boardhole.board.presentation.mapper.BoardWebMapper;
 import dev.xiyo.bunnyholes.boardhole.shared.config.ApiSecurityConfig;
@@ -93,14 +95,20 @@ class BoardControllerTest {
     private UUID boardId;
     private BoardResult boardResult;
     private BoardResponse boardResponse;
+    private BoardSummaryResult summaryResult;
+    private BoardSummaryResponse summaryResponse;
 
     @BeforeEach
     void setUp() {
         boardId = UUID.fromString("550e8400-e29b-41d4-a716-446655440002");
         boardResult = new BoardResult(boardId, "테스트 제목", "테스트 내용", UUID.randomUUID(), "작성자", 10,
-                LocalDateTime.now(), LocalDateTime.now());
+                LocalDateTime.now(), LocalDateTime.now(), 0);
         boardResponse = new BoardResponse(boardResult.id(), boardResult.title(), boardResult.content(), boardResult.authorId(),
-                boardResult.authorName(), boardResult.viewCount(), boardResult.createdAt(), boardResult.updatedAt());
+                boardResult.authorName(), boardResult.viewCount(), boardResult.createdAt(), boardResult.updatedAt(), 0);
+        summaryResult = new BoardSummaryResult(boardResult.id(), boardResult.title(), boardResult.content(), boardResult.authorId(),
+                boardResult.authorName(), boardResult.viewCount(), boardResult.createdAt(), boardResult.updatedAt(), 0);
+        summaryResponse = new BoardSummaryResponse(summaryResult.id(), summaryResult.title(), summaryResult.excerpt(), summaryResult.authorId(),
+                summaryResult.authorName(), summaryResult.viewCount(), summaryResult.createdAt(), summaryResult.updatedAt(), 0);
     }
 
     private static Stream<Arguments> listSearchArguments() {
@@ -114,8 +122,8 @@ class BoardControllerTest {
         return builder.contentType(MediaType.APPLICATION_FORM_URLENCODED).with(csrf());
     }
 
-    private Page<BoardResult> singleBoardPage(Pageable pageable) {
-        return new PageImpl<>(List.of(boardResult), pageable, 1);
+    private Page<BoardSummaryResult> singleBoardPage(Pageable pageable) {
+        return new PageImpl<>(List.of(summaryResult), pageable, 1);
     }
 
     private BoardCreateRequest validCreateRequest() {
@@ -243,9 +251,9 @@ class BoardControllerTest {
             @MethodSource("dev.xiyo.bunnyholes.boardhole.board.presentation.BoardControllerTest#listSearchArguments")
             void shouldListBoards(String description, Optional<String> search) throws Exception {
                 Pageable pageable = PageRequest.of(0, 10);
-                Page<BoardResult> resultPage = singleBoardPage(pageable);
+                Page<BoardSummaryResult> resultPage = singleBoardPage(pageable);
 
-                given(boardWebMapper.toResponse(boardResult)).willReturn(boardResponse);
+                given(boardWebMapper.toResponse(summaryResult)).willReturn(summaryResponse);
                 if (search.isPresent()) {
                     given(boardQueryService.listWithPaging(any(Pageable.class), eq(search.get()))).willReturn(resultPage);
                 } else {
@@ -259,7 +267,9 @@ class BoardControllerTest {
 
                 mockMvc.perform(requestBuilder)
                         .andExpect(status().isOk())
-                        .andExpect(jsonPath("$.content[0].title").value(boardResponse.title()));
+                        .andExpect(jsonPath("$.content[0].title").value(summaryResponse.title()))
+                        .andExpect(jsonPath("$.content[0].excerpt").value(summaryResponse.excerpt()))
+                        .andExpect(jsonPath("$.content[0].content").doesNotExist());
 
                 if (search.isPresent()) {
                     then(boardQueryService).should().listWithPaging(any(Pageable.class), eq(search.get()));
@@ -369,6 +369,6 @@ class BoardDeleteViewControllerTest {
                                                  String authorName, Integer viewCount,
                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
         return new BoardResult(id, title, content, authorId, authorName,
-                viewCount, createdAt, updatedAt);
+                viewCount, createdAt, updatedAt, 0);
     }
 }
\ No newline at end of file
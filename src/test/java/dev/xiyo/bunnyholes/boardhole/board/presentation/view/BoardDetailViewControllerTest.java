@@ -28,7 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
 import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
 import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyQueryService;
-import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplySliceResult;
 import dev.xiyo.bunnyholes.boardhole.shared.config.ViewSecurityConfig;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.GlobalExceptionHandler;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
@@ -36,6 +36,7 @@ import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.reset;
@@ -90,7 +91,7 @@ class BoardDetailViewControllerTest {
     @BeforeEach
     void setUp() {
         lenient().when(permissionEvaluator.hasPermission(any(), any(), any(), any())).thenReturn(false);
-        lenient().when(replyQueryService.getReplyTree(any())).thenReturn(new ReplyTreeResult(List.of(), 0));
+        lenient().when(replyQueryService.getThreads(any(), any(), anyInt())).thenReturn(new ReplySliceResult(List.of(), null, false));
     }
 
     @AfterEach
@@ -453,6 +454,6 @@ class BoardDetailViewControllerTest {
                                                  String authorName, Integer viewCount,
                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
         return new BoardResult(id, title, content, authorId, authorName,
-                viewCount, createdAt, updatedAt);
+                viewCount, createdAt, updatedAt, 0);
     }
 }
@@ -551,6 +551,6 @@ class BoardEditViewControllerTest {
                                                  String authorName, Integer viewCount,
                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
         return new BoardResult(id, title, content, authorId, authorName,
-                viewCount, createdAt, updatedAt);
+                viewCount, createdAt, updatedAt, 0);
     }
 }
@@ -28,7 +28,9 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardQueryService;
-import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardScrollSort;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSliceResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
 import dev.xiyo.bunnyholes.boardhole.shared.config.ViewSecurityConfig;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.GlobalExceptionHandler;
 
@@ -121,7 +123,7 @@ class BoardListViewControllerTest {
                     LocalDateTime.now().minusDays(1)
             );
 
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(board1, board2),
                     PageRequest.of(0, 10),
                     2
@@ -146,7 +148,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_EmptyList_ShouldRenderSuccessfully() throws Exception {
             // given
-            Page<BoardResult> emptyPage = new PageImpl<>(
+            Page<BoardSummaryResult> emptyPage = new PageImpl<>(
                     List.of(),
                     PageRequest.of(0, 10),
                     0
@@ -171,7 +173,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_Authenticated_ShouldShowWriteButton() throws Exception {
             // given
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(0, 10),
                     1
@@ -190,7 +192,7 @@ class BoardListViewControllerTest {
         @WithAnonymousUser
         void list_Anonymous_ShouldHideWriteButton() throws Exception {
             // given
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(0, 10),
                     1
@@ -227,7 +229,7 @@ class BoardListViewControllerTest {
                     LocalDateTime.now()
             );
 
-            Page<BoardResult> searchResults = new PageImpl<>(
+            Page<BoardSummaryResult> searchResults = new PageImpl<>(
                     List.of(filteredBoard),
                     PageRequest.of(0, 10),
                     1
@@ -249,7 +251,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_WithoutSearchQuery_ShouldShowAllBoards() throws Exception {
             // given
-            Page<BoardResult> allBoards = new PageImpl<>(
+            Page<BoardSummaryResult> allBoards = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(0, 10),
                     1
@@ -270,7 +272,7 @@ class BoardListViewControllerTest {
         void list_WithSpecialCharactersInSearch_ShouldHandleSafely() throws Exception {
             // given
             final var searchQuery = "<script>alert('XSS')</script>";
-            Page<BoardResult> emptyResults = new PageImpl<>(
+            Page<BoardSummaryResult> emptyResults = new PageImpl<>(
                     List.of(),
                     PageRequest.of(0, 10),
                     0
@@ -290,7 +292,7 @@ class BoardListViewControllerTest {
         void list_WithSqlInjectionPattern_ShouldHandleSafely() throws Exception {
             // given
             final var searchQuery = "'; DROP TABLE boards; --";
-            Page<BoardResult> emptyResults = new PageImpl<>(
+            Page<BoardSummaryResult> emptyResults = new PageImpl<>(
                     List.of(),
                     PageRequest.of(0, 10),
                     0
@@ -319,7 +321,7 @@ class BoardListViewControllerTest {
                     createBoardResult(UUID.randomUUID(), "게시글2", "내용2", UUID.randomUUID(), "작성자2", 2, LocalDateTime.now(), LocalDateTime.now())
             );
 
-            Page<BoardResult> pagedResults = new PageImpl<>(
+            Page<BoardSummaryResult> pagedResults = new PageImpl<>(
                     boards,
                     PageRequest.of(1, 10), // 2페이지
                     25 // 전체 25개 (3페이지)
@@ -342,7 +344,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_EmptyBoards_ShouldShowPage1WithDisabledButtons() throws Exception {
             // given
-            Page<BoardResult> emptyPage = new PageImpl<>(
+            Page<BoardSummaryResult> emptyPage = new PageImpl<>(
                     List.of(),
                     PageRequest.of(0, 10),
                     0 // 전체 0개
@@ -367,7 +369,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_SinglePage_ShouldDisableBothButtons() throws Exception {
             // given
-            Page<BoardResult> singlePage = new PageImpl<>(
+            Page<BoardSummaryResult> singlePage = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(0, 10),
                     5 // 전체 5개 (1페이지)
@@ -390,7 +392,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_Page1Of2_ShouldDisablePrevEnableNext() throws Exception {
             // given
-            Page<BoardResult> firstPage = new PageImpl<>(
+            Page<BoardSummaryResult> firstPage = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(0, 10),
                     15 // 전체 15개 (2페이지)
@@ -413,7 +415,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_Page2Of2_ShouldEnablePrevDisableNext() throws Exception {
             // given
-            Page<BoardResult> secondPage = new PageImpl<>(
+            Page<BoardSummaryResult> secondPage = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(1, 10),
                     15 // 전체 15개 (2페이지)
@@ -440,7 +442,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_Page12Of12_ShouldDisableNext() throws Exception {
             // given
-            Page<BoardResult> page12 = new PageImpl<>(
+            Page<BoardSummaryResult> page12 = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(11, 10), // 12페이지 (0-based)
                     120 // 전체 120개 (12페이지)
@@ -465,7 +467,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_OutOfBoundPageNumber_ShouldThrowException() throws Exception {
             // Given: 총 3페이지만 있는 상황에서 111페이지 요청
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(), // 빈 결과 (범위 초과 시 Spring Data는 빈 결과 반환)
                     PageRequest.of(111, 10), // 요청된 페이지는 111
                     30 // 총 30개 = 3페이지
@@ -484,7 +486,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_VeryLargePageNumber_ShouldThrowException() throws Exception {
             // given
-            Page<BoardResult> emptyPage = new PageImpl<>(
+            Page<BoardSummaryResult> emptyPage = new PageImpl<>(
                     List.of(),
                     PageRequest.of(999, 10),
                     0
@@ -505,7 +507,7 @@ class BoardListViewControllerTest {
         void list_SearchWithPagination_ShouldMaintainSearchParam() throws Exception {
             // given: Spring 검색 결과가 5페이지 있다고 가정
             final var searchQuery = "Spring";
-            Page<BoardResult> searchResults = new PageImpl<>(
+            Page<BoardSummaryResult> searchResults = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(1, 10), // 2페이지
                     50 // 총 50개 = 5페이지
@@ -540,7 +542,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_NoSearchWithPagination_ShouldIncludeNullSearchParam() throws Exception {
             // given: 검색 없이 페이지네이션
-            Page<BoardResult> allBoards = new PageImpl<>(
+            Page<BoardSummaryResult> allBoards = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(1, 10), // 2페이지
                     30 // 총 30개 = 3페이지
@@ -592,7 +594,7 @@ class BoardListViewControllerTest {
             );
 
             // 최신 게시글이 먼저 오도록 정렬된 결과
-            Page<BoardResult> sortedPage = new PageImpl<>(
+            Page<BoardSummaryResult> sortedPage = new PageImpl<>(
                     List.of(newBoard, oldBoard),
                     PageRequest.of(0, 10),
                     2
@@ -614,7 +616,7 @@ class BoardListViewControllerTest {
         @WithMockUser
         void list_SortingParameter_ShouldBePassedCorrectly() throws Exception {
             // given
-            Page<BoardResult> sortedPage = new PageImpl<>(
+            Page<BoardSummaryResult> sortedPage = new PageImpl<>(
                     List.of(createSampleBoard()),
                     PageRequest.of(0, 10),
                     1
@@ -650,7 +652,7 @@ class BoardListViewControllerTest {
                     LocalDateTime.now()
             );
 
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(longTitleBoard),
                     PageRequest.of(0, 10),
                     1
@@ -680,7 +682,7 @@ class BoardListViewControllerTest {
                     LocalDateTime.now()
             );
 
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(emojiBoard),
                     PageRequest.of(0, 10),
                     1
@@ -710,7 +712,7 @@ class BoardListViewControllerTest {
                     LocalDateTime.now()
             );
 
-            Page<BoardResult> boardPage = new PageImpl<>(
+            Page<BoardSummaryResult> boardPage = new PageImpl<>(
                     List.of(multilingualBoard),
                     PageRequest.of(0, 10),
                     1
@@ -725,15 +727,68 @@ class BoardListViewControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("커서 페이지네이션")
+    class CursorPagination {
+
+        @Test
+        @DisplayName("cursor 파라미터가 있으면 커서 조회로 렌더링하고 더 보기 링크를 노출한다")
+        @WithMockUser
+        void list_WithCursor_ShouldRenderMoreLink() throws Exception {
+            // given
+            var slice = new BoardSliceResult(List.of(createSampleBoard()), "next-cursor", true);
+            when(boardQueryService.scroll(eq(""), eq(10), eq(BoardScrollSort.UPDATED_AT), any())).thenReturn(slice);
+
+            // when & then
+            mockMvc.perform(get("/boards").param("cursor", ""))
+                   .andExpect(status().isOk())
+                   .andExpect(view().name("boards"))
+                   .andExpect(model().attribute("boards", slice.content()))
+                   .andExpect(model().attribute("nextCursor", "next-cursor"))
+                   .andExpect(content().string(containsString("샘플 게시글")))
+                   .andExpect(content().string(containsString("cursor=next-cursor")))
+                   .andExpect(content().string(not(containsString("총 "))));
+        }
+
+        @Test
+        @DisplayName("마지막 커서 페이지에서는 더 보기 링크를 숨긴다")
+        @WithMockUser
+        void list_LastCursorPage_ShouldHideMoreLink() throws Exception {
+            // given
+            var slice = new BoardSliceResult(List.of(createSampleBoard()), null, false);
+            when(boardQueryService.scroll(any(), eq(10), eq(BoardScrollSort.UPDATED_AT), any())).thenReturn(slice);
+
+            // when & then
+            mockMvc.perform(get("/boards").param("cursor", "last"))
+                   .andExpect(status().isOk())
+                   .andExpect(content().string(containsString("마지막 게시글입니다.")))
+                   .andExpect(content().string(not(containsString("cursor="))));
+        }
+
+        @Test
+        @DisplayName("정렬 기준과 페이지 크기를 조회에 전달하고 더 보기 링크에도 유지한다")
+        @WithMockUser
+        void list_WithCursor_ShouldKeepSortAndSize() throws Exception {
+            // given
+            var slice = new BoardSliceResult(List.of(createSampleBoard()), "next-cursor", true);
+            when(boardQueryService.scroll(eq(""), eq(20), eq(BoardScrollSort.CREATED_AT), any())).thenReturn(slice);
+
+            // when & then
+            mockMvc.perform(get("/boards").param("cursor", "").param("size", "20").param("sort", "CREATED_AT"))
+                   .andExpect(status().isOk())
+                   .andExpect(content().string(containsString("cursor=next-cursor&amp;size=20&amp;sort=CREATED_AT")));
+        }
+    }
+
     // Helper methods
-    private static BoardResult createBoardResult(UUID id, String title, String content, UUID authorId,
+    private static BoardSummaryResult createBoardResult(UUID id, String title, String content, UUID authorId,
                                                  String authorName, Integer viewCount,
                                                  LocalDateTime createdAt, LocalDateTime updatedAt) {
-        return new BoardResult(id, title, content, authorId, authorName,
-                viewCount, createdAt, updatedAt);
+        return new BoardSummaryResult(id, title, content, authorId, authorName,
+                viewCount, createdAt, updatedAt, 0);
     }
 
-    private static BoardResult createSampleBoard() {
+    private static BoardSummaryResult createSampleBoard() {
         return createBoardResult(
                 UUID.randomUUID(),
                 "샘플 게시글",
@@ -170,7 +170,8 @@ class BoardWriteViewControllerTest {
                 "testuser",
                 0,
                 null,
-                null
+                null,
+                0
         );
         var mockUser = createMockUser();
         UserDetails mockPrincipal = org.springframework.security.core.userdetails.User.withUsername(USERNAME)
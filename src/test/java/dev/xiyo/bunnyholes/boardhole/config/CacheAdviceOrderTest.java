@@ -0,0 +1,124 @@
+package dev.xiyo.bunnyholes.boardhole.config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("캐시/트랜잭션 어드바이스 순서")
+class CacheAdviceOrderTest {
+
+  @Test
+  @DisplayName("✅ 캐시 어드바이스를 트랜잭션 어드바이스보다 바깥 순서로 등록한다")
+  void cacheConfig_OrdersCacheAdviceOutside() {
+    assertThat(CacheConfig.class.getAnnotation(EnableCaching.class).order())
+        .isEqualTo(CacheConfig.CACHE_ADVICE_ORDER)
+        .isLessThan(Ordered.LOWEST_PRECEDENCE);
+  }
+
+  @Test
+  @DisplayName("✅ 다른 스레드에서 실행한 값 로더도 자체 트랜잭션 안에서 실행된다")
+  void valueLoader_OnAnotherThread_RunsInsideTransaction() {
+    try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
+      assertThat(context.getBean(TransactionalLoader.class).load("key")).isTrue();
+    }
+  }
+
+  @Configuration
+  @EnableCaching(order = CacheConfig.CACHE_ADVICE_ORDER)
+  @EnableTransactionManagement(proxyTargetClass = true)
+  static class TestConfig {
+
+    @Bean
+    CacheManager cacheManager() {
+      return new BackgroundLoadingCacheManager();
+    }
+
+    @Bean
+    PlatformTransactionManager transactionManager() {
+      return new StubTransactionManager();
+    }
+
+    @Bean
+    TransactionalLoader transactionalLoader() {
+      return new TransactionalLoader();
+    }
+  }
+
+  static class TransactionalLoader {
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "test", sync = true)
+    public Boolean load(String key) {
+      return TransactionSynchronizationManager.isActualTransactionActive();
+    }
+  }
+
+  /**
+   * 값 로더를 별도 스레드에서 실행하는 캐시 (TwoLevelCache의 백그라운드 갱신과 같은 조건)
+   */
+  static class BackgroundLoadingCacheManager extends ConcurrentMapCacheManager {
+
+    @Override
+    protected Cache createConcurrentMapCache(String name) {
+      return new ConcurrentMapCache(name) {
+        @Override
+        public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+          try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            return executor.submit(valueLoader).get();
+          } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+          }
+        }
+      };
+    }
+  }
+
+  static class StubTransactionManager extends AbstractPlatformTransactionManager {
+
+    @Override
+    protected Object doGetTransaction() {
+      return new Object();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package dev.xiyo.bunnyholes.boardhole.config;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.annotation.Cacheable;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCacheSchemas;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.codec.CacheValueCodec;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("캐시 값 스키마 기동 확인")
+class CacheValueSchemaVerifierTest {
+
+  private final BoardCacheSchemas boardSchemas = new BoardCacheSchemas();
+  private final CacheValueCodec codec = new CacheValueCodec(
+      List.of(boardSchemas.boardResultSchema(), boardSchemas.boardSummaryResultSchema()), 0);
+
+  @Test
+  @DisplayName("✅ 반환 타입과 목록 원소 타입에 스키마가 있으면 통과한다")
+  void registeredTypes_Pass() {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("registered", new Registered());
+
+    assertThatCode(() -> CacheConfig.verifySchemas(beanFactory, codec)).doesNotThrowAnyException();
+  }
+
+  @Test
+  @DisplayName("❌ 스키마가 없는 캐시 타입이 있으면 기동을 멈춘다")
+  void missingSchema_Throws() {
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("registered", new Registered());
+    beanFactory.addBean("unregistered", new Unregistered());
+
+    assertThatThrownBy(() -> CacheConfig.verifySchemas(beanFactory, codec))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("Unregistered.load")
+        .hasMessageContaining(Payload.class.getName())
+        .hasMessageNotContaining("Registered.board");
+  }
+
+  record Payload(String value) {
+  }
+
+  static class Registered {
+
+    @Cacheable(cacheNames = "test", sync = true)
+    public BoardResult board(UUID id) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Cacheable(cacheNames = "test", sync = true)
+    public List<BoardSummaryResult> summaries(int limit) {
+      return List.of();
+    }
+
+    @Cacheable(cacheNames = "test", sync = true)
+    public Long count() {
+      return 0L;
+    }
+  }
+
+  static class Unregistered {
+
+    @Cacheable(cacheNames = "test", sync = true)
+    public List<Payload> load(int limit) {
+      return List.of();
+    }
+  }
+}
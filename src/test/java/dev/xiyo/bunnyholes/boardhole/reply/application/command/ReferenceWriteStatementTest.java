@@ -0,0 +1,121 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.command;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.command.BoardCommandService;
+import dev.xiyo.bunnyholes.boardhole.board.application.command.CreateBoardCommand;
+import dev.xiyo.bunnyholes.boardhole.board.application.mapper.BoardMapperImpl;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.reply.application.mapper.ReplyMapperImpl;
+import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyTreeCache;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.shared.security.AppUserPrincipal;
+import dev.xiyo.bunnyholes.boardhole.shared.security.OwnershipCache;
+import dev.xiyo.bunnyholes.boardhole.shared.security.UserIdResolver;
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.SqlStatementRecorder;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글/댓글 작성 경로의 SQL 문장 수 회귀 테스트
+ * <p>
+ * 작성자와 게시글을 엔티티로 읽지 않고 참조만 사용하는지 실행된 SQL로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=dev.xiyo.bunnyholes.boardhole.testsupport.jpa.SqlStatementRecorder")
+@ActiveProfiles("test")
+@Import({BoardCommandService.class, ReplyCommandService.class, BoardMapperImpl.class, ReplyMapperImpl.class, UserIdResolver.class, ReplyTreeCache.class})
+@Tag("unit")
+@Tag("repository")
+class ReferenceWriteStatementTest extends EntityTestBase {
+
+    @Autowired
+    private BoardCommandService boardCommandService;
+
+    @Autowired
+    private ReplyCommandService replyCommandService;
+
+    @MockitoBean
+    private OwnershipCache ownershipCache;
+
+    private User author;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        author = createAndPersistUser();
+        board = persistAndFlush(Board.builder().title("Title").content("Content").author(author).build());
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 로그인 사용자의 게시글 작성은 INSERT 한 번으로 끝난다")
+    void createBoard_WithPrincipal_SingleInsert() {
+        authenticate();
+
+        BoardResult result = boardCommandService.create(new CreateBoardCommand(author.getUsername(), "New", "Body"));
+        entityManager.flush();
+
+        assertThat(result.authorId()).isEqualTo(author.getId());
+        assertThat(result.authorName()).isEqualTo(author.getUsername());
+        assertThat(statements()).singleElement().satisfies(sql -> assertThat(sql).startsWith("insert into boards"));
+    }
+
+    @Test
+    @DisplayName("✅ 주체 정보가 없으면 작성자 ID만 한 번 더 조회한다")
+    void createBoard_WithoutPrincipal_SelectsIdOnly() {
+        boardCommandService.create(new CreateBoardCommand(author.getUsername(), "New", "Body"));
+        entityManager.flush();
+
+        List<String> statements = statements();
+        assertThat(statements).hasSize(2);
+        assertThat(statements.getFirst()).startsWith("select").doesNotContain("password");
+        assertThat(statements.get(1)).startsWith("insert into boards");
+    }
+
+    @Test
+    @DisplayName("✅ 최상위 댓글 작성은 댓글 수 UPDATE와 INSERT만 실행한다")
+    void createRootReply_UpdateAndInsertOnly() {
+        authenticate();
+
+        ReplyResult result = replyCommandService.create(new CreateReplyCommand(board.getId(), null, author.getUsername(), "Reply"));
+        entityManager.flush();
+
+        assertThat(result.boardId()).isEqualTo(board.getId());
+        assertThat(result.authorId()).isEqualTo(author.getId());
+        assertThat(statements()).satisfiesExactly(
+                sql -> assertThat(sql).startsWith("update boards"),
+                sql -> assertThat(sql).startsWith("insert into replies"));
+    }
+
+    private void authenticate() {
+        var principal = new AppUserPrincipal(author.getId(), author.getUsername(), author.getPassword(), List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    private static List<String> statements() {
+        return SqlStatementRecorder.statements().stream().map(String::toLowerCase).toList();
+    }
+}
@@ -0,0 +1,124 @@
+package dev.xiyo.bunnyholes.boardhole.reply.application.query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
+import dev.xiyo.bunnyholes.boardhole.reply.infrastructure.ReplyRepository;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheConstants;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@DisplayName("댓글 트리 캐시 갱신")
+class ReplyTreeCacheTest {
+
+    private static final UUID BOARD_ID = UUID.randomUUID();
+
+    private static ReplyResult reply(@Nullable UUID parentId, int depth) {
+        return ReplyResult.of(UUID.randomUUID(), BOARD_ID, parentId, "내용", UUID.randomUUID(), "작성자", LocalDateTime.now(), null, false, depth);
+    }
+
+    @Test
+    @DisplayName("✅ 최상위 댓글은 트리 끝에 붙는다")
+    void root_AppendedAtEnd() {
+        ReplyResult existing = reply(null, 0);
+        ReplyTreeResult tree = new ReplyTreeResult(List.of(existing), 1);
+
+        ReplyTreeResult patched = ReplyTreeCache.withReply(tree, reply(null, 0));
+
+        assertThat(patched).isNotNull();
+        assertThat(patched.totalCount()).isEqualTo(2);
+        assertThat(patched.replies()).extracting(ReplyResult::id).first().isEqualTo(existing.id());
+        assertThat(patched.replies()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("✅ 답글은 부모 아래에 붙고 원래 트리는 바뀌지 않는다")
+    void child_AppendedUnderParent() {
+        ReplyResult root = reply(null, 0);
+        ReplyResult child = reply(root.id(), 1);
+        root.children().add(child);
+        ReplyTreeResult tree = new ReplyTreeResult(List.of(root), 2);
+
+        ReplyTreeResult patched = ReplyTreeCache.withReply(tree, reply(child.id(), 2));
+
+        assertThat(patched).isNotNull();
+        ReplyResult added = patched.replies().getFirst().children().getFirst().children().getFirst();
+        assertThat(added.parentId()).isEqualTo(child.id());
+        assertThat(added.depth()).isEqualTo(2);
+        assertThat(patched.totalCount()).isEqualTo(3);
+        assertThat(patched.replies().getFirst().children().getFirst().childCount()).isEqualTo(1);
+        assertThat(child.children()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ 부모를 트리에서 찾지 못하면 null을 반환한다")
+    void missingParent_ReturnsNull() {
+        ReplyTreeResult tree = new ReplyTreeResult(List.of(reply(null, 0)), 1);
+
+        assertThat(ReplyTreeCache.withReply(tree, reply(UUID.randomUUID(), 0))).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 커밋된 댓글 수가 덧붙인 트리와 같으면 기록한다")
+    void replyCreated_CountMatches_Writes() {
+        ReplyTreeResult tree = new ReplyTreeResult(List.of(reply(null, 0)), 1);
+        Cache cache = cacheWith(tree);
+        ReplyRepository replyRepository = mock(ReplyRepository.class);
+        when(replyRepository.countAllByBoardId(BOARD_ID)).thenReturn(2L);
+
+        treeCache(cache, replyRepository).replyCreated(reply(null, 0));
+
+        InOrder order = inOrder(replyRepository, cache);
+        order.verify(replyRepository).countAllByBoardId(BOARD_ID);
+        order.verify(cache).put(eq(BOARD_ID), any(ReplyTreeResult.class));
+        verify(cache, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("❌ 다른 노드의 댓글이 빠져 댓글 수가 다르면 기록하지 않고 제거한다")
+    void replyCreated_CountMismatch_EvictsWithoutWriting() {
+        ReplyTreeResult tree = new ReplyTreeResult(List.of(reply(null, 0)), 1);
+        Cache cache = cacheWith(tree);
+        ReplyRepository replyRepository = mock(ReplyRepository.class);
+        when(replyRepository.countAllByBoardId(BOARD_ID)).thenReturn(3L);
+
+        treeCache(cache, replyRepository).replyCreated(reply(null, 0));
+
+        verify(cache, never()).put(any(), any());
+        verify(cache).evict(BOARD_ID);
+    }
+
+    private static Cache cacheWith(ReplyTreeResult tree) {
+        Cache cache = mock(Cache.class);
+        when(cache.get(BOARD_ID, ReplyTreeResult.class)).thenReturn(tree);
+        return cache;
+    }
+
+    private static ReplyTreeCache treeCache(Cache cache, ReplyRepository replyRepository) {
+        CacheManager cacheManager = mock(CacheManager.class);
+        when(cacheManager.getCache(CacheConstants.Reply.CACHE_NAME)).thenReturn(cache);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheManager", cacheManager);
+        return new ReplyTreeCache(beanFactory.getBeanProvider(CacheManager.class), replyRepository);
+    }
+}
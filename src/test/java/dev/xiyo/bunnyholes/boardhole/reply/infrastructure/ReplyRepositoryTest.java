@@ -0,0 +1,143 @@
+package dev.xiyo.bunnyholes.boardhole.reply.infrastructure;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.reply.domain.Reply;
+import dev.xiyo.bunnyholes.boardhole.reply.domain.ReplyPath;
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("unit")
+@Tag("repository")
+@DisplayName("댓글 저장소")
+class ReplyRepositoryTest extends EntityTestBase {
+
+    @Autowired
+    private ReplyRepository replyRepository;
+
+    private User author;
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        author = createAndPersistUser();
+        board = persistAndFlush(Board.builder().title(TEST_BOARD_TITLE).content(TEST_BOARD_CONTENT).author(author).build());
+    }
+
+    private Reply reply(@Nullable Reply parent, String content) {
+        return persistAndFlush(Reply.builder().board(board).parent(parent).author(author).content(content).build());
+    }
+
+    @Test
+    @DisplayName("✅ 답글은 부모의 깊이, 스레드, 경로를 이어받는다")
+    void child_InheritsTreePosition() {
+        Reply root = reply(null, "루트");
+        Reply child = reply(root, "답글");
+        Reply grandChild = reply(child, "답글의 답글");
+
+        assertThat(root.getDepth()).isZero();
+        assertThat(root.getThreadRootId()).isEqualTo(root.getId());
+        assertThat(grandChild.getDepth()).isEqualTo(2);
+        assertThat(grandChild.getRootId()).isEqualTo(root.getId());
+        assertThat(grandChild.getPath()).startsWith(child.getPath()).hasSize(ReplyPath.SEGMENT_LENGTH * 3);
+    }
+
+    @Test
+    @DisplayName("✅ 게시글의 댓글은 경로 순으로 깊이 우선 트리 순서가 된다")
+    void findReplyTree_OrderedDepthFirst() {
+        Reply first = reply(null, "첫 댓글");
+        Reply second = reply(null, "둘째 댓글");
+        Reply firstChild = reply(first, "첫 댓글의 답글");
+
+        List<ReplyTreeProjection> tree = replyRepository.findReplyTreeByBoardId(board.getId());
+
+        assertThat(tree).extracting(ReplyTreeProjection::getId).containsExactly(first.getId(), firstChild.getId(), second.getId());
+        assertThat(tree).extracting(ReplyTreeProjection::getDepth).containsExactly(0, 1, 0);
+        assertThat(tree.get(1).getParentId()).isEqualTo(first.getId());
+        assertThat(tree.get(1).getAuthorName()).isEqualTo(author.getUsername());
+    }
+
+    @Test
+    @DisplayName("✅ 댓글 트리는 마지막 경로 이후부터 트리 순서 그대로 구간별로 이어서 조회된다")
+    void findReplyTreeAfter_ContinuesInTreeOrder() {
+        Reply first = reply(null, "첫 댓글");
+        Reply second = reply(null, "둘째 댓글");
+        Reply firstChild = reply(first, "첫 댓글의 답글");
+
+        List<ReplyTreeProjection> chunk = replyRepository.findReplyTreeAfter(board.getId(), "", Limit.of(2));
+        List<ReplyTreeProjection> next = replyRepository.findReplyTreeAfter(board.getId(), chunk.getLast().getPath(), Limit.of(2));
+
+        assertThat(chunk).extracting(ReplyTreeProjection::getId).containsExactly(first.getId(), firstChild.getId());
+        assertThat(next).extracting(ReplyTreeProjection::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    @DisplayName("✅ 최상위 댓글은 커서 경로 이후부터 요청한 수만큼 조회된다")
+    void findRootsAfter_PagesTopLevelOnly() {
+        Reply first = reply(null, "첫 댓글");
+        reply(first, "첫 댓글의 답글");
+        Reply second = reply(null, "둘째 댓글");
+        Reply third = reply(null, "셋째 댓글");
+
+        List<ReplyTreeProjection> page = replyRepository.findRootsAfter(board.getId(), "", Limit.of(2));
+        List<ReplyTreeProjection> next = replyRepository.findRootsAfter(board.getId(), page.getLast().getPath(), Limit.of(2));
+
+        assertThat(page).extracting(ReplyTreeProjection::getId).containsExactly(first.getId(), second.getId());
+        assertThat(next).extracting(ReplyTreeProjection::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    @DisplayName("✅ 여러 댓글의 앞쪽 답글을 부모별로 요청한 수만큼 한 번에 조회한다")
+    void findChildPreviews_LimitsPerParent() {
+        Reply first = reply(null, "첫 댓글");
+        Reply firstChild1 = reply(first, "답글 1");
+        Reply firstChild2 = reply(first, "답글 2");
+        reply(firstChild1, "답글의 답글");
+        reply(first, "답글 3");
+        Reply second = reply(null, "둘째 댓글");
+        Reply secondChild = reply(second, "답글");
+        Reply other = reply(null, "다른 댓글");
+        reply(other, "조회하지 않는 답글");
+
+        List<ReplyTreeProjection> previews = replyRepository.findChildPreviews(List.of(first.getId(), second.getId()), 2);
+
+        assertThat(previews).extracting(ReplyTreeProjection::getId).containsExactly(firstChild1.getId(), firstChild2.getId(), secondChild.getId());
+        assertThat(previews).extracting(ReplyTreeProjection::getParentId).containsExactly(first.getId(), first.getId(), second.getId());
+        assertThat(previews.getFirst().getAuthorName()).isEqualTo(author.getUsername());
+    }
+
+    @Test
+    @DisplayName("✅ 직속 답글 수는 원자적 갱신으로 증감하고 0 아래로 내려가지 않는다")
+    void childCount_IncrementAndDecrement() {
+        Reply root = reply(null, "루트");
+        Reply child = reply(root, "답글");
+        reply(child, "답글의 답글");
+
+        replyRepository.incrementChildCount(root.getId());
+        replyRepository.incrementChildCount(root.getId());
+        replyRepository.decrementChildCount(root.getId());
+        replyRepository.decrementChildCount(child.getId());
+        replyRepository.decrementChildCount(child.getId());
+        entityManager.clear();
+
+        List<ReplyTreeProjection> children = replyRepository.findChildrenAfter(root.getId(), "", Limit.of(10));
+        assertThat(children).extracting(ReplyTreeProjection::getId).containsExactly(child.getId());
+        assertThat(children.getFirst().getChildCount()).isZero();
+        assertThat(replyRepository.findRootsAfter(board.getId(), "", Limit.of(1)).getFirst().getChildCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,116 @@
+package dev.xiyo.bunnyholes.boardhole.reply.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.flywaydb.core.api.migration.Context;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.xiyo.bunnyholes.boardhole.reply.domain.ReplyPath;
+import dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils;
+
+@Tag("unit")
+@DisplayName("댓글 계층 컬럼 채우기 마이그레이션")
+class V3__BackfillReplyHierarchyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 9, 0);
+
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("✅ 기존 댓글의 깊이, 최상위 댓글 ID, 경로를 채우고 NOT NULL로 바꾼다")
+    void migrate_FillsHierarchy() throws Exception {
+        JdbcSchemaUtils.execute(connection, """
+                CREATE TABLE replies (
+                    id UUID PRIMARY KEY,
+                    parent_id UUID REFERENCES replies (id),
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+        UUID root = insertReply(null, NOW);
+        UUID laterRoot = insertReply(null, NOW.plusMinutes(1));
+        UUID child = insertReply(root, NOW.plusMinutes(2));
+        UUID grandChild = insertReply(child, NOW.plusMinutes(3));
+
+        new V3__BackfillReplyHierarchy().migrate(context);
+
+        assertThat(depthOf(root)).isZero();
+        assertThat(depthOf(grandChild)).isEqualTo(2);
+        assertThat(rootIdOf(root)).isNull();
+        assertThat(rootIdOf(child)).isEqualTo(root);
+        assertThat(rootIdOf(grandChild)).isEqualTo(root);
+        assertThat(pathOf(child)).startsWith(pathOf(root)).hasSize(ReplyPath.SEGMENT_LENGTH * 2);
+        assertThat(pathOf(grandChild)).startsWith(pathOf(child)).hasSize(ReplyPath.SEGMENT_LENGTH * 3);
+        assertThat(pathOf(root)).isLessThan(pathOf(laterRoot));
+        assertThat(JdbcSchemaUtils.columnNullable(connection, "replies", "depth")).isFalse();
+        assertThat(JdbcSchemaUtils.columnNullable(connection, "replies", "path")).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 빈 스키마에서는 아무것도 만들지 않는다")
+    void migrate_EmptySchema_DoesNothing() throws Exception {
+        new V3__BackfillReplyHierarchy().migrate(context);
+
+        assertThat(JdbcSchemaUtils.tableExists(connection, "replies")).isFalse();
+    }
+
+    private UUID insertReply(@Nullable UUID parentId, LocalDateTime createdAt) throws Exception {
+        UUID id = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO replies (id, parent_id, created_at) VALUES (?, ?, ?)")) {
+            insert.setObject(1, id);
+            insert.setObject(2, parentId);
+            insert.setTimestamp(3, Timestamp.valueOf(createdAt));
+            insert.executeUpdate();
+        }
+        return id;
+    }
+
+    private int depthOf(UUID id) throws Exception {
+        return select("depth", id, Integer.class);
+    }
+
+    private @Nullable UUID rootIdOf(UUID id) throws Exception {
+        return select("root_id", id, UUID.class);
+    }
+
+    private String pathOf(UUID id) throws Exception {
+        return select("path", id, String.class);
+    }
+
+    private <T> T select(String column, UUID id, Class<T> type) throws Exception {
+        try (PreparedStatement select = connection.prepareStatement("SELECT " + column + " FROM replies WHERE id = ?")) {
+            select.setObject(1, id);
+            try (ResultSet rows = select.executeQuery()) {
+                rows.next();
+                return rows.getObject(1, type);
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.xiyo.bunnyholes.boardhole.reply.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+import org.flywaydb.core.api.migration.Context;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils;
+
+@Tag("unit")
+@DisplayName("댓글 답글 수 채우기 마이그레이션")
+class V4__BackfillReplyChildCountTest {
+
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("✅ 삭제 표시된 답글을 포함해 직속 답글 수를 채우고 NOT NULL로 바꾼다")
+    void migrate_FillsChildCount() throws Exception {
+        JdbcSchemaUtils.execute(connection, """
+                CREATE TABLE replies (
+                    id UUID PRIMARY KEY,
+                    parent_id UUID REFERENCES replies (id),
+                    deleted BOOLEAN NOT NULL
+                )
+                """);
+        UUID root = insertReply(null, false);
+        UUID child = insertReply(root, false);
+        insertReply(root, true);
+        insertReply(child, false);
+
+        new V4__BackfillReplyChildCount().migrate(context);
+
+        assertThat(childCountOf(root)).isEqualTo(2);
+        assertThat(childCountOf(child)).isEqualTo(1);
+        assertThat(JdbcSchemaUtils.columnNullable(connection, "replies", "child_count")).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 빈 스키마에서는 아무것도 만들지 않는다")
+    void migrate_EmptySchema_DoesNothing() throws Exception {
+        new V4__BackfillReplyChildCount().migrate(context);
+
+        assertThat(JdbcSchemaUtils.tableExists(connection, "replies")).isFalse();
+    }
+
+    private UUID insertReply(@Nullable UUID parentId, boolean deleted) throws Exception {
+        UUID id = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO replies (id, parent_id, deleted) VALUES (?, ?, ?)")) {
+            insert.setObject(1, id);
+            insert.setObject(2, parentId);
+            insert.setBoolean(3, deleted);
+            insert.executeUpdate();
+        }
+        return id;
+    }
+
+    private int childCountOf(UUID id) throws Exception {
+        try (PreparedStatement select = connection.prepareStatement("SELECT child_count FROM replies WHERE id = ?")) {
+            select.setObject(1, id);
+            try (ResultSet rows = select.executeQuery()) {
+                rows.next();
+                return rows.getInt(1);
+            }
+        }
+    }
+}
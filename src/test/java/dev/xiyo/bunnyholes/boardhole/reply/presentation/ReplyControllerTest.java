@@ -3,6 +3,7 @@ package dev.xiyo.bunnyholes.boardhole.reply.presentation;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +23,7 @@ import dev.xiyo.bunnyholes.boardhole.auth.infrastructure.security.CustomAuthenti
 import dev.xiyo.bunnyholes.boardhole.reply.application.command.ReplyCommandService;
 import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyQueryService;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplySliceResult;
 import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
 import dev.xiyo.bunnyholes.boardhole.reply.presentation.mapper.ReplyWebMapperImpl;
 import dev.xiyo.bunnyholes.boardhole.shared.config.SecurityConfig;
@@ -29,6 +31,8 @@ import dev.xiyo.bunnyholes.boardhole.shared.exception.GlobalExceptionHandler;
 import dev.xiyo.bunnyholes.boardhole.user.application.query.UserQueryService;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -85,7 +89,8 @@ class ReplyControllerTest {
             null,
             false,
             0,
-            List.of()
+            List.of(),
+            0
         );
     }
 
@@ -115,6 +120,59 @@ class ReplyControllerTest {
             .andExpect(jsonPath("$.replies").isEmpty());
     }
 
+    @Test
+    @DisplayName("댓글 트리 스트리밍 조회 - 트리 순서의 행을 중첩 구조로 쓴다")
+    void streamReplyTree_NestsByDepth() throws Exception {
+        ReplyResult child = ReplyResult.of(UUID.randomUUID(), boardId, replyId, "답글", UUID.randomUUID(), "child",
+            LocalDateTime.now(), null, false, 1);
+        ReplyResult second = ReplyResult.of(UUID.randomUUID(), boardId, null, "둘째 댓글", UUID.randomUUID(), "second",
+            LocalDateTime.now(), null, false, 0);
+        doAnswer(invocation -> {
+            Consumer<ReplyResult> action = invocation.getArgument(1);
+            List.of(replyResult, child, second).forEach(action);
+            return null;
+        }).when(replyQueryService).streamReplyTree(eq(boardId), any());
+
+        mockMvc.perform(get("/api/boards/{boardId}/replies/stream", boardId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalCount").value(3))
+            .andExpect(jsonPath("$.replies.length()").value(2))
+            .andExpect(jsonPath("$.replies[0].content").value("테스트 댓글"))
+            .andExpect(jsonPath("$.replies[0].parentId").isEmpty())
+            .andExpect(jsonPath("$.replies[0].children[0].content").value("답글"))
+            .andExpect(jsonPath("$.replies[0].children[0].parentId").value(replyId.toString()))
+            .andExpect(jsonPath("$.replies[1].content").value("둘째 댓글"))
+            .andExpect(jsonPath("$.replies[1].children").isEmpty());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드 커서 조회 - 성공")
+    void getThreads_Success() throws Exception {
+        var slice = new ReplySliceResult(List.of(replyResult), "next", true);
+        when(replyQueryService.getThreads(boardId, null, 20)).thenReturn(slice);
+
+        mockMvc.perform(get("/api/boards/{boardId}/replies/threads", boardId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].content").value("테스트 댓글"))
+            .andExpect(jsonPath("$.content[0].childCount").value(0))
+            .andExpect(jsonPath("$.nextCursor").value("next"))
+            .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("답글 커서 조회 - 비로그인 사용자도 조회 가능")
+    void getChildren_Anonymous() throws Exception {
+        var slice = new ReplySliceResult(List.of(), null, false);
+        when(replyQueryService.getChildren(replyId, "cursor", 10)).thenReturn(slice);
+
+        mockMvc.perform(get("/api/replies/{replyId}/children", replyId)
+                .param("cursor", "cursor")
+                .param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content").isEmpty())
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     @DisplayName("댓글 삭제 - 인증 안됨")
     void delete_Unauthorized() throws Exception {
@@ -0,0 +1,61 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("L2 캐시 회로 차단기")
+class CacheCircuitBreakerTest {
+
+  private CacheCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    // 열림 시간 0: 열린 직후 다음 호출이 바로 시험 호출
+    circuitBreaker = new CacheCircuitBreaker(1, Duration.ZERO, new SimpleMeterRegistry());
+    circuitBreaker.call(() -> {
+      throw new DataAccessResourceFailureException("redis down");
+    }, () -> "fallback");
+  }
+
+  @Test
+  @DisplayName("✅ 시험 호출이 성공하면 닫힘으로 돌아간다")
+  void trialSuccess_Closes() {
+    assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+
+    assertThat(circuitBreaker.call(() -> "value", () -> "fallback")).isEqualTo("value");
+
+    assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("❌ 시험 호출이 집계 대상이 아닌 예외로 끝나면 다시 열리고 이후 시험 호출을 허용한다")
+  void trialUnexpectedException_Reopens() {
+    assertThatThrownBy(() -> circuitBreaker.call(() -> {
+      throw new IllegalStateException("codec failure");
+    }, () -> "fallback")).isInstanceOf(IllegalStateException.class);
+
+    assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+    assertThat(circuitBreaker.call(() -> "value", () -> "fallback")).isEqualTo("value");
+    assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("❌ 시험 호출이 Error로 끝나도 반열림에 머물지 않는다")
+  void trialError_Reopens() {
+    assertThatThrownBy(() -> circuitBreaker.call(() -> {
+      throw new AssertionError("unexpected");
+    }, () -> "fallback")).isInstanceOf(AssertionError.class);
+
+    assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+  }
+}
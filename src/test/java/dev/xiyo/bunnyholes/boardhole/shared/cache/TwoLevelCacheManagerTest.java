@@ -0,0 +1,558 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@Tag("unit")
+@DisplayName("2단계 캐시 매니저")
+class TwoLevelCacheManagerTest {
+
+  private ConcurrentMapCacheManager remoteManager;
+  private List<CacheInvalidationMessage> broadcasts;
+  private SimpleMeterRegistry meterRegistry;
+  private TwoLevelCacheManager cacheManager;
+  private CacheProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    remoteManager = new ConcurrentMapCacheManager();
+    broadcasts = new ArrayList<>();
+    meterRegistry = new SimpleMeterRegistry();
+    CacheProperties properties = new CacheProperties(Duration.ofHours(1), "test:invalidation", "test:tag:", DataSize.ofKilobytes(1),
+        true, new CacheProperties.CircuitBreaker(5, Duration.ofSeconds(10)),
+        new CacheProperties.Local(100, Duration.ofMinutes(1), 0, Duration.ZERO),
+        Map.of("stale", new CacheProperties.Local(100, Duration.ofMinutes(1), 0, Duration.ofMinutes(5))));
+    this.properties = properties;
+    cacheManager = new TwoLevelCacheManager(remoteManager, properties, broadcasts::add, meterRegistry,
+        new LocalCacheTagIndex(Duration.ofHours(1)), List.of(new KeyPrefixTagger()), Runnable::run);
+  }
+
+  /**
+   * "a:1" 같은 문자열 키에 "a" 태그를 붙이는 테스트용 태그 부여기
+   */
+  private static final class KeyPrefixTagger implements CacheTagger {
+
+    @Override
+    public String cacheName() {
+      return "board";
+    }
+
+    @Override
+    public Set<String> tags(Object key, Object value) {
+      return key instanceof String name && name.contains(":") ? Set.of(name.substring(0, name.indexOf(':'))) : Set.of();
+    }
+  }
+
+  /**
+   * 장애를 흉내 내는 L2 캐시 매니저 ({@link #down}이면 모든 호출이 연결 실패)
+   */
+  private static final class SwitchableCacheManager implements CacheManager {
+
+    private final ConcurrentMapCacheManager delegate = new ConcurrentMapCacheManager();
+    private final AtomicBoolean down = new AtomicBoolean();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Override
+    public Cache getCache(String name) {
+      Cache cache = delegate.getCache(name);
+      return new Cache() {
+        @Override
+        public String getName() {
+          return name;
+        }
+
+        @Override
+        public Object getNativeCache() {
+          return cache.getNativeCache();
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+          return call(() -> cache.get(key));
+        }
+
+        @Override
+        public <T> T get(Object key, Class<T> type) {
+          return call(() -> cache.get(key, type));
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+          return call(() -> cache.get(key, valueLoader));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+          call(() -> {
+            cache.put(key, value);
+            return null;
+          });
+        }
+
+        @Override
+        public void evict(Object key) {
+          call(() -> {
+            cache.evict(key);
+            return null;
+          });
+        }
+
+        @Override
+        public void clear() {
+          call(() -> {
+            cache.clear();
+            return null;
+          });
+        }
+      };
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+      return delegate.getCacheNames();
+    }
+
+    private <T> T call(Supplier<T> call) {
+      calls.incrementAndGet();
+      if (down.get())
+        throw new DataAccessResourceFailureException("redis down");
+      return call.get();
+    }
+  }
+
+  private double requests(String level, String result) {
+    return meterRegistry.get("boardhole.cache.requests").tags("cache", "board", "level", level, "result", result).functionCounter().count();
+  }
+
+  @Nested
+  @DisplayName("조회")
+  class Read {
+
+    @Test
+    @DisplayName("✅ L2 적중 값은 L1에 채워 다음 조회는 L1에서 응답한다")
+    void remoteHit_PopulatesLocal() {
+      UUID key = UUID.randomUUID();
+      remoteManager.getCache("board").put(key, "value");
+      Cache cache = cacheManager.getCache("board");
+
+      assertThat(cache.get(key).get()).isEqualTo("value");
+      remoteManager.getCache("board").evict(key);
+      assertThat(cache.get(key).get()).isEqualTo("value");
+
+      assertThat(requests("l1", "hit")).isEqualTo(1);
+      assertThat(requests("l1", "miss")).isEqualTo(1);
+      assertThat(requests("l2", "hit")).isEqualTo(1);
+      assertThat(meterRegistry.get("boardhole.cache.hit.ratio").tags("cache", "board", "level", "l1").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("❌ 두 수준 모두 없으면 null이고 L2 실패로 집계한다")
+    void miss_ReturnsNull() {
+      assertThat(cacheManager.getCache("board").get("missing")).isNull();
+      assertThat(requests("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 값 로더 결과를 두 수준에 모두 기록한다")
+    void valueLoader_WritesBothLevels() {
+      Cache cache = cacheManager.getCache("board");
+
+      assertThat(cache.get("key", () -> "loaded")).isEqualTo("loaded");
+
+      assertThat(remoteManager.getCache("board").get("key").get()).isInstanceOfSatisfying(CachedValue.class,
+          cached -> assertThat(cached.value()).isEqualTo("loaded"));
+      assertThat(cache.get("key", () -> "other")).isEqualTo("loaded");
+    }
+  }
+
+  @Nested
+  @DisplayName("적재")
+  class Loading {
+
+    @Test
+    @DisplayName("✅ 같은 키의 동시 실패는 로더를 한 번만 실행하고 나머지는 결과를 기다린다")
+    void concurrentMisses_Coalesced() throws Exception {
+      Cache cache = cacheManager.getCache("board");
+      AtomicInteger calls = new AtomicInteger();
+      CountDownLatch release = new CountDownLatch(1);
+      int callers = 8;
+
+      try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++)
+          results.add(executor.submit(() -> cache.get("hot", () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "loaded";
+          })));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> calls.get() == 1
+            && meterRegistry.get("boardhole.cache.loads.waiting").tags("cache", "board").gauge().value() == callers - 1);
+        release.countDown();
+
+        for (Future<String> result : results)
+          assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+      }
+
+      assertThat(calls).hasValue(1);
+      assertThat(meterRegistry.get("boardhole.cache.loads").tags("cache", "board", "result", "coalesced").functionCounter().count())
+          .isEqualTo(callers - 1);
+    }
+
+    @Test
+    @DisplayName("❌ 로더가 실패하면 기다리던 요청도 같은 원인으로 실패한다")
+    void loaderFailure_PropagatesToCaller() {
+      Cache cache = cacheManager.getCache("board");
+      IllegalStateException failure = new IllegalStateException("db down");
+
+      assertThatThrownBy(() -> cache.get("key", () -> {
+        throw failure;
+      })).isInstanceOf(Cache.ValueRetrievalException.class).hasCause(failure);
+      assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 신선한 기간이 지난 값은 유예 기간 동안 그대로 응답하고 백그라운드에서 갱신한다")
+    void staleValue_ServedWhileRevalidating() {
+      long storedAt = System.currentTimeMillis() - Duration.ofHours(1).plusMinutes(1).toMillis();
+      remoteManager.getCache("stale").put("key", new CachedValue("old", storedAt, 5));
+      Cache cache = cacheManager.getCache("stale");
+
+      assertThat(cache.get("key", () -> "new")).isEqualTo("old");
+      assertThat(cache.get("key").get()).isEqualTo("new");
+      assertThat(meterRegistry.get("boardhole.cache.refreshes").tags("cache", "stale", "trigger", "stale").functionCounter().count())
+          .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 유예 기간이 없으면 만료된 값 대신 다시 적재한다")
+    void staleValue_ReloadedWithoutGracePeriod() {
+      long storedAt = System.currentTimeMillis() - Duration.ofHours(1).plusMinutes(1).toMillis();
+      remoteManager.getCache("board").put("key", new CachedValue("old", storedAt, 5));
+      Cache cache = cacheManager.getCache("board");
+
+      assertThat(cache.get("key", () -> "new")).isEqualTo("new");
+    }
+
+    @Test
+    @DisplayName("✅ XFetch는 만료가 가까울수록 조기 갱신한다")
+    void xfetch_RefreshesNearExpiry() {
+      long now = System.currentTimeMillis();
+      Duration ttl = Duration.ofMinutes(10);
+      CachedValue fresh = new CachedValue("value", now, 100);
+      CachedValue nearExpiry = new CachedValue("value", now - ttl.toMillis() + 50, 100);
+
+      assertThat(fresh.shouldRefreshEarly(now, ttl, 1.0, 0.5)).isFalse();
+      assertThat(nearExpiry.shouldRefreshEarly(now, ttl, 1.0, 0.5)).isTrue();
+      assertThat(nearExpiry.shouldRefreshEarly(now, ttl, 0, 0.5)).isFalse();
+    }
+  }
+
+  @Nested
+  @DisplayName("무효화")
+  class Invalidation {
+
+    @Test
+    @DisplayName("✅ 제거하면 두 수준을 비우고 다른 노드에 알린다")
+    void evict_ClearsBothLevelsAndBroadcasts() {
+      Cache cache = cacheManager.getCache("board");
+      UUID key = UUID.randomUUID();
+      cache.put(key, "value");
+      broadcasts.clear();
+
+      cache.evict(key);
+
+      assertThat(cache.get(key)).isNull();
+      assertThat(broadcasts).containsExactly(new CacheInvalidationMessage(cacheManager.nodeId(), "board", key));
+    }
+
+    @Test
+    @DisplayName("✅ 값을 기록하면 다른 노드의 L1에 남은 이전 값을 비우도록 알린다")
+    void put_BroadcastsKeyEviction() {
+      Cache cache = cacheManager.getCache("board");
+      UUID key = UUID.randomUUID();
+
+      cache.put(key, "value");
+      cache.putIfAbsent("absent", "value");
+      cache.putIfAbsent(key, "ignored");
+
+      assertThat(broadcasts).containsExactly(
+          new CacheInvalidationMessage(cacheManager.nodeId(), "board", key),
+          new CacheInvalidationMessage(cacheManager.nodeId(), "board", "absent"));
+    }
+
+    @Test
+    @DisplayName("❌ 로더 적재는 다른 노드에 알리지 않는다")
+    void valueLoader_DoesNotBroadcast() {
+      Cache cache = cacheManager.getCache("board");
+
+      cache.get("key", () -> "loaded");
+
+      assertThat(broadcasts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 다른 노드의 무효화 메시지는 L1만 비운다")
+    void remoteMessage_EvictsLocalOnly() {
+      Cache cache = cacheManager.getCache("board");
+      cache.put("key", "value");
+      broadcasts.clear();
+
+      cacheManager.onInvalidation(CacheInvalidationMessage.evict("other-node", "board", "key").encode());
+      remoteManager.getCache("board").put("key", "newer");
+
+      assertThat(cache.get("key").get()).isEqualTo("newer");
+      assertThat(broadcasts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ 자기 노드가 보낸 메시지는 무시한다")
+    void ownMessage_Ignored() {
+      Cache cache = cacheManager.getCache("board");
+      cache.put("key", "value");
+      remoteManager.getCache("board").put("key", "newer");
+
+      cacheManager.onInvalidation(CacheInvalidationMessage.clear(cacheManager.nodeId(), "board").encode());
+
+      assertThat(cache.get("key").get()).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("❌ 형식이 잘못된 메시지는 무시한다")
+    void malformedMessage_Ignored() {
+      cacheManager.onInvalidation("garbage");
+    }
+
+    @Test
+    @DisplayName("✅ L1 항목은 제자리에서 고치고 L2 항목은 제거한다")
+    void updateLocal_ReplacesLocalAndEvictsRemote() {
+      TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("board");
+      cache.put("key", "value");
+
+      boolean updated = cache.updateLocal("key", value -> value + "-updated");
+
+      assertThat(updated).isTrue();
+      assertThat(cache.get("key").get()).isEqualTo("value-updated");
+      assertThat(remoteManager.getCache("board").get("key")).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 고치는 사이 제거된 항목은 되살리지 않는다")
+    void updateLocal_EvictedMeanwhile_NotResurrected() {
+      TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("board");
+      cache.put("key", "value");
+
+      boolean updated = cache.updateLocal("key", value -> {
+        cache.evict("key");
+        return value + "-updated";
+      });
+
+      assertThat(updated).isFalse();
+      assertThat(cache.get("key")).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("태그 무효화")
+  class TagInvalidation {
+
+    @Test
+    @DisplayName("✅ 태그에 묶인 항목만 제거하고 나머지는 유지한다")
+    void evictTags_KeepsUnrelatedEntries() {
+      Cache cache = cacheManager.getCache("board");
+      cache.put("a:1", "one");
+      cache.put("a:2", "two");
+      cache.put("b:1", "other");
+      broadcasts.clear();
+
+      cacheManager.evictTags(List.of("a"));
+
+      assertThat(cache.get("a:1")).isNull();
+      assertThat(cache.get("a:2")).isNull();
+      assertThat(cache.get("b:1").get()).isEqualTo("other");
+      assertThat(broadcasts).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("✅ 한 번 제거한 태그는 다시 적재된 항목만 다음 제거 대상이 된다")
+    void evictTags_ReRegistersOnReload() {
+      Cache cache = cacheManager.getCache("board");
+      cache.put("a:1", "one");
+      cacheManager.evictTags(List.of("a"));
+
+      cache.get("a:1", () -> "reloaded");
+      cacheManager.evictTags(List.of("a"));
+
+      assertThat(cache.get("a:1")).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 태그 부여기가 없는 캐시는 태그로 제거되지 않는다")
+    void untaggedCache_Unaffected() {
+      Cache cache = cacheManager.getCache("user");
+      cache.put("a:1", "one");
+
+      cacheManager.evictTags(List.of("a"));
+
+      assertThat(cache.get("a:1").get()).isEqualTo("one");
+    }
+
+    @Test
+    @DisplayName("✅ 태그 항목 인코딩은 UUID, 문자열 키와 캐시 전체를 복원한다")
+    void taggedEntry_RoundTrip() {
+      List<TaggedEntry> entries = List.of(
+          new TaggedEntry("board", UUID.randomUUID()),
+          new TaggedEntry("user", "user:get:alice"),
+          new TaggedEntry("board", null));
+
+      assertThat(entries).allSatisfy(entry -> assertThat(TaggedEntry.decode(entry.encode())).isEqualTo(entry));
+    }
+  }
+
+  @Nested
+  @DisplayName("Redis 장애")
+  class Degraded {
+
+    private SwitchableCacheManager redis;
+    private CacheCircuitBreaker circuitBreaker;
+    private TwoLevelCacheManager resilientManager;
+
+    @BeforeEach
+    void setUp() {
+      redis = new SwitchableCacheManager();
+      circuitBreaker = new CacheCircuitBreaker(2, Duration.ofMinutes(1), meterRegistry);
+      resilientManager = new TwoLevelCacheManager(new ResilientCacheManager(redis, circuitBreaker), properties, broadcasts::add,
+          meterRegistry, new LocalCacheTagIndex(Duration.ofHours(1)), List.of(new KeyPrefixTagger()), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("✅ 연속 실패가 기준에 이르면 회로를 열고 Redis를 호출하지 않은 채 L1만 사용한다")
+    void consecutiveFailures_OpenCircuit() {
+      Cache cache = resilientManager.getCache("board");
+      redis.down.set(true);
+
+      assertThat(cache.get("a:1", () -> "one")).isEqualTo("one");
+      assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+
+      int callsWhenOpened = redis.calls.get();
+      assertThat(cache.get("a:2", () -> "two")).isEqualTo("two");
+      assertThat(cache.get("a:1", () -> "other")).isEqualTo("one");
+      assertThat(redis.calls.get()).isEqualTo(callsWhenOpened);
+
+      assertThat(meterRegistry.get("boardhole.cache.redis.state").gauge().value()).isEqualTo(2);
+      assertThat(meterRegistry.get("boardhole.cache.redis.failures").functionCounter().count()).isEqualTo(2);
+      assertThat(meterRegistry.get("boardhole.cache.redis.rejected").functionCounter().count()).isPositive();
+      assertThat(meterRegistry.get("boardhole.cache.redis.degraded.seconds").functionCounter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("✅ 차단 중 적재한 항목도 태그로 제거된다")
+    void evictTags_WhileOpen_UsesLocalIndex() {
+      Cache cache = resilientManager.getCache("board");
+      redis.down.set(true);
+      cache.get("warmup", () -> "x");
+      cache.get("warmup2", () -> "x");
+
+      cache.get("a:1", () -> "one");
+      resilientManager.evictTags(List.of("a"));
+
+      assertThat(cache.get("a:1", () -> "reloaded")).isEqualTo("reloaded");
+    }
+
+    @Test
+    @DisplayName("✅ 열림 시간이 지나면 시험 호출로 복구하고 차단 중 누락된 무효화는 L2를 비워 보정한다")
+    void recovery_ClearsRemoteAfterMissedInvalidation() {
+      circuitBreaker = new CacheCircuitBreaker(1, Duration.ZERO, meterRegistry);
+      resilientManager = new TwoLevelCacheManager(new ResilientCacheManager(redis, circuitBreaker), properties, broadcasts::add,
+          meterRegistry, new LocalCacheTagIndex(Duration.ofHours(1)), List.of(), Runnable::run);
+      Cache cache = resilientManager.getCache("board");
+      cache.put("key", "old");
+
+      redis.down.set(true);
+      cache.evict("key");
+      assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.OPEN);
+
+      redis.down.set(false);
+      cache.get("other");
+
+      assertThat(circuitBreaker.state()).isEqualTo(CacheCircuitBreaker.State.CLOSED);
+      assertThat(redis.delegate.getCache("board").get("key")).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Redis 미구성")
+  class LocalOnly {
+
+    @Test
+    @DisplayName("✅ L2 없이 L1만으로 적재 결과를 캐시하고 태그로 제거한다")
+    void noRemote_CachesLocally() {
+      TwoLevelCacheManager localManager = new TwoLevelCacheManager(new NoOpCacheManager(), properties, message -> { },
+          meterRegistry, new LocalCacheTagIndex(Duration.ofMinutes(1)), List.of(new KeyPrefixTagger()), Runnable::run);
+      Cache cache = localManager.getCache("board");
+      AtomicInteger loads = new AtomicInteger();
+
+      cache.get("a:1", () -> "one" + loads.incrementAndGet());
+      assertThat(cache.get("a:1", () -> "one" + loads.incrementAndGet())).isEqualTo("one1");
+
+      localManager.evictTags(List.of("a"));
+      assertThat(cache.get("a:1", () -> "one" + loads.incrementAndGet())).isEqualTo("one2");
+    }
+  }
+
+  @Nested
+  @DisplayName("무효화 메시지 인코딩")
+  class MessageEncoding {
+
+    @Test
+    @DisplayName("✅ UUID, 문자열 키와 전체 비우기를 복원한다")
+    void roundTrip() {
+      UUID id = UUID.randomUUID();
+      List<CacheInvalidationMessage> messages = List.of(
+          CacheInvalidationMessage.evict("node", "board", id),
+          CacheInvalidationMessage.evict("node", "user", "user:get:line\nbreak"),
+          CacheInvalidationMessage.clear("node", "board"));
+
+      assertThat(messages).allSatisfy(message -> assertThat(CacheInvalidationMessage.decode(message.encode())).isEqualTo(message));
+    }
+
+    @Test
+    @DisplayName("✅ 복원할 수 없는 키 타입은 전체 비우기로 보낸다")
+    void unsupportedKey_BecomesClear() {
+      assertThat(CacheInvalidationMessage.evict("node", "board", 42L).key()).isNull();
+    }
+  }
+}
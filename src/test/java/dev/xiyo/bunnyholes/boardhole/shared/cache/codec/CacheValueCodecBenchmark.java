@@ -0,0 +1,118 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCacheSchemas;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CachedValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 값 직렬화 비교 (항목당 바이트, 직렬화/역직렬화 ns/op)
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code ./gradlew cacheCodecBenchmark}로 실행합니다.
+ * JIT 예열 후 단순 반복으로 측정하므로 절대값보다 형식 간 상대 비교로 봅니다.
+ * JDK 직렬화는 결과 레코드가 {@link Serializable}이 아니므로 같은 필드를 가진 복제 레코드로 측정합니다.
+ */
+@Tag("benchmark")
+@DisplayName("캐시 값 직렬화 벤치마크")
+class CacheValueCodecBenchmark {
+
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 100_000;
+
+  record SerializableBoard(UUID id, String title, String content, UUID authorId, String authorName, Integer viewCount,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) implements Serializable {
+  }
+
+  record SerializableCachedValue(Object value, long storedAt, long computeMillis) implements Serializable {
+  }
+
+  @Test
+  @DisplayName("게시글 상세와 최근 게시글 목록")
+  void compareFormats() {
+    LocalDateTime now = LocalDateTime.now();
+    BoardResult board = new BoardResult(UUID.randomUUID(), "캐시 직렬화 비교용 게시글 제목", "본문 ".repeat(60), UUID.randomUUID(), "작성자",
+        1234, now, now, 0);
+    List<BoardResult> boards = new ArrayList<>();
+    for (int i = 0; i < 10; i++)
+      boards.add(board);
+
+    SerializableBoard jdkBoard = new SerializableBoard(board.id(), board.title(), board.content(), board.authorId(), board.authorName(),
+        board.viewCount(), board.createdAt(), board.updatedAt());
+
+    CacheValueCodec codec = new CacheValueCodec(List.of(new BoardCacheSchemas().boardResultSchema()), 1024);
+    JsonMapper json = JsonMapper.builder().build();
+
+    System.out.printf("%-8s %-8s %10s %14s %14s%n", "value", "format", "bytes", "ser ns/op", "deser ns/op");
+    for (boolean list : List.of(false, true)) {
+      String label = list ? "list" : "single";
+      Object value = new CachedValue(list ? List.copyOf(boards) : board, System.currentTimeMillis(), 3);
+      Object jdkValue = new SerializableCachedValue(list ? new ArrayList<>(List.of(jdkBoard, jdkBoard, jdkBoard, jdkBoard, jdkBoard,
+          jdkBoard, jdkBoard, jdkBoard, jdkBoard, jdkBoard)) : jdkBoard, System.currentTimeMillis(), 3);
+
+      int binary = measure(label, "binary", value, codec::serialize, codec::deserialize);
+      int jdk = measure(label, "jdk", jdkValue, CacheValueCodecBenchmark::jdkSerialize, CacheValueCodecBenchmark::jdkDeserialize);
+      measure(label, "json", value, json::writeValueAsBytes, bytes -> json.readTree(bytes));
+
+      assertThat(binary).isLessThan(jdk);
+    }
+  }
+
+  private static int measure(String label, String format, Object value, Function<Object, byte[]> serializer,
+                             Function<byte[], Object> deserializer) {
+    byte[] bytes = serializer.apply(value);
+    long sink = 0;
+    for (int i = 0; i < WARMUP; i++)
+      sink += serializer.apply(value).length + (deserializer.apply(bytes) != null ? 1 : 0);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      sink += serializer.apply(value).length;
+    long serialize = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      sink += deserializer.apply(bytes) != null ? 1 : 0;
+    long deserialize = (System.nanoTime() - start) / ITERATIONS;
+
+    System.out.printf("%-8s %-8s %10d %14d %14d%n", label, format, bytes.length, serialize, deserialize);
+    assertThat(sink).isPositive();
+    return bytes.length;
+  }
+
+  private static byte[] jdkSerialize(Object value) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(value);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  private static Object jdkDeserialize(byte[] bytes) {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return in.readObject();
+    } catch (IOException | ClassNotFoundException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
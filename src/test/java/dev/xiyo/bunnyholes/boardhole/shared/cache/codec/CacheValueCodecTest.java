@@ -0,0 +1,186 @@
+package dev.xiyo.bunnyholes.boardhole.shared.cache.codec;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import dev.xiyo.bunnyholes.boardhole.board.application.query.BoardCacheSchemas;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardResult;
+import dev.xiyo.bunnyholes.boardhole.board.application.result.BoardSummaryResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.query.ReplyCacheSchemas;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyResult;
+import dev.xiyo.bunnyholes.boardhole.reply.application.result.ReplyTreeResult;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CachedValue;
+import dev.xiyo.bunnyholes.boardhole.user.application.query.UserCacheSchemas;
+import dev.xiyo.bunnyholes.boardhole.user.application.result.UserProfileImageResult;
+import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("캐시 값 바이너리 코덱")
+class CacheValueCodecTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 16, 12, 30, 15, 123_456_789);
+
+  private final BoardCacheSchemas boardSchemas = new BoardCacheSchemas();
+  private final UserCacheSchemas userSchemas = new UserCacheSchemas();
+  private final ReplyCacheSchemas replySchemas = new ReplyCacheSchemas();
+  private final CacheValueCodec codec = new CacheValueCodec(List.of(
+      boardSchemas.boardResultSchema(),
+      boardSchemas.boardSummaryResultSchema(),
+      userSchemas.userResultSchema(),
+      userSchemas.userProfileImageResultSchema(),
+      replySchemas.replyTreeResultSchema(),
+      replySchemas.replyResultSchema()), 1024);
+
+  private static BoardResult board(String content) {
+    return new BoardResult(UUID.randomUUID(), "제목", content, UUID.randomUUID(), "작성자", 42, NOW, NOW.plusMinutes(5), 0);
+  }
+
+  @Nested
+  @DisplayName("왕복 변환")
+  class RoundTrip {
+
+    @Test
+    @DisplayName("✅ 게시글, 사용자, 프로필 이미지 결과를 복원한다")
+    void results() {
+      UserResult user = new UserResult(UUID.randomUUID(), "alice", "앨리스", "alice@example.com", NOW, NOW, null,
+          Set.of(Role.USER, Role.ADMIN), true);
+      UserProfileImageResult image = new UserProfileImageResult("c".repeat(64), "image/png", 3);
+      BoardResult board = board("내용");
+
+      assertThat(codec.deserialize(codec.serialize(board))).isEqualTo(board);
+      assertThat(codec.deserialize(codec.serialize(user))).isEqualTo(user);
+      assertThat(codec.deserialize(codec.serialize(image))).isInstanceOfSatisfying(UserProfileImageResult.class, restored -> {
+        assertThat(restored.blobKey()).isEqualTo("c".repeat(64));
+        assertThat(restored.contentType()).isEqualTo("image/png");
+        assertThat(restored.size()).isEqualTo(3);
+      });
+    }
+
+    @Test
+    @DisplayName("✅ 중첩된 댓글 트리를 변경 가능한 자식 목록으로 복원한다")
+    void replyTree() {
+      UUID boardId = UUID.randomUUID();
+      ReplyResult root = ReplyResult.of(UUID.randomUUID(), boardId, null, "댓글", UUID.randomUUID(), "작성자", NOW, null, false, 0);
+      ReplyResult child = ReplyResult.of(UUID.randomUUID(), boardId, root.id(), "답글", UUID.randomUUID(), "작성자", NOW, NOW, true, 1);
+      root.children().add(child);
+      ReplyTreeResult tree = new ReplyTreeResult(List.of(root), 2);
+
+      assertThat(codec.deserialize(codec.serialize(tree))).isInstanceOfSatisfying(ReplyTreeResult.class, restored -> {
+        assertThat(restored).isEqualTo(tree);
+        restored.replies().getFirst().children().add(child);
+      });
+    }
+
+    @Test
+    @DisplayName("✅ 적재 정보와 목록, 기본 타입을 복원한다")
+    void envelopeAndBuiltIns() {
+      BoardSummaryResult summary = new BoardSummaryResult(UUID.randomUUID(), "제목", "발췌", UUID.randomUUID(), "작성자", 0, NOW, NOW, 0);
+      CachedValue cached = new CachedValue(List.of(summary, summary), 1_700_000_000_000L, 12);
+
+      assertThat(codec.deserialize(codec.serialize(cached))).isEqualTo(cached);
+      assertThat(codec.deserialize(codec.serialize(new CachedValue(7L, 1, 0)))).isEqualTo(new CachedValue(7L, 1, 0));
+    }
+
+    @Test
+    @DisplayName("✅ 압축 기준을 넘는 값은 압축해서 더 작게 저장한다")
+    void largeValue_Compressed() {
+      BoardResult board = board("반복되는 본문 ".repeat(500));
+      CacheValueCodec uncompressed = new CacheValueCodec(List.of(boardSchemas.boardResultSchema()), 0);
+
+      byte[] bytes = codec.serialize(board);
+
+      assertThat(bytes.length).isLessThan(uncompressed.serialize(board).length / 4);
+      assertThat(codec.deserialize(bytes)).isEqualTo(board);
+    }
+  }
+
+  @Nested
+  @DisplayName("버전 호환")
+  class Compatibility {
+
+    record BoardV1(UUID id, String title) {
+    }
+
+    private final CacheValueSchema<BoardV1> v1Schema = CacheValueSchema.of(16, BoardV1.class,
+        (board, out) -> {
+          out.writeUuid(board.id());
+          out.writeString(board.title());
+        },
+        in -> new BoardV1(in.readUuid(), in.readString()));
+    private final CacheValueCodec v1Codec = new CacheValueCodec(List.of(v1Schema), 1024);
+
+    @Test
+    @DisplayName("✅ 이전 버전이 기록한 값은 없는 필드를 기본값으로 읽는다")
+    void olderValue_MissingFieldsDefaulted() {
+      UUID id = UUID.randomUUID();
+
+      Object restored = codec.deserialize(v1Codec.serialize(new BoardV1(id, "제목")));
+
+      assertThat(restored).isEqualTo(new BoardResult(id, "제목", null, null, null, null, null, null, 0));
+    }
+
+    @Test
+    @DisplayName("✅ 새 버전이 기록한 값은 모르는 필드를 건너뛰고 읽는다")
+    void newerValue_ExtraFieldsSkipped() {
+      BoardResult board = board("내용");
+
+      Object restored = v1Codec.deserialize(codec.serialize(new CachedValue(List.of(board, board), 1, 2)));
+
+      BoardV1 expected = new BoardV1(board.id(), board.title());
+      assertThat(restored).isEqualTo(new CachedValue(List.of(expected, expected), 1, 2));
+    }
+  }
+
+  @Nested
+  @DisplayName("읽을 수 없는 값")
+  class Unreadable {
+
+    @Test
+    @DisplayName("❌ 다른 형식(JDK 직렬화 등)은 캐시 실패로 처리한다")
+    void foreignFormat_ReturnsNull() {
+      assertThat(codec.deserialize(new byte[]{(byte) 0xAC, (byte) 0xED, 0, 5})).isNull();
+    }
+
+    @Test
+    @DisplayName("❌ 잘린 값과 모르는 타입은 캐시 실패로 처리한다")
+    void truncatedOrUnknown_ReturnsNull() {
+      byte[] bytes = new CacheValueCodec(List.of(boardSchemas.boardResultSchema()), 0).serialize(board("내용"));
+
+      assertThat(codec.deserialize(Arrays.copyOf(bytes, bytes.length / 2))).isNull();
+      assertThat(new CacheValueCodec(List.of(), 0).deserialize(bytes)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("스키마 없는 값")
+  class WithoutSchema {
+
+    record Unregistered(String value) implements Serializable {
+    }
+
+    @Test
+    @DisplayName("❌ 스키마가 없으면 Serializable이어도 JDK 직렬화로 쓰지 않고 거절한다")
+    void serializableWithoutSchema_Throws() {
+      assertThat(codec.supports(Unregistered.class)).isFalse();
+      assertThatThrownBy(() -> codec.serialize(new Unregistered("값")))
+          .isInstanceOf(SerializationException.class)
+          .hasMessageContaining(Unregistered.class.getName());
+      assertThatThrownBy(() -> codec.serialize(List.of(board("내용"), new Unregistered("값"))))
+          .isInstanceOf(SerializationException.class);
+    }
+  }
+}
@@ -26,6 +26,7 @@ public class ApiSecurityConfig {
                                 ApiPaths.AUTH + ApiPaths.AUTH_LOGIN,
                                 ApiPaths.AUTH + ApiPaths.AUTH_PUBLIC_ACCESS
                         ).permitAll()
+                        .requestMatchers(HttpMethod.POST, ApiPaths.AUTH + ApiPaths.AUTH_TOKEN).permitAll()
                         .requestMatchers(ApiPaths.BOARDS + "/**").permitAll()
                         .requestMatchers(HttpMethod.PUT, ApiPaths.USERS + "/*/profile-image").permitAll()
                         .anyRequest().authenticated())
@@ -0,0 +1,112 @@
+package dev.xiyo.bunnyholes.boardhole.shared.domain.id;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 키 UUID 버전별 INSERT 처리량과 인덱스 크기 비교 (v4 무작위 vs v7 시간 순)
+ * <p>
+ * 기본 테스트에서는 제외되며 {@code ./gradlew uuidKeyBenchmark}로 실행합니다.
+ * 기본은 파일 기반 H2이고 크기는 체크포인트 후 데이터 파일 크기입니다.
+ * {@code -Dbenchmark.uuid.jdbc-url=jdbc:postgresql://...}(와 {@code .username}, {@code .password})를 주면
+ * PostgreSQL에서 측정하고 크기는 {@code pg_relation_size}로 기본 키 인덱스만 잽니다.
+ */
+@Tag("benchmark")
+@DisplayName("UUID 기본 키 벤치마크")
+class UuidKeyBenchmark {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH = 1_000;
+    private static final String PAYLOAD = "x".repeat(64);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("v4 vs v7 INSERT와 인덱스 크기")
+    void compareVersions() throws Exception {
+        System.out.printf("%-4s %10s %12s %14s%n", "key", "rows", "rows/s", "size bytes");
+        Result v4 = measure("v4", UUID::randomUUID);
+        Result v7 = measure("v7", () -> UuidVersion7Strategy.INSTANCE.generateUuid(null));
+
+        assertThat(v7.sizeBytes()).isLessThanOrEqualTo(v4.sizeBytes());
+    }
+
+    private Result measure(String label, Supplier<UUID> ids) throws SQLException, IOException {
+        String url = System.getProperty("benchmark.uuid.jdbc-url");
+        boolean postgres = url != null;
+        String table = "uuid_bench_" + label;
+        try (Connection connection = postgres
+                ? DriverManager.getConnection(url, System.getProperty("benchmark.uuid.username"), System.getProperty("benchmark.uuid.password"))
+                : DriverManager.getConnection("jdbc:h2:file:" + dir.resolve(label).toAbsolutePath(), "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS " + table);
+                statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, payload VARCHAR(64) NOT NULL)");
+            }
+            connection.setAutoCommit(false);
+
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setString(2, PAYLOAD);
+                    insert.addBatch();
+                    if (i % BATCH == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            long size = postgres ? postgresIndexSize(connection, table) : h2FileSize(connection, label);
+            if (postgres) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP TABLE " + table);
+                }
+                connection.commit();
+            }
+
+            Result result = new Result(ROWS * 1_000_000_000L / elapsedNanos, size);
+            System.out.printf("%-4s %10d %12d %14d%n", label, ROWS, result.rowsPerSecond(), result.sizeBytes());
+            return result;
+        }
+    }
+
+    private static long postgresIndexSize(Connection connection, String table) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            query.setString(1, table + "_pkey");
+            try (ResultSet rs = query.executeQuery()) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private long h2FileSize(Connection connection, String label) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CHECKPOINT SYNC");
+        }
+        return Files.size(dir.resolve(label + ".mv.db"));
+    }
+
+    private record Result(long rowsPerSecond, long sizeBytes) {
+    }
+}
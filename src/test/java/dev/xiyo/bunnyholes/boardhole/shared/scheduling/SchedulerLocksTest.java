@@ -0,0 +1,52 @@
+package dev.xiyo.bunnyholes.boardhole.shared.scheduling;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Tag("unit")
+@Tag("repository")
+@DisplayName("주기 작업 잠금")
+class SchedulerLocksTest {
+
+    private static final String LOCK = "test-job";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private SchedulerLockRepository repository;
+
+    private SchedulerLocks node;
+    private SchedulerLocks otherNode;
+
+    @BeforeEach
+    void setUp() {
+        node = new SchedulerLocks(repository);
+        otherNode = new SchedulerLocks(repository);
+    }
+
+    @Test
+    @DisplayName("✅ 잠금을 얻은 노드가 작업을 실행하고, 끝나면 다른 노드가 이어서 실행할 수 있다")
+    void runExclusively_ReleasesAfterTask() {
+        assertThat(node.runExclusively(LOCK, LEASE, () -> 1)).contains(1);
+        assertThat(otherNode.runExclusively(LOCK, LEASE, () -> 2)).contains(2);
+    }
+
+    @Test
+    @DisplayName("❌ 다른 노드가 실행 중이면 작업을 건너뛴다")
+    void runExclusively_SkipsWhileHeld() {
+        Optional<Optional<Integer>> nested = node.runExclusively(LOCK, LEASE, () -> otherNode.runExclusively(LOCK, LEASE, () -> 2));
+
+        assertThat(nested).contains(Optional.empty());
+    }
+}
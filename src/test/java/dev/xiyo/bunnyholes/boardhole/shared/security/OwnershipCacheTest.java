@@ -0,0 +1,154 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheInvalidationMessage;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.LocalCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.constants.PermissionType;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.OwnershipCacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("소유자 캐시")
+class OwnershipCacheTest {
+
+    private final UUID targetId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private OwnershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OwnershipCache(new OwnershipCacheProperties(Duration.ofSeconds(30), 100), meterRegistry, cacheManager(null));
+    }
+
+    private static ObjectProvider<CacheManager> cacheManager(@Nullable CacheManager cacheManager) {
+        StaticListableBeanFactory beanFactory = cacheManager == null
+                ? new StaticListableBeanFactory()
+                : new StaticListableBeanFactory(Map.<String, Object>of("cacheManager", cacheManager));
+        return beanFactory.getBeanProvider(CacheManager.class);
+    }
+
+    private static TwoLevelCacheManager twoLevelCacheManager(Consumer<CacheInvalidationMessage> broadcaster) {
+        CacheProperties properties = new CacheProperties(Duration.ofHours(1), "test:invalidation", "test:tag:", DataSize.ofKilobytes(1),
+                true, new CacheProperties.CircuitBreaker(5, Duration.ofSeconds(10)),
+                new CacheProperties.Local(100, Duration.ofMinutes(1), 0, Duration.ZERO), Map.of());
+        return new TwoLevelCacheManager(new NoOpCacheManager(), properties, broadcaster, new SimpleMeterRegistry(),
+                new LocalCacheTagIndex(Duration.ofHours(1)), List.of(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("✅ 두 번째 확인은 작성자를 다시 조회하지 않고 적중으로 기록된다")
+    void secondLookup_IsCacheHit() {
+        cache.owner(PermissionType.TARGET_REPLY, targetId, loader("alice"));
+        Optional<String> owner = cache.owner(PermissionType.TARGET_REPLY, targetId, loader("alice"));
+
+        assertThat(owner).contains("alice");
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "ownership").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 ID라도 대상 타입이 다르면 따로 조회한다")
+    void differentTargetType_SeparateEntries() {
+        cache.owner(PermissionType.TARGET_BOARD, targetId, loader("alice"));
+
+        assertThat(cache.owner(PermissionType.TARGET_REPLY, targetId, loader("bob"))).contains("bob");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ 생성 시 등록한 소유자는 조회 없이 반환된다")
+    void remembered_SkipsLoad() {
+        cache.remember(PermissionType.TARGET_BOARD, targetId, "alice");
+
+        assertThat(cache.owner(PermissionType.TARGET_BOARD, targetId, loader("other"))).contains("alice");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("✅ 제거하면 다음 확인에서 다시 조회한다")
+    void evict_ForcesReload() {
+        cache.owner(PermissionType.TARGET_BOARD, targetId, loader("alice"));
+        cache.evict(PermissionType.TARGET_BOARD, targetId);
+
+        assertThat(cache.owner(PermissionType.TARGET_BOARD, targetId, id -> Optional.empty())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ 없는 대상은 캐시하지 않는다")
+    void missingTarget_NotCached() {
+        Function<UUID, Optional<String>> missing = id -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        };
+
+        assertThat(cache.owner(PermissionType.TARGET_REPLY, targetId, missing)).isEmpty();
+        assertThat(cache.owner(PermissionType.TARGET_REPLY, targetId, missing)).isEmpty();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ TTL이 0이면 캐시하지 않는다")
+    void zeroTtl_Disabled() {
+        OwnershipCache disabled = new OwnershipCache(new OwnershipCacheProperties(Duration.ZERO, 100), meterRegistry, cacheManager(null));
+
+        disabled.remember(PermissionType.TARGET_BOARD, targetId, "alice");
+        disabled.owner(PermissionType.TARGET_BOARD, targetId, loader("alice"));
+        disabled.owner(PermissionType.TARGET_BOARD, targetId, loader("alice"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ 제거하면 무효화 채널로 다른 노드의 같은 대상 항목만 지운다")
+    void evict_PropagatesToOtherNodes() {
+        AtomicReference<TwoLevelCacheManager> otherNode = new AtomicReference<>();
+        TwoLevelCacheManager thisNode = twoLevelCacheManager(message -> otherNode.get().onInvalidation(message.encode()));
+        otherNode.set(twoLevelCacheManager(message -> thisNode.onInvalidation(message.encode())));
+        OwnershipCacheProperties properties = new OwnershipCacheProperties(Duration.ofSeconds(30), 100);
+        OwnershipCache local = new OwnershipCache(properties, meterRegistry, cacheManager(thisNode));
+        OwnershipCache remote = new OwnershipCache(properties, new SimpleMeterRegistry(), cacheManager(otherNode.get()));
+        local.subscribeInvalidation();
+        remote.subscribeInvalidation();
+        remote.owner(PermissionType.TARGET_BOARD, targetId, loader("alice"));
+        remote.owner(PermissionType.TARGET_REPLY, targetId, loader("alice"));
+
+        local.evict(PermissionType.TARGET_BOARD, targetId);
+        remote.owner(PermissionType.TARGET_BOARD, targetId, loader("alice"));
+        remote.owner(PermissionType.TARGET_REPLY, targetId, loader("alice"));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    private Function<UUID, Optional<String>> loader(String username) {
+        return id -> {
+            loads.incrementAndGet();
+            return Optional.of(username);
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package dev.xiyo.bunnyholes.boardhole.shared.security;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.shared.cache.CacheInvalidationMessage;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.LocalCacheTagIndex;
+import dev.xiyo.bunnyholes.boardhole.shared.cache.TwoLevelCacheManager;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.CacheProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.PrincipalCacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("인증 주체 캐시")
+class PrincipalCacheTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private PrincipalCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PrincipalCache(new PrincipalCacheProperties(Duration.ofMinutes(1), 100), meterRegistry, cacheManager(null));
+    }
+
+    private static ObjectProvider<CacheManager> cacheManager(@Nullable CacheManager cacheManager) {
+        StaticListableBeanFactory beanFactory = cacheManager == null
+                ? new StaticListableBeanFactory()
+                : new StaticListableBeanFactory(Map.<String, Object>of("cacheManager", cacheManager));
+        return beanFactory.getBeanProvider(CacheManager.class);
+    }
+
+    private static TwoLevelCacheManager twoLevelCacheManager(Consumer<CacheInvalidationMessage> broadcaster) {
+        CacheProperties properties = new CacheProperties(Duration.ofHours(1), "test:invalidation", "test:tag:", DataSize.ofKilobytes(1),
+                true, new CacheProperties.CircuitBreaker(5, Duration.ofSeconds(10)),
+                new CacheProperties.Local(100, Duration.ofMinutes(1), 0, Duration.ZERO), Map.of());
+        return new TwoLevelCacheManager(new NoOpCacheManager(), properties, broadcaster, new SimpleMeterRegistry(),
+                new LocalCacheTagIndex(Duration.ofHours(1)), List.of(), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("✅ 두 번째 조회는 사용자를 다시 불러오지 않고 적중으로 기록된다")
+    void secondLookup_IsCacheHit() {
+        cache.get("alice", loader());
+        AppUserPrincipal principal = cache.get("alice", loader());
+
+        assertThat(loads).hasValue(1);
+        assertThat(principal.getId()).isEqualTo(userId);
+        assertThat(principal.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("✅ 인증 후 지워진 비밀번호가 캐시에 영향을 주지 않는다")
+    void erasedCredentials_DoNotLeakIntoCache() {
+        cache.get("alice", loader()).eraseCredentials();
+
+        assertThat(cache.get("alice", loader()).getPassword()).isEqualTo("hash");
+    }
+
+    @Test
+    @DisplayName("✅ 제거하면 다음 조회에서 다시 불러온다")
+    void evict_ForcesReload() {
+        cache.get("alice", loader());
+        cache.evict("alice");
+        cache.get("alice", loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("❌ 없는 사용자는 예외를 그대로 전파하고 캐시하지 않는다")
+    void missingUser_NotCached() {
+        Function<String, AppUserPrincipal> missing = username -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException(username);
+        };
+
+        assertThatThrownBy(() -> cache.get("ghost", missing)).isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> cache.get("ghost", missing)).isInstanceOf(UsernameNotFoundException.class);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ TTL이 0이면 캐시하지 않는다")
+    void zeroTtl_Disabled() {
+        PrincipalCache disabled = new PrincipalCache(new PrincipalCacheProperties(Duration.ZERO, 100), meterRegistry, cacheManager(null));
+
+        disabled.get("alice", loader());
+        disabled.get("alice", loader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("✅ 제거하면 무효화 채널로 다른 노드의 항목도 지운다")
+    void evict_PropagatesToOtherNodes() {
+        AtomicReference<TwoLevelCacheManager> otherNode = new AtomicReference<>();
+        TwoLevelCacheManager thisNode = twoLevelCacheManager(message -> otherNode.get().onInvalidation(message.encode()));
+        otherNode.set(twoLevelCacheManager(message -> thisNode.onInvalidation(message.encode())));
+        PrincipalCacheProperties properties = new PrincipalCacheProperties(Duration.ofMinutes(1), 100);
+        PrincipalCache local = new PrincipalCache(properties, meterRegistry, cacheManager(thisNode));
+        PrincipalCache remote = new PrincipalCache(properties, new SimpleMeterRegistry(), cacheManager(otherNode.get()));
+        local.subscribeInvalidation();
+        remote.subscribeInvalidation();
+        remote.get("alice", loader());
+        remote.get("bob", loader());
+
+        local.evict("alice");
+        remote.get("alice", loader());
+        remote.get("bob", loader());
+
+        assertThat(loads).hasValue(3);
+    }
+
+    private Function<String, AppUserPrincipal> loader() {
+        return username -> {
+            loads.incrementAndGet();
+            return new AppUserPrincipal(userId, username, "hash", AuthorityUtils.createAuthorityList("ROLE_USER"));
+        };
+    }
+}
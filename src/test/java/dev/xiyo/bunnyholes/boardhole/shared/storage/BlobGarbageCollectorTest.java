@@ -0,0 +1,84 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BlobStoreProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.scheduling.SchedulerLocks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@Tag("unit")
+@DisplayName("미참조 blob 정리")
+class BlobGarbageCollectorTest {
+
+    private static final Duration GRACE_PERIOD = Duration.ofHours(1);
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore store;
+    private BlobStoreProperties properties;
+    private final Set<String> referenced = new HashSet<>();
+
+    @BeforeEach
+    void setUp() {
+        store = new FileSystemBlobStore(root);
+        properties = new BlobStoreProperties(root, DataSize.ofMegabytes(1), Duration.ofHours(1), GRACE_PERIOD);
+    }
+
+    private StoredBlob put(String content, Duration age) throws IOException {
+        StoredBlob blob = store.put(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        String key = blob.key();
+        Path path = root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)));
+        return blob;
+    }
+
+    private BlobGarbageCollector collector(List<BlobReferences> references) {
+        return new BlobGarbageCollector(store, references, properties, mock(SchedulerLocks.class));
+    }
+
+    @Test
+    @DisplayName("✅ 유예 기간이 지난 미참조 blob만 삭제한다")
+    void sweep_DeletesOnlyOldUnreferencedBlobs() throws IOException {
+        StoredBlob orphan = put("orphan", GRACE_PERIOD.multipliedBy(2));
+        StoredBlob kept = put("kept", GRACE_PERIOD.multipliedBy(2));
+        StoredBlob recent = put("recent", Duration.ZERO);
+        referenced.add(kept.key());
+
+        int deleted = collector(List.of(keys -> keys.stream().filter(referenced::contains).collect(Collectors.toSet()))).sweep();
+
+        assertThat(deleted).isEqualTo(1);
+        assertThat(store.open(orphan.key())).isEmpty();
+        assertThat(store.open(kept.key())).isPresent();
+        assertThat(store.open(recent.key())).isPresent();
+    }
+
+    @Test
+    @DisplayName("❌ 참조를 확인할 곳이 없으면 아무것도 삭제하지 않는다")
+    void sweep_WithoutReferences_DeletesNothing() throws IOException {
+        StoredBlob orphan = put("orphan", GRACE_PERIOD.multipliedBy(2));
+
+        assertThat(collector(List.of()).sweep()).isZero();
+        assertThat(store.open(orphan.key())).isPresent();
+    }
+}
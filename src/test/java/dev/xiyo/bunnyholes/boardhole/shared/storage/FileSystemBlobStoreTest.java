@@ -0,0 +1,182 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("unit")
+@DisplayName("파일 시스템 blob 저장소")
+class FileSystemBlobStoreTest {
+
+    private static final byte[] CONTENT = "profile-image".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FileSystemBlobStore(root);
+    }
+
+    @Test
+    @DisplayName("✅ 내용의 SHA-256을 키로 저장하고 임시 파일을 남기지 않는다")
+    void put_StoresByContentHash() throws Exception {
+        StoredBlob blob = store.put(new ByteArrayInputStream(CONTENT));
+
+        String expectedKey = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(CONTENT));
+        assertThat(blob.key()).isEqualTo(expectedKey);
+        assertThat(blob.size()).isEqualTo(CONTENT.length);
+        assertThat(blob.created()).isTrue();
+        assertThat(root.resolve(expectedKey.substring(0, 2)).resolve(expectedKey.substring(2, 4)).resolve(expectedKey)).hasBinaryContent(CONTENT);
+        try (var temp = Files.list(root.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("❌ 원본 스트림을 읽다 실패하면 저장을 중단하고 임시 파일을 지운다")
+    void put_ReadFailure_AbortsAndCleansUp() {
+        InputStream content = new SequenceInputStream(new ByteArrayInputStream(CONTENT), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        assertThatThrownBy(() -> store.put(content)).isInstanceOf(IOException.class);
+        try (var files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 파일로 받은 업로드는 한 번만 읽어 저장하고 임시 파일을 남기지 않는다")
+    void putUpload_ReadsUploadOnce() throws Exception {
+        Path uploaded = Files.write(store.uploadDirectory().resolve("upload_1.tmp"), CONTENT);
+        AtomicInteger opened = new AtomicInteger();
+
+        StoredBlob blob = store.putUpload(() -> {
+            opened.incrementAndGet();
+            return Files.newInputStream(uploaded);
+        });
+        Files.delete(uploaded);
+
+        assertThat(opened).hasValue(1);
+        assertThat(blob.key()).isEqualTo(store.put(new ByteArrayInputStream(CONTENT)).key());
+        assertThat(blob.size()).isEqualTo(CONTENT.length);
+        assertThat(blob.created()).isTrue();
+        try (var temp = Files.list(store.uploadDirectory())) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 같은 내용을 다시 저장하면 기존 blob을 재사용한다")
+    void put_SameContent_Deduplicates() throws Exception {
+        StoredBlob first = store.put(new ByteArrayInputStream(CONTENT));
+        StoredBlob second = store.put(new ByteArrayInputStream(CONTENT));
+
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(second.created()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 같은 내용을 다시 저장하면 수정 시각을 갱신해 정리 대상에서 빠진다")
+    void put_SameContent_RefreshesModifiedTime() throws Exception {
+        StoredBlob blob = store.put(new ByteArrayInputStream(CONTENT));
+        Instant cutoff = Instant.now();
+        age(blob.key(), Duration.ofHours(2));
+        assertThat(keysModifiedBefore(cutoff)).containsExactly(blob.key());
+
+        store.put(new ByteArrayInputStream(CONTENT));
+
+        assertThat(keysModifiedBefore(cutoff)).isEmpty();
+        assertThat(store.deleteIfModifiedBefore(blob.key(), cutoff)).isFalse();
+        assertThat(store.open(blob.key())).isPresent();
+    }
+
+    @Test
+    @DisplayName("✅ 기준 시각 이전에 저장된 blob만 정리로 삭제하고 임시 파일을 남기지 않는다")
+    void deleteIfModifiedBefore_DeletesOnlyOldBlobs() throws Exception {
+        StoredBlob old = store.put(new ByteArrayInputStream(CONTENT));
+        StoredBlob recent = store.put(new ByteArrayInputStream("recent".getBytes(StandardCharsets.UTF_8)));
+        age(old.key(), Duration.ofHours(2));
+        Instant cutoff = Instant.now().minus(Duration.ofHours(1));
+
+        assertThat(store.deleteIfModifiedBefore(old.key(), cutoff)).isTrue();
+        assertThat(store.deleteIfModifiedBefore(recent.key(), cutoff)).isFalse();
+        assertThat(store.deleteIfModifiedBefore(old.key(), cutoff)).isFalse();
+        assertThat(store.open(old.key())).isEmpty();
+        assertThat(store.open(recent.key())).isPresent();
+        try (var temp = Files.list(root.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ 저장한 blob의 지정 구간을 채널로 전송한다")
+    void open_TransfersRange() throws Exception {
+        StoredBlob blob = store.put(new ByteArrayInputStream(CONTENT));
+
+        BlobContent content = store.open(blob.key()).orElseThrow();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        content.transferTo(8, 5, Channels.newChannel(out));
+
+        assertThat(content.size()).isEqualTo(CONTENT.length);
+        assertThat(content.file()).isPresent();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("image");
+    }
+
+    @Test
+    @DisplayName("✅ 삭제한 blob은 더 이상 열 수 없다")
+    void delete_RemovesBlob() throws IOException {
+        StoredBlob blob = store.put(new ByteArrayInputStream(CONTENT));
+
+        store.delete(blob.key());
+
+        assertThat(store.open(blob.key())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("❌ 형식이 잘못된 키는 저장소 밖 경로로 해석하지 않는다")
+    void open_InvalidKey_IsEmpty() {
+        assertThat(store.open("../../etc/passwd")).isEmpty();
+        assertThat(store.open("A".repeat(64))).isEmpty();
+    }
+
+    private void age(String key, Duration age) throws IOException {
+        Path path = root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)));
+    }
+
+    private List<String> keysModifiedBefore(Instant cutoff) {
+        try (Stream<String> keys = store.keysModifiedBefore(cutoff)) {
+            return keys.toList();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.xiyo.bunnyholes.boardhole.shared.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("unit")
+@DisplayName("이미지 형식 판별")
+class ImageTypeSnifferTest {
+
+    private static Stream<Arguments> signatures() {
+        return Stream.of(
+                Arguments.of(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0}, "image/png"),
+                Arguments.of(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE1}, "image/jpeg"),
+                Arguments.of("GIF87a...".getBytes(StandardCharsets.US_ASCII), "image/gif"),
+                Arguments.of("GIF89a...".getBytes(StandardCharsets.US_ASCII), "image/gif"),
+                Arguments.of("RIFF\0\0\0\0WEBPVP8 ".getBytes(StandardCharsets.US_ASCII), "image/webp")
+        );
+    }
+
+    @ParameterizedTest(name = "{1}")
+    @MethodSource("signatures")
+    @DisplayName("✅ 시그니처로 이미지 형식을 판별한다")
+    void sniff_KnownSignature(byte[] header, String expected) {
+        assertThat(ImageTypeSniffer.sniff(header)).contains(expected);
+    }
+
+    @Test
+    @DisplayName("❌ 이미지 시그니처가 아니거나 너무 짧으면 판별하지 않는다")
+    void sniff_UnknownSignature() {
+        assertThat(ImageTypeSniffer.sniff("<svg></svg>".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(ImageTypeSniffer.sniff("RIFF\0\0\0\0WAVE".getBytes(StandardCharsets.US_ASCII))).isEmpty();
+        assertThat(ImageTypeSniffer.sniff(new byte[]{(byte) 0xFF, (byte) 0xD8})).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 스트림 판별 후 처음부터 다시 읽을 수 있다")
+    void sniff_Stream_ResetsToStart() throws IOException {
+        byte[] content = "GIF89a-rest-of-image".getBytes(StandardCharsets.US_ASCII);
+        BufferedInputStream in = new BufferedInputStream(new ByteArrayInputStream(content));
+
+        assertThat(ImageTypeSniffer.sniff(in)).contains("image/gif");
+        assertThat(in.readAllBytes()).isEqualTo(content);
+    }
+}
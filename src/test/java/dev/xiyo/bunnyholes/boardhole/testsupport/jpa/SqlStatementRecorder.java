@@ -0,0 +1,31 @@
+package dev.xiyo.bunnyholes.boardhole.testsupport.jpa;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 기록기
+ * <p>
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}로 등록하면
+ * Hibernate가 실행하는 모든 SQL을 기록합니다. 조회 쿼리가 특정 컬럼을 읽지 않는지 검증할 때 사용합니다.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+}
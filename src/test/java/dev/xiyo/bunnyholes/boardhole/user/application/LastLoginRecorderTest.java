@@ -0,0 +1,123 @@
+package dev.xiyo.bunnyholes.boardhole.user.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import dev.xiyo.bunnyholes.boardhole.shared.properties.LastLoginProperties;
+import dev.xiyo.bunnyholes.boardhole.user.application.command.LastLoginRecorder;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserLastLoginWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastLoginRecorder 단위 테스트")
+class LastLoginRecorderTest {
+
+    @Mock
+    private UserLastLoginWriter lastLoginWriter;
+
+    @Captor
+    private ArgumentCaptor<Map<String, LocalDateTime>> chunkCaptor;
+
+    private MeterRegistry meterRegistry;
+    private LastLoginRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new LastLoginRecorder(lastLoginWriter, new LastLoginProperties(Duration.ofSeconds(5), 2, 3), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 사용자의 여러 로그인을 가장 최근 시간 하나로 합쳐 반영한다")
+    void flush_CoalescesLoginsPerUser() {
+        recorder.record("alice");
+        LocalDateTime between = LocalDateTime.now();
+        recorder.record("alice");
+
+        recorder.flush();
+
+        verify(lastLoginWriter).updateLastLogins(chunkCaptor.capture());
+        assertThat(chunkCaptor.getValue()).containsOnlyKeys("alice");
+        assertThat(chunkCaptor.getValue().get("alice")).isAfterOrEqualTo(between);
+        assertThat(recorder.pendingUsers()).isZero();
+        assertThat(meterRegistry.counter("boardhole.last-login.flushed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 배치 크기를 넘으면 여러 배치로 나누어 반영한다")
+    void flush_SplitsIntoBatches() {
+        recorder.record("alice");
+        recorder.record("bob");
+        recorder.record("carol");
+
+        recorder.flush();
+
+        verify(lastLoginWriter, times(2)).updateLastLogins(anyMap());
+        assertThat(meterRegistry.counter("boardhole.last-login.flushed").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("✅ 반영할 로그인이 없으면 DB를 호출하지 않는다")
+    void flush_NothingPending_SkipsWrite() {
+        recorder.flush();
+
+        verify(lastLoginWriter, never()).updateLastLogins(anyMap());
+        assertThat(recorder.lag()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("✅ 반영 실패 시 로그인 시간을 버퍼로 되돌려 다음 주기에 재시도한다")
+    void flush_WriteFails_RestoresLogins() {
+        recorder.record("alice");
+        when(lastLoginWriter.updateLastLogins(anyMap())).thenThrow(new QueryTimeoutException("timeout"));
+
+        recorder.flush();
+
+        assertThat(recorder.pendingUsers()).isEqualTo(1);
+        assertThat(meterRegistry.counter("boardhole.last-login.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("❌ 대기 상한을 넘은 새 사용자는 기록하지 않고 집계한다")
+    void record_OverCapacity_DropsNewUsers() {
+        recorder.record("alice");
+        recorder.record("bob");
+        recorder.record("carol");
+        recorder.record("dave");
+        recorder.record("alice");
+
+        assertThat(recorder.pendingUsers()).isEqualTo(3);
+        assertThat(meterRegistry.counter("boardhole.last-login.dropped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("✅ 종료 시 남은 로그인 시간을 반영한다")
+    void flushOnShutdown_WritesRemaining() {
+        recorder.record("alice");
+
+        recorder.flushOnShutdown();
+
+        verify(lastLoginWriter).updateLastLogins(anyMap());
+        assertThat(recorder.pendingUsers()).isZero();
+        assertThat(meterRegistry.get("boardhole.last-login.lag").gauge().value()).isZero();
+    }
+}
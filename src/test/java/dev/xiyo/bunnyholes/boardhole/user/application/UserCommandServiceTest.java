@@ -1,5 +1,9 @@
 package dev.xiyo.bunnyholes.boardhole.user.application;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -10,12 +14,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.unit.DataSize;
@@ -24,6 +32,10 @@ import org.springframework.web.multipart.MultipartFile;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.InvalidFileException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
+import dev.xiyo.bunnyholes.boardhole.shared.properties.BlobStoreProperties;
+import dev.xiyo.bunnyholes.boardhole.shared.security.PrincipalCache;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.StoredBlob;
 import dev.xiyo.bunnyholes.boardhole.shared.test.MessageSourceTestConfig;
 import dev.xiyo.bunnyholes.boardhole.shared.test.ValidationEnabledTestConfig;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.CreateUserCommand;
@@ -31,10 +43,13 @@ import dev.xiyo.bunnyholes.boardhole.user.application.command.UpdatePasswordComm
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UpdateUserCommand;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UpdateUserProfileImageCommand;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UserCommandService;
+import dev.xiyo.bunnyholes.boardhole.user.application.event.UserCredentialsRevokedEvent;
 import dev.xiyo.bunnyholes.boardhole.user.application.mapper.UserMapper;
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserProfileImageRepository;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,6 +62,8 @@ import static org.mockito.Mockito.mock;
 
 @ExtendWith(SpringExtension.class)
 @Import({UserCommandService.class, ValidationEnabledTestConfig.class, MessageSourceTestConfig.class})
+@EnableConfigurationProperties(BlobStoreProperties.class)
+@RecordApplicationEvents
 @DisplayName("사용자 커맨드 서비스 단위 테스트")
 @Tag("unit")
 @Tag("user")
@@ -62,19 +79,35 @@ class UserCommandServiceTest {
     private static final String EMAIL = "john@example.com";
     private static final String WRONG_PASSWORD = "wrong";
     private static final String NEW_PASSWORD = "NewPass123!";
+    private static final String BLOB_KEY = "a".repeat(64);
+    private static final byte[] PNG_HEADER = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+    private static final byte[] GIF_HEADER = {'G', 'I', 'F', '8', '9', 'a'};
 
     @MockitoBean
     private UserRepository userRepository;
 
+    @MockitoBean
+    private UserProfileImageRepository userProfileImageRepository;
+
     @MockitoBean
     private PasswordEncoder passwordEncoder;
 
     @MockitoBean
     private UserMapper userMapper;
 
+    @MockitoBean
+    private PrincipalCache principalCache;
+
+    @MockitoBean
+    private BlobStore blobStore;
+
     @Autowired
     private UserCommandService userCommandService;
 
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     private static User user() {
         return userWithName(NAME);
     }
@@ -97,10 +130,27 @@ class UserCommandServiceTest {
         return result;
     }
 
+    private static byte[] image(byte[] header, int size) {
+        return Arrays.copyOf(header, Math.max(header.length, size));
+    }
+
+    private UserProfileImage savedProfileImage() {
+        ArgumentCaptor<UserProfileImage> captor = ArgumentCaptor.forClass(UserProfileImage.class);
+        then(userProfileImageRepository).should().save(captor.capture());
+        return captor.getValue();
+    }
+
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         // 메시지 문자열 비교를 하지 않으므로 별도 로케일 고정 불필요
         LocaleContextHolder.resetLocaleContext();
+        // 저장소는 업로드 내용을 읽고 그 크기를 돌려준다
+        given(blobStore.putUpload(any())).willAnswer(invocation -> {
+            BlobStore.Upload upload = invocation.getArgument(0);
+            try (InputStream content = upload.openStream()) {
+                return new StoredBlob(BLOB_KEY, content.transferTo(OutputStream.nullOutputStream()), true);
+            }
+        });
     }
 
     @Nested
@@ -164,6 +214,7 @@ class UserCommandServiceTest {
             then(userRepository).should().findByUsername(UserCommandServiceTest.USERNAME);
             then(userRepository).should().save(existing);
             then(userMapper).should().toResult(existing);
+            then(principalCache).should().evict(UserCommandServiceTest.USERNAME);
         }
 
         @Test
@@ -202,7 +253,11 @@ class UserCommandServiceTest {
 
             // then
             then(userRepository).should().findByUsername(UserCommandServiceTest.USERNAME);
+            then(userProfileImageRepository).should().deleteByUserId(UserCommandServiceTest.USER_ID);
             then(userRepository).should().delete(existing);
+            then(principalCache).should().evict(UserCommandServiceTest.USERNAME);
+            assertThat(applicationEvents.stream(UserCredentialsRevokedEvent.class))
+                    .containsExactly(new UserCredentialsRevokedEvent(UserCommandServiceTest.USER_ID, UserCommandServiceTest.USERNAME));
         }
 
         @Test
@@ -283,6 +338,7 @@ class UserCommandServiceTest {
             then(userRepository).should().findByUsername(UserCommandServiceTest.USERNAME);
             then(passwordEncoder).should().matches(UserCommandServiceTest.WRONG_PASSWORD, UserCommandServiceTest.ENCODED_PASSWORD);
             then(userRepository).should(never()).save(any());
+            then(principalCache).shouldHaveNoInteractions();
         }
 
         @Test
@@ -308,6 +364,9 @@ class UserCommandServiceTest {
             then(passwordEncoder).should().matches(UserCommandServiceTest.RAW_PASSWORD, UserCommandServiceTest.ENCODED_PASSWORD);
             then(passwordEncoder).should().encode(UserCommandServiceTest.NEW_PASSWORD);
             then(userRepository).should().save(existing);
+            then(principalCache).should().evict(UserCommandServiceTest.USERNAME);
+            assertThat(applicationEvents.stream(UserCredentialsRevokedEvent.class))
+                    .containsExactly(new UserCredentialsRevokedEvent(UserCommandServiceTest.USER_ID, UserCommandServiceTest.USERNAME));
         }
 
         @Test
@@ -344,7 +403,7 @@ class UserCommandServiceTest {
             UserResult expected = UserCommandServiceTest.userResult();
             given(userMapper.toResult(existing)).willReturn(expected);
 
-            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.png", "image/png", new byte[]{1, 2, 3});
+            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.png", "image/png", UserCommandServiceTest.image(UserCommandServiceTest.PNG_HEADER, 16));
             UpdateUserProfileImageCommand cmd = new UpdateUserProfileImageCommand(UserCommandServiceTest.USERNAME, file, false);
 
             UserResult result = userCommandService.updateProfileImage(cmd);
@@ -353,14 +412,16 @@ class UserCommandServiceTest {
             assertThat(existing.hasProfileImage()).isTrue();
             assertThat(existing.getProfileImageContentType()).isEqualTo("image/png");
             assertThat(existing.getProfileImageSize()).isEqualTo(file.getSize());
-            assertThat(existing.getProfileImage()).containsExactly(file.getBytes());
+            UserProfileImage saved = savedProfileImage();
+            assertThat(saved.getBlobKey()).isEqualTo(UserCommandServiceTest.BLOB_KEY);
+            assertThat(saved.getSize()).isEqualTo(file.getSize());
 
             then(userRepository).should().save(existing);
         }
 
         @Test
-        @DisplayName("✅ image/jpg MIME 타입도 허용된다")
-        void shouldAcceptJpgAliasContentType() throws Exception {
+        @DisplayName("✅ 선언된 Content-Type이 이미지가 아니어도 실제 내용이 이미지면 실제 형식으로 저장된다")
+        void shouldIgnoreDeclaredContentType() throws Exception {
             User existing = UserCommandServiceTest.user();
             ReflectionTestUtils.setField(existing, "id", UserCommandServiceTest.USER_ID);
             given(userRepository.findByUsername(UserCommandServiceTest.USERNAME)).willReturn(Optional.of(existing));
@@ -368,15 +429,32 @@ class UserCommandServiceTest {
             UserResult expected = UserCommandServiceTest.userResult();
             given(userMapper.toResult(existing)).willReturn(expected);
 
-            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.jpg", "image/jpg", new byte[]{9, 8, 7});
+            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar", "application/octet-stream", UserCommandServiceTest.image(UserCommandServiceTest.JPEG_HEADER, 16));
             UpdateUserProfileImageCommand cmd = new UpdateUserProfileImageCommand(UserCommandServiceTest.USERNAME, file, false);
 
             UserResult result = userCommandService.updateProfileImage(cmd);
 
             assertThat(result).isEqualTo(expected);
             assertThat(existing.hasProfileImage()).isTrue();
-            assertThat(existing.getProfileImageContentType()).isEqualTo("image/jpg");
-            assertThat(existing.getProfileImage()).containsExactly(file.getBytes());
+            assertThat(existing.getProfileImageContentType()).isEqualTo("image/jpeg");
+            assertThat(savedProfileImage().getBlobKey()).isEqualTo(UserCommandServiceTest.BLOB_KEY);
+        }
+
+        @Test
+        @DisplayName("✅ 선언된 타입과 실제 형식이 다르면 실제 형식으로 저장된다")
+        void shouldStoreSniffedContentType() {
+            User existing = UserCommandServiceTest.user();
+            ReflectionTestUtils.setField(existing, "id", UserCommandServiceTest.USER_ID);
+            given(userRepository.findByUsername(UserCommandServiceTest.USERNAME)).willReturn(Optional.of(existing));
+            given(userRepository.save(existing)).willReturn(existing);
+
+            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.png", "image/png", UserCommandServiceTest.image(UserCommandServiceTest.GIF_HEADER, 16));
+            UpdateUserProfileImageCommand cmd = new UpdateUserProfileImageCommand(UserCommandServiceTest.USERNAME, file, false);
+
+            userCommandService.updateProfileImage(cmd);
+
+            assertThat(existing.getProfileImageContentType()).isEqualTo("image/gif");
+            assertThat(savedProfileImage().getContentType()).isEqualTo("image/gif");
         }
 
         @Test
@@ -390,13 +468,13 @@ class UserCommandServiceTest {
             given(userMapper.toResult(existing)).willReturn(expected);
 
             long maxAllowedSize = DataSize.ofMegabytes(100).toBytes();
-            byte[] payload = new byte[1024];
+            byte[] payload = UserCommandServiceTest.image(UserCommandServiceTest.PNG_HEADER, 1024);
             MultipartFile file = mock(MultipartFile.class);
             given(file.isEmpty()).willReturn(false);
             given(file.getOriginalFilename()).willReturn("avatar.png");
             given(file.getContentType()).willReturn("image/png");
             given(file.getSize()).willReturn(maxAllowedSize);
-            given(file.getBytes()).willReturn(payload);
+            given(file.getInputStream()).willAnswer(invocation -> new ByteArrayInputStream(payload));
 
             UpdateUserProfileImageCommand cmd = new UpdateUserProfileImageCommand(UserCommandServiceTest.USERNAME, file, false);
 
@@ -405,8 +483,9 @@ class UserCommandServiceTest {
             assertThat(result).isEqualTo(expected);
             assertThat(existing.hasProfileImage()).isTrue();
             assertThat(existing.getProfileImageContentType()).isEqualTo("image/png");
-            assertThat(existing.getProfileImageSize()).isEqualTo(maxAllowedSize);
-            assertThat(existing.getProfileImage()).containsExactly(payload);
+            // 저장된 크기는 MultipartFile이 알려준 크기가 아니라 실제로 저장소가 읽은 바이트 수
+            assertThat(existing.getProfileImageSize()).isEqualTo(payload.length);
+            assertThat(savedProfileImage().getSize()).isEqualTo(payload.length);
         }
 
         @Test
@@ -414,7 +493,7 @@ class UserCommandServiceTest {
         void shouldClearProfileImage() {
             User existing = UserCommandServiceTest.user();
             ReflectionTestUtils.setField(existing, "id", UserCommandServiceTest.USER_ID);
-            existing.updateProfileImage(new byte[]{9, 9}, "image/png", 2);
+            existing.updateProfileImage("image/png", 2);
             given(userRepository.findByUsername(UserCommandServiceTest.USERNAME)).willReturn(Optional.of(existing));
             given(userRepository.save(existing)).willReturn(existing);
             UserResult expected = UserCommandServiceTest.userResult();
@@ -426,7 +505,8 @@ class UserCommandServiceTest {
 
             assertThat(result).isEqualTo(expected);
             assertThat(existing.hasProfileImage()).isFalse();
-            assertThat(existing.getProfileImage()).isNull();
+            then(userProfileImageRepository).should().deleteByUserId(UserCommandServiceTest.USER_ID);
+            then(userProfileImageRepository).should(never()).save(any());
             assertThat(existing.getProfileImageContentType()).isNull();
             assertThat(existing.getProfileImageSize()).isNull();
         }
@@ -448,18 +528,19 @@ class UserCommandServiceTest {
         }
 
         @Test
-        @DisplayName("❌ 허용되지 않은 MIME 타입 업로드 시 InvalidFileException")
-        void shouldRejectUnsupportedContentType() {
+        @DisplayName("❌ 지원하지 않는 이미지 형식(BMP)은 InvalidFileException")
+        void shouldRejectUnsupportedImageFormat() throws Exception {
             User existing = UserCommandServiceTest.user();
             ReflectionTestUtils.setField(existing, "id", UserCommandServiceTest.USER_ID);
             given(userRepository.findByUsername(UserCommandServiceTest.USERNAME)).willReturn(Optional.of(existing));
 
-            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.bmp", "image/bmp", new byte[]{1});
+            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.bmp", "image/bmp", UserCommandServiceTest.image(new byte[]{'B', 'M'}, 16));
             UpdateUserProfileImageCommand cmd = new UpdateUserProfileImageCommand(UserCommandServiceTest.USERNAME, file, false);
 
             assertThatThrownBy(() -> userCommandService.updateProfileImage(cmd))
                     .isInstanceOf(InvalidFileException.class);
 
+            then(blobStore).should(never()).putUpload(any());
             then(userRepository).should(never()).save(any());
         }
 
@@ -483,6 +564,23 @@ class UserCommandServiceTest {
             then(userRepository).should(never()).save(any());
         }
 
+        @Test
+        @DisplayName("❌ 이미지 시그니처가 아니면 선언된 타입과 무관하게 InvalidFileException")
+        void shouldRejectContentThatIsNotAnImage() throws Exception {
+            User existing = UserCommandServiceTest.user();
+            ReflectionTestUtils.setField(existing, "id", UserCommandServiceTest.USER_ID);
+            given(userRepository.findByUsername(UserCommandServiceTest.USERNAME)).willReturn(Optional.of(existing));
+
+            MockMultipartFile file = new MockMultipartFile("profileImage", "avatar.png", "image/png", "<html></html>".getBytes());
+            UpdateUserProfileImageCommand cmd = new UpdateUserProfileImageCommand(UserCommandServiceTest.USERNAME, file, false);
+
+            assertThatThrownBy(() -> userCommandService.updateProfileImage(cmd))
+                    .isInstanceOf(InvalidFileException.class);
+
+            then(blobStore).should(never()).putUpload(any());
+            then(userRepository).should(never()).save(any());
+        }
+
         @Test
         @DisplayName("❌ 사용자 미존재 시 ResourceNotFoundException")
         void shouldThrowWhenUserMissing() {
@@ -34,10 +34,13 @@ import dev.xiyo.bunnyholes.boardhole.user.application.result.UserProfileImageRes
 import dev.xiyo.bunnyholes.boardhole.user.application.result.UserResult;
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
+import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserProfileImageRepository;
 import dev.xiyo.bunnyholes.boardhole.user.infrastructure.UserRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +61,8 @@ class UserQueryServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserProfileImageRepository userProfileImageRepository;
+    @Mock
     private UserMapper userMapper;
     private UserQueryService userQueryService;
 
@@ -94,7 +99,7 @@ class UserQueryServiceTest {
         ms.setUseCodeAsDefaultMessage(true);
         MessageUtils.setMessageSource(ms);
 
-        userQueryService = new UserQueryService(userRepository, userMapper);
+        userQueryService = new UserQueryService(userRepository, userProfileImageRepository, userMapper);
     }
 
     @Nested
@@ -277,36 +282,39 @@ class UserQueryServiceTest {
         void shouldReturnProfileImage() {
             User user = UserQueryServiceTest.user();
             ReflectionTestUtils.setField(user, "id", UserQueryServiceTest.USER_ID);
-            byte[] data = {1, 2, 3};
-            user.updateProfileImage(data, "image/png", data.length);
+            String blobKey = "b".repeat(64);
+            UserProfileImage image = new UserProfileImage(user, blobKey, "image/png", 3);
 
-            when(userRepository.findByUsername(UserQueryServiceTest.USERNAME)).thenReturn(Optional.of(user));
+            when(userProfileImageRepository.findByUsername(UserQueryServiceTest.USERNAME)).thenReturn(Optional.of(image));
 
             UserProfileImageResult result = userQueryService.getProfileImage(UserQueryServiceTest.USERNAME);
 
             assertThat(result.contentType()).isEqualTo("image/png");
-            assertThat(result.size()).isEqualTo(data.length);
-            assertThat(result.data()).containsExactly(data);
+            assertThat(result.size()).isEqualTo(3);
+            assertThat(result.blobKey()).isEqualTo(blobKey);
+            verify(userRepository, never()).findByUsername(UserQueryServiceTest.USERNAME);
         }
 
         @Test
         @DisplayName("❌ 이미지가 없으면 ResourceNotFoundException")
         void shouldThrowWhenImageMissing() {
-            User user = UserQueryServiceTest.user();
-            ReflectionTestUtils.setField(user, "id", UserQueryServiceTest.USER_ID);
-            when(userRepository.findByUsername(UserQueryServiceTest.USERNAME)).thenReturn(Optional.of(user));
+            when(userProfileImageRepository.findByUsername(UserQueryServiceTest.USERNAME)).thenReturn(Optional.empty());
+            when(userRepository.existsByUsername(UserQueryServiceTest.USERNAME)).thenReturn(true);
 
             assertThatThrownBy(() -> userQueryService.getProfileImage(UserQueryServiceTest.USERNAME))
-                    .isInstanceOf(ResourceNotFoundException.class);
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage(MessageUtils.get("error.user.profile-image.not-found", UserQueryServiceTest.USERNAME));
         }
 
         @Test
         @DisplayName("❌ 사용자 미존재 시 ResourceNotFoundException")
         void shouldThrowWhenUserMissing() {
-            when(userRepository.findByUsername(UserQueryServiceTest.USERNAME)).thenReturn(Optional.empty());
+            when(userProfileImageRepository.findByUsername(UserQueryServiceTest.USERNAME)).thenReturn(Optional.empty());
+            when(userRepository.existsByUsername(UserQueryServiceTest.USERNAME)).thenReturn(false);
 
             assertThatThrownBy(() -> userQueryService.getProfileImage(UserQueryServiceTest.USERNAME))
-                    .isInstanceOf(ResourceNotFoundException.class);
+                    .isInstanceOf(ResourceNotFoundException.class)
+                    .hasMessage(MessageUtils.get("error.user.not-found.username", UserQueryServiceTest.USERNAME));
         }
     }
 }
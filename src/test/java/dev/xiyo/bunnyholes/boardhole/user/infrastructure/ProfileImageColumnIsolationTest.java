@@ -0,0 +1,102 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import dev.xiyo.bunnyholes.boardhole.board.domain.Board;
+import dev.xiyo.bunnyholes.boardhole.board.infrastructure.BoardRepository;
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.EntityTestBase;
+import dev.xiyo.bunnyholes.boardhole.testsupport.jpa.SqlStatementRecorder;
+import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
+import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로필 이미지 컬럼 격리 회귀 테스트
+ * <p>
+ * 게시글 목록/상세의 작성자 조인과 로그인 시 사용자 조회가 프로필 이미지 테이블을 읽지 않는지 실행된 SQL로 검증합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=dev.xiyo.bunnyholes.boardhole.testsupport.jpa.SqlStatementRecorder")
+@ActiveProfiles("test")
+@Tag("unit")
+@Tag("repository")
+class ProfileImageColumnIsolationTest extends EntityTestBase {
+
+    private static final String IMAGE_COLUMN = "blob_key";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserProfileImageRepository userProfileImageRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(User
+                .builder()
+                .username("image_owner")
+                .password(EntityTestBase.passwordEncoder.encode("Password123!"))
+                .name("Image Owner")
+                .email("image-owner@example.com")
+                .roles(Set.of(Role.USER))
+                .build());
+        author.updateProfileImage("image/png", 4);
+        userProfileImageRepository.save(new UserProfileImage(author, "f".repeat(64), "image/png", 4));
+        boardRepository.save(Board.builder().title("Title").content("Content").author(author).build());
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementRecorder.clear();
+    }
+
+    @Test
+    @DisplayName("✅ 게시글 목록 조회는 이미지 컬럼을 읽지 않는다")
+    void boardListQueries_DoNotSelectImageColumn() {
+        boardRepository.findSummaries(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))).getContent();
+        boardRepository.searchSummaries("title", PageRequest.of(0, 10)).getContent();
+        boardRepository.findRecentSummaries(Limit.of(5));
+        boardRepository.findAll(PageRequest.of(0, 10)).getContent().forEach(board -> board.getAuthor().getUsername());
+
+        assertNoImageColumnSelected();
+    }
+
+    @Test
+    @DisplayName("✅ 로그인 시 사용자 조회는 이미지 컬럼을 읽지 않는다")
+    void loginQuery_DoesNotSelectImageColumn() {
+        User found = userRepository.findByUsername("image_owner").orElseThrow();
+
+        assertThat(found.getRoles()).containsExactly(Role.USER);
+        assertThat(found.hasProfileImage()).isTrue();
+        assertNoImageColumnSelected();
+    }
+
+    @Test
+    @DisplayName("✅ 이미지 blob 키는 프로필 이미지 조회에서만 읽는다")
+    void profileImageQuery_SelectsImageColumn() {
+        userProfileImageRepository.findByUsername("image_owner").orElseThrow();
+
+        assertThat(SqlStatementRecorder.statements()).anyMatch(sql -> sql.toLowerCase().contains(IMAGE_COLUMN));
+    }
+
+    private static void assertNoImageColumnSelected() {
+        assertThat(SqlStatementRecorder.statements())
+                .isNotEmpty()
+                .noneMatch(sql -> sql.toLowerCase().contains(IMAGE_COLUMN));
+    }
+}
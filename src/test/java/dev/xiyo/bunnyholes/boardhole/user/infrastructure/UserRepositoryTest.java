@@ -1,5 +1,6 @@
 package dev.xiyo.bunnyholes.boardhole.user.infrastructure;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import dev.xiyo.bunnyholes.boardhole.user.domain.Role;
 import dev.xiyo.bunnyholes.boardhole.user.domain.User;
+import dev.xiyo.bunnyholes.boardhole.user.domain.UserProfileImage;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -37,6 +39,9 @@ class UserRepositoryTest extends dev.xiyo.bunnyholes.boardhole.testsupport.jpa.E
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserProfileImageRepository userProfileImageRepository;
+
     private User testUser;
     private User adminUser;
 
@@ -278,23 +283,43 @@ class UserRepositoryTest extends dev.xiyo.bunnyholes.boardhole.testsupport.jpa.E
         }
 
         @Test
-        @DisplayName("프로필 이미지를 bytea 컬럼에 저장하고 다시 조회할 수 있다")
-        void updateProfileImage_PersistsBinaryData() {
+        @DisplayName("프로필 이미지 blob 키를 별도 테이블에 저장하고 사용자명으로 다시 조회할 수 있다")
+        void updateProfileImage_PersistsBlobReference() {
             // Given
-            byte[] payload = new byte[]{3, 1, 4, 1};
+            String blobKey = "d".repeat(64);
             String contentType = "image/png";
-            testUser.updateProfileImage(payload, contentType, payload.length);
+            testUser.updateProfileImage(contentType, 4);
 
             // When
             userRepository.saveAndFlush(testUser);
+            userProfileImageRepository.saveAndFlush(new UserProfileImage(testUser, blobKey, contentType, 4));
             entityManager.clear();
 
             User found = userRepository.findById(testUser.getId()).orElseThrow();
+            UserProfileImage image = userProfileImageRepository.findByUsername(testUser.getUsername()).orElseThrow();
 
             // Then
-            assertThat(found.getProfileImage()).containsExactly(payload);
+            assertThat(found.hasProfileImage()).isTrue();
             assertThat(found.getProfileImageContentType()).isEqualTo(contentType);
-            assertThat(found.getProfileImageSize()).isEqualTo((long) payload.length);
+            assertThat(found.getProfileImageSize()).isEqualTo(4L);
+            assertThat(image.getUserId()).isEqualTo(testUser.getId());
+            assertThat(image.getBlobKey()).isEqualTo(blobKey);
+            assertThat(userProfileImageRepository.referencedKeys(List.of(blobKey, "e".repeat(64)))).containsExactly(blobKey);
+        }
+
+        @Test
+        @DisplayName("프로필 이미지는 벌크 삭제로 제거된다")
+        void deleteByUserId_RemovesImage() {
+            // Given
+            userProfileImageRepository.saveAndFlush(new UserProfileImage(testUser, "d".repeat(64), "image/png", 1));
+
+            // When
+            int deleted = userProfileImageRepository.deleteByUserId(testUser.getId());
+            entityManager.clear();
+
+            // Then
+            assertThat(deleted).isEqualTo(1);
+            assertThat(userProfileImageRepository.findByUsername(testUser.getUsername())).isEmpty();
         }
     }
 
@@ -0,0 +1,119 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils;
+
+@Tag("unit")
+@DisplayName("사용자 행 프로필 이미지 분리 마이그레이션")
+class V1__MoveProfileImagesOutOfUsersTest {
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3, 4};
+
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("✅ 사용자 행의 이미지를 이미지 테이블로 옮기고 컬럼을 지운다")
+    void migrate_MovesImageBytes() throws Exception {
+        createUsersTable();
+        UUID userId = insertUser(PNG, "image/png", (long) PNG.length);
+
+        new V1__MoveProfileImagesOutOfUsers().migrate(context);
+
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT image_data, content_type, image_size FROM user_profile_images WHERE user_id = ?")) {
+            select.setObject(1, userId);
+            try (ResultSet rows = select.executeQuery()) {
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getBytes("image_data")).isEqualTo(PNG);
+                assertThat(rows.getString("content_type")).isEqualTo("image/png");
+                assertThat(rows.getLong("image_size")).isEqualTo(PNG.length);
+            }
+        }
+        assertThat(profileImageSizeOf(userId)).isEqualTo(PNG.length);
+        assertThat(JdbcSchemaUtils.columnExists(connection, "users", "profile_image")).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 이미지가 없거나 형식을 모르는 사용자의 프로필 이미지 메타데이터는 비운다")
+    void migrate_ClearsDanglingMetadata() throws Exception {
+        createUsersTable();
+        UUID withoutImage = insertUser(null, "image/png", 10L);
+        UUID withoutType = insertUser(PNG, null, (long) PNG.length);
+
+        new V1__MoveProfileImagesOutOfUsers().migrate(context);
+
+        assertThat(profileImageSizeOf(withoutImage)).isNull();
+        assertThat(profileImageSizeOf(withoutType)).isNull();
+    }
+
+    @Test
+    @DisplayName("✅ 빈 스키마에서는 아무것도 만들지 않는다")
+    void migrate_EmptySchema_DoesNothing() throws Exception {
+        new V1__MoveProfileImagesOutOfUsers().migrate(context);
+
+        assertThat(JdbcSchemaUtils.tableExists(connection, "user_profile_images")).isFalse();
+    }
+
+    private void createUsersTable() throws Exception {
+        JdbcSchemaUtils.execute(connection, """
+                CREATE TABLE users (
+                    id UUID PRIMARY KEY,
+                    profile_image BYTEA,
+                    profile_image_content_type VARCHAR(150),
+                    profile_image_size BIGINT
+                )
+                """);
+    }
+
+    private UUID insertUser(byte[] image, String contentType, Long size) throws Exception {
+        UUID userId = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO users (id, profile_image, profile_image_content_type, profile_image_size) VALUES (?, ?, ?, ?)")) {
+            insert.setObject(1, userId);
+            insert.setBytes(2, image);
+            insert.setString(3, contentType);
+            insert.setObject(4, size);
+            insert.executeUpdate();
+        }
+        return userId;
+    }
+
+    private Long profileImageSizeOf(UUID userId) throws Exception {
+        try (PreparedStatement select = connection.prepareStatement("SELECT profile_image_size FROM users WHERE id = ?")) {
+            select.setObject(1, userId);
+            try (ResultSet rows = select.executeQuery()) {
+                rows.next();
+                return rows.getObject(1, Long.class);
+            }
+        }
+    }
+}
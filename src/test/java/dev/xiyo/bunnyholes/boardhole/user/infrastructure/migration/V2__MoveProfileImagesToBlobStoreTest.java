@@ -0,0 +1,105 @@
+package dev.xiyo.bunnyholes.boardhole.user.infrastructure.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobContent;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.FileSystemBlobStore;
+import dev.xiyo.bunnyholes.boardhole.shared.util.JdbcSchemaUtils;
+
+@Tag("unit")
+@DisplayName("프로필 이미지 blob 이관 마이그레이션")
+class V2__MoveProfileImagesToBlobStoreTest {
+
+    private static final byte[] LEGACY_IMAGE = "legacy-image".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore blobStore;
+    private Connection connection;
+    private Context context;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        blobStore = new FileSystemBlobStore(root);
+        connection = DriverManager.getConnection("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE", "sa", "");
+        context = mock(Context.class);
+        when(context.getConnection()).thenReturn(connection);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("✅ 테이블에 남은 이미지 바이트를 blob 저장소로 옮기고 컬럼을 지운다")
+    void migrate_MovesImageDataToBlobStore() throws Exception {
+        JdbcSchemaUtils.execute(connection, """
+                CREATE TABLE user_profile_images (
+                    user_id UUID PRIMARY KEY,
+                    image_data BYTEA NOT NULL,
+                    content_type VARCHAR(150) NOT NULL,
+                    image_size BIGINT NOT NULL
+                )
+                """);
+        UUID userId = UUID.randomUUID();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO user_profile_images (user_id, image_data, content_type, image_size) VALUES (?, ?, 'image/png', ?)")) {
+            insert.setObject(1, userId);
+            insert.setBytes(2, LEGACY_IMAGE);
+            insert.setLong(3, LEGACY_IMAGE.length);
+            insert.executeUpdate();
+        }
+
+        new V2__MoveProfileImagesToBlobStore(blobStore).migrate(context);
+
+        String blobKey = blobKeyOf(userId);
+        assertThat(blobKey).isNotNull();
+        assertThat(read(blobStore.open(blobKey).orElseThrow())).isEqualTo(LEGACY_IMAGE);
+        assertThat(JdbcSchemaUtils.columnExists(connection, "user_profile_images", "image_data")).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 빈 스키마에서는 아무것도 하지 않는다")
+    void migrate_EmptySchema_DoesNothing() throws Exception {
+        new V2__MoveProfileImagesToBlobStore(blobStore).migrate(context);
+
+        assertThat(JdbcSchemaUtils.tableExists(connection, "user_profile_images")).isFalse();
+    }
+
+    private String blobKeyOf(UUID userId) throws Exception {
+        try (PreparedStatement select = connection.prepareStatement("SELECT blob_key FROM user_profile_images WHERE user_id = ?")) {
+            select.setObject(1, userId);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() ? rows.getString(1) : null;
+            }
+        }
+    }
+
+    private static byte[] read(BlobContent content) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        content.transferTo(0, content.size(), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+}
@@ -1,7 +1,12 @@
 package dev.xiyo.bunnyholes.boardhole.user.presentation;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -25,6 +30,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.test.context.support.WithAnonymousUser;
@@ -38,6 +44,8 @@ import dev.xiyo.bunnyholes.boardhole.shared.config.ApiSecurityConfig;
 import dev.xiyo.bunnyholes.boardhole.shared.constants.ApiPaths;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.ResourceNotFoundException;
 import dev.xiyo.bunnyholes.boardhole.shared.exception.UnauthorizedException;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobContent;
+import dev.xiyo.bunnyholes.boardhole.shared.storage.BlobStore;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UpdatePasswordCommand;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UpdateUserCommand;
 import dev.xiyo.bunnyholes.boardhole.user.application.command.UpdateUserProfileImageCommand;
@@ -100,6 +108,9 @@ class UserControllerTest {
     @MockitoBean
     private UserProfileImageCommandMapper userProfileImageCommandMapper;
 
+    @MockitoBean
+    private BlobStore blobStore;
+
     private UUID userId;
     private UserResult userResult;
     private UserResponse userResponse;
@@ -622,21 +633,68 @@ class UserControllerTest {
     @DisplayName("GET /api/users/{username}/profile-image - 프로필 이미지 조회")
     class GetProfileImage {
 
+        private static final String BLOB_KEY = "a".repeat(64);
+        private static final String ETAG = "\"" + BLOB_KEY + "\"";
+        private final byte[] data = {1, 2, 3, 4, 5};
+
+        @BeforeEach
+        void setUpImage() {
+            given(userQueryService.getProfileImage("tester")).willReturn(new UserProfileImageResult(BLOB_KEY, "image/png", data.length));
+            given(blobStore.open(BLOB_KEY)).willReturn(Optional.of(new BytesBlobContent(BLOB_KEY, data)));
+        }
+
         @Test
         @WithMockUser(username = "tester", roles = "USER")
-        @DisplayName("✅ 프로필 이미지 바이너리를 반환한다")
+        @DisplayName("✅ 프로필 이미지 바이너리를 ETag와 함께 반환한다")
         void shouldReturnProfileImage() throws Exception {
-            byte[] data = {1, 2, 3};
-            UserProfileImageResult imageResult = new UserProfileImageResult(data, "image/png", data.length);
-            given(userQueryService.getProfileImage("tester")).willReturn(imageResult);
-
             mockMvc.perform(get(USERS_URL + "/tester/profile-image").with(csrf()))
                     .andExpect(status().isOk())
-                    .andExpect(content().contentTypeCompatibleWith(MediaType.IMAGE_PNG));
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.IMAGE_PNG))
+                    .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                    .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                    .andExpect(content().bytes(data));
 
             then(userQueryService).should().getProfileImage("tester");
         }
 
+        @Test
+        @WithMockUser(username = "tester", roles = "USER")
+        @DisplayName("✅ 단일 Range 요청은 해당 구간만 206으로 반환한다")
+        void shouldReturnRequestedRange() throws Exception {
+            mockMvc.perform(get(USERS_URL + "/tester/profile-image").header(HttpHeaders.RANGE, "bytes=1-3").with(csrf()))
+                    .andExpect(status().isPartialContent())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1-3/5"))
+                    .andExpect(content().bytes(new byte[]{2, 3, 4}));
+        }
+
+        @Test
+        @WithMockUser(username = "tester", roles = "USER")
+        @DisplayName("❌ 이미지 크기를 벗어난 Range 요청은 416을 반환한다")
+        void shouldRejectUnsatisfiableRange() throws Exception {
+            mockMvc.perform(get(USERS_URL + "/tester/profile-image").header(HttpHeaders.RANGE, "bytes=10-").with(csrf()))
+                    .andExpect(status().isRequestedRangeNotSatisfiable())
+                    .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */5"));
+        }
+
+        @Test
+        @WithMockUser(username = "tester", roles = "USER")
+        @DisplayName("✅ ETag가 같으면 본문 없이 304를 반환한다")
+        void shouldReturnNotModifiedForMatchingEtag() throws Exception {
+            mockMvc.perform(get(USERS_URL + "/tester/profile-image").header(HttpHeaders.IF_NONE_MATCH, ETAG).with(csrf()))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().bytes(new byte[0]));
+        }
+
+        @Test
+        @WithMockUser(username = "tester", roles = "USER")
+        @DisplayName("❌ 저장소에 blob이 없으면 404를 반환한다")
+        void shouldReturnNotFoundWhenBlobMissing() throws Exception {
+            given(blobStore.open(BLOB_KEY)).willReturn(Optional.empty());
+
+            mockMvc.perform(get(USERS_URL + "/tester/profile-image").with(csrf()))
+                    .andExpect(status().isNotFound());
+        }
+
         @Test
         @WithAnonymousUser
         @DisplayName("❌ 인증되지 않은 사용자는 이미지에 접근할 수 없다")
@@ -718,4 +776,22 @@ class UserControllerTest {
             }
         }
     }
+
+    private record BytesBlobContent(String key, byte[] data) implements BlobContent {
+
+        @Override
+        public long size() {
+            return data.length;
+        }
+
+        @Override
+        public Optional<Path> file() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            target.write(ByteBuffer.wrap(data, (int) position, (int) count));
+        }
+    }
 }